@@ -0,0 +1,374 @@
+package io.quarkus.builder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.item.BuildItem;
+import io.smallrye.common.constraint.Assert;
+
+/**
+ * A persistent, content-addressed cache of the items produced by the build steps that are declared
+ * {@linkplain BuildStepBuilder#setCacheable(boolean) cacheable}.
+ * <p>
+ * The key of a step execution is a hash of the cache salt, of the step id and of the fingerprints of all the items the
+ * step consumes. The fingerprint of an item is computed by the function registered for its type with
+ * {@link #addFingerprint(Class, Function)} if any, or else from its serialized form if the item is
+ * {@link Serializable}. When the key is found in the cache, the step is not executed and the items it produced
+ * previously are deserialized and produced instead. Steps consuming an item that has no fingerprint, or producing an
+ * item that cannot be serialized, are always executed.
+ * <p>
+ * Only steps whose sole effect is to produce items may be cached: the other effects of a replayed step are lost.
+ * <p>
+ * The last modification time of an entry is updated whenever it is replayed, so that {@link #evict(long)} removes the
+ * least recently used entries first.
+ */
+public final class BuildCache {
+
+    static final Logger log = Logger.getLogger("io.quarkus.builder.cache");
+
+    private static final String TMP_SUFFIX = ".tmp";
+    // a temporary file older than this was left behind by a build that did not complete
+    private static final long TMP_MAX_AGE = TimeUnit.HOURS.toMillis(1);
+
+    private static final byte[] ABSENT = new byte[0];
+    private static final byte[] NO_FINGERPRINT = new byte[0];
+
+    /**
+     * The result of looking a step execution up in the cache.
+     */
+    public enum Result {
+        /**
+         * The produced items were replayed from the cache.
+         */
+        HIT,
+        /**
+         * The step was executed and its produced items stored in the cache.
+         */
+        MISS,
+        /**
+         * The step was executed, but an item it consumes has no fingerprint or an item it produces cannot be
+         * serialized.
+         */
+        UNCACHEABLE,
+    }
+
+    private final Path directory;
+    private final String salt;
+    private final Map<Class<?>, Function<Object, byte[]>> fingerprints = new HashMap<>();
+
+    /**
+     * Create a new cache.
+     *
+     * @param directory the directory containing the cache entries (must not be {@code null})
+     * @param salt a value that changes whenever the implementation of the build steps may change, e.g. the versions
+     *        of the extensions (must not be {@code null})
+     */
+    public BuildCache(Path directory, String salt) {
+        Assert.checkNotNullParam("directory", directory);
+        Assert.checkNotNullParam("salt", salt);
+        this.directory = directory;
+        this.salt = salt;
+    }
+
+    /**
+     * Register the function computing the fingerprint of the items of the given type, for items that are not
+     * serializable or whose serialized form is not a suitable fingerprint. The fingerprint must change whenever
+     * a step consuming the item may produce different items.
+     *
+     * @param type the item type (must not be {@code null})
+     * @param fingerprint the fingerprint function (must not be {@code null})
+     * @return this cache
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends BuildItem> BuildCache addFingerprint(Class<T> type, Function<? super T, byte[]> fingerprint) {
+        Assert.checkNotNullParam("type", type);
+        Assert.checkNotNullParam("fingerprint", fingerprint);
+        fingerprints.put(type, (Function<Object, byte[]>) fingerprint);
+        return this;
+    }
+
+    /**
+     * Compute the key of the execution of the given step.
+     *
+     * @return the key, or {@code null} if one of the consumed items has no fingerprint
+     */
+    String computeKey(StepInfo stepInfo, Execution execution) {
+        MessageDigest digest = newDigest();
+        digest.update(salt.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(stepInfo.getBuildStep().getId().getBytes(StandardCharsets.UTF_8));
+        List<ItemId> consumes = new ArrayList<>(stepInfo.getConsumes());
+        consumes.sort(Comparator.comparing(id -> id.getType().getName()));
+        for (ItemId id : consumes) {
+            digest.update((byte) 0);
+            digest.update(id.getType().getName().getBytes(StandardCharsets.UTF_8));
+            if (id.isMulti()) {
+                List<BuildItem> items = execution.getMultis().get(id);
+                List<BuildItem> copy;
+                if (items == null) {
+                    copy = List.of();
+                } else {
+                    synchronized (items) {
+                        copy = new ArrayList<>(items);
+                    }
+                }
+                // the order of the multi items depends on the order the steps ran in, which is not deterministic
+                byte[][] itemFingerprints = new byte[copy.size()][];
+                for (int i = 0; i < itemFingerprints.length; i++) {
+                    itemFingerprints[i] = getFingerprint(copy.get(i), execution);
+                    if (itemFingerprints[i] == null) {
+                        return null;
+                    }
+                }
+                Arrays.sort(itemFingerprints, Arrays::compare);
+                for (byte[] itemFingerprint : itemFingerprints) {
+                    digest.update(itemFingerprint);
+                }
+            } else {
+                BuildItem item = execution.getSingles().get(id);
+                byte[] itemFingerprint = item == null ? ABSENT : getFingerprint(item, execution);
+                if (itemFingerprint == null) {
+                    return null;
+                }
+                digest.update(itemFingerprint);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private byte[] getFingerprint(BuildItem item, Execution execution) {
+        Map<BuildItem, byte[]> itemFingerprints = execution.getItemFingerprints();
+        synchronized (itemFingerprints) {
+            byte[] result = itemFingerprints.get(item);
+            if (result != null) {
+                return result == NO_FINGERPRINT ? null : result;
+            }
+        }
+        byte[] result = computeFingerprint(item);
+        synchronized (itemFingerprints) {
+            itemFingerprints.put(item, result == null ? NO_FINGERPRINT : result);
+        }
+        return result;
+    }
+
+    private byte[] computeFingerprint(BuildItem item) {
+        Function<Object, byte[]> fingerprint = fingerprints.get(item.getClass());
+        if (fingerprint != null) {
+            return newDigest().digest(fingerprint.apply(item));
+        }
+        if (!(item instanceof Serializable)) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(item);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to compute the fingerprint of %s", item);
+            return null;
+        }
+        return newDigest().digest(bytes.toByteArray());
+    }
+
+    /**
+     * Load the items produced by the execution with the given key.
+     *
+     * @return the items, or {@code null} if the cache does not contain the execution
+     */
+    List<CachedItem> load(String key, ClassLoader classLoader) {
+        Path file = directory.resolve(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file));
+                ObjectInputStream objects = new ObjectInputStream(in) {
+                    @Override
+                    protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                        try {
+                            return Class.forName(desc.getName(), false, classLoader);
+                        } catch (ClassNotFoundException e) {
+                            // primitive types
+                            return super.resolveClass(desc);
+                        }
+                    }
+                }) {
+            List<CachedItem> items = ((CachedItems) objects.readObject()).items;
+            touch(file);
+            return items;
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            // most likely a build item class that changed, the step is simply executed again
+            log.debugf(e, "Unable to read the cache entry %s", file);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Store the items produced by the execution with the given key.
+     *
+     * @return {@code true} if the items were stored, {@code false} if one of them cannot be serialized
+     */
+    boolean store(String key, List<CachedItem> items) {
+        for (CachedItem item : items) {
+            if (!(item.item instanceof Serializable)) {
+                return false;
+            }
+        }
+        Path file = directory.resolve(key);
+        Path tmp = directory.resolve(key + TMP_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp));
+                    ObjectOutputStream objects = new ObjectOutputStream(out)) {
+                objects.writeObject(new CachedItems(items));
+            }
+            // concurrent builds sharing the directory never see a partially written entry
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            log.debugf(e, "Unable to write the cache entry %s", file);
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Remove the least recently stored or replayed entries until the total size of the cache does not exceed the given
+     * size, along with the temporary files left behind by interrupted builds.
+     *
+     * @param maxSize the maximum size of the cache in bytes
+     */
+    public void evict(long maxSize) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Entry> entries = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                long lastModified = attributes.lastModifiedTime().toMillis();
+                if (file.getFileName().toString().endsWith(TMP_SUFFIX)) {
+                    if (now - lastModified > TMP_MAX_AGE) {
+                        delete(file);
+                    }
+                } else {
+                    entries.add(new Entry(file, attributes.size(), lastModified));
+                }
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Unable to list the cache entries of %s", directory);
+            return;
+        }
+        entries.sort(Comparator.comparingLong((Entry e) -> e.lastModified).reversed());
+        long size = 0;
+        int evicted = 0;
+        for (Entry entry : entries) {
+            size += entry.size;
+            if (size > maxSize) {
+                delete(entry.file);
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.debugf("Evicted %d of the %d entries of the build cache", evicted, entries.size());
+        }
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debugf(e, "Unable to update the last modification time of the cache entry %s", file);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to delete the cache entry %s", file);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * An item produced by a step, along with the type it was produced as.
+     */
+    static final class CachedItem implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final Class<? extends BuildItem> type;
+        final BuildItem item;
+
+        CachedItem(Class<? extends BuildItem> type, BuildItem item) {
+            this.type = type;
+            this.item = item;
+        }
+    }
+
+    private static final class Entry {
+        final Path file;
+        final long size;
+        final long lastModified;
+
+        Entry(Path file, long size, long lastModified) {
+            this.file = file;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private static final class CachedItems implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final List<CachedItem> items;
+
+        CachedItems(List<CachedItem> items) {
+            this.items = new ArrayList<>(items);
+        }
+    }
+}
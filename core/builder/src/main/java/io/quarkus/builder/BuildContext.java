@@ -30,6 +30,10 @@ public final class BuildContext {
     private final Execution execution;
     private final AtomicInteger dependencies;
     private volatile boolean running;
+    /**
+     * The items produced by the step, recorded to be stored in the {@link BuildCache}, or {@code null}.
+     */
+    private volatile List<BuildCache.CachedItem> producedItems;
 
     BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
         this.classLoader = classLoader;
@@ -228,16 +232,51 @@ private void doProduce(ItemId id, BuildItem value) {
             }
         }
         execution.getMetrics().buildItemProduced(value);
+        final List<BuildCache.CachedItem> producedItems = this.producedItems;
+        if (producedItems != null && value != null) {
+            producedItems.add(new BuildCache.CachedItem(id.getType(), value));
+        }
     }
 
     void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(this);
         }
     }
 
+    private void executeCached(BuildCache cache) {
+        final String key = cache.computeKey(stepInfo, execution);
+        final List<BuildCache.CachedItem> cachedItems = key == null ? null : cache.load(key, classLoader);
+        final BuildCache.Result result;
+        if (cachedItems != null) {
+            for (BuildCache.CachedItem cachedItem : cachedItems) {
+                doProduce(new ItemId(cachedItem.type), cachedItem.item);
+            }
+            result = BuildCache.Result.HIT;
+        } else if (key != null) {
+            final List<BuildCache.CachedItem> produced = Collections.synchronizedList(new ArrayList<>());
+            producedItems = produced;
+            try {
+                stepInfo.getBuildStep().execute(this);
+            } finally {
+                producedItems = null;
+            }
+            // an exception thrown by the step skips the store
+            result = cache.store(key, produced) ? BuildCache.Result.MISS : BuildCache.Result.UNCACHEABLE;
+        } else {
+            stepInfo.getBuildStep().execute(this);
+            result = BuildCache.Result.UNCACHEABLE;
+        }
+        BuildCache.log.tracef("Build step \"%s\" cache %s", stepInfo.getBuildStep(), result);
+        execution.getMetrics().buildStepCached(stepInfo, result);
+    }
+
+    StepInfo getStepInfo() {
+        return stepInfo;
+    }
+
     void run() {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
@@ -252,7 +291,11 @@ void run() {
                 ClassLoader old = currentThread.getContextClassLoader();
                 try {
                     Thread.currentThread().setContextClassLoader(classLoader);
-                    buildStep.execute(this);
+                    if (stepInfo.isCacheable() && execution.getBuildCache() != null) {
+                        executeCached(execution.getBuildCache());
+                    } else {
+                        buildStep.execute(this);
+                    }
                 } catch (Throwable t) {
                     final List<Diagnostic> list = execution.getDiagnostics();
                     list.add(new Diagnostic(Diagnostic.Level.ERROR, t, null, "Build step %s threw an exception", buildStep));
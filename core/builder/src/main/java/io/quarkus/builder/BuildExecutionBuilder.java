@@ -19,6 +19,8 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private Map<String, Long> stepDurations = Collections.emptyMap();
+    private BuildCache buildCache;
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -68,6 +70,33 @@ public <T extends BuildItem> BuildExecutionBuilder produce(Class<T> type, T item
         return this;
     }
 
+    /**
+     * Provide the durations of the build steps, as recorded by a previous build, typically read with
+     * {@link BuildMetrics#readStepDurations(java.nio.file.Path)}. When present, the steps that are ready to run are
+     * executed in the order of the longest remaining path to the end of the build, so that the steps on the critical
+     * path do not wait for steps that have more slack.
+     *
+     * @param stepDurations the durations in ms, keyed by build step id (must not be {@code null})
+     * @return this builder
+     */
+    public BuildExecutionBuilder setStepDurations(Map<String, Long> stepDurations) {
+        Assert.checkNotNullParam("stepDurations", stepDurations);
+        this.stepDurations = stepDurations;
+        return this;
+    }
+
+    /**
+     * Provide the cache the items produced by the {@linkplain BuildStepBuilder#setCacheable(boolean) cacheable}
+     * steps are replayed from, when the items they consume did not change.
+     *
+     * @param buildCache the cache, or {@code null} to execute all the steps
+     * @return this builder
+     */
+    public BuildExecutionBuilder setBuildCache(BuildCache buildCache) {
+        this.buildCache = buildCache;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -109,6 +138,14 @@ Map<ItemId, ArrayList<BuildItem>> getInitialMulti() {
         return initialMulti;
     }
 
+    BuildCache getBuildCache() {
+        return buildCache;
+    }
+
+    Map<String, Long> getStepDurations() {
+        return stepDurations;
+    }
+
     BuildChain getChain() {
         return buildChain;
     }
@@ -4,6 +4,7 @@
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -12,17 +13,24 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
 
 import org.jboss.logging.Logger;
 
 import io.quarkus.builder.Json.JsonArrayBuilder;
 import io.quarkus.builder.Json.JsonObjectBuilder;
 import io.quarkus.builder.item.BuildItem;
+import io.quarkus.builder.json.JsonInteger;
+import io.quarkus.builder.json.JsonMember;
+import io.quarkus.builder.json.JsonObject;
 
 public class BuildMetrics {
 
@@ -33,6 +41,7 @@ public class BuildMetrics {
     private final String buildTargetName;
     private final ConcurrentMap<String, BuildStepRecord> records = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Integer> buildItems = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, BuildCache.Result> cacheResults = new ConcurrentHashMap<>();
     private final AtomicInteger idGenerator;
 
     public BuildMetrics(String buildTargetName) {
@@ -57,6 +66,17 @@ public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime starte
                 new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, duration));
     }
 
+    public void buildStepCached(StepInfo stepInfo, BuildCache.Result result) {
+        cacheResults.put(stepInfo.getBuildStep().getId(), result);
+    }
+
+    /**
+     * @return the {@link BuildCache} results of the cacheable steps, keyed by build step id
+     */
+    public Map<String, BuildCache.Result> getCacheResults() {
+        return cacheResults;
+    }
+
     public void buildItemProduced(BuildItem buildItem) {
         buildItems.compute(buildItem.getClass().getName(), this::itemProduced);
     }
@@ -68,6 +88,34 @@ private Integer itemProduced(String key, Integer val) {
         return val + 1;
     }
 
+    /**
+     * Get the critical path of the build, i.e. the chain of dependent steps whose durations add up to the longest
+     * time.
+     *
+     * @return the records of the steps on the critical path, in execution order
+     */
+    public List<BuildStepRecord> getCriticalPath() {
+        Map<StepInfo, BuildStepRecord> stepRecords = new HashMap<>();
+        for (BuildStepRecord rec : records.values()) {
+            stepRecords.put(rec.stepInfo, rec);
+        }
+        CriticalPath criticalPath = new CriticalPath(new ToLongFunction<StepInfo>() {
+            @Override
+            public long applyAsLong(StepInfo stepInfo) {
+                BuildStepRecord rec = stepRecords.get(stepInfo);
+                return rec != null ? rec.duration : 0;
+            }
+        });
+        List<BuildStepRecord> path = new ArrayList<>();
+        for (StepInfo stepInfo : criticalPath.getPath(stepRecords.keySet())) {
+            BuildStepRecord rec = stepRecords.get(stepInfo);
+            if (rec != null) {
+                path.add(rec);
+            }
+        }
+        return path;
+    }
+
     public void dumpTo(Path file) throws IOException {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
 
@@ -93,6 +141,10 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             recObject.put("thread", rec.thread);
             recObject.put("started", rec.started.format(formatter));
             recObject.put("duration", rec.duration);
+            BuildCache.Result cacheResult = cacheResults.get(rec.stepInfo.getBuildStep().getId());
+            if (cacheResult != null) {
+                recObject.put("cache", cacheResult.name().toLowerCase(Locale.ROOT));
+            }
             JsonArrayBuilder dependentsArray = Json.array();
             for (StepInfo dependent : rec.stepInfo.getDependents()) {
                 BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
@@ -126,11 +178,87 @@ public int compare(Entry<String, Integer> o1, Entry<String, Integer> o2) {
         }
         json.put("itemsCount", itemsCount);
 
+        if (!cacheResults.isEmpty()) {
+            JsonObjectBuilder cache = Json.object();
+            for (BuildCache.Result result : BuildCache.Result.values()) {
+                int count = 0;
+                for (BuildCache.Result stepResult : cacheResults.values()) {
+                    if (stepResult == result) {
+                        count++;
+                    }
+                }
+                cache.put(result.name().toLowerCase(Locale.ROOT), count);
+            }
+            json.put("cache", cache);
+        }
+
+        JsonObjectBuilder criticalPath = Json.object();
+        json.put("criticalPath", criticalPath);
+        JsonArrayBuilder criticalSteps = Json.array();
+        long criticalPathDuration = 0;
+        for (BuildStepRecord rec : getCriticalPath()) {
+            JsonObjectBuilder recObject = Json.object();
+            recObject.put("id", rec.id);
+            recObject.put("stepId", rec.stepInfo.getBuildStep().getId());
+            recObject.put("thread", rec.thread);
+            recObject.put("started", rec.started.format(formatter));
+            recObject.put("duration", rec.duration);
+            criticalSteps.add(recObject);
+            criticalPathDuration += rec.duration;
+        }
+        criticalPath.put("duration", criticalPathDuration);
+        criticalPath.put("records", criticalSteps);
+
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
             json.appendTo(writer);
         }
     }
 
+    /**
+     * Write the duration of each build step, so that the next build can schedule its steps along the critical path.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     * @see #readStepDurations(Path)
+     * @see BuildExecutionBuilder#setStepDurations(Map)
+     */
+    public void dumpStepDurationsTo(Path file) throws IOException {
+        JsonObjectBuilder json = Json.object();
+        for (BuildStepRecord rec : records.values()) {
+            json.put(rec.stepInfo.getBuildStep().getId(), rec.duration);
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
+            json.appendTo(writer);
+        }
+    }
+
+    /**
+     * Read the build step durations written by {@link #dumpStepDurationsTo(Path)}.
+     *
+     * @param file the file to read
+     * @return the durations in ms keyed by build step id, or an empty map if the file does not exist or cannot be
+     *         read
+     */
+    public static Map<String, Long> readStepDurations(Path file) {
+        if (!Files.isReadable(file)) {
+            return Map.of();
+        }
+        try {
+            JsonObject json = JsonReader.of(Files.readString(file)).read();
+            Map<String, Long> durations = new HashMap<>();
+            for (JsonMember member : json.members()) {
+                if (member.value() instanceof JsonInteger) {
+                    durations.put(member.attribute().value(), ((JsonInteger) member.value()).longValue());
+                }
+            }
+            return durations;
+        } catch (IOException | RuntimeException e) {
+            // the durations are only used to order the steps, a stale or broken file must not fail the build
+            LOG.debugf(e, "Unable to read the build step durations from %s", file);
+            return Map.of();
+        }
+    }
+
     public static class BuildStepRecord {
 
         /**
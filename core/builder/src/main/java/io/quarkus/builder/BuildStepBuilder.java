@@ -20,6 +20,7 @@ public final class BuildStepBuilder {
     private final Map<ItemId, Consume> consumes = new HashMap<>();
     private final Map<ItemId, Produce> produces = new HashMap<>();
     private BuildStep buildStep;
+    private boolean cacheable;
 
     BuildStepBuilder(final BuildChainBuilder buildChainBuilder) {
         this.buildChainBuilder = buildChainBuilder;
@@ -37,6 +38,18 @@ public BuildStepBuilder setBuildStep(final BuildStep buildStep) {
         return this;
     }
 
+    /**
+     * Declare whether the items produced by this build step may be replayed from the {@link BuildCache} when the
+     * items it consumes did not change. Only steps whose sole effect is to produce items may be cacheable.
+     *
+     * @param cacheable {@code true} if the step is cacheable
+     * @return this builder
+     */
+    public BuildStepBuilder setCacheable(final boolean cacheable) {
+        this.cacheable = cacheable;
+        return this;
+    }
+
     /**
      * This build step should complete before any build steps which consume the given item {@code type} are initiated.
      * If no such build steps exist, no ordering constraint is enacted.
@@ -214,6 +227,10 @@ BuildStep getBuildStep() {
         return buildStep;
     }
 
+    boolean isCacheable() {
+        return cacheable;
+    }
+
     private void addConsumes(final ItemId itemId, final Constraint constraint, final ConsumeFlags flags) {
         Assert.checkNotNullParam("flags", flags);
         consumes.compute(itemId,
@@ -0,0 +1,77 @@
+package io.quarkus.builder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * The critical path of a build step graph, that is the chain of dependent steps whose durations add up to the longest
+ * time. The build cannot complete faster than this chain, no matter how many threads are available, so the steps on
+ * it are the ones that serialize the build.
+ * <p>
+ * Instances are not thread-safe; the lengths are computed lazily and cached.
+ */
+final class CriticalPath {
+
+    private final ToLongFunction<StepInfo> durations;
+    private final Map<StepInfo, Long> remainingLengths = new HashMap<>();
+
+    /**
+     * @param durations the (expected) duration of each step, in ms
+     */
+    CriticalPath(ToLongFunction<StepInfo> durations) {
+        this.durations = durations;
+    }
+
+    /**
+     * Get the length of the longest path starting at the given step: its own duration plus the longest path of its
+     * dependents.
+     *
+     * @param step the step
+     * @return the length in ms
+     */
+    long getRemainingLength(StepInfo step) {
+        Long length = remainingLengths.get(step);
+        if (length == null) {
+            long longestDependent = 0;
+            for (StepInfo dependent : step.getDependents()) {
+                longestDependent = Math.max(longestDependent, getRemainingLength(dependent));
+            }
+            length = durations.applyAsLong(step) + longestDependent;
+            remainingLengths.put(step, length);
+        }
+        return length;
+    }
+
+    /**
+     * Get the critical path of the graph containing the given steps.
+     *
+     * @param steps the steps the path may start with
+     * @return the steps on the critical path, in execution order
+     */
+    List<StepInfo> getPath(Collection<StepInfo> steps) {
+        List<StepInfo> path = new ArrayList<>();
+        StepInfo current = longest(steps);
+        while (current != null) {
+            path.add(current);
+            current = longest(current.getDependents());
+        }
+        return path;
+    }
+
+    private StepInfo longest(Collection<StepInfo> steps) {
+        StepInfo longest = null;
+        long longestLength = -1;
+        for (StepInfo step : steps) {
+            long length = getRemainingLength(step);
+            if (length > longestLength) {
+                longest = step;
+                longestLength = length;
+            }
+        }
+        return longest;
+    }
+}
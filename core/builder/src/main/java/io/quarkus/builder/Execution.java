@@ -6,9 +6,13 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -39,6 +43,16 @@ final class Execution {
     private volatile boolean done;
 
     private final BuildMetrics metrics;
+    /**
+     * The critical path estimated from the step durations of a previous build, or {@code null} if there are none.
+     */
+    private final CriticalPath criticalPath;
+    private final PriorityBlockingQueue<BuildContext> readyContexts;
+    private final BuildCache buildCache;
+    /**
+     * The fingerprints of the consumed items of the cacheable steps, computed once per item.
+     */
+    private final Map<BuildItem, byte[]> itemFingerprints = new IdentityHashMap<>();
 
     static {
         try {
@@ -66,6 +80,24 @@ final class Execution {
             done = true;
 
         metrics = new BuildMetrics(buildTargetName);
+        buildCache = builder.getBuildCache();
+
+        final Map<String, Long> stepDurations = builder.getStepDurations();
+        if (stepDurations.isEmpty()) {
+            criticalPath = null;
+            readyContexts = null;
+        } else {
+            // steps unknown to the previous build only count through their dependents
+            criticalPath = new CriticalPath(si -> stepDurations.getOrDefault(si.getBuildStep().getId(), 0L));
+            long length = 0;
+            // computes the lengths of all the steps upfront, so that they are only read once the build is running
+            for (StepInfo startStep : chain.getStartSteps()) {
+                length = max(length, criticalPath.getRemainingLength(startStep));
+            }
+            log.debugf("Scheduling build steps by critical path, estimated to take %d ms", length);
+            readyContexts = new PriorityBlockingQueue<>(64,
+                    Comparator.comparingLong(this::getRemainingLength).reversed());
+        }
     }
 
     List<Diagnostic> getDiagnostics() {
@@ -88,7 +120,7 @@ BuildResult run() throws BuildException {
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(getBuildContext(startStep));
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -137,6 +169,27 @@ BuildResult run() throws BuildException {
                 duration, metrics);
     }
 
+    /**
+     * Run the given context, whose dependencies are all satisfied.
+     */
+    void schedule(BuildContext context) {
+        if (readyContexts == null) {
+            executor.execute(context::run);
+        } else {
+            readyContexts.add(context);
+            // every scheduled context submits exactly one task, so there is always a ready context to poll
+            executor.execute(this::runReadyContext);
+        }
+    }
+
+    private void runReadyContext() {
+        readyContexts.poll().run();
+    }
+
+    private long getRemainingLength(BuildContext context) {
+        return criticalPath.getRemainingLength(context.getStepInfo());
+    }
+
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
@@ -165,6 +218,14 @@ BuildChain getBuildChain() {
         return chain;
     }
 
+    BuildCache getBuildCache() {
+        return buildCache;
+    }
+
+    Map<BuildItem, byte[]> getItemFingerprints() {
+        return itemFingerprints;
+    }
+
     BuildMetrics getMetrics() {
         return metrics;
     }
@@ -0,0 +1,169 @@
+package io.quarkus.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildCacheTests {
+
+    public static final class InputItem extends SimpleBuildItem implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final String value;
+
+        public InputItem(String value) {
+            this.value = value;
+        }
+    }
+
+    public static final class OutputItem extends SimpleBuildItem implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final String value;
+
+        public OutputItem(String value) {
+            this.value = value;
+        }
+    }
+
+    public static final class OpaqueItem extends SimpleBuildItem {
+
+        final String value;
+
+        public OpaqueItem(String value) {
+            this.value = value;
+        }
+    }
+
+    @TempDir
+    Path cacheDir;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    public void testReplay() throws ChainBuildException, BuildException {
+        BuildChain chain = createChain(InputItem.class, OutputItem.class);
+        BuildCache cache = new BuildCache(cacheDir, "1");
+
+        BuildResult result = execute(chain, cache, new InputItem("a"));
+        assertThat(result.consume(OutputItem.class).value).isEqualTo("A");
+        assertThat(result.getMetrics().getCacheResults()).containsEntry("upper", BuildCache.Result.MISS);
+        assertThat(executions).hasValue(1);
+
+        result = execute(chain, cache, new InputItem("a"));
+        assertThat(result.consume(OutputItem.class).value).isEqualTo("A");
+        assertThat(result.getMetrics().getCacheResults()).containsEntry("upper", BuildCache.Result.HIT);
+        assertThat(executions).hasValue(1);
+
+        // changed input
+        result = execute(chain, cache, new InputItem("b"));
+        assertThat(result.consume(OutputItem.class).value).isEqualTo("B");
+        assertThat(result.getMetrics().getCacheResults()).containsEntry("upper", BuildCache.Result.MISS);
+        assertThat(executions).hasValue(2);
+
+        // changed salt, e.g. a new version of the extension
+        result = execute(chain, new BuildCache(cacheDir, "2"), new InputItem("a"));
+        assertThat(result.getMetrics().getCacheResults()).containsEntry("upper", BuildCache.Result.MISS);
+        assertThat(executions).hasValue(3);
+    }
+
+    @Test
+    public void testFingerprint() throws ChainBuildException, BuildException {
+        BuildChain chain = createChain(OpaqueItem.class, OutputItem.class);
+
+        BuildResult result = execute(chain, new BuildCache(cacheDir, "1"), new OpaqueItem("a"));
+        assertThat(result.getMetrics().getCacheResults()).containsEntry("upper", BuildCache.Result.UNCACHEABLE);
+
+        BuildCache cache = new BuildCache(cacheDir, "1")
+                .addFingerprint(OpaqueItem.class, item -> item.value.getBytes(StandardCharsets.UTF_8));
+        execute(chain, cache, new OpaqueItem("a"));
+        result = execute(chain, cache, new OpaqueItem("a"));
+        assertThat(result.consume(OutputItem.class).value).isEqualTo("A");
+        assertThat(result.getMetrics().getCacheResults()).containsEntry("upper", BuildCache.Result.HIT);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    public void testNotSerializableOutput() throws ChainBuildException, BuildException {
+        BuildChain chain = createChain(InputItem.class, OpaqueItem.class);
+        BuildCache cache = new BuildCache(cacheDir, "1");
+
+        execute(chain, cache, new InputItem("a"));
+        BuildResult result = execute(chain, cache, new InputItem("a"));
+        assertThat(result.consume(OpaqueItem.class).value).isEqualTo("A");
+        assertThat(result.getMetrics().getCacheResults()).containsEntry("upper", BuildCache.Result.UNCACHEABLE);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    public void testEviction() throws ChainBuildException, BuildException, IOException {
+        BuildChain chain = createChain(InputItem.class, OutputItem.class);
+        BuildCache cache = new BuildCache(cacheDir, "1");
+
+        execute(chain, cache, new InputItem("a"));
+        execute(chain, cache, new InputItem("b"));
+        long maxEntrySize = 0;
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : files.toList()) {
+                maxEntrySize = Math.max(maxEntrySize, Files.size(file));
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+            }
+        }
+        Path tmp = Files.writeString(cacheDir.resolve("interrupted.tmp"), "");
+        Files.setLastModifiedTime(tmp, FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1)));
+        // the replayed entry becomes the most recently used one
+        execute(chain, cache, new InputItem("a"));
+
+        cache.evict(maxEntrySize);
+        assertThat(tmp).doesNotExist();
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            assertThat(files).hasSize(1);
+        }
+        BuildResult result = execute(chain, cache, new InputItem("a"));
+        assertThat(result.getMetrics().getCacheResults()).containsEntry("upper", BuildCache.Result.HIT);
+        result = execute(chain, cache, new InputItem("b"));
+        assertThat(result.getMetrics().getCacheResults()).containsEntry("upper", BuildCache.Result.MISS);
+        assertThat(executions).hasValue(3);
+    }
+
+    private <I extends SimpleBuildItem, O extends SimpleBuildItem> BuildChain createChain(Class<I> input,
+            Class<O> output) throws ChainBuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addInitial(input);
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                executions.incrementAndGet();
+                SimpleBuildItem item = context.consume(input);
+                String value = item instanceof InputItem ? ((InputItem) item).value : ((OpaqueItem) item).value;
+                value = value.toUpperCase();
+                context.produce(output == OutputItem.class ? new OutputItem(value) : new OpaqueItem(value));
+            }
+
+            @Override
+            public String getId() {
+                return "upper";
+            }
+        }).consumes(input).produces(output).setCacheable(true).build();
+        builder.addFinal(output);
+        return builder.build();
+    }
+
+    private static BuildResult execute(BuildChain chain, BuildCache cache, SimpleBuildItem input)
+            throws BuildException {
+        return chain.createExecutionBuilder("my-app.jar").setBuildCache(cache).produce(input).execute();
+    }
+}
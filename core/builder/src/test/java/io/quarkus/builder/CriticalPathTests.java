@@ -0,0 +1,120 @@
+package io.quarkus.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.BuildMetrics.BuildStepRecord;
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class CriticalPathTests {
+
+    public static final class SlowItem extends SimpleBuildItem {
+    }
+
+    public static final class FastItem extends SimpleBuildItem {
+    }
+
+    public static final class FinalItem extends SimpleBuildItem {
+    }
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCriticalPath() throws ChainBuildException, BuildException {
+        BuildResult result = createChain().createExecutionBuilder("my-app.jar").execute();
+        assertThat(stepIds(result.getMetrics().getCriticalPath())).containsExactly("slow", "final");
+    }
+
+    @Test
+    public void testStepDurations() throws ChainBuildException, BuildException, IOException {
+        BuildChain chain = createChain();
+        BuildResult result = chain.createExecutionBuilder("my-app.jar").execute();
+        Path file = tempDir.resolve("build-step-durations.json");
+        result.getMetrics().dumpStepDurationsTo(file);
+
+        Map<String, Long> durations = BuildMetrics.readStepDurations(file);
+        assertThat(durations).containsOnlyKeys("slow", "fast", "final");
+        assertThat(durations.get("slow")).isGreaterThanOrEqualTo(50);
+
+        result = chain.createExecutionBuilder("my-app.jar").setStepDurations(durations).execute();
+        assertNotNull(result.consume(FinalItem.class));
+        assertNotNull(result.consume(FastItem.class));
+        assertThat(stepIds(result.getMetrics().getCriticalPath())).containsExactly("slow", "final");
+    }
+
+    @Test
+    public void testMissingOrBrokenStepDurations() throws IOException {
+        assertThat(BuildMetrics.readStepDurations(tempDir.resolve("missing.json"))).isEmpty();
+        Path broken = Files.writeString(tempDir.resolve("broken.json"), "{\"slow\": ");
+        assertThat(BuildMetrics.readStepDurations(broken)).isEmpty();
+    }
+
+    private static BuildChain createChain() throws ChainBuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(new TestStep("slow", 50) {
+            @Override
+            public void execute(BuildContext context) {
+                super.execute(context);
+                context.produce(new SlowItem());
+            }
+        }).produces(SlowItem.class).build();
+        builder.addBuildStep(new TestStep("fast", 0) {
+            @Override
+            public void execute(BuildContext context) {
+                super.execute(context);
+                context.produce(new FastItem());
+            }
+        }).produces(FastItem.class).build();
+        builder.addBuildStep(new TestStep("final", 10) {
+            @Override
+            public void execute(BuildContext context) {
+                super.execute(context);
+                context.consume(SlowItem.class);
+                context.produce(new FinalItem());
+            }
+        }).consumes(SlowItem.class).produces(FinalItem.class).build();
+        builder.addFinal(FinalItem.class);
+        builder.addFinal(FastItem.class);
+        return builder.build();
+    }
+
+    private static List<String> stepIds(List<BuildStepRecord> records) {
+        return records.stream().map(r -> r.stepInfo.getBuildStep().getId()).collect(Collectors.toList());
+    }
+
+    private static class TestStep implements BuildStep {
+
+        private final String id;
+        private final long sleep;
+
+        TestStep(String id, long sleep) {
+            this.id = id;
+            this.sleep = sleep;
+        }
+
+        @Override
+        public void execute(BuildContext context) {
+            try {
+                Thread.sleep(sleep);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.quarkus.deployment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
+import io.quarkus.bootstrap.model.ApplicationModel;
+import io.quarkus.builder.Version;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ConfigurationBuildItem;
+import io.quarkus.maven.dependency.ResolvedDependency;
+import io.smallrye.config.ConfigValue;
+
+/**
+ * The inputs of the {@link io.quarkus.builder.BuildCache} keys that are not serializable build items.
+ */
+final class BuildCacheFingerprints {
+
+    private BuildCacheFingerprints() {
+    }
+
+    /**
+     * The salt of the cache, which changes with the implementation of the build steps: the Quarkus version and the
+     * dependencies of the application. Snapshots and workspace modules can change without a version change, so the
+     * paths they are resolved to and the last modification time of their content are part of the salt too.
+     */
+    static String salt(ApplicationModel model) {
+        List<String> dependencies = new ArrayList<>();
+        for (ResolvedDependency dependency : model.getDependencies()) {
+            StringBuilder coords = new StringBuilder(dependency.toCompactCoords());
+            if (dependency.isSnapshot() || dependency.isWorkspaceModule()) {
+                for (Path path : dependency.getResolvedPaths()) {
+                    coords.append('@').append(path).append(':').append(lastModified(path));
+                }
+            }
+            dependencies.add(coords.toString());
+        }
+        dependencies.sort(Comparator.naturalOrder());
+        return Version.getVersion() + "," + String.join(",", dependencies);
+    }
+
+    /**
+     * @return the last modification time of the given file, or the most recent one of the files and directories under
+     *         the given directory, each of them being read with a single file system access
+     */
+    private static long lastModified(Path path) {
+        try {
+            if (!Files.exists(path)) {
+                return 0;
+            }
+            long[] lastModified = new long[1];
+            Files.walkFileTree(path, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    lastModified[0] = Math.max(lastModified[0], attrs.lastModifiedTime().toMillis());
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    lastModified[0] = Math.max(lastModified[0], attrs.lastModifiedTime().toMillis());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return lastModified[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The build time configuration, including the values fixed at build time.
+     */
+    static byte[] configuration(ConfigurationBuildItem item) {
+        MessageDigest digest = newDigest();
+        update(digest, item.getReadResult().getAllBuildTimeValues());
+        update(digest, item.getReadResult().getBuildTimeRunTimeValues());
+        return digest.digest();
+    }
+
+    private static void update(MessageDigest digest, Map<String, ConfigValue> values) {
+        for (Map.Entry<String, ConfigValue> entry : new TreeMap<>(values).entrySet()) {
+            update(digest, entry.getKey());
+            update(digest, entry.getValue() == null ? null : entry.getValue().getValue());
+        }
+        digest.update((byte) 1);
+    }
+
+    /**
+     * The structure of the indexed classes: their declarations, members and annotations. Method bodies are not part
+     * of the index, so changing them does not change the fingerprint.
+     */
+    static byte[] index(CombinedIndexBuildItem item) {
+        return index(item.getIndex());
+    }
+
+    static byte[] index(IndexView index) {
+        MessageDigest digest = newDigest();
+        List<ClassInfo> classes = new ArrayList<>(index.getKnownClasses());
+        classes.sort(Comparator.comparing(ClassInfo::name));
+        List<String> lines = new ArrayList<>();
+        for (ClassInfo clazz : classes) {
+            update(digest, clazz.name().toString());
+            update(digest, Integer.toString(clazz.flags()));
+            DotName superName = clazz.superName();
+            update(digest, superName == null ? null : superName.toString());
+            for (DotName interfaceName : clazz.interfaceNames()) {
+                update(digest, interfaceName.toString());
+            }
+            lines.clear();
+            for (MethodInfo method : clazz.methods()) {
+                lines.add(method.flags() + " " + method);
+            }
+            for (FieldInfo field : clazz.fields()) {
+                lines.add(field.flags() + " " + field);
+            }
+            for (AnnotationInstance annotation : clazz.annotations()) {
+                lines.add(annotation.target() + " " + annotation.toString(false));
+            }
+            lines.sort(Comparator.naturalOrder());
+            for (String line : lines) {
+                update(digest, line);
+            }
+        }
+        return digest.digest();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
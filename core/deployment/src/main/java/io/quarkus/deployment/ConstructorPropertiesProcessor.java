@@ -19,7 +19,7 @@ public class ConstructorPropertiesProcessor {
 
     private static final DotName CONSTRUCTOR_PROPERTIES = DotName.createSimple("java.beans.ConstructorProperties");
 
-    @BuildStep
+    @BuildStep(cacheable = true)
     void build(BuildProducer<ReflectiveClassBuildItem> reflectiveClass, CombinedIndexBuildItem indexBuildItem) {
         IndexView index = indexBuildItem.getIndex();
         for (AnnotationInstance annotationInstance : index.getAnnotations(CONSTRUCTOR_PROPERTIES)) {
@@ -47,4 +47,21 @@ public interface DebugConfig {
      */
     @WithDefault("false")
     boolean dumpBuildMetrics();
+
+    /**
+     * If set to true then the duration of each build step is persisted to the build directory, and the next build
+     * runs the steps that are ready in the order of the longest remaining path to the end of the build, as computed
+     * from these durations.
+     */
+    @WithDefault("true")
+    boolean criticalPathScheduling();
+
+    /**
+     * If set to true then the build items produced by the build steps declared as cacheable are stored in the build
+     * directory, and replayed by the next builds instead of executing the steps, as long as the build items the steps
+     * consume, the build time configuration and the application dependencies do not change.
+     * The least recently used entries are removed once the cache exceeds 256 MiB.
+     */
+    @WithDefault("false")
+    boolean buildCache();
 }
@@ -476,6 +476,13 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
             addStep = and(addStep, supplierFactory, onlyIfNot, true);
             final BooleanSupplier finalAddStep = addStep;
 
+            if (buildStep.cacheable()) {
+                if (isRecorder) {
+                    throw reportError(method, "A cacheable build step cannot record bytecode");
+                }
+                methodStepConfig = methodStepConfig.andThen(bsb -> bsb.setCacheable(true));
+            }
+
             if (isRecorder) {
                 assert recordAnnotation != null;
                 final ExecutionTime executionTime = recordAnnotation.value();
@@ -1,14 +1,18 @@
 package io.quarkus.deployment;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -18,14 +22,18 @@
 import io.quarkus.bootstrap.app.DependencyInfoProvider;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.bootstrap.model.ApplicationModel;
+import io.quarkus.builder.BuildCache;
 import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildResult;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
 import io.quarkus.deployment.builditem.AppModelProviderBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ConfigurationBuildItem;
 import io.quarkus.deployment.builditem.CuratedApplicationShutdownBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
@@ -44,6 +52,10 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    private static final String BUILD_STEP_DURATIONS = "build-step-durations.json";
+    private static final String BUILD_CACHE = "quarkus-build-cache";
+    private static final long BUILD_CACHE_MAX_SIZE = 256 * 1024 * 1024;
+
     private final ClassLoader classLoader;
     private final ClassLoader deploymentClassLoader;
     private final PathCollection root;
@@ -158,7 +170,29 @@ public BuildResult run() throws Exception {
             for (PathCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            boolean criticalPathScheduling = isCriticalPathScheduling();
+            if (criticalPathScheduling) {
+                execBuilder.setStepDurations(BuildMetrics.readStepDurations(targetDir.resolve(BUILD_STEP_DURATIONS)));
+            }
+            BuildCache buildCache = null;
+            if (isBuildCache()) {
+                buildCache = new BuildCache(targetDir.resolve(BUILD_CACHE), BuildCacheFingerprints.salt(effectiveModel))
+                        .addFingerprint(ConfigurationBuildItem.class, BuildCacheFingerprints::configuration)
+                        .addFingerprint(CombinedIndexBuildItem.class, BuildCacheFingerprints::index);
+                execBuilder.setBuildCache(buildCache);
+            }
             BuildResult buildResult = execBuilder.execute();
+            if (buildCache != null) {
+                logBuildCacheResults(buildResult);
+                buildCache.evict(BUILD_CACHE_MAX_SIZE);
+            }
+            if (criticalPathScheduling) {
+                try {
+                    buildResult.getMetrics().dumpStepDurationsTo(targetDir.resolve(BUILD_STEP_DURATIONS));
+                } catch (IOException e) {
+                    log.debugf(e, "Unable to write the build step durations to %s", targetDir);
+                }
+            }
             String message = "Quarkus augmentation completed in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
                     + "ms";
             if (launchMode == LaunchMode.NORMAL) {
@@ -188,6 +222,38 @@ public BuildResult run() throws Exception {
         }
     }
 
+    private boolean isCriticalPathScheduling() {
+        // like the build metrics, the durations are not persisted in remote dev mode because of container permissions
+        if (launchMode == LaunchMode.TEST || LaunchMode.isRemoteDev() || targetDir == null) {
+            return false;
+        }
+        return Boolean.parseBoolean(System.getProperty("quarkus.debug.critical-path-scheduling", "true"));
+    }
+
+    private boolean isBuildCache() {
+        if (launchMode == LaunchMode.TEST || LaunchMode.isRemoteDev() || targetDir == null || effectiveModel == null) {
+            return false;
+        }
+        return Boolean.parseBoolean(System.getProperty("quarkus.debug.build-cache"));
+    }
+
+    private static void logBuildCacheResults(BuildResult buildResult) {
+        Map<String, BuildCache.Result> results = buildResult.getMetrics().getCacheResults();
+        if (!log.isDebugEnabled() || results.isEmpty()) {
+            return;
+        }
+        Map<BuildCache.Result, Integer> counts = new EnumMap<>(BuildCache.Result.class);
+        for (BuildCache.Result result : results.values()) {
+            counts.merge(result, 1, Integer::sum);
+        }
+        log.debugf("Build cache: %s", counts);
+        if (log.isTraceEnabled()) {
+            for (Map.Entry<String, BuildCache.Result> e : new TreeMap<>(results).entrySet()) {
+                log.tracef("Build cache %s: %s", e.getValue(), e.getKey());
+            }
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -76,4 +76,16 @@
      * @return the supplier class array
      */
     Class<? extends BooleanSupplier>[] onlyIfNot() default {};
+
+    /**
+     * Whether the build items produced by this build step may be replayed from the build cache, when it is enabled,
+     * instead of executing the step again, if the build items it consumes did not change.
+     * <p>
+     * Only build steps whose sole effect is to produce build items can be cacheable, and they cannot record bytecode.
+     * The step is still executed when one of the items it consumes has no fingerprint, for example because it is not
+     * {@link java.io.Serializable}, or when one of the items it produces is not serializable.
+     *
+     * @return {@code true} if the build step is cacheable
+     */
+    boolean cacheable() default false;
 }
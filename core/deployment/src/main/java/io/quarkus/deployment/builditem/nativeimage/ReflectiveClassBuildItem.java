@@ -2,6 +2,7 @@
 
 import static java.util.Arrays.stream;
 
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.List;
 
@@ -11,7 +12,9 @@
 /**
  * Used to register a class for reflection in native mode
  */
-public final class ReflectiveClassBuildItem extends MultiBuildItem {
+public final class ReflectiveClassBuildItem extends MultiBuildItem implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     // The names of the classes that should be registered for reflection
     private final List<String> className;
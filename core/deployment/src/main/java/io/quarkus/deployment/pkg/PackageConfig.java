@@ -233,6 +233,46 @@ interface AppcdsConfig {
         @WithDefault("true")
         boolean includeDependencyList();
 
+        /**
+         * Whether the class path index of the {@linkplain JarType#FAST_JAR fast JAR} and
+         * {@linkplain JarType#MUTABLE_JAR mutable JAR} output types is written in a format that is memory-mapped when
+         * the application starts, instead of being read into hash maps.
+         * Resources are then looked up through a perfect hash computed at build time, which reduces the startup time
+         * and retained heap of applications with many dependencies.
+         */
+        @WithDefault("false")
+        boolean mappedClassPathIndex();
+
+        /**
+         * Whether all the classes of the {@linkplain JarType#FAST_JAR fast JAR} and
+         * {@linkplain JarType#MUTABLE_JAR mutable JAR} output types are additionally stored uncompressed, the classes
+         * of each dependency starting on a 4 KiB page, in a single {@code quarkus/quarkus-classes.pack} file.
+         * This file is memory-mapped when the application starts and classes are defined straight from it, which
+         * avoids inflating them from the jars and copying them into intermediate buffers.
+         * The jars are left as they are, so this increases the size of the application on disk by roughly the
+         * uncompressed size of its classes. The file is ignored if a jar was modified after the application was built.
+         */
+        @WithDefault("false")
+        boolean packClasses();
+
+        /**
+         * A class load profile recorded by a previous run of the application, used to package the application for
+         * the way it is actually used.
+         * <p>
+         * A profile is recorded by running a {@linkplain JarType#FAST_JAR fast JAR} or
+         * {@linkplain JarType#MUTABLE_JAR mutable JAR} with the system property
+         * {@code quarkus.class-load-profile.record} set to the file to write, e.g. under a production workload.
+         * The file lists the classes in the order they were loaded and is written when the application stops.
+         * <p>
+         * The classes of the profile are preloaded in this order when the application starts, so that they are not
+         * loaded while the first requests are served, and they are then part of the archive created when
+         * {@code quarkus.package.jar.appcds.enabled} is set. They are also stored first in the class pack when
+         * {@code quarkus.package.jar.pack-classes} is set.
+         * <p>
+         * Relative paths are resolved from the project directory.
+         */
+        Optional<Path> classLoadProfile();
+
         /**
          * Decompiler configuration
          */
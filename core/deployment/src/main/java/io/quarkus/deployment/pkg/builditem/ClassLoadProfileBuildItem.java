@@ -0,0 +1,25 @@
+package io.quarkus.deployment.pkg.builditem;
+
+import java.util.List;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The classes of the class load profile configured with {@code quarkus.package.jar.class-load-profile}, in the order
+ * a previous run of the application loaded them.
+ */
+public final class ClassLoadProfileBuildItem extends SimpleBuildItem {
+
+    private final List<String> classNames;
+
+    public ClassLoadProfileBuildItem(List<String> classNames) {
+        this.classNames = List.copyOf(classNames);
+    }
+
+    /**
+     * @return the class names, in load order and without duplicates
+     */
+    public List<String> getClassNames() {
+        return classNames;
+    }
+}
@@ -0,0 +1,42 @@
+package io.quarkus.deployment.pkg.steps;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.runner.ClassLoadProfile;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.ClassLoadProfileBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
+import io.quarkus.runtime.LaunchMode;
+
+public class ClassLoadProfileBuildStep {
+
+    private static final Logger log = Logger.getLogger(ClassLoadProfileBuildStep.class);
+
+    @BuildStep
+    ClassLoadProfileBuildItem readProfile(PackageConfig packageConfig, LaunchModeBuildItem launchMode,
+            OutputTargetBuildItem outputTarget) throws IOException {
+        if (packageConfig.jar().classLoadProfile().isEmpty() || launchMode.getLaunchMode() != LaunchMode.NORMAL) {
+            return null;
+        }
+        Path profile = packageConfig.jar().classLoadProfile().get();
+        if (!profile.isAbsolute()) {
+            Path buildDirectory = outputTarget.getOutputDirectory();
+            profile = (buildDirectory.getParent() == null ? buildDirectory : buildDirectory.getParent()).resolve(profile);
+        }
+        if (!Files.isRegularFile(profile)) {
+            // the first build of an application has no profile yet
+            log.warnf("The class load profile %s does not exist, the application is packaged without it", profile);
+            return null;
+        }
+        List<String> classNames = ClassLoadProfile.read(profile);
+        log.debugf("Read %d classes from the class load profile %s", classNames.size(), profile);
+        return new ClassLoadProfileBuildItem(classNames);
+    }
+}
@@ -71,6 +71,7 @@
 import io.quarkus.deployment.pkg.PackageConfig;
 import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
+import io.quarkus.deployment.pkg.builditem.ClassLoadProfileBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.deployment.pkg.builditem.JarBuildItem;
 import io.quarkus.deployment.pkg.builditem.JvmStartupOptimizerArchiveRequestedBuildItem;
@@ -199,7 +200,8 @@ public JarBuildItem buildRunnerJar(CurateOutcomeBuildItem curateOutcomeBuildItem
             QuarkusBuildCloseablesBuildItem closeablesBuildItem,
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItems,
             MainClassBuildItem mainClassBuildItem,
-            Optional<JvmStartupOptimizerArchiveRequestedBuildItem> jvmStartupOptimizerArchiveRequested)
+            Optional<JvmStartupOptimizerArchiveRequestedBuildItem> jvmStartupOptimizerArchiveRequested,
+            Optional<ClassLoadProfileBuildItem> classLoadProfile)
             throws Exception {
 
         if (jvmStartupOptimizerArchiveRequested.isPresent()) {
@@ -219,7 +221,7 @@ public JarBuildItem buildRunnerJar(CurateOutcomeBuildItem curateOutcomeBuildItem
                 buildThinJar(curateOutcomeBuildItem, outputTargetBuildItem, transformedClasses, applicationArchivesBuildItem,
                         packageConfig, classLoadingConfig, applicationInfo, generatedClasses,
                         generatedResources,
-                        additionalApplicationArchiveBuildItems, mainClassBuildItem);
+                        additionalApplicationArchiveBuildItems, mainClassBuildItem, classLoadProfile);
         };
     }
 
@@ -576,7 +578,8 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
             List<GeneratedClassBuildItem> generatedClasses,
             List<GeneratedResourceBuildItem> generatedResources,
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItems,
-            MainClassBuildItem mainClassBuildItem) throws Exception {
+            MainClassBuildItem mainClassBuildItem,
+            Optional<ClassLoadProfileBuildItem> classLoadProfile) throws Exception {
 
         boolean rebuild = outputTargetBuildItem.isRebuild();
 
@@ -767,8 +770,22 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
             Collections.sort(sortedParentFirst);
             List<String> sortedNonExistentResources = new ArrayList<>(nonExistentResources);
             Collections.sort(sortedNonExistentResources);
-            SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, allJars, sortedParentFirst,
-                    sortedNonExistentResources);
+            if (packageConfig.jar().mappedClassPathIndex()) {
+                SerializedApplication.writeMapped(out, mainClassBuildItem.getClassName(), buildDir, allJars,
+                        sortedParentFirst, sortedNonExistentResources);
+            } else {
+                SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, allJars, sortedParentFirst,
+                        sortedNonExistentResources);
+            }
+            Path classPack = buildDir.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_PACK);
+            if (packageConfig.jar().packClasses()) {
+                try (OutputStream packOut = Files.newOutputStream(classPack)) {
+                    SerializedApplication.writeClassPack(packOut, allJars,
+                            classLoadProfile.map(ClassLoadProfileBuildItem::getClassNames).orElse(List.of()));
+                }
+            } else {
+                Files.deleteIfExists(classPack);
+            }
         }
 
         runnerJar.toFile().setReadable(true, false);
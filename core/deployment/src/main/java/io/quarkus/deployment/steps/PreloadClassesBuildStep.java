@@ -1,6 +1,7 @@
 package io.quarkus.deployment.steps;
 
 import static io.quarkus.runtime.PreloadClassesRecorder.QUARKUS_GENERATED_PRELOAD_CLASSES_FILE;
+import static io.quarkus.runtime.PreloadClassesRecorder.QUARKUS_GENERATED_PROFILED_CLASSES_FILE;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -13,15 +14,21 @@
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.PreloadClassBuildItem;
 import io.quarkus.deployment.builditem.PreloadClassesEnabledBuildItem;
+import io.quarkus.deployment.pkg.builditem.ClassLoadProfileBuildItem;
 import io.quarkus.runtime.PreloadClassesRecorder;
 
 public class PreloadClassesBuildStep {
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
-    public void preInit(Optional<PreloadClassesEnabledBuildItem> preload, PreloadClassesRecorder recorder) {
-        if (!preload.isPresent())
-            return;
-        recorder.invokePreloadClasses(preload.get().doInitialize());
+    public void preInit(Optional<PreloadClassesEnabledBuildItem> preload, Optional<ClassLoadProfileBuildItem> profile,
+            PreloadClassesRecorder recorder) {
+        // the classes of the profile are never initialized, regardless of the preload configuration
+        if (profile.isPresent()) {
+            recorder.invokePreloadProfiledClasses();
+        }
+        if (preload.isPresent()) {
+            recorder.invokePreloadClasses(preload.get().doInitialize());
+        }
     }
 
     @BuildStep
@@ -34,4 +41,15 @@ public GeneratedResourceBuildItem registerPreInitClasses(List<PreloadClassBuildI
         return new GeneratedResourceBuildItem("META-INF/" + QUARKUS_GENERATED_PRELOAD_CLASSES_FILE,
                 names.getBytes(StandardCharsets.UTF_8));
     }
+
+    @BuildStep
+    public GeneratedResourceBuildItem registerProfiledClasses(Optional<ClassLoadProfileBuildItem> profile) {
+        if (profile.isEmpty())
+            return null;
+        // keep the order in which the classes were loaded
+        final String names = profile.get().getClassNames().stream()
+                .map(s -> s.concat(System.lineSeparator())).collect(Collectors.joining());
+        return new GeneratedResourceBuildItem("META-INF/" + QUARKUS_GENERATED_PROFILED_CLASSES_FILE,
+                names.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,47 @@
+package io.quarkus.runtime;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the startup work that the application does not need before it starts serving requests, so that it does not delay
+ * the application start:
+ * <ul>
+ * <li>a bean class, producer method, producer field or method annotated with {@link Startup},</li>
+ * <li>an observer method of {@link StartupEvent}.</li>
+ * </ul>
+ * <p>
+ * The deferred startup work is performed on worker threads once the {@link StartupEvent} has been delivered to the other
+ * observers. It runs concurrently with the rest of the application start, such as the HTTP server starting to listen, so
+ * the application may serve requests before it has completed. Observers with the same priority run in parallel, and an
+ * observer with a higher priority value only runs when all the observers with a lower priority value have completed. The
+ * readiness health check reports the application as not ready until all the deferred startup work completed.
+ * <p>
+ * The deferred startup can be disabled with {@code quarkus.arc.deferred-startup=false}, in which case this annotation has no
+ * effect.
+ *
+ * <pre>
+ * &#064;Startup
+ * &#064;DeferredStartup
+ * &#064;ApplicationScoped
+ * class CacheWarmer {
+ *
+ *     &#064;PostConstruct
+ *     void init() {
+ *         // warm the caches
+ *     }
+ * }
+ * </pre>
+ *
+ * @see Startup
+ */
+@Target({ TYPE, METHOD, FIELD })
+@Retention(RUNTIME)
+public @interface DeferredStartup {
+
+}
@@ -13,6 +13,7 @@
 @Recorder
 public class PreloadClassesRecorder {
     public static final String QUARKUS_GENERATED_PRELOAD_CLASSES_FILE = "quarkus-generated-preload-classes.txt";
+    public static final String QUARKUS_GENERATED_PROFILED_CLASSES_FILE = "quarkus-generated-profiled-classes.txt";
 
     public static void preloadClass(String classname, boolean initialize) {
         try {
@@ -64,4 +65,13 @@ public static void preloadClassesFromStream(InputStream is, boolean initialize)
     public void invokePreloadClasses(boolean initialize) {
         preloadClasses(initialize);
     }
+
+    public void invokePreloadProfiledClasses() {
+        InputStream is = PreloadClassesRecorder.class
+                .getResourceAsStream("/META-INF/" + QUARKUS_GENERATED_PROFILED_CLASSES_FILE);
+        if (is != null) {
+            // the profile only tells which classes were loaded, not when they were initialized
+            preloadClassesFromStream(is, false);
+        }
+    }
 }
@@ -192,6 +192,22 @@ public interface ArcConfig {
     @WithDefault("false")
     boolean strictCompatibility();
 
+    /**
+     * If set to {@code true}, the beans and {@code StartupEvent} observers annotated with
+     * {@link io.quarkus.runtime.DeferredStartup} are notified on worker threads once the other {@code StartupEvent} observers
+     * have been notified, concurrently with the rest of the application start. If set to {@code false}, they are notified
+     * along with the other {@code StartupEvent} observers.
+     */
+    @WithDefault("true")
+    boolean deferredStartup();
+
+    /**
+     * If set to {@code true}, the beans that are instantiated when the application starts are logged during the build,
+     * along with the reason why they are instantiated.
+     */
+    @WithDefault("false")
+    boolean logStartupBeans();
+
     /**
      * Dev mode configuration.
      */
@@ -219,9 +235,8 @@ public interface ArcConfig {
     ArcContextPropagationConfig contextPropagation();
 
     /**
-     * If set to {@code true}, the container should try to optimize the contexts for some of the scopes. If set to {@code auto}
-     * then optimize the contexts if there's less than 1000 beans in the application. If set to {@code false} do not optimize
-     * the contexts.
+     * If set to {@code true}, the container should try to optimize the contexts for some of the scopes. The value {@code auto}
+     * is equivalent to {@code true}. If set to {@code false} do not optimize the contexts.
      * <p>
      * Typically, some implementation parts of the context for {@link jakarta.enterprise.context.ApplicationScoped} could be
      * pregenerated during build.
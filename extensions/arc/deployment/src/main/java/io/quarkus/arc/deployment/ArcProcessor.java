@@ -397,13 +397,12 @@ public Integer compute(AnnotationTarget target, Collection<StereotypeInfo> stere
             public boolean test(BeanDeployment deployment) {
                 switch (arcConfig.optimizeContexts()) {
                     case TRUE:
+                    case AUTO:
+                        // The optimized context instances are backed by an array indexed by the bean,
+                        // so they scale with the number of beans in the app
                         return true;
                     case FALSE:
                         return false;
-                    case AUTO:
-                        // Optimize the context if there is less than 1000 beans in the app
-                        // Note that removed beans are excluded
-                        return deployment.getBeans().size() < 1000;
                     default:
                         throw new IllegalArgumentException("Unexpected value: " + arcConfig.optimizeContexts());
                 }
@@ -25,7 +25,7 @@ ApplicationStartBuildItem startupEvent(ArcRecorder recorder,
             ShutdownContextBuildItem shutdown,
             LaunchModeBuildItem launchMode, ArcConfig config) {
         recorder.handleLifecycleEvents(shutdown, launchMode.getLaunchMode(),
-                config.test().disableApplicationLifecycleObservers());
+                config.test().disableApplicationLifecycleObservers(), config.deferredStartup());
         return new ApplicationStartBuildItem();
     }
 
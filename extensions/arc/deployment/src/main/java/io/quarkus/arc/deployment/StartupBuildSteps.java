@@ -3,10 +3,17 @@
 import static io.quarkus.arc.processor.Annotations.getAnnotations;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import jakarta.enterprise.context.spi.Contextual;
@@ -19,8 +26,10 @@
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
@@ -30,6 +39,7 @@
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.deployment.AutoAddScopeBuildItem.MatchPredicate;
 import io.quarkus.arc.deployment.ObserverRegistrationPhaseBuildItem.ObserverConfiguratorBuildItem;
+import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.processor.AnnotationStore;
 import io.quarkus.arc.processor.Annotations;
@@ -39,18 +49,26 @@
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.arc.processor.ObserverConfigurator;
+import io.quarkus.arc.processor.ObserverInfo;
+import io.quarkus.arc.processor.ObserverTransformer;
+import io.quarkus.arc.runtime.DeferredStartupObserver;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.gizmo.CatchBlockCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
+import io.quarkus.runtime.DeferredStartup;
 import io.quarkus.runtime.Startup;
 import io.quarkus.runtime.StartupEvent;
 
 public class StartupBuildSteps {
 
     static final DotName STARTUP_NAME = DotName.createSimple(Startup.class.getName());
+    static final DotName DEFERRED_STARTUP_NAME = DotName.createSimple(DeferredStartup.class.getName());
+    static final DotName STARTUP_EVENT_NAME = DotName.createSimple(StartupEvent.class.getName());
+    static final DotName DEFERRED_OBSERVER_NAME = DotName.createSimple(DeferredStartupObserver.class.getName());
+    static final DotName CDI_STARTUP_EVENT_NAME = DotName.createSimple(jakarta.enterprise.event.Startup.class.getName());
 
     static final MethodDescriptor ARC_CONTAINER = MethodDescriptor.ofMethod(Arc.class, "container", ArcContainer.class);
     static final MethodDescriptor ARC_CONTAINER_BEAN = MethodDescriptor.ofMethod(ArcContainer.class, "bean",
@@ -112,9 +130,36 @@ public boolean test(BeanInfo bean) {
         });
     }
 
+    @BuildStep
+    AdditionalBeanBuildItem deferredStartupQualifier() {
+        return new AdditionalBeanBuildItem(DeferredStartupObserver.class);
+    }
+
+    @BuildStep
+    void deferStartupEventObservers(ArcConfig config, BuildProducer<ObserverTransformerBuildItem> transformers) {
+        if (!config.deferredStartup()) {
+            return;
+        }
+        transformers.produce(new ObserverTransformerBuildItem(new ObserverTransformer() {
+            @Override
+            public boolean appliesTo(Type observedType, Set<AnnotationInstance> qualifiers) {
+                return observedType.name().equals(STARTUP_EVENT_NAME) || observedType.name().equals(CDI_STARTUP_EVENT_NAME);
+            }
+
+            @Override
+            public void transform(TransformationContext context) {
+                if (context.getMethod() != null && !context.isAsync()
+                        && context.getMethod().hasDeclaredAnnotation(DEFERRED_STARTUP_NAME)) {
+                    // The observer is not notified when the StartupEvent is fired but by DeferredStartupStatus
+                    context.transform().add(DeferredStartupObserver.class).done();
+                }
+            }
+        }));
+    }
+
     @BuildStep
     void registerStartupObservers(ObserverRegistrationPhaseBuildItem observerRegistration,
-            BuildProducer<ObserverConfiguratorBuildItem> configurators) {
+            BuildProducer<ObserverConfiguratorBuildItem> configurators, ArcConfig config) {
 
         AnnotationStore annotationStore = observerRegistration.getContext().get(BuildExtension.Key.ANNOTATION_STORE);
 
@@ -123,7 +168,7 @@ void registerStartupObservers(ObserverRegistrationPhaseBuildItem observerRegistr
                 OptionalInt startupPriority = bean.getStartupPriority();
                 if (startupPriority.isPresent()) {
                     registerStartupObserver(observerRegistration, bean, bean.getIdentifier(),
-                            startupPriority.getAsInt(), null);
+                            startupPriority.getAsInt(), null, false);
                 }
             } else {
                 // First check if the target is annotated with @Startup
@@ -133,7 +178,8 @@ void registerStartupObservers(ObserverRegistrationPhaseBuildItem observerRegistr
                 if (startupAnnotation != null) {
                     AnnotationValue priority = startupAnnotation.value();
                     registerStartupObserver(observerRegistration, bean, bean.getIdentifier(),
-                            priority != null ? priority.asInt() : ObserverMethod.DEFAULT_PRIORITY, null);
+                            priority != null ? priority.asInt() : ObserverMethod.DEFAULT_PRIORITY, null,
+                            config.deferredStartup() && annotationStore.hasAnnotation(target, DEFERRED_STARTUP_NAME));
                 }
                 if (target.kind() == Kind.CLASS) {
                     // If the target is a class then collect all non-static non-producer no-args methods annotated with @Startup
@@ -160,7 +206,9 @@ void registerStartupObservers(ObserverRegistrationPhaseBuildItem observerRegistr
                         for (MethodInfo method : startupMethods) {
                             AnnotationValue priority = annotationStore.getAnnotation(method, STARTUP_NAME).value();
                             registerStartupObserver(observerRegistration, bean, bean.getIdentifier() + method.toString(),
-                                    priority != null ? priority.asInt() : ObserverMethod.DEFAULT_PRIORITY, method);
+                                    priority != null ? priority.asInt() : ObserverMethod.DEFAULT_PRIORITY, method,
+                                    config.deferredStartup() && (annotationStore.hasAnnotation(method, DEFERRED_STARTUP_NAME)
+                                            || annotationStore.hasAnnotation(target, DEFERRED_STARTUP_NAME)));
                         }
                     }
                 }
@@ -169,12 +217,15 @@ void registerStartupObservers(ObserverRegistrationPhaseBuildItem observerRegistr
     }
 
     private void registerStartupObserver(ObserverRegistrationPhaseBuildItem observerRegistration, BeanInfo bean, String id,
-            int priority, MethodInfo startupMethod) {
+            int priority, MethodInfo startupMethod, boolean deferred) {
         ObserverConfigurator configurator = observerRegistration.getContext().configure()
                 .beanClass(bean.getBeanClass())
                 .observedType(StartupEvent.class);
         configurator.id(id);
         configurator.priority(priority);
+        if (deferred) {
+            configurator.addQualifier(DeferredStartupObserver.class);
+        }
         configurator.notify(mc -> {
             // InjectableBean<Foo> bean = Arc.container().bean("bflmpsvz");
             ResultHandle containerHandle = mc.invokeStaticMethod(ARC_CONTAINER);
@@ -238,4 +289,103 @@ private void registerStartupObserver(ObserverRegistrationPhaseBuildItem observer
         });
         configurator.done();
     }
+
+    @BuildStep
+    void logStartupBeans(ArcConfig config, ValidationPhaseBuildItem validationPhase,
+            BuildProducer<ValidationErrorBuildItem> errors) {
+        if (!config.logStartupBeans()) {
+            return;
+        }
+        Map<String, BeanInfo> beans = new HashMap<>();
+        for (BeanInfo bean : validationPhase.getContext().beans()) {
+            beans.put(bean.getIdentifier(), bean);
+        }
+        // bean -> reasons, in the order the beans are found
+        Map<BeanInfo, List<String>> startupBeans = new LinkedHashMap<>();
+        Set<BeanInfo> deferredBeans = new HashSet<>();
+        for (ObserverInfo observer : validationPhase.getContext().get(BuildExtension.Key.OBSERVERS)) {
+            DotName observedType = observer.getObservedType().name();
+            if (observer.isAsync()
+                    || (!observedType.equals(STARTUP_EVENT_NAME) && !observedType.equals(CDI_STARTUP_EVENT_NAME))) {
+                continue;
+            }
+            BeanInfo bean;
+            String reason;
+            if (observer.isSynthetic()) {
+                // The id of a @Startup observer starts with the identifier of the bean
+                bean = beans.get(observer.getId());
+                reason = "@Startup";
+                if (bean == null) {
+                    for (BeanInfo candidate : beans.values()) {
+                        if (observer.getId().startsWith(candidate.getIdentifier())) {
+                            bean = candidate;
+                            reason = "@Startup method " + observer.getId().substring(candidate.getIdentifier().length());
+                            break;
+                        }
+                    }
+                }
+            } else if (!Modifier.isStatic(observer.getObserverMethod().flags())) {
+                bean = observer.getDeclaringBean();
+                reason = "observes " + observedType.withoutPackagePrefix() + " in " + observer.getObserverMethod().name()
+                        + "()";
+            } else {
+                continue;
+            }
+            if (bean == null) {
+                continue;
+            }
+            boolean deferred = false;
+            for (AnnotationInstance qualifier : observer.getQualifiers()) {
+                if (qualifier.name().equals(DEFERRED_OBSERVER_NAME)) {
+                    deferred = true;
+                }
+            }
+            if (deferred) {
+                reason += " (deferred)";
+                deferredBeans.add(bean);
+            }
+            startupBeans.computeIfAbsent(bean, k -> new ArrayList<>()).add(reason);
+        }
+        // Dependent and singleton beans injected into a bean instantiated at startup are instantiated too, whereas a client
+        // proxy is injected for the normal scoped beans
+        Deque<BeanInfo> queue = new ArrayDeque<>(startupBeans.keySet());
+        while (!queue.isEmpty()) {
+            BeanInfo bean = queue.poll();
+            for (InjectionPointInfo injectionPoint : bean.getAllInjectionPoints()) {
+                BeanInfo injected = injectionPoint.getResolvedBean();
+                if (injected == null || injected.getScope().isNormal()) {
+                    continue;
+                }
+                List<String> reasons = startupBeans.get(injected);
+                if (reasons == null) {
+                    reasons = new ArrayList<>();
+                    startupBeans.put(injected, reasons);
+                    queue.add(injected);
+                }
+                String reason = "injected into " + describe(bean);
+                if (!reasons.contains(reason)) {
+                    reasons.add(reason);
+                }
+            }
+        }
+        StringBuilder report = new StringBuilder();
+        report.append(startupBeans.size()).append(" beans are instantiated when the application starts, ")
+                .append(deferredBeans.size()).append(" of them after it has started:");
+        for (Map.Entry<BeanInfo, List<String>> entry : startupBeans.entrySet()) {
+            report.append("\n\t- ").append(describe(entry.getKey())).append(": ")
+                    .append(String.join(", ", entry.getValue()));
+        }
+        LOG.info(report);
+    }
+
+    private static String describe(BeanInfo bean) {
+        if (bean.isProducerMethod()) {
+            MethodInfo method = bean.getTarget().get().asMethod();
+            return method.declaringClass().name() + "#" + method.name() + "()";
+        } else if (bean.isProducerField()) {
+            FieldInfo field = bean.getTarget().get().asField();
+            return field.declaringClass().name() + "#" + field.name();
+        }
+        return bean.getBeanClass().toString();
+    }
 }
@@ -29,7 +29,7 @@ public class OptimizeContextsAutoTest {
     public void testContexts() {
         assertTrue(bean.ping());
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
-            // We have less than 1000 beans
+            // The contexts are optimized regardless of the number of beans
             assertFalse(componentsProvider.getComponents(Arc.container().getCurrentContextFactory()).getContextInstances()
                     .isEmpty());
         }
@@ -0,0 +1,84 @@
+package io.quarkus.arc.test.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.runtime.DeferredStartupStatus;
+import io.quarkus.runtime.DeferredStartup;
+import io.quarkus.runtime.Startup;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class DeferredStartupTest {
+
+    static final List<String> LOG = new CopyOnWriteArrayList<>();
+    static final Map<String, String> THREADS = new ConcurrentHashMap<>();
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Critical.class, Warmer.class, Observer.class));
+
+    @Test
+    public void testDeferredStartup() throws Exception {
+        DeferredStartupStatus.completion().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertTrue(DeferredStartupStatus.isCompleted());
+        // the deferred beans are instantiated after the others, regardless of their priority
+        // and the deferred observers with different priorities are notified in order
+        assertEquals(List.of("critical", "warmer", "observer"), LOG);
+        assertNotEquals(THREADS.get("critical"), THREADS.get("warmer"));
+        assertNotEquals(THREADS.get("critical"), THREADS.get("observer"));
+    }
+
+    @Startup
+    @ApplicationScoped
+    static class Critical {
+
+        @PostConstruct
+        void init() {
+            record("critical");
+        }
+
+    }
+
+    @Startup(1)
+    @DeferredStartup
+    @ApplicationScoped
+    static class Warmer {
+
+        @PostConstruct
+        void init() {
+            record("warmer");
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Observer {
+
+        @DeferredStartup
+        void onStart(@Observes @jakarta.annotation.Priority(2) StartupEvent event) {
+            record("observer");
+        }
+
+    }
+
+    static void record(String name) {
+        LOG.add(name);
+        THREADS.put(name, Thread.currentThread().getName());
+    }
+}
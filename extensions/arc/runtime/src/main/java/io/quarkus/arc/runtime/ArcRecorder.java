@@ -92,7 +92,7 @@ public BeanContainer initBeanContainer(ArcContainer container, List<BeanContaine
     }
 
     public void handleLifecycleEvents(ShutdownContext context, LaunchMode launchMode,
-            boolean disableApplicationLifecycleObservers) {
+            boolean disableApplicationLifecycleObservers, boolean deferredStartup) {
         ArcContainerImpl container = ArcContainerImpl.instance();
         List<Class<?>> mockBeanClasses;
 
@@ -111,7 +111,13 @@ public void handleLifecycleEvents(ShutdownContext context, LaunchMode launchMode
             mockBeanClasses = Collections.emptyList();
         }
 
-        fireLifecycleEvent(container, new StartupEvent(), mockBeanClasses);
+        StartupEvent startupEvent = new StartupEvent();
+        fireLifecycleEvent(container, startupEvent, mockBeanClasses);
+        if (deferredStartup) {
+            // the deferred work starts right away on worker threads, while the remaining runtime init steps, e.g. the
+            // one opening the HTTP server socket, are still being executed
+            DeferredStartupStatus.start(container, startupEvent, mockBeanClasses);
+        }
 
         context.addShutdownTask(new Runnable() {
             @Override
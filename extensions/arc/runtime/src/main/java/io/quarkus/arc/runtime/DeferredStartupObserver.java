@@ -0,0 +1,36 @@
+package io.quarkus.arc.runtime;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Qualifier;
+
+/**
+ * This qualifier is added to the {@link io.quarkus.runtime.StartupEvent} observers that are
+ * {@linkplain io.quarkus.runtime.DeferredStartup deferred}, so that they are not notified when the event is fired.
+ * <p>
+ * This is an internal qualifier and should not be used by an application.
+ */
+@Qualifier
+@Retention(RUNTIME)
+@Target({ FIELD, PARAMETER, METHOD })
+public @interface DeferredStartupObserver {
+
+    /**
+     * Supports inline instantiation of this qualifier.
+     */
+    public static final class Literal extends AnnotationLiteral<DeferredStartupObserver> implements DeferredStartupObserver {
+
+        public static final Literal INSTANCE = new Literal();
+
+        private static final long serialVersionUID = 1L;
+
+    }
+
+}
@@ -0,0 +1,136 @@
+package io.quarkus.arc.runtime;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.InjectableObserverMethod;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * The status of the {@linkplain io.quarkus.runtime.DeferredStartup deferred startup} of the application.
+ */
+public final class DeferredStartupStatus {
+
+    private static final Logger LOG = Logger.getLogger(DeferredStartupStatus.class);
+
+    private static volatile CompletableFuture<Void> completion = CompletableFuture.completedFuture(null);
+
+    private DeferredStartupStatus() {
+    }
+
+    /**
+     *
+     * @return a stage that is completed when all the deferred startup observers have been notified
+     */
+    public static CompletionStage<Void> completion() {
+        return completion.minimalCompletionStage();
+    }
+
+    /**
+     *
+     * @return {@code true} if all the deferred startup observers have been notified successfully
+     */
+    public static boolean isCompleted() {
+        CompletableFuture<Void> completion = DeferredStartupStatus.completion;
+        return completion.isDone() && !completion.isCompletedExceptionally();
+    }
+
+    /**
+     *
+     * @return the failure of a deferred startup observer, or {@code null}
+     */
+    public static Throwable getFailure() {
+        CompletableFuture<Void> completion = DeferredStartupStatus.completion;
+        if (!completion.isCompletedExceptionally()) {
+            return null;
+        }
+        try {
+            completion.join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    /**
+     * Notifies the deferred startup observers on the executor of the container. The observers are sorted by priority; the
+     * observers with the same priority are notified in parallel and the next ones only when all of them have completed.
+     */
+    static void start(ArcContainerImpl container, StartupEvent event, List<Class<?>> mockBeanClasses) {
+        List<InjectableObserverMethod<? super StartupEvent>> observers = new ArrayList<>();
+        List<InjectableObserverMethod<? super StartupEvent>> resolved = container.resolveObserverMethods(StartupEvent.class,
+                DeferredStartupObserver.Literal.INSTANCE);
+        for (InjectableObserverMethod<? super StartupEvent> observer : resolved) {
+            // observers without qualifiers are notified by any StartupEvent and have already been notified
+            if (isDeferred(observer) && !mockBeanClasses.contains(observer.getBeanClass())) {
+                observers.add(observer);
+            }
+        }
+        if (observers.isEmpty()) {
+            completion = CompletableFuture.completedFuture(null);
+            return;
+        }
+        LOG.debugf("Notifying %s deferred startup observers", observers.size());
+
+        Executor executor = container.getExecutorService();
+        CompletableFuture<Void> start = new CompletableFuture<>();
+        CompletableFuture<Void> result = start;
+        int i = 0;
+        while (i < observers.size()) {
+            int priority = observers.get(i).getPriority();
+            List<CompletableFuture<?>> group = new ArrayList<>();
+            List<InjectableObserverMethod<? super StartupEvent>> groupObservers = new ArrayList<>();
+            while (i < observers.size() && observers.get(i).getPriority() == priority) {
+                groupObservers.add(observers.get(i++));
+            }
+            result = result.thenCompose(ignored -> {
+                for (InjectableObserverMethod<? super StartupEvent> observer : groupObservers) {
+                    group.add(CompletableFuture.runAsync(() -> notify(container, observer, event), executor));
+                }
+                return CompletableFuture.allOf(group.toArray(new CompletableFuture<?>[0]));
+            });
+        }
+        completion = result.whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                LOG.error("Deferred startup failed", failure instanceof CompletionException ? failure.getCause() : failure);
+            } else {
+                LOG.debug("Deferred startup completed");
+            }
+        });
+        start.complete(null);
+    }
+
+    private static boolean isDeferred(InjectableObserverMethod<?> observer) {
+        for (Annotation qualifier : observer.getObservedQualifiers()) {
+            if (qualifier.annotationType() == DeferredStartupObserver.class) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void notify(ArcContainerImpl container, InjectableObserverMethod<? super StartupEvent> observer,
+            StartupEvent event) {
+        ManagedContext requestContext = container.requestContext();
+        if (requestContext.isActive()) {
+            observer.notify(event);
+        } else {
+            try {
+                requestContext.activate();
+                observer.notify(event);
+            } finally {
+                requestContext.terminate();
+            }
+        }
+    }
+
+}
@@ -1,4 +1,4 @@
-package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+package io.quarkus.jackson.deployment;
 
 import java.lang.reflect.Modifier;
 import java.util.ArrayDeque;
@@ -17,6 +17,7 @@
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ArrayType;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
@@ -38,7 +39,6 @@
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
-import io.quarkus.resteasy.reactive.jackson.SecureField;
 
 public abstract class JacksonCodeGenerator {
     protected final BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer;
@@ -394,8 +394,8 @@ String writtenType() {
             };
         }
 
-        String[] rolesAllowed() {
-            AnnotationInstance secureField = annotations.get(SecureField.class.getName());
+        String[] rolesAllowed(DotName secureFieldAnnotation) {
+            AnnotationInstance secureField = annotations.get(secureFieldAnnotation.toString());
             if (secureField != null) {
                 AnnotationValue rolesAllowed = secureField.value("rolesAllowed");
                 return rolesAllowed != null ? rolesAllowed.asStringArray() : null;
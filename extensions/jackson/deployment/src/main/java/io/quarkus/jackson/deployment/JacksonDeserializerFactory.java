@@ -1,4 +1,4 @@
-package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+package io.quarkus.jackson.deployment;
 
 import static io.quarkus.gizmo.MethodDescriptor.ofMethod;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
@@ -53,7 +53,7 @@
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.Switch;
-import io.quarkus.resteasy.reactive.jackson.runtime.mappers.JacksonMapperUtil;
+import io.quarkus.jackson.runtime.GeneratedSerializersUtil;
 
 /**
  * Generates an implementation of the Jackson's {@code StdDeserializer} for each class that needs to be deserialized from json.
@@ -182,7 +182,7 @@
  *     }
  *
  *     public JsonDeserializer createContextual(DeserializationContext context, BeanProperty beanProperty) {
- *         JavaType[] valueTypes = JacksonMapperUtil.getGenericsJavaTypes(context, beanProperty);
+ *         JavaType[] valueTypes = GeneratedSerializersUtil.getGenericsJavaTypes(context, beanProperty);
  *         DataItem$quarkusjacksondeserializer deserializer = new DataItem$quarkusjacksondeserializer();
  *         deserializer.valueTypes = valueTypes;
  *         return (JsonDeserializer) deserializer;
@@ -327,7 +327,7 @@ private static void createContextualMethod(ClassCreator classCreator) {
 
         ResultHandle deserializationContext = createContextual.getMethodParam(0);
         ResultHandle beanProperty = createContextual.getMethodParam(1);
-        MethodDescriptor getGenericsJavaTypes = ofMethod(JacksonMapperUtil.class, "getGenericsJavaTypes",
+        MethodDescriptor getGenericsJavaTypes = ofMethod(GeneratedSerializersUtil.class, "getGenericsJavaTypes",
                 JavaType[].class, DeserializationContext.class, BeanProperty.class);
         ResultHandle valueTypes = createContextual.invokeStaticMethod(getGenericsJavaTypes, deserializationContext,
                 beanProperty);
@@ -12,6 +12,8 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -53,6 +55,7 @@
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveMethodBuildItem;
@@ -65,6 +68,8 @@
 import io.quarkus.jackson.JacksonMixin;
 import io.quarkus.jackson.ObjectMapperCustomizer;
 import io.quarkus.jackson.runtime.ConfigurationCustomizer;
+import io.quarkus.jackson.runtime.GeneratedSerializersRecorder;
+import io.quarkus.jackson.runtime.GeneratedSerializersRegister;
 import io.quarkus.jackson.runtime.JacksonBuildTimeConfig;
 import io.quarkus.jackson.runtime.JacksonSupport;
 import io.quarkus.jackson.runtime.JacksonSupportRecorder;
@@ -72,7 +77,9 @@
 import io.quarkus.jackson.runtime.ObjectMapperProducer;
 import io.quarkus.jackson.runtime.VertxHybridPoolObjectMapperCustomizer;
 import io.quarkus.jackson.spi.ClassPathJacksonModuleBuildItem;
+import io.quarkus.jackson.spi.JacksonCodecTypeBuildItem;
 import io.quarkus.jackson.spi.JacksonModuleBuildItem;
+import io.quarkus.jackson.spi.JacksonSecureFieldBuildItem;
 
 public class JacksonProcessor {
 
@@ -93,6 +100,19 @@ public class JacksonProcessor {
 
     private static final DotName BUILDER_VOID = DotName.createSimple(Void.class.getName());
 
+    // wrappers of the types declared by JacksonCodecTypeBuildItem, the codecs are generated for the first type argument
+    private static final Set<DotName> CODEC_TYPE_WRAPPERS = Set.of(
+            DotName.createSimple("org.jboss.resteasy.reactive.RestResponse"),
+            DotName.createSimple("org.jboss.resteasy.reactive.RestMulti"),
+            DotName.createSimple("io.smallrye.mutiny.Uni"),
+            DotName.createSimple("io.smallrye.mutiny.Multi"),
+            DotName.createSimple(CompletionStage.class.getName()),
+            DotName.createSimple(CompletableFuture.class.getName()),
+            DotName.createSimple(Collection.class.getName()),
+            DotName.createSimple(List.class.getName()),
+            DotName.createSimple(Set.class.getName()));
+    private static final DotName MAP = DotName.createSimple(Map.class.getName());
+
     private static final String TIME_MODULE = "com.fasterxml.jackson.datatype.jsr310.JavaTimeModule";
 
     private static final String JDK8_MODULE = "com.fasterxml.jackson.datatype.jdk8.Jdk8Module";
@@ -501,6 +521,63 @@ public void supportMixins(MixinsRecorder recorder,
                 .done());
     }
 
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
+    public void generateReflectionFreeSerializers(JacksonBuildTimeConfig jacksonBuildTimeConfig,
+            GeneratedSerializersRecorder recorder,
+            CombinedIndexBuildItem combinedIndexBuildItem,
+            List<JacksonCodecTypeBuildItem> codecTypes,
+            Optional<JacksonSecureFieldBuildItem> secureField,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (!jacksonBuildTimeConfig.enableReflectionFreeSerializers()) {
+            return;
+        }
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(GeneratedSerializersRegister.class));
+
+        IndexView index = combinedIndexBuildItem.getIndex();
+        Map<String, ClassInfo> serializedClasses = new HashMap<>();
+        Map<String, ClassInfo> deserializedClasses = new HashMap<>();
+        for (JacksonCodecTypeBuildItem codecType : codecTypes) {
+            ClassInfo classInfo = getCodecClassInfo(codecType.getType(), index);
+            if (classInfo == null) {
+                continue;
+            }
+            if (codecType.isSerialization()) {
+                serializedClasses.put(classInfo.name().toString(), classInfo);
+            }
+            if (codecType.isDeserialization()) {
+                deserializedClasses.put(classInfo.name().toString(), classInfo);
+            }
+        }
+
+        if (!serializedClasses.isEmpty()) {
+            JacksonSerializerFactory factory = new JacksonSerializerFactory(generatedClasses,
+                    combinedIndexBuildItem.getComputingIndex(), secureField.orElse(null));
+            factory.create(serializedClasses.values()).forEach(recorder::recordGeneratedSerializer);
+        }
+        if (!deserializedClasses.isEmpty()) {
+            JacksonDeserializerFactory factory = new JacksonDeserializerFactory(generatedClasses,
+                    combinedIndexBuildItem.getComputingIndex());
+            factory.create(deserializedClasses.values()).forEach(recorder::recordGeneratedDeserializer);
+        }
+    }
+
+    private static ClassInfo getCodecClassInfo(Type type, IndexView index) {
+        if (type.kind() == Type.Kind.VOID || type.kind() == Type.Kind.PRIMITIVE) {
+            return null;
+        }
+        if (CODEC_TYPE_WRAPPERS.contains(type.name()) || MAP.equals(type.name())) {
+            if (type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
+            List<Type> arguments = type.asParameterizedType().arguments();
+            return getCodecClassInfo(MAP.equals(type.name()) ? arguments.get(1) : arguments.get(0), index);
+        }
+        // only the application classes are considered, the codecs of the JDK and library types are provided by Jackson
+        return index.getClassByName(type.name());
+    }
+
     @Record(ExecutionTime.STATIC_INIT)
     @BuildStep
     public SyntheticBeanBuildItem jacksonSupport(JacksonSupportRecorder recorder,
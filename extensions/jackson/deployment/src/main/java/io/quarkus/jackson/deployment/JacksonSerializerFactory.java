@@ -1,4 +1,4 @@
-package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+package io.quarkus.jackson.deployment;
 
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
@@ -37,7 +37,8 @@
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
-import io.quarkus.resteasy.reactive.jackson.runtime.mappers.JacksonMapperUtil;
+import io.quarkus.jackson.runtime.GeneratedSerializersUtil;
+import io.quarkus.jackson.spi.JacksonSecureFieldBuildItem;
 
 /**
  * Generates an implementation of the Jackson's {@code StdSerializer} for each class that needs to be serialized in json.
@@ -113,6 +114,9 @@
  * in an external class, and reused for each serialization, thus avoiding executing the UTF-8 encoding of the same strings
  * at each serialization.
  *
+ * The secured field is only guarded if an extension declared the {@code @SecureField} annotation and the check to invoke
+ * with a {@link JacksonSecureFieldBuildItem}, as the REST server does.
+ *
  * Note that in this case also the {@code Address} class has to be serialized in the same way, and then this factory triggers
  * the generation of a second StdSerializer also for it. More in general if during the generation of a serializer for a
  * given class it discovers a non-primitive field of another type for which a serializer hasn't been generated yet, this
@@ -128,9 +132,17 @@ public class JacksonSerializerFactory extends JacksonCodeGenerator {
 
     private final Map<String, Set<String>> generatedFields = new HashMap<>();
 
+    private final JacksonSecureFieldBuildItem secureField;
+
     public JacksonSerializerFactory(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
             IndexView jandexIndex) {
+        this(generatedClassBuildItemBuildProducer, jandexIndex, null);
+    }
+
+    public JacksonSerializerFactory(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
+            IndexView jandexIndex, JacksonSecureFieldBuildItem secureField) {
         super(generatedClassBuildItemBuildProducer, jandexIndex);
+        this.secureField = secureField;
     }
 
     @Override
@@ -293,7 +305,7 @@ private void writeField(ClassInfo classInfo, FieldSpecs fieldSpecs, BytecodeCrea
     }
 
     private static BytecodeCreator checkInclude(BytecodeCreator bytecode, SerializationContext ctx, ResultHandle arg) {
-        MethodDescriptor shouldSerialize = MethodDescriptor.ofMethod(JacksonMapperUtil.SerializationInclude.class,
+        MethodDescriptor shouldSerialize = MethodDescriptor.ofMethod(GeneratedSerializersUtil.SerializationInclude.class,
                 "shouldSerialize",
                 boolean.class, Object.class);
         ResultHandle included = bytecode.invokeVirtualMethod(shouldSerialize, ctx.includeHandle, arg);
@@ -322,7 +334,7 @@ private String writeMethodForPrimitiveFields(String typeName) {
     }
 
     private BytecodeCreator writeFieldBranch(ClassCreator classCreator, MethodCreator serialize, FieldSpecs fieldSpecs) {
-        String[] rolesAllowed = fieldSpecs.rolesAllowed();
+        String[] rolesAllowed = secureField != null ? fieldSpecs.rolesAllowed(secureField.getAnnotationName()) : null;
         if (rolesAllowed != null) {
             MethodCreator clinit = classCreator.getMethodCreator("<clinit>", void.class).setModifiers(ACC_STATIC);
 
@@ -340,8 +352,8 @@ private BytecodeCreator writeFieldBranch(ClassCreator classCreator, MethodCreato
                     FieldDescriptor.of(classCreator.getClassName(), fieldSpecs.fieldName + "_ROLES_ALLOWED",
                             String[].class.getName()));
 
-            MethodDescriptor includeSecureField = MethodDescriptor.ofMethod(JacksonMapperUtil.class, "includeSecureField",
-                    boolean.class, String[].class);
+            MethodDescriptor includeSecureField = MethodDescriptor.ofMethod(secureField.getCheckClassName(),
+                    secureField.getCheckMethodName(), boolean.class, String[].class);
             ResultHandle included = serialize.invokeStaticMethod(includeSecureField, rolesArrayReader);
             return serialize.ifTrue(included).trueBranch();
         }
@@ -390,8 +402,8 @@ private static ResultHandle valueHandle(MethodCreator serialize, String beanClas
         }
 
         private static ResultHandle includeHandle(MethodCreator serialize) {
-            MethodDescriptor decodeInclude = MethodDescriptor.ofMethod(JacksonMapperUtil.SerializationInclude.class, "decode",
-                    JacksonMapperUtil.SerializationInclude.class, Object.class, SerializerProvider.class);
+            MethodDescriptor decodeInclude = MethodDescriptor.ofMethod(GeneratedSerializersUtil.SerializationInclude.class, "decode",
+                    GeneratedSerializersUtil.SerializationInclude.class, Object.class, SerializerProvider.class);
             return serialize.invokeStaticMethod(decodeInclude, serialize.getMethodParam(0), serialize.getMethodParam(2));
         }
     }
@@ -0,0 +1,103 @@
+package io.quarkus.jackson.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.jackson.runtime.GeneratedSerializersRecorder;
+import io.quarkus.jackson.spi.JacksonCodecTypeBuildItem;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JacksonReflectionFreeSerializersTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root.addClasses(Pojo.class, Address.class, Holder.class, Pair.class))
+            .overrideConfigKey("quarkus.jackson.enable-reflection-free-serializers", "true")
+            .addBuildChainCustomizer(b -> {
+                b.addBuildStep(new BuildStep() {
+                    @Override
+                    public void execute(BuildContext context) {
+                        // declared like an extension (de)serializing a List<Pojo> with the application ObjectMapper
+                        Type type = ParameterizedType.create(List.class, ClassType.create(Pojo.class));
+                        context.produce(JacksonCodecTypeBuildItem.serialized(type));
+                        context.produce(JacksonCodecTypeBuildItem.deserialized(type));
+                        context.produce(JacksonCodecTypeBuildItem.deserialized(ClassType.create(Holder.class)));
+                    }
+                }).produces(JacksonCodecTypeBuildItem.class).build();
+            });
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testGeneratedSerializer() throws JsonMappingException, JsonProcessingException {
+        // the codec of the wrapped type and of the types of its fields are generated
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(Pojo.class).getClass().getName())
+                .isEqualTo(Pojo.class.getName() + "$quarkusjacksonserializer");
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(Address.class).getClass().getName())
+                .isEqualTo(Address.class.getName() + "$quarkusjacksonserializer");
+
+        Pojo pojo = new Pojo();
+        pojo.name = "foo";
+        pojo.address = new Address();
+        pojo.address.city = "Brno";
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(pojo)))
+                .isEqualTo(objectMapper.readTree("{\"name\":\"foo\",\"address\":{\"city\":\"Brno\"}}"));
+    }
+
+    @Test
+    public void testGeneratedDeserializer() throws JsonMappingException, JsonProcessingException {
+        assertThat(GeneratedSerializersRecorder.getGeneratedDeserializers()).extracting(Class::getName)
+                .contains(Pojo.class.getName() + "$quarkusjacksondeserializer");
+
+        Pojo pojo = objectMapper.readValue("{\"name\":\"bar\",\"address\":{\"city\":\"Prague\"}}", Pojo.class);
+        assertThat(pojo.name).isEqualTo("bar");
+        assertThat(pojo.address.city).isEqualTo("Prague");
+    }
+
+    @Test
+    public void testGeneratedDeserializerOfGenericType() throws JsonMappingException, JsonProcessingException {
+        // each type parameter is resolved from its own type argument
+        Holder holder = objectMapper.readValue("{\"pair\":{\"first\":1,\"second\":{\"city\":\"Brno\"}}}", Holder.class);
+        assertThat(holder.pair.first).isEqualTo(1);
+        assertThat(holder.pair.second).isInstanceOf(Address.class);
+        assertThat(holder.pair.second.city).isEqualTo("Brno");
+    }
+
+    public static class Pojo {
+
+        public String name;
+        public Address address;
+    }
+
+    public static class Address {
+
+        public String city;
+    }
+
+    public static class Holder {
+
+        public Pair<Integer, Address> pair;
+    }
+
+    public static class Pair<F, S> {
+
+        public F first;
+        public S second;
+    }
+}
@@ -0,0 +1,42 @@
+package io.quarkus.jackson.runtime;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class GeneratedSerializersRecorder {
+
+    private static final Set<Class<? extends StdSerializer>> generatedSerializers = new HashSet<>();
+    private static final Set<Class<? extends StdDeserializer>> generatedDeserializers = new HashSet<>();
+
+    @SuppressWarnings("unchecked")
+    public void recordGeneratedSerializer(String className) {
+        generatedSerializers.add((Class<? extends StdSerializer>) loadClass(className));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void recordGeneratedDeserializer(String className) {
+        generatedDeserializers.add((Class<? extends StdDeserializer>) loadClass(className));
+    }
+
+    public static Set<Class<? extends StdSerializer>> getGeneratedSerializers() {
+        return generatedSerializers;
+    }
+
+    public static Set<Class<? extends StdDeserializer>> getGeneratedDeserializers() {
+        return generatedDeserializers;
+    }
+
+    private Class<?> loadClass(String className) {
+        try {
+            return Thread.currentThread().getContextClassLoader().loadClass(className);
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException("Unable to load generated Jackson class '" + className + "'", e);
+        }
+    }
+}
@@ -1,4 +1,4 @@
-package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+package io.quarkus.jackson.runtime;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
@@ -18,7 +18,6 @@
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import io.quarkus.jackson.ObjectMapperCustomizer;
-import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
 
 @Singleton
 public class GeneratedSerializersRegister implements ObjectMapperCustomizer {
@@ -37,7 +36,7 @@ private static Module createMappingModule() {
             // exact class and not one of its sublclasses. This is already the default behaviour for deserializers.
             ExactSerializers serializers = new ExactSerializers();
 
-            for (Class<? extends StdSerializer> serClass : ResteasyReactiveServerJacksonRecorder.getGeneratedSerializers()) {
+            for (Class<? extends StdSerializer> serClass : GeneratedSerializersRecorder.getGeneratedSerializers()) {
                 try {
                     StdSerializer serializer = serClass.getConstructor().newInstance();
                     serializers.addExactSerializer(serializer.handledType(), serializer);
@@ -49,8 +48,7 @@ private static Module createMappingModule() {
 
             module.setSerializers(serializers);
 
-            for (Class<? extends StdDeserializer> deserClass : ResteasyReactiveServerJacksonRecorder
-                    .getGeneratedDeserializers()) {
+            for (Class<? extends StdDeserializer> deserClass : GeneratedSerializersRecorder.getGeneratedDeserializers()) {
                 try {
                     StdDeserializer deserializer = deserClass.getConstructor().newInstance();
                     module.addDeserializer(deserializer.handledType(), deserializer);
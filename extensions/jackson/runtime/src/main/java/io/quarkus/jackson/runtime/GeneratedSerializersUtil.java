@@ -0,0 +1,86 @@
+package io.quarkus.jackson.runtime;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Helpers invoked by the reflection-free serializers and deserializers generated at build time.
+ */
+public final class GeneratedSerializersUtil {
+
+    private GeneratedSerializersUtil() {
+    }
+
+    public static JavaType[] getGenericsJavaTypes(DeserializationContext context, BeanProperty property) {
+        JavaType wrapperType = property != null ? property.getType() : context.getContextualType();
+        JavaType[] valueTypes = new JavaType[wrapperType.containedTypeCount()];
+        for (int i = 0; i < valueTypes.length; i++) {
+            valueTypes[i] = wrapperType.containedType(i);
+        }
+        return valueTypes;
+    }
+
+    public enum SerializationInclude {
+
+        ALWAYS,
+        NON_NULL,
+        NON_ABSENT,
+        NON_EMPTY;
+
+        public static SerializationInclude decode(Object object, SerializerProvider serializerProvider) {
+            JsonInclude.Include include = serializerProvider.getDefaultPropertyInclusion(object.getClass()).getValueInclusion();
+            return switch (include) {
+                case NON_EMPTY -> NON_EMPTY;
+                case NON_NULL -> NON_NULL;
+                case NON_ABSENT -> NON_ABSENT;
+                default -> ALWAYS;
+            };
+        }
+
+        public boolean shouldSerialize(Object value) {
+            return switch (this) {
+                case ALWAYS -> true;
+                case NON_NULL -> value != null;
+                case NON_ABSENT -> isPresent(value);
+                case NON_EMPTY -> hasValue(value);
+            };
+        }
+
+        private boolean isPresent(Object value) {
+            if (value == null) {
+                return false;
+            }
+            if (value instanceof Optional o) {
+                return o.isPresent();
+            }
+            return true;
+        }
+
+        private boolean hasValue(Object value) {
+            if (!isPresent(value)) {
+                return false;
+            }
+            if (value instanceof String s) {
+                return !s.isEmpty();
+            }
+            if (value instanceof Collection c) {
+                return !c.isEmpty();
+            }
+            if (value instanceof Map m) {
+                return !m.isEmpty();
+            }
+            if (value.getClass().isArray()) {
+                return Array.getLength(value) > 0;
+            }
+            return true;
+        }
+    }
+}
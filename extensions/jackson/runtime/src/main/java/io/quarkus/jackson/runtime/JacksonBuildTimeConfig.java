@@ -72,4 +72,14 @@ public interface JacksonBuildTimeConfig {
      * subclass.
      */
     Optional<String> propertyNamingStrategy();
+
+    /**
+     * If enabled, reflection-free serializers and deserializers are generated at build time and registered on the
+     * application {@code ObjectMapper}.
+     * <p>
+     * They are generated for the types that extensions declare as (de)serialized with this {@code ObjectMapper}, such as
+     * the types used by REST endpoints, REST Client interfaces, WebSockets Next endpoints or Kafka channels.
+     */
+    @WithDefault("false")
+    boolean enableReflectionFreeSerializers();
 }
@@ -0,0 +1,47 @@
+package io.quarkus.jackson.spi;
+
+import java.util.Objects;
+
+import org.jboss.jandex.Type;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * BuildItem used to declare a type that is (de)serialized with the application {@code ObjectMapper}, so that
+ * reflection-free serializers and deserializers can be generated for it at build time when they are enabled.
+ *
+ * The type may be a wrapper such as {@code Uni<T>} or {@code List<T>}, in which case the codecs are generated for
+ * the wrapped type. Types that are not part of the application index are ignored.
+ */
+public final class JacksonCodecTypeBuildItem extends MultiBuildItem {
+
+    private final Type type;
+    private final boolean serialization;
+    private final boolean deserialization;
+
+    private JacksonCodecTypeBuildItem(Type type, boolean serialization, boolean deserialization) {
+        this.type = Objects.requireNonNull(type);
+        this.serialization = serialization;
+        this.deserialization = deserialization;
+    }
+
+    public static JacksonCodecTypeBuildItem serialized(Type type) {
+        return new JacksonCodecTypeBuildItem(type, true, false);
+    }
+
+    public static JacksonCodecTypeBuildItem deserialized(Type type) {
+        return new JacksonCodecTypeBuildItem(type, false, true);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public boolean isSerialization() {
+        return serialization;
+    }
+
+    public boolean isDeserialization() {
+        return deserialization;
+    }
+}
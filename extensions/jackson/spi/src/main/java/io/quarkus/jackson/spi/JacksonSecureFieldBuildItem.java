@@ -0,0 +1,39 @@
+package io.quarkus.jackson.spi;
+
+import java.util.Objects;
+
+import org.jboss.jandex.DotName;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * BuildItem used to declare the annotation that secures a field in the reflection-free serializers.
+ *
+ * The annotation must declare a {@code String[] rolesAllowed} member. A generated serializer only writes an annotated
+ * field if the check method, a {@code public static boolean} method accepting the {@code String[]} of allowed roles,
+ * returns {@code true}.
+ */
+public final class JacksonSecureFieldBuildItem extends SimpleBuildItem {
+
+    private final DotName annotationName;
+    private final String checkClassName;
+    private final String checkMethodName;
+
+    public JacksonSecureFieldBuildItem(DotName annotationName, String checkClassName, String checkMethodName) {
+        this.annotationName = Objects.requireNonNull(annotationName);
+        this.checkClassName = Objects.requireNonNull(checkClassName);
+        this.checkMethodName = Objects.requireNonNull(checkMethodName);
+    }
+
+    public DotName getAnnotationName() {
+        return annotationName;
+    }
+
+    public String getCheckClassName() {
+        return checkClassName;
+    }
+
+    public String getCheckMethodName() {
+        return checkMethodName;
+    }
+}
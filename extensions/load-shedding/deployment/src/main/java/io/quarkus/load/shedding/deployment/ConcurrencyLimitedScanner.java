@@ -0,0 +1,52 @@
+package io.quarkus.load.shedding.deployment;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.model.FixedHandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
+
+import io.quarkus.load.shedding.ConcurrencyLimited;
+import io.quarkus.load.shedding.runtime.rest.EndpointLoadSheddingHandler;
+
+class ConcurrencyLimitedScanner implements MethodScanner {
+
+    static final DotName CONCURRENCY_LIMITED = DotName.createSimple(ConcurrencyLimited.class.getName());
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        AnnotationInstance limited = annotationStore.getAnnotation(method, CONCURRENCY_LIMITED);
+        if (limited == null) {
+            limited = annotationStore.getAnnotation(actualEndpointClass, CONCURRENCY_LIMITED);
+            if (limited == null) {
+                return Collections.emptyList();
+            }
+        }
+
+        AnnotationValue groupValue = limited.value();
+        // the descriptor keeps overloaded resource methods in separate groups
+        String group = groupValue == null || groupValue.asString().isEmpty()
+                ? actualEndpointClass.name() + "#" + method.name() + method.descriptor()
+                : groupValue.asString();
+        AnnotationValue initialLimitValue = limited.value("initialLimit");
+        AnnotationValue maxLimitValue = limited.value("maxLimit");
+
+        EndpointLoadSheddingHandler handler = new EndpointLoadSheddingHandler();
+        handler.setGroup(group);
+        handler.setInitialLimit(initialLimitValue == null ? -1 : initialLimitValue.asInt());
+        handler.setMaxLimit(maxLimitValue == null ? -1 : maxLimitValue.asInt());
+        // runs before the request filters and before the body is read
+        return Collections.singletonList(new FixedHandlerChainCustomizer(handler, HandlerChainCustomizer.Phase.AFTER_MATCH));
+    }
+}
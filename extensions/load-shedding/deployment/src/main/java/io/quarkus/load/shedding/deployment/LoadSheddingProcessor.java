@@ -2,15 +2,26 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.load.shedding.runtime.EndpointConcurrencyLimiters;
 import io.quarkus.load.shedding.runtime.HttpLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpRequestClassifier;
+import io.quarkus.load.shedding.runtime.LoadSheddingRecorder;
 import io.quarkus.load.shedding.runtime.ManagementRequestPrioritizer;
 import io.quarkus.load.shedding.runtime.OverloadDetector;
 import io.quarkus.load.shedding.runtime.PriorityLoadShedding;
+import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 
 public class LoadSheddingProcessor {
     private static final String FEATURE = "load-shedding";
@@ -31,4 +42,26 @@ AdditionalBeanBuildItem beans() {
 
         return AdditionalBeanBuildItem.builder().addBeanClasses(beans).build();
     }
+
+    @BuildStep
+    void endpointLimits(Capabilities capabilities, BuildProducer<MethodScannerBuildItem> methodScanners,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (!capabilities.isPresent(Capability.RESTEASY_REACTIVE)) {
+            return;
+        }
+
+        methodScanners.produce(new MethodScannerBuildItem(new ConcurrencyLimitedScanner()));
+        // looked up programmatically by the handlers
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(EndpointConcurrencyLimiters.class));
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    MetricsFactoryConsumerBuildItem endpointMetrics(Capabilities capabilities,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, LoadSheddingRecorder recorder) {
+        if (!capabilities.isPresent(Capability.RESTEASY_REACTIVE) || metricsCapability.isEmpty()) {
+            return null;
+        }
+        return new MetricsFactoryConsumerBuildItem(recorder.registerEndpointMetrics());
+    }
 }
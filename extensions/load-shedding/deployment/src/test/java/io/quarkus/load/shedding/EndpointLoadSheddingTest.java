@@ -0,0 +1,78 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class EndpointLoadSheddingTest {
+    private static final int NUM_THREADS = 20;
+    private static final int NUM_REQUESTS = 10;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.endpoint.slow.initial-limit", "2")
+            .overrideConfigKey("quarkus.load-shedding.endpoint.slow.max-limit", "2")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Test
+    public void test() throws InterruptedException {
+        AtomicInteger slowErrors = new AtomicInteger();
+        AtomicInteger fastErrors = new AtomicInteger();
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(NUM_THREADS);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < NUM_REQUESTS; j++) {
+                        if (when().get("/slow").then().extract().statusCode() == 503) {
+                            slowErrors.incrementAndGet();
+                        }
+                        if (when().get("/fast").then().extract().statusCode() != 200) {
+                            fastErrors.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    end.countDown();
+                }
+            }).start();
+        }
+
+        begin.countDown();
+        end.await();
+
+        // at least 1/2 of the requests to the slow endpoint failed, the other endpoint was unaffected
+        assertThat(slowErrors).hasValueGreaterThanOrEqualTo(100);
+        assertThat(fastErrors).hasValue(0);
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        @Path("slow")
+        @ConcurrencyLimited("slow")
+        public String slow() throws InterruptedException {
+            Thread.sleep(100);
+            return "Hello, world!";
+        }
+
+        @GET
+        @Path("fast")
+        public String fast() {
+            return "Hello, world!";
+        }
+    }
+}
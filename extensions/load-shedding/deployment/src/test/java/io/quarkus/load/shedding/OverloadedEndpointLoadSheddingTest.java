@@ -0,0 +1,60 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class OverloadedEndpointLoadSheddingTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Test
+    public void test() throws Exception {
+        CompletableFuture<Integer> first = CompletableFuture
+                .supplyAsync(() -> when().get("/first").then().extract().statusCode());
+        assertThat(MyResource.FIRST_STARTED.await(10, TimeUnit.SECONDS)).isTrue();
+        try {
+            // the overloaded methods have their own limit, so the first request does not use up the limit of the second
+            assertThat(when().get("/second?name=foo").then().extract().statusCode()).isEqualTo(200);
+        } finally {
+            MyResource.SECOND_DONE.countDown();
+        }
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(200);
+    }
+
+    @Path("/")
+    public static class MyResource {
+        static final CountDownLatch FIRST_STARTED = new CountDownLatch(1);
+        static final CountDownLatch SECOND_DONE = new CountDownLatch(1);
+
+        @GET
+        @Path("first")
+        @ConcurrencyLimited(initialLimit = 1, maxLimit = 1)
+        public String hello() throws InterruptedException {
+            FIRST_STARTED.countDown();
+            SECOND_DONE.await(10, TimeUnit.SECONDS);
+            return "first";
+        }
+
+        @GET
+        @Path("second")
+        @ConcurrencyLimited(initialLimit = 1, maxLimit = 1)
+        public String hello(@QueryParam("name") String name) {
+            return "second " + name;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.load.shedding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Gives a Quarkus REST resource method its own adaptive concurrency limit, in addition to the global one.
+ * Requests that exceed the limit are rejected with {@code 503 Service Unavailable} before their body is read,
+ * so that a slow endpoint only sheds its own load instead of starving the other endpoints.
+ * <p>
+ * Resource methods with the same {@link #value() group} share a single limit. When declared on a class,
+ * the annotation applies to all resource methods of the class that don't declare it themselves.
+ * <p>
+ * The limit of each group can be tuned with the {@code quarkus.load-shedding.endpoint."group".*}
+ * configuration properties, which take precedence over the annotation attributes.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface ConcurrencyLimited {
+    /**
+     * The name of the group sharing the limit. By default, each resource method has its own group,
+     * named after the endpoint class, the method name and the method descriptor, e.g.
+     * {@code org.acme.ReportResource#generate(Ljava/lang/String;)Lorg/acme/Report;}.
+     */
+    String value() default "";
+
+    /**
+     * The initial limit of concurrent requests allowed. By default, {@code quarkus.load-shedding.initial-limit}
+     * is used.
+     */
+    int initialLimit() default -1;
+
+    /**
+     * The maximum number of concurrent requests allowed. By default, {@code quarkus.load-shedding.max-limit}
+     * is used.
+     */
+    int maxLimit() default -1;
+}
@@ -0,0 +1,184 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrency limit based on TCP Vegas, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * Admission only touches the in-flight counter and the volatile limit. The limit is recomputed
+ * by whichever thread completes a request while no other thread is doing so. Samples that
+ * arrive while an update is in progress are queued instead of making the caller wait, and
+ * the updating thread processes them before it lets another thread in, so no sample is lost.
+ */
+public final class AdaptiveConcurrencyLimiter {
+    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+
+    static {
+        LOG10_PLUS_1_TABLE[0] = 1;
+        for (int i = 1; i < 1_000; i++) {
+            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
+        }
+    }
+
+    private final int maxLimit;
+    private final int alphaFactor;
+    private final int betaFactor;
+    private final double probeFactor;
+
+    private final AtomicInteger currentRequests = new AtomicInteger();
+    private final LongAdder rejectedRequests = new LongAdder();
+    private final AtomicBoolean updating = new AtomicBoolean();
+    private final Queue<Sample> pendingSamples = new ConcurrentLinkedQueue<>();
+    private volatile long currentLimit;
+
+    // guarded by `updating`
+    private long lowestRequestTime = Long.MAX_VALUE;
+    private double probeCount = 0.0;
+    private double probeJitter;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit, int alphaFactor, int betaFactor, double probeFactor) {
+        this.maxLimit = maxLimit;
+        this.alphaFactor = alphaFactor;
+        this.betaFactor = betaFactor;
+        this.probeFactor = probeFactor;
+        this.currentLimit = Math.max(1, Math.min(maxLimit, initialLimit));
+        resetProbeJitter();
+    }
+
+    public boolean isOverloaded() {
+        return currentRequests.get() >= currentLimit;
+    }
+
+    /**
+     * Unconditionally counts a new request in flight.
+     */
+    public void requestBegin() {
+        currentRequests.incrementAndGet();
+    }
+
+    /**
+     * Counts a new request in flight, unless the limit has been reached.
+     *
+     * @return whether the request was admitted; if so, {@link #requestEnd(long)} must be called once it completes
+     */
+    public boolean tryRequestBegin() {
+        int current;
+        do {
+            current = currentRequests.get();
+            if (current >= currentLimit) {
+                rejectedRequests.increment();
+                return false;
+            }
+        } while (!currentRequests.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void requestEnd(long timeInMicros) {
+        int current = currentRequests.getAndDecrement();
+
+        if (updating.compareAndSet(false, true)) {
+            try {
+                update(timeInMicros, current);
+                updatePending();
+            } finally {
+                updating.set(false);
+            }
+        } else {
+            pendingSamples.offer(new Sample(timeInMicros, current));
+        }
+        // a sample queued after the last drain but before the flag was released is picked up here
+        while (!pendingSamples.isEmpty() && updating.compareAndSet(false, true)) {
+            try {
+                updatePending();
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    public long getLimit() {
+        return currentLimit;
+    }
+
+    public int getCurrentRequests() {
+        return currentRequests.get();
+    }
+
+    public long getRejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+    // guarded by `updating`
+    private void updatePending() {
+        Sample sample;
+        while ((sample = pendingSamples.poll()) != null) {
+            update(sample.requestTime, sample.currentRequests);
+        }
+    }
+
+    private void update(long requestTime, int currentRequests) {
+        probeCount++;
+        if (probeFactor * probeJitter * currentLimit <= probeCount) {
+            resetProbeJitter();
+            probeCount = 0.0;
+            lowestRequestTime = requestTime;
+            return;
+        }
+
+        if (requestTime < lowestRequestTime) {
+            lowestRequestTime = requestTime;
+            return;
+        }
+
+        long currentLimit = this.currentLimit;
+
+        if (2L * currentRequests < currentLimit) {
+            return;
+        }
+
+        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+
+        int currentLimitLog10Plus1;
+        if (currentLimit >= 0 && currentLimit < 1_000) {
+            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
+        } else {
+            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
+        }
+        int alpha = alphaFactor * currentLimitLog10Plus1;
+        int beta = betaFactor * currentLimitLog10Plus1;
+
+        long newLimit;
+        if (queueSize <= currentLimitLog10Plus1) {
+            newLimit = currentLimit + beta;
+        } else if (queueSize < alpha) {
+            newLimit = currentLimit + currentLimitLog10Plus1;
+        } else if (queueSize > beta) {
+            newLimit = currentLimit - currentLimitLog10Plus1;
+        } else {
+            return;
+        }
+
+        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        this.currentLimit = newLimit;
+    }
+
+    private void resetProbeJitter() {
+        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    }
+
+    private static final class Sample {
+        final long requestTime;
+        final int currentRequests;
+
+        Sample(long requestTime, int currentRequests) {
+            this.requestTime = requestTime;
+            this.currentRequests = currentRequests;
+        }
+    }
+}
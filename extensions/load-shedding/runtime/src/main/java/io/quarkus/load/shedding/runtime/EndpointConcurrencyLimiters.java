@@ -0,0 +1,83 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Holds the concurrency limiters of the {@link io.quarkus.load.shedding.ConcurrencyLimited @ConcurrencyLimited}
+ * endpoint groups. Limiters are created on first use.
+ */
+@Singleton
+public class EndpointConcurrencyLimiters {
+    private final LoadSheddingRuntimeConfig config;
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final Set<String> groupsWithMetrics = ConcurrentHashMap.newKeySet();
+
+    // set at startup, before any request is served
+    private volatile MetricsFactory metricsFactory;
+
+    @Inject
+    EndpointConcurrencyLimiters(LoadSheddingRuntimeConfig config) {
+        this.config = config;
+    }
+
+    public boolean isEnabled() {
+        return config.enabled();
+    }
+
+    /**
+     * @param initialLimit the initial limit declared by the annotation, or a negative value if not declared
+     * @param maxLimit the maximum limit declared by the annotation, or a negative value if not declared
+     */
+    public AdaptiveConcurrencyLimiter limiter(String group, int initialLimit, int maxLimit) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(group);
+        if (limiter != null) {
+            return limiter;
+        }
+        limiter = limiters.computeIfAbsent(group, ignored -> {
+            LoadSheddingRuntimeConfig.EndpointLoadShedding groupConfig = config.endpoint().get(group);
+            int initial = initialLimit < 0 ? config.initialLimit() : initialLimit;
+            int max = maxLimit < 0 ? config.maxLimit() : maxLimit;
+            if (groupConfig != null) {
+                initial = groupConfig.initialLimit().orElse(initial);
+                max = groupConfig.maxLimit().orElse(max);
+            }
+            return new AdaptiveConcurrencyLimiter(initial, max, config.alphaFactor(), config.betaFactor(),
+                    config.probeFactor());
+        });
+        // registered once the limiter is visible to setMetricsFactory(), so that one of the two sides always does it
+        registerMetrics(group, limiter);
+        return limiter;
+    }
+
+    void setMetricsFactory(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+        limiters.forEach(this::registerMetrics);
+    }
+
+    private void registerMetrics(String group, AdaptiveConcurrencyLimiter limiter) {
+        MetricsFactory metricsFactory = this.metricsFactory;
+        if (metricsFactory == null || !groupsWithMetrics.add(group)) {
+            return;
+        }
+        metricsFactory.builder("load.shedding.endpoint.limit")
+                .description("Current concurrency limit of the endpoint group")
+                .tag("group", group)
+                .buildGauge(limiter::getLimit);
+        metricsFactory.builder("load.shedding.endpoint.in.flight")
+                .description("Number of requests of the endpoint group currently being processed")
+                .tag("group", group)
+                .buildGauge(limiter::getCurrentRequests);
+        metricsFactory.builder("load.shedding.endpoint.rejected")
+                .description("Number of requests of the endpoint group rejected because the limit was reached")
+                .tag("group", group)
+                .buildCounter(limiter::getRejectedRequests);
+    }
+}
@@ -0,0 +1,20 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class LoadSheddingRecorder {
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerEndpointMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Arc.container().instance(EndpointConcurrencyLimiters.class).get().setMetricsFactory(metricsFactory);
+            }
+        };
+    }
+}
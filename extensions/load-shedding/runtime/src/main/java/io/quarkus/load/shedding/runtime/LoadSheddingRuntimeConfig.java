@@ -1,5 +1,9 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.util.Map;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -51,6 +55,13 @@ public interface LoadSheddingRuntimeConfig {
      */
     PriorityLoadShedding priority();
 
+    /**
+     * Configuration of the concurrency limits of Quarkus REST endpoints annotated
+     * {@link io.quarkus.load.shedding.ConcurrencyLimited @ConcurrencyLimited}, keyed by the group name.
+     */
+    @ConfigDocMapKey("group")
+    Map<String, EndpointLoadShedding> endpoint();
+
     @ConfigGroup
     interface PriorityLoadShedding {
         /**
@@ -59,4 +70,19 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    @ConfigGroup
+    interface EndpointLoadShedding {
+        /**
+         * The initial limit of concurrent requests allowed for this group of endpoints.
+         * Overrides the value of the annotation.
+         */
+        OptionalInt initialLimit();
+
+        /**
+         * The maximum number of concurrent requests allowed for this group of endpoints.
+         * Overrides the value of the annotation.
+         */
+        OptionalInt maxLimit();
+    }
 }
@@ -0,0 +1,86 @@
+package io.quarkus.load.shedding.runtime.rest;
+
+import jakarta.ws.rs.container.CompletionCallback;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.load.shedding.runtime.AdaptiveConcurrencyLimiter;
+import io.quarkus.load.shedding.runtime.EndpointConcurrencyLimiters;
+
+/**
+ * Applies the concurrency limit of a {@link io.quarkus.load.shedding.ConcurrencyLimited @ConcurrencyLimited}
+ * endpoint group. It runs right after the resource method was matched, so rejected requests never have
+ * their body read.
+ */
+public class EndpointLoadSheddingHandler implements ServerRestHandler {
+
+    // make mutable to allow for bytecode serialization
+    private String group;
+    private int initialLimit;
+    private int maxLimit;
+
+    // null if load shedding is disabled
+    private volatile AdaptiveConcurrencyLimiter limiter;
+    private volatile boolean initialized;
+
+    public EndpointLoadSheddingHandler() {
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public void setGroup(String group) {
+        this.group = group;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        if (limiter == null) {
+            return;
+        }
+        if (!limiter.tryRequestBegin()) {
+            requestContext.abortWith(Response.status(Response.Status.SERVICE_UNAVAILABLE).build());
+            return;
+        }
+        long start = System.nanoTime();
+        requestContext.registerCompletionCallback(new CompletionCallback() {
+            @Override
+            public void onComplete(Throwable throwable) {
+                limiter.requestEnd((System.nanoTime() - start) / 1_000);
+            }
+        });
+    }
+
+    private AdaptiveConcurrencyLimiter limiter() {
+        if (initialized) {
+            return limiter;
+        }
+        // the registry hands out a single limiter per group, so racing threads end up with the same one
+        EndpointConcurrencyLimiters limiters = Arc.container().instance(EndpointConcurrencyLimiters.class).get();
+        AdaptiveConcurrencyLimiter result = limiters.isEnabled() ? limiters.limiter(group, initialLimit, maxLimit) : null;
+        limiter = result;
+        initialized = true;
+        return result;
+    }
+}
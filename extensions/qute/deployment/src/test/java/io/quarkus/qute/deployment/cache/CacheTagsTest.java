@@ -0,0 +1,64 @@
+package io.quarkus.qute.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.cache.QuteCacheInvalidator;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheTagsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset("{#cached tags='header'}{counter.val}{/cached}::"
+                            + "{#cached tags='catalog, sidebar'}{counter.val}{/cached}::"
+                            + "{#cached _auto}{name}:{#let c=counter}{c.val}{/let}{/cached}"),
+                            "templates/foo.txt"));
+
+    @Inject
+    Template foo;
+
+    @Inject
+    QuteCacheInvalidator invalidator;
+
+    Counter counter = new Counter();
+
+    @Test
+    public void testInvalidateTag() {
+        assertEquals("1::2::foo:3", render("foo"));
+        assertEquals("1::2::foo:3", render("foo"));
+        invalidator.invalidateTag("sidebar").await().indefinitely();
+        assertEquals("1::4::foo:3", render("foo"));
+        invalidator.invalidateTag("header").await().indefinitely();
+        assertEquals("5::4::foo:3", render("foo"));
+        // the key of the last part contains the value of {name}
+        assertEquals("5::4::bar:6", render("bar"));
+        assertEquals("5::4::foo:3", render("foo"));
+        invalidator.invalidateAll().await().indefinitely();
+        assertEquals("7::8::bar:9", render("bar"));
+    }
+
+    private String render(String name) {
+        return foo.data("counter", counter, "name", name).render();
+    }
+
+    public static class Counter {
+
+        private final AtomicInteger val = new AtomicInteger();
+
+        public int getVal() {
+            return val.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+package io.quarkus.qute.cache;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Invalidates the parts of templates cached with the {@code #cached} section.
+ * <p>
+ * A bean with this type is always registered and can be injected in the application code, e.g. to invalidate the cached parts
+ * that display data which have just changed:
+ *
+ * <pre>
+ * {#cached tags='catalog'}...{/cached}
+ * </pre>
+ *
+ * <pre>
+ * &#064;Inject
+ * QuteCacheInvalidator invalidator;
+ *
+ * void onCatalogUpdated(&#064;Observes CatalogUpdated event) {
+ *     invalidator.invalidateTag("catalog").await().indefinitely();
+ * }
+ * </pre>
+ */
+public interface QuteCacheInvalidator {
+
+    /**
+     *
+     * @param tag
+     * @return a new {@link Uni} that invalidates all cached parts with the given tag when subscribed
+     */
+    Uni<Void> invalidateTag(String tag);
+
+    /**
+     *
+     * @return a new {@link Uni} that invalidates all cached parts when subscribed
+     */
+    Uni<Void> invalidateAll();
+
+}
@@ -1,9 +1,11 @@
 package io.quarkus.qute.runtime.cache;
 
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
 
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheName;
@@ -11,9 +13,11 @@
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.ResultNode;
 import io.quarkus.qute.cache.QuteCache;
+import io.quarkus.qute.cache.QuteCacheInvalidator;
 import io.smallrye.mutiny.Uni;
 
-public class CacheConfigurator {
+@Singleton
+public class CacheConfigurator implements QuteCacheInvalidator {
 
     @CacheName(QuteCache.NAME)
     Cache cache;
@@ -26,7 +30,65 @@ public CompletionStage<ResultNode> getValue(String key, Function<String, Complet
                 return cache.<String, ResultNode> getAsync(key, k -> Uni.createFrom().completionStage(loader.apply(k)))
                         .subscribeAsCompletionStage();
             }
+
+            @Override
+            public CompletionStage<ResultNode> getValue(String key, Set<String> tags,
+                    Function<String, CompletionStage<ResultNode>> loader) {
+                if (tags.isEmpty()) {
+                    return getValue(key, loader);
+                }
+                return cache.<TaggedKey, ResultNode> getAsync(new TaggedKey(key, tags),
+                        k -> Uni.createFrom().completionStage(loader.apply(k.key)))
+                        .subscribeAsCompletionStage();
+            }
         }));
     }
 
+    @Override
+    public Uni<Void> invalidateTag(String tag) {
+        return cache.invalidateIf(k -> k instanceof TaggedKey && ((TaggedKey) k).tags.contains(tag));
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return cache.invalidateAll();
+    }
+
+    /**
+     * The tags are not considered in {@link #equals(Object)} and {@link #hashCode()}; they are only used to find the entries
+     * that should be invalidated.
+     */
+    static final class TaggedKey {
+
+        final String key;
+        final Set<String> tags;
+
+        TaggedKey(String key, Set<String> tags) {
+            this.key = key;
+            this.tags = tags;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return key.equals(((TaggedKey) obj).key);
+        }
+
+        @Override
+        public String toString() {
+            return key + tags;
+        }
+
+    }
+
 }
@@ -4,12 +4,16 @@
 import java.util.function.Function;
 
 import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
 
 import io.quarkus.qute.CacheSectionHelper;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.ResultNode;
+import io.quarkus.qute.cache.QuteCacheInvalidator;
+import io.smallrye.mutiny.Uni;
 
-public class MissingCacheConfigurator {
+@Singleton
+public class MissingCacheConfigurator implements QuteCacheInvalidator {
 
     void configureEngine(@Observes EngineBuilder builder) {
         builder.addSectionHelper(new CacheSectionHelper.Factory(new CacheSectionHelper.Cache() {
@@ -21,4 +25,16 @@ public CompletionStage<ResultNode> getValue(String key, Function<String, Complet
         }));
     }
 
+    @Override
+    public Uni<Void> invalidateTag(String tag) {
+        // nothing is cached
+        return Uni.createFrom().voidItem();
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        // nothing is cached
+        return Uni.createFrom().voidItem();
+    }
+
 }
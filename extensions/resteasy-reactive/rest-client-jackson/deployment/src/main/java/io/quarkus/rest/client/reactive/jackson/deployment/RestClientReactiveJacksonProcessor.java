@@ -3,6 +3,7 @@
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_NDJSON;
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_STREAM_JSON;
 
+import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.List;
 
@@ -10,6 +11,9 @@
 import jakarta.ws.rs.core.MediaType;
 
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.MethodParameterInfo;
+import org.jboss.jandex.Type;
 import org.jboss.resteasy.reactive.client.impl.RestClientClosingTask;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -20,7 +24,9 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
+import io.quarkus.jackson.spi.JacksonCodecTypeBuildItem;
 import io.quarkus.rest.client.reactive.deployment.AnnotationToRegisterIntoClientContextBuildItem;
+import io.quarkus.rest.client.reactive.deployment.RegisteredRestClientBuildItem;
 import io.quarkus.rest.client.reactive.jackson.ClientObjectMapper;
 import io.quarkus.rest.client.reactive.jackson.runtime.serialisers.ClientJacksonMessageBodyReader;
 import io.quarkus.rest.client.reactive.jackson.runtime.serialisers.ClientJacksonMessageBodyWriter;
@@ -120,6 +126,26 @@ void additionalProviders(
                                 .build());
     }
 
+    @BuildStep
+    void codecTypes(List<RegisteredRestClientBuildItem> restClients, BuildProducer<JacksonCodecTypeBuildItem> codecTypes) {
+        for (RegisteredRestClientBuildItem restClient : restClients) {
+            for (MethodInfo method : restClient.getClassInfo().methods()) {
+                if (Modifier.isStatic(method.flags()) || method.isSynthetic()) {
+                    continue;
+                }
+                if (method.returnType().kind() != Type.Kind.VOID) {
+                    codecTypes.produce(JacksonCodecTypeBuildItem.deserialized(method.returnType()));
+                }
+                // the request body is the only parameter without annotation
+                for (MethodParameterInfo parameter : method.parameters()) {
+                    if (parameter.declaredAnnotations().isEmpty()) {
+                        codecTypes.produce(JacksonCodecTypeBuildItem.serialized(parameter.type()));
+                    }
+                }
+            }
+        }
+    }
+
     @BuildStep
     void nativeSupport(BuildProducer<ServiceProviderBuildItem> serviceProviderProducer) {
         serviceProviderProducer.produce(new ServiceProviderBuildItem(RestClientClosingTask.class.getName(),
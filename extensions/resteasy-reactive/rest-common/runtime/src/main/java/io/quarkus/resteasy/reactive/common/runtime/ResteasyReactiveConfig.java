@@ -81,4 +81,25 @@ public interface ResteasyReactiveConfig {
      */
     @WithDefault("true")
     boolean removesTrailingSlash();
+
+    /**
+     * If true, the trailing steps of the handler chain of each endpoint (content type selection, response creation and
+     * response writing) are fused into a single handler when no response filters apply to the endpoint.
+     * This removes a few dynamic dispatches per request and lets the JIT inline the common sync and `Uni` paths.
+     */
+    @WithDefault("false")
+    @Experimental("Handler chain fusion is still being evaluated")
+    boolean fuseHandlerChain();
+
+    /**
+     * If true, the flushes of each HTTP connection are coalesced, so that the responses completed during the same event
+     * loop iteration, such as pipelined HTTP/1.1 responses or the responses of multiplexed HTTP/2 streams, are written
+     * with a single flush, and thus usually a single syscall.
+     * This mostly benefits applications serving many small responses from asynchronous or blocking endpoints.
+     * When a metrics extension is present, the number of requested and performed flushes is exposed as the
+     * `rest.server.flushes.requested` and `rest.server.flushes.performed` metrics.
+     */
+    @WithDefault("false")
+    @Experimental("Write coalescing is still being evaluated")
+    boolean coalesceFlushes();
 }
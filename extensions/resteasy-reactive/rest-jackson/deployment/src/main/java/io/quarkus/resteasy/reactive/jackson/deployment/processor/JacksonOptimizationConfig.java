@@ -1,7 +1,5 @@
 package io.quarkus.resteasy.reactive.jackson.deployment.processor;
 
-import java.util.function.BooleanSupplier;
-
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -16,15 +14,11 @@ public interface JacksonOptimizationConfig {
 
     /**
      * Enable build time generation of reflection-free Jackson serializers.
+     *
+     * @deprecated use {@code quarkus.jackson.enable-reflection-free-serializers} instead, which applies to every extension
+     *             using the application {@code ObjectMapper}; this property is only used if that one is not set
      */
+    @Deprecated(forRemoval = true)
     @WithDefault("false")
     boolean enableReflectionFreeSerializers();
-
-    class IsReflectionFreeSerializersEnabled implements BooleanSupplier {
-        JacksonOptimizationConfig config;
-
-        public boolean getAsBoolean() {
-            return config.enableReflectionFreeSerializers();
-        }
-    }
 }
@@ -59,10 +59,11 @@
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
-import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.jackson.spi.JacksonCodecTypeBuildItem;
+import io.quarkus.jackson.spi.JacksonSecureFieldBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.QuarkusResteasyReactiveDotNames;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
@@ -74,13 +75,13 @@
 import io.quarkus.resteasy.reactive.jackson.SecureField;
 import io.quarkus.resteasy.reactive.jackson.common.deployment.processor.ResteasyReactiveJacksonProviderDefinedBuildItem;
 import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
+import io.quarkus.resteasy.reactive.jackson.runtime.mappers.JacksonMapperUtil;
 import io.quarkus.resteasy.reactive.jackson.runtime.mappers.NativeInvalidDefinitionExceptionMapper;
 import io.quarkus.resteasy.reactive.jackson.runtime.security.RolesAllowedConfigExpStorage;
 import io.quarkus.resteasy.reactive.jackson.runtime.security.SecurityCustomSerialization;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.BasicServerJacksonMessageBodyWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.FullyFeaturedServerJacksonMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.FullyFeaturedServerJacksonMessageBodyWriter;
-import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSerializersRegister;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ServerJacksonMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyWriter;
@@ -392,53 +393,26 @@ public void initializeRolesAllowedConfigExp(ResteasyReactiveServerJacksonRecorde
         }
     }
 
-    @BuildStep(onlyIf = JacksonOptimizationConfig.IsReflectionFreeSerializersEnabled.class)
-    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
     public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
-            JaxRsResourceIndexBuildItem jaxRsIndex, CombinedIndexBuildItem index,
-            ResteasyReactiveServerJacksonRecorder recorder,
-            BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer) {
-
-        IndexView indexView = jaxRsIndex.getIndexView();
-
-        Map<String, ClassInfo> serializedClasses = new HashMap<>();
-        Map<String, ClassInfo> deserializedClasses = new HashMap<>();
-
+            BuildProducer<JacksonCodecTypeBuildItem> codecTypes) {
+        // the reflection-free serializers are generated by the Jackson extension if they are enabled
         for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
             MethodInfo methodInfo = entry.getMethodInfo();
-            ClassInfo effectiveReturnClassInfo = getEffectiveClassInfo(methodInfo.returnType(), indexView);
-            if (effectiveReturnClassInfo != null) {
-                serializedClasses.put(effectiveReturnClassInfo.name().toString(), effectiveReturnClassInfo);
+            if (methodInfo.returnType().kind() != Type.Kind.VOID) {
+                codecTypes.produce(JacksonCodecTypeBuildItem.serialized(methodInfo.returnType()));
             }
-
             if (methodInfo.hasAnnotation(POST.class)) {
                 for (Type paramType : methodInfo.parameterTypes()) {
-                    ClassInfo effectiveParamClassInfo = getEffectiveClassInfo(paramType, indexView);
-                    if (effectiveParamClassInfo != null) {
-                        deserializedClasses.put(effectiveParamClassInfo.name().toString(), effectiveParamClassInfo);
-                    }
+                    codecTypes.produce(JacksonCodecTypeBuildItem.deserialized(paramType));
                 }
             }
         }
-
-        if (!serializedClasses.isEmpty()) {
-            JacksonSerializerFactory factory = new JacksonSerializerFactory(generatedClassBuildItemBuildProducer,
-                    index.getComputingIndex());
-            factory.create(serializedClasses.values())
-                    .forEach(recorder::recordGeneratedSerializer);
-        }
-
-        if (!deserializedClasses.isEmpty()) {
-            JacksonDeserializerFactory factory = new JacksonDeserializerFactory(generatedClassBuildItemBuildProducer,
-                    index.getComputingIndex());
-            factory.create(deserializedClasses.values())
-                    .forEach(recorder::recordGeneratedDeserializer);
-        }
     }
 
-    @BuildStep(onlyIf = JacksonOptimizationConfig.IsReflectionFreeSerializersEnabled.class)
-    void unremovable(BuildProducer<AdditionalBeanBuildItem> additionalProducer) {
-        additionalProducer.produce(AdditionalBeanBuildItem.unremovableOf(GeneratedSerializersRegister.class));
+    @BuildStep
+    JacksonSecureFieldBuildItem secureField() {
+        return new JacksonSecureFieldBuildItem(SECURE_FIELD, JacksonMapperUtil.class.getName(), "includeSecureField");
     }
 
     @BuildStep
@@ -553,8 +527,14 @@ private static Type getEffectiveType(Type type) {
         if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
                 effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
                 effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
+            if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
             effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
         } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
+            if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
             effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
         }
         return effectiveReturnType;
@@ -0,0 +1,22 @@
+package io.quarkus.resteasy.reactive.jackson.runtime;
+
+import java.util.function.Function;
+
+import io.smallrye.config.FallbackConfigSourceInterceptor;
+
+/**
+ * Falls back to the deprecated {@code quarkus.rest.jackson.optimization.enable-reflection-free-serializers} when
+ * {@code quarkus.jackson.enable-reflection-free-serializers} is not set.
+ */
+public class ReflectionFreeSerializersConfigFallback extends FallbackConfigSourceInterceptor {
+    private static final Function<String, String> FALLBACK = name -> {
+        if (name.equals("quarkus.jackson.enable-reflection-free-serializers")) {
+            return "quarkus.rest.jackson.optimization.enable-reflection-free-serializers";
+        }
+        return name;
+    };
+
+    public ReflectionFreeSerializersConfigFallback() {
+        super(FALLBACK);
+    }
+}
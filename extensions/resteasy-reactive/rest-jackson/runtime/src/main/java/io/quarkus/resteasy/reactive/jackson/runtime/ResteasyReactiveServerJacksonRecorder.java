@@ -2,9 +2,7 @@
 
 import java.lang.reflect.Type;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -13,8 +11,6 @@
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
-import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.resteasy.reactive.jackson.runtime.security.RolesAllowedConfigExpStorage;
@@ -29,9 +25,6 @@ public class ResteasyReactiveServerJacksonRecorder {
     private static final Map<String, Class<?>> customSerializationMap = new HashMap<>();
     private static final Map<String, Class<?>> customDeserializationMap = new HashMap<>();
 
-    private static final Set<Class<? extends StdSerializer>> generatedSerializers = new HashSet<>();
-    private static final Set<Class<? extends StdDeserializer>> generatedDeserializers = new HashSet<>();
-
     /* STATIC INIT */
     public RuntimeValue<Map<String, Supplier<String[]>>> createConfigExpToAllowedRoles() {
         return new RuntimeValue<>(new ConcurrentHashMap<>());
@@ -83,14 +76,6 @@ public void recordCustomDeserialization(String target, String className) {
         customDeserializationMap.put(target, loadClass(className));
     }
 
-    public void recordGeneratedSerializer(String className) {
-        generatedSerializers.add((Class<? extends StdSerializer>) loadClass(className));
-    }
-
-    public void recordGeneratedDeserializer(String className) {
-        generatedDeserializers.add((Class<? extends StdDeserializer>) loadClass(className));
-    }
-
     public void configureShutdown(ShutdownContext shutdownContext) {
         shutdownContext.addShutdownTask(new Runnable() {
             @Override
@@ -131,14 +116,6 @@ public static Class<? extends BiFunction<ObjectMapper, Type, ObjectReader>> cust
         return (Class<? extends BiFunction<ObjectMapper, Type, ObjectReader>>) customDeserializationMap.get(clazz.getName());
     }
 
-    public static Set<Class<? extends StdSerializer>> getGeneratedSerializers() {
-        return generatedSerializers;
-    }
-
-    public static Set<Class<? extends StdDeserializer>> getGeneratedDeserializers() {
-        return generatedDeserializers;
-    }
-
     private Class<?> loadClass(String className) {
         try {
             return Thread.currentThread().getContextClassLoader().loadClass(className);
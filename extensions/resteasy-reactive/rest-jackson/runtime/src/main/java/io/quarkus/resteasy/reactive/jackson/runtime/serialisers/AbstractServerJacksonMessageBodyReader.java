@@ -1,5 +1,7 @@
 package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
 
+import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyReaderUtil.readValue;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
@@ -53,7 +55,7 @@ private Object doReadFrom(Class<Object> type, Type genericType, InputStream enti
             return null;
         }
         ObjectReader reader = getEffectiveReader();
-        return reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type))
-                .readValue(entityStream);
+        return readValue(reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type)),
+                entityStream);
     }
 }
@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
 
+import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyReaderUtil.readValue;
 import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.setNecessaryJsonFactoryConfig;
 
 import java.io.IOException;
@@ -112,8 +113,8 @@ private Object doReadFrom(Class<Object> type, Type genericType, MediaType respon
         }
         try {
             ObjectReader reader = getEffectiveReader(type, genericType, responseMediaType);
-            return reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type))
-                    .readValue(entityStream);
+            return readValue(reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type)),
+                    entityStream);
         } catch (MismatchedInputException e) {
             if (isEmptyInputException(e)) {
                 return null;
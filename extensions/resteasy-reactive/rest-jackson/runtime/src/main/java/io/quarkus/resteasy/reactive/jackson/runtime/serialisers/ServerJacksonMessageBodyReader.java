@@ -1,5 +1,7 @@
 package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
 
+import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyReaderUtil.readValue;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
@@ -89,8 +91,8 @@ private Object doReadFrom(Class<Object> type, Type genericType, InputStream enti
         }
         try {
             ObjectReader reader = getEffectiveReader();
-            return reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type))
-                    .readValue(entityStream);
+            return readValue(reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type)),
+                    entityStream);
         } catch (MismatchedInputException e) {
             if (isEmptyInputException(e)) {
                 return null;
@@ -395,6 +395,7 @@ public boolean headWritten() {
 
     @Override
     public ServerHttpResponse end(byte[] data) {
+        responseBodyWritten(data);
         if (BlockingOperationControl.isBlockingAllowed()) {
             try {
                 response.getOutputStream().write(data);
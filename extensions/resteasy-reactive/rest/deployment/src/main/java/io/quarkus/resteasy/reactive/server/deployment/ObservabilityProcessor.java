@@ -17,6 +17,9 @@
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.resteasy.reactive.common.runtime.ResteasyReactiveConfig;
+import io.quarkus.resteasy.reactive.server.runtime.ResteasyReactiveRuntimeRecorder;
 import io.quarkus.resteasy.reactive.server.runtime.observability.ObservabilityCustomizer;
 import io.quarkus.resteasy.reactive.server.runtime.observability.ObservabilityIntegrationRecorder;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
@@ -59,6 +62,29 @@ void preAuthFailureFilter(Capabilities capabilities,
         observabilityIntegrationProducer.produce(new ObservabilityIntegrationBuildItem());
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    MetricsFactoryConsumerBuildItem flushMetrics(ResteasyReactiveConfig config,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            Optional<ResteasyReactiveDeploymentBuildItem> deployment,
+            ResteasyReactiveRuntimeRecorder recorder) {
+        if (!config.coalesceFlushes() || metricsCapability.isEmpty() || deployment.isEmpty()) {
+            return null;
+        }
+        return new MetricsFactoryConsumerBuildItem(recorder.registerFlushMetrics(deployment.get().getDeployment()));
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    MetricsFactoryConsumerBuildItem multipartMetrics(Optional<MetricsCapabilityBuildItem> metricsCapability,
+            Optional<ResteasyReactiveDeploymentBuildItem> deployment,
+            ResteasyReactiveRuntimeRecorder recorder) {
+        if (metricsCapability.isEmpty() || deployment.isEmpty()) {
+            return null;
+        }
+        return new MetricsFactoryConsumerBuildItem(recorder.registerMultipartMetrics(deployment.get().getDeployment()));
+    }
+
     private boolean integrationNeeded(Capabilities capabilities,
             Optional<MetricsCapabilityBuildItem> metricsCapability) {
         return capabilities.isPresent(Capability.OPENTELEMETRY_TRACER) ||
@@ -1653,12 +1653,15 @@ else if (isEmpty.negate().test(rm.getConsumes()) && isEmpty.test(rm.getProduces(
     }
 
     private org.jboss.resteasy.reactive.common.ResteasyReactiveConfig createRestReactiveConfig(ResteasyReactiveConfig config) {
-        return new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
+        var result = new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
                 config.inputBufferSize().asLongValue(),
                 config.minChunkSize(),
                 config.outputBufferSize(),
                 config.singleDefaultProduces(),
-                config.defaultProduces());
+                config.defaultProduces(),
+                config.fuseHandlerChain());
+        result.setCoalesceFlushes(config.coalesceFlushes());
+        return result;
     }
 
     @BuildStep
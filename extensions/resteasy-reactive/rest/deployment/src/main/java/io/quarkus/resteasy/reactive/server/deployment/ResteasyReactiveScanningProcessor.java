@@ -42,6 +42,7 @@
 import org.jboss.resteasy.reactive.server.processor.generation.filters.FilterGeneration;
 import org.jboss.resteasy.reactive.server.processor.scanning.AsyncReturnTypeScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.CacheControlScanner;
+import org.jboss.resteasy.reactive.server.processor.scanning.CachedResponseScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveContextResolverScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveExceptionMappingScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveFeatureScanner;
@@ -104,6 +105,11 @@ public MethodScannerBuildItem cacheControlSupport() {
         return new MethodScannerBuildItem(new CacheControlScanner());
     }
 
+    @BuildStep
+    public MethodScannerBuildItem cachedResponseSupport() {
+        return new MethodScannerBuildItem(new CachedResponseScanner());
+    }
+
     @BuildStep
     public MethodScannerBuildItem compressionSupport(VertxHttpBuildTimeConfig httpBuildTimeConfig) {
         return new MethodScannerBuildItem(new CompressionScanner(httpBuildTimeConfig));
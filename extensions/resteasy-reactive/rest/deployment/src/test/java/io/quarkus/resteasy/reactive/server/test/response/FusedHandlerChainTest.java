@@ -0,0 +1,118 @@
+package io.quarkus.resteasy.reactive.server.test.response;
+
+import static io.restassured.RestAssured.get;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.emptyString;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.reactive.server.runtime.QuarkusResteasyReactiveRequestContext;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class FusedHandlerChainTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root.addClasses(FusedResource.class))
+            .overrideConfigKey("quarkus.rest.fuse-handler-chain", "true");
+
+    @Test
+    public void testChainIsFused() {
+        // the request context dispatches the fused handler through its own monomorphic branch
+        get("/fused/chain")
+                .then()
+                .statusCode(200)
+                .body(equalTo(QuarkusResteasyReactiveRequestContext.class.getSimpleName()
+                        + ":FixedProducesHandler=false,ResponseHandler=false,ResponseWriterHandler=false,"
+                        + "FusedResponseHandler=true"));
+    }
+
+    @Test
+    public void testSync() {
+        get("/fused/sync")
+                .then()
+                .statusCode(200)
+                .body(equalTo("sync"));
+    }
+
+    @Test
+    public void testUni() {
+        get("/fused/uni")
+                .then()
+                .statusCode(200)
+                .body(equalTo("uni"));
+    }
+
+    @Test
+    public void testResponse() {
+        get("/fused/response")
+                .then()
+                .statusCode(201)
+                .header("foo", "bar")
+                .body(equalTo("response"));
+    }
+
+    @Test
+    public void testVoid() {
+        get("/fused/void")
+                .then()
+                .statusCode(204)
+                .body(emptyString());
+    }
+
+    @Path("fused")
+    public static class FusedResource {
+
+        @GET
+        @Path("chain")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String chain() {
+            ResteasyReactiveRequestContext context = CurrentRequestManager.get();
+            return context.getClass().getSimpleName() + ":"
+                    + Stream.of("FixedProducesHandler", "ResponseHandler", "ResponseWriterHandler", "FusedResponseHandler")
+                    .map(name -> name + "=" + Arrays.stream(context.getHandlers())
+                            .anyMatch(h -> h.getClass().getSimpleName().equals(name)))
+                    .collect(Collectors.joining(","));
+        }
+
+        @GET
+        @Path("sync")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String sync() {
+            return "sync";
+        }
+
+        @GET
+        @Path("uni")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<String> uni() {
+            return Uni.createFrom().item("uni");
+        }
+
+        @GET
+        @Path("response")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Response response() {
+            return Response.status(201).header("foo", "bar").entity("response").build();
+        }
+
+        @GET
+        @Path("void")
+        public void nothing() {
+        }
+    }
+}
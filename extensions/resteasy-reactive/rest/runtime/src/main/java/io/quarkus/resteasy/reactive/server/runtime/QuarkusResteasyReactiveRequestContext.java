@@ -139,6 +139,8 @@ protected void invokeHandler(int pos) throws Exception {
             handler.handle(this);
         } else if (handler instanceof org.jboss.resteasy.reactive.server.handlers.InvocationHandler) {
             handler.handle(this);
+        } else if (handler instanceof org.jboss.resteasy.reactive.server.handlers.FusedResponseHandler) {
+            handler.handle(this);
         } else if (handler instanceof org.jboss.resteasy.reactive.server.handlers.FixedProducesHandler) {
             handler.handle(this);
         } else if (handler instanceof org.jboss.resteasy.reactive.server.handlers.ResponseHandler) {
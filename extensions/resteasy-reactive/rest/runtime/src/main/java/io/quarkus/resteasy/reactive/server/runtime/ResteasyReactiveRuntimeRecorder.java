@@ -3,15 +3,20 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.FlushStatistics;
+import org.jboss.resteasy.reactive.server.core.multipart.MultipartMemoryBudget;
 import org.jboss.resteasy.reactive.server.spi.DefaultRuntimeConfiguration;
 import org.jboss.resteasy.reactive.server.spi.GenericRuntimeConfigurableServerRestHandler;
 import org.jboss.resteasy.reactive.server.spi.RuntimeConfiguration;
 
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.vertx.http.runtime.VertxHttpConfig;
 
 @Recorder
@@ -36,6 +41,8 @@ public Supplier<RuntimeConfiguration> runtimeConfiguration(RuntimeValue<Deployme
         RuntimeConfiguration runtimeConfiguration = new DefaultRuntimeConfiguration(httpConfig.readTimeout(),
                 httpConfig.body().deleteUploadedFilesOnEnd(), httpConfig.body().uploadsDirectory(),
                 httpConfig.body().multipart().fileContentTypes().orElse(null),
+                runtimeConf.multipart().fileSizeThreshold().asLongValue(),
+                runtimeConf.multipart().maxInMemorySize().map(MemorySize::asLongValue).orElse(-1L),
                 runtimeConf.multipart().inputPart().defaultCharset(), maxBodySize,
                 httpConfig.limits().maxFormAttributeSize().asLongValue(),
                 httpConfig.limits().maxParameters());
@@ -64,4 +71,40 @@ public void configureHandlers(RuntimeValue<Deployment> deployment, Map<Class<?>,
             handler.configure(supplier.get());
         }
     }
+
+    public Consumer<MetricsFactory> registerFlushMetrics(RuntimeValue<Deployment> deployment) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                FlushStatistics statistics = deployment.getValue().getFlushStatistics();
+                metricsFactory.builder("rest.server.flushes.requested")
+                        .description("Number of flushes requested by the responses written on coalescing connections")
+                        .buildCounter(statistics::getRequestedFlushes);
+                metricsFactory.builder("rest.server.flushes.performed")
+                        .description("Number of flushes actually performed on coalescing connections")
+                        .buildCounter(statistics::getPerformedFlushes);
+            }
+        };
+    }
+
+    public Consumer<MetricsFactory> registerMultipartMetrics(RuntimeValue<Deployment> deployment) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                MultipartMemoryBudget budget = deployment.getValue().getMultipartMemoryBudget();
+                metricsFactory.builder("rest.server.multipart.memory.used")
+                        .description("Number of bytes of multipart form data currently held in memory")
+                        .unit("bytes")
+                        .buildGauge(budget::getBytesInMemory);
+                metricsFactory.builder("rest.server.multipart.memory.buffered")
+                        .description("Number of bytes of multipart form data buffered in memory")
+                        .unit("bytes")
+                        .buildCounter(budget::getBytesBuffered);
+                metricsFactory.builder("rest.server.multipart.spilled")
+                        .description("Number of bytes of multipart form data written to disk")
+                        .unit("bytes")
+                        .buildCounter(budget::getBytesSpilled);
+            }
+        };
+    }
 }
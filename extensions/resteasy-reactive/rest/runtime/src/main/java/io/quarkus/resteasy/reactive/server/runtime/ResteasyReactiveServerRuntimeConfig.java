@@ -1,9 +1,11 @@
 package io.quarkus.resteasy.reactive.server.runtime;
 
 import java.nio.charset.Charset;
+import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 
@@ -22,6 +24,23 @@ interface MultipartConfigGroup {
          * Input part configuration.
          */
         InputPartConfigGroup inputPart();
+
+        /**
+         * File parts up to this size are kept in memory instead of being written to the uploads directory.
+         * A part is still written to disk if the endpoint asks for its path, for example through
+         * {@code FileUpload#uploadedFile()}.
+         * <p>
+         * The default value of {@code 0} writes every file part to disk.
+         */
+        @WithDefault("0")
+        MemorySize fileSizeThreshold();
+
+        /**
+         * The maximum amount of memory used to hold file parts across all the requests being processed.
+         * Once it is reached, file parts are written to disk regardless of {@code file-size-threshold}.
+         * If not set, memory usage is only bounded by {@code file-size-threshold}.
+         */
+        Optional<MemorySize> maxInMemorySize();
     }
 
     interface InputPartConfigGroup {
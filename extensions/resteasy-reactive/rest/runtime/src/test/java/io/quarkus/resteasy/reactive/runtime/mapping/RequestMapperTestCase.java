@@ -34,6 +34,46 @@ public void testPathMapper() {
 
     }
 
+    @Test
+    public void testSegmentCountDispatch() {
+
+        RequestMapper<String> mapper = mapper("/a/{p1}", "/a/{p1}/b/{p2}", "/a/{p1}/b/{p2}/c/{p3}", "/a/{p1}/{p2:\\d+}",
+                "/");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/a/1/b/2/c/3");
+        Assertions.assertEquals("/a/{p1}/b/{p2}/c/{p3}", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        Assertions.assertEquals("2", result.pathParamValues[1]);
+        Assertions.assertEquals("3", result.pathParamValues[2]);
+        result = mapper.map("/a/1/b/2/");
+        Assertions.assertEquals("/a/{p1}/b/{p2}", result.value);
+        Assertions.assertEquals("2", result.pathParamValues[1]);
+        Assertions.assertNull(result.pathParamValues[2]);
+        result = mapper.map("/a/1/42");
+        Assertions.assertEquals("/a/{p1}/{p2:\\d+}", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        Assertions.assertEquals("42", result.pathParamValues[1]);
+        Assertions.assertNull(mapper.map("/a/1/b/2/c/3/d"));
+        Assertions.assertNull(mapper.map("/a/1/b"));
+        Assertions.assertEquals("/", mapper.map("/").value);
+    }
+
+    @Test
+    public void testPrefixTemplates() {
+        ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
+        list.add(new RequestMapper.RequestPath<>(true, new URITemplate("/locator/{id}", true), "locator"));
+        list.add(new RequestMapper.RequestPath<>(false, new URITemplate("/locator/{id}/exact", false), "exact"));
+        RequestMapper<String> mapper = new RequestMapper<>(list);
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/locator/1/exact");
+        Assertions.assertEquals("exact", result.value);
+        result = mapper.map("/locator/1/sub/resource/path");
+        Assertions.assertEquals("locator", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        Assertions.assertEquals("/sub/resource/path", result.remaining);
+        Assertions.assertNull(mapper.map("/locator"));
+    }
+
     RequestMapper<String> mapper(String... vals) {
         ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
@@ -0,0 +1,75 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import jakarta.enterprise.event.Event;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+
+/**
+ * A scheduled invoker wrapper that skips the execution if the lease for the execution is not acquired, i.e. if the execution
+ * is performed by another node in a cluster.
+ *
+ * @see ExecutionLeaseStore
+ */
+public final class ExecutionLeaseInvoker extends DelegateInvoker {
+
+    private static final Logger LOG = Logger.getLogger(ExecutionLeaseInvoker.class);
+
+    private final ExecutionLeaseStore store;
+    private final String nodeId;
+    private final Function<ScheduledExecution, Instant> leaseExpiration;
+    private final Event<SkippedExecution> event;
+
+    /**
+     *
+     * @param delegate
+     * @param store
+     * @param nodeId
+     * @param leaseExpiration computes the expiration of the lease, which must be after the scheduled fire time of the execution
+     * @param event
+     */
+    public ExecutionLeaseInvoker(ScheduledInvoker delegate, ExecutionLeaseStore store, String nodeId,
+            Function<ScheduledExecution, Instant> leaseExpiration, Event<SkippedExecution> event) {
+        super(delegate);
+        this.store = store;
+        this.nodeId = nodeId;
+        this.leaseExpiration = leaseExpiration;
+        this.event = event;
+    }
+
+    @Override
+    public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
+        String jobId = execution.getTrigger().getId();
+        return store.tryAcquire(jobId, nodeId, execution.getScheduledFireTime(), leaseExpiration.apply(execution))
+                .exceptionally(t -> {
+                    // Skip the execution if it's not possible to tell whether another node performs the execution
+                    LOG.errorf(t, "Unable to acquire the lease of [%s]", jobId);
+                    return false;
+                })
+                .thenCompose(acquired -> {
+                    if (acquired) {
+                        return invokeDelegate(execution);
+                    }
+                    LOG.debugf("Skipped scheduled invoker execution - lease of [%s] held by another node: %s", jobId,
+                            delegate.getClass().getName());
+                    SkippedExecution payload = new SkippedExecution(execution,
+                            "The execution is performed by another node");
+                    try {
+                        event.fire(payload);
+                        event.fireAsync(payload);
+                    } catch (Exception e) {
+                        LOG.errorf("Error while firing SkippedExecution event", e);
+                    }
+                    return CompletableFuture.completedStage(null);
+                });
+    }
+
+}
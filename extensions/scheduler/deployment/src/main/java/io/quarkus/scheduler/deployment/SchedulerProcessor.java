@@ -304,7 +304,7 @@ void validateScheduledBusinessMethods(SchedulerConfig config, List<ScheduledBusi
                 }
             }
             // Validate cron() and every() expressions
-            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? SimpleScheduler.CHECK_PERIOD : 50;
+            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? SimpleScheduler.MIN_INTERVAL : 50;
             CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(config.cronType()));
             for (AnnotationInstance scheduled : scheduledMethod.getSchedules()) {
                 Throwable error = validateScheduled(parser, scheduled, encounteredIdentities, validationPhase.getContext(),
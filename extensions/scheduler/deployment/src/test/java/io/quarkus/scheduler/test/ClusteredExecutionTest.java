@@ -0,0 +1,99 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusteredExecutionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root
+                    .addClasses(Jobs.class, InMemoryLeaseStore.class, Lease.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.cluster.enabled=true\n"
+                            + "quarkus.scheduler.cluster.node-id=node1"), "application.properties"));
+
+    @Test
+    public void testExecution() throws InterruptedException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(InMemoryLeaseStore.SKIPPED_LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals(0, Jobs.FOREIGN_COUNT.get());
+
+        Lease lease = InMemoryLeaseStore.LEASES.get("local");
+        assertEquals("node1", lease.nodeId());
+        // The lease expires at the scheduled fire time of the following execution
+        assertEquals(lease.fireTime().plusSeconds(1), lease.expiresAt());
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+        static final AtomicInteger FOREIGN_COUNT = new AtomicInteger();
+
+        @Scheduled(identity = "local", every = "1s")
+        void local() {
+            LATCH.countDown();
+        }
+
+        @Scheduled(identity = "foreign", every = "1s")
+        void foreign() {
+            FOREIGN_COUNT.incrementAndGet();
+        }
+    }
+
+    @Singleton
+    public static class InMemoryLeaseStore implements ExecutionLeaseStore {
+
+        static final ConcurrentMap<String, Lease> LEASES = new ConcurrentHashMap<>();
+        static final CountDownLatch SKIPPED_LATCH = new CountDownLatch(1);
+
+        static {
+            // The lease of the foreign job is held by another node
+            LEASES.put("foreign", new Lease("node2", Instant.now(), Instant.now().plusSeconds(3600)));
+        }
+
+        @Override
+        public CompletionStage<Boolean> tryAcquire(String jobId, String nodeId, Instant scheduledFireTime,
+                Instant expiresAt) {
+            Lease acquired = new Lease(nodeId, scheduledFireTime, expiresAt);
+            Lease lease = LEASES.compute(jobId, (k, v) -> {
+                if (v == null || v.nodeId().equals(nodeId) || !v.expiresAt().isAfter(scheduledFireTime)) {
+                    return acquired;
+                }
+                return v;
+            });
+            return CompletableFuture.completedStage(lease == acquired);
+        }
+
+        void onSkip(@Observes SkippedExecution event) {
+            if (event.triggerId.equals("foreign")) {
+                SKIPPED_LATCH.countDown();
+            }
+        }
+
+    }
+
+    record Lease(String nodeId, Instant fireTime, Instant expiresAt) {
+    }
+
+}
@@ -0,0 +1,139 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.scheduler.jdbc.JdbcExecutionLeaseStore;
+import io.quarkus.test.h2.H2DatabaseTestResource;
+
+public class JdbcExecutionLeaseStoreTest {
+
+    private static final String URL = "jdbc:h2:tcp://localhost/mem:leases;DB_CLOSE_DELAY=-1";
+
+    private static H2DatabaseTestResource h2;
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void start() throws SQLException {
+        h2 = new H2DatabaseTestResource();
+        h2.start();
+        executor = Executors.newCachedThreadPool();
+        try (Connection connection = dataSource().getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + JdbcExecutionLeaseStore.DEFAULT_TABLE_NAME + " ("
+                    + "JOB_ID VARCHAR(255) NOT NULL PRIMARY KEY, "
+                    + "NODE_ID VARCHAR(255) NOT NULL, "
+                    + "FIRE_TIME BIGINT NOT NULL, "
+                    + "EXPIRES_AT BIGINT NOT NULL)");
+        }
+    }
+
+    @AfterAll
+    public static void stop() {
+        executor.shutdownNow();
+        h2.stop();
+    }
+
+    @Test
+    public void testCompetingNodes() throws Exception {
+        // Each node uses its own datasource, like two application instances
+        JdbcExecutionLeaseStore node1 = new JdbcExecutionLeaseStore(dataSource(), executor);
+        JdbcExecutionLeaseStore node2 = new JdbcExecutionLeaseStore(dataSource(), executor);
+        Instant t0 = Instant.ofEpochMilli(1_000_000);
+        Instant t1 = t0.plusSeconds(1);
+        Instant t2 = t1.plusSeconds(1);
+        Instant t3 = t2.plusSeconds(1);
+
+        assertTrue(acquire(node1, "competing", "node1", t0, t1));
+        assertFalse(acquire(node2, "competing", "node2", t0, t1));
+        // The holder renews the lease for the following execution
+        assertTrue(acquire(node1, "competing", "node1", t1, t2));
+        assertFalse(acquire(node2, "competing", "node2", t1, t2));
+        // node1 stops firing, node2 takes over once the lease has expired
+        assertTrue(acquire(node2, "competing", "node2", t2, t3));
+        assertFalse(acquire(node1, "competing", "node1", t2, t3));
+    }
+
+    @Test
+    public void testConcurrentFirstInsert() throws Exception {
+        // Both nodes find no lease and then insert it at the same time
+        CyclicBarrier insertBarrier = new CyclicBarrier(2);
+        JdbcExecutionLeaseStore node1 = new JdbcExecutionLeaseStore(awaitingInsert(dataSource(), insertBarrier), executor);
+        JdbcExecutionLeaseStore node2 = new JdbcExecutionLeaseStore(awaitingInsert(dataSource(), insertBarrier), executor);
+        Instant fireTime = Instant.ofEpochMilli(1_000_000);
+        Instant expiresAt = fireTime.plusSeconds(1);
+
+        CompletableFuture<Boolean> acquired1 = node1.tryAcquire("first", "node1", fireTime, expiresAt)
+                .toCompletableFuture();
+        CompletableFuture<Boolean> acquired2 = node2.tryAcquire("first", "node2", fireTime, expiresAt)
+                .toCompletableFuture();
+        // Neither node fails, exactly one of them holds the lease
+        boolean result1 = acquired1.get(10, TimeUnit.SECONDS);
+        boolean result2 = acquired2.get(10, TimeUnit.SECONDS);
+        assertNotEquals(result1, result2);
+        assertEquals(0, insertBarrier.getNumberWaiting());
+    }
+
+    private static boolean acquire(JdbcExecutionLeaseStore store, String jobId, String nodeId, Instant fireTime,
+            Instant expiresAt) throws Exception {
+        return store.tryAcquire(jobId, nodeId, fireTime, expiresAt).toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private static DataSource dataSource() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(URL);
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+    /**
+     * The returned datasource blocks each {@code INSERT} statement until the other node has reached its own.
+     */
+    private static DataSource awaitingInsert(DataSource delegate, CyclicBarrier barrier) {
+        return (DataSource) Proxy.newProxyInstance(JdbcExecutionLeaseStoreTest.class.getClassLoader(),
+                new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+                    Object ret = invoke(delegate, method, args);
+                    if (method.getName().equals("getConnection")) {
+                        Connection connection = (Connection) ret;
+                        return Proxy.newProxyInstance(JdbcExecutionLeaseStoreTest.class.getClassLoader(),
+                                new Class<?>[] { Connection.class }, (p, m, a) -> {
+                                    if (m.getName().equals("prepareStatement") && a[0].toString().startsWith("INSERT")) {
+                                        barrier.await(10, TimeUnit.SECONDS);
+                                    }
+                                    return invoke(connection, m, a);
+                                });
+                    }
+                    return ret;
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ManyProgrammaticJobsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root
+                    .addAsResource(new StringAsset("quarkus.scheduler.start-mode=forced"),
+                            "application.properties"));
+
+    static final int JOBS = 10_000;
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testManyJobsAndSubSecondInterval() throws InterruptedException {
+        AtomicInteger idleExecutions = new AtomicInteger();
+        for (int i = 0; i < JOBS; i++) {
+            scheduler.newJob("idle" + i)
+                    .setInterval("1h")
+                    .setDelayed("1h")
+                    .setTask(ec -> idleExecutions.incrementAndGet())
+                    .schedule();
+        }
+
+        AtomicInteger unscheduledExecutions = new AtomicInteger();
+        scheduler.newJob("unscheduled")
+                .setInterval("100ms")
+                .setTask(ec -> unscheduledExecutions.incrementAndGet())
+                .schedule();
+        assertNotNull(scheduler.unscheduleJob("unscheduled"));
+
+        CountDownLatch firstExecution = new CountDownLatch(1);
+        AtomicInteger subSecondExecutions = new AtomicInteger();
+        scheduler.newJob("subSecond")
+                .setInterval("100ms")
+                .setTask(ec -> {
+                    subSecondExecutions.incrementAndGet();
+                    firstExecution.countDown();
+                })
+                .schedule();
+        assertTrue(firstExecution.await(3, TimeUnit.SECONDS));
+        // Once started, the job fires every 100 ms despite the idle jobs, i.e. about 10 times in a second
+        int executions = subSecondExecutions.get();
+        Thread.sleep(1000);
+        assertTrue(subSecondExecutions.get() - executions >= 5,
+                () -> "Executions in one second: " + (subSecondExecutions.get() - executions));
+
+        assertEquals(JOBS + 1, scheduler.getScheduledJobs().size());
+        assertEquals(0, idleExecutions.get());
+        assertEquals(0, unscheduledExecutions.get());
+    }
+
+}
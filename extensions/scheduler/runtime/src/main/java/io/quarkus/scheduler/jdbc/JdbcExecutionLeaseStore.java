@@ -0,0 +1,133 @@
+package io.quarkus.scheduler.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+
+/**
+ * An {@link ExecutionLeaseStore} backed by a database table.
+ * <p>
+ * The table must be created before the scheduler is started, e.g.
+ *
+ * <pre>
+ * CREATE TABLE QUARKUS_SCHEDULER_LEASES (
+ *     JOB_ID VARCHAR(255) NOT NULL PRIMARY KEY,
+ *     NODE_ID VARCHAR(255) NOT NULL,
+ *     FIRE_TIME BIGINT NOT NULL,
+ *     EXPIRES_AT BIGINT NOT NULL
+ * )
+ * </pre>
+ *
+ * The times are stored as milliseconds from the epoch. A lease is acquired with a single conditional {@code UPDATE}
+ * statement, or with an {@code INSERT} statement if no lease exists for the job yet. The statements are executed on the
+ * given executor.
+ * <p>
+ * This class is not a bean; an application is expected to declare a producer, e.g. for the default datasource:
+ *
+ * <pre>
+ * &#064;Singleton
+ * ExecutionLeaseStore leaseStore(DataSource dataSource, ExecutorService executor) {
+ *     return new JdbcExecutionLeaseStore(dataSource, executor);
+ * }
+ * </pre>
+ */
+public class JdbcExecutionLeaseStore implements ExecutionLeaseStore {
+
+    private static final Logger LOG = Logger.getLogger(JdbcExecutionLeaseStore.class);
+
+    public static final String DEFAULT_TABLE_NAME = "QUARKUS_SCHEDULER_LEASES";
+
+    // SQLSTATE class of integrity constraint violations
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+
+    private final DataSource dataSource;
+    private final Executor executor;
+    private final String updateSql;
+    private final String selectSql;
+    private final String insertSql;
+
+    public JdbcExecutionLeaseStore(DataSource dataSource, Executor executor) {
+        this(dataSource, executor, DEFAULT_TABLE_NAME);
+    }
+
+    public JdbcExecutionLeaseStore(DataSource dataSource, Executor executor, String tableName) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.executor = Objects.requireNonNull(executor);
+        this.updateSql = "UPDATE " + tableName
+                + " SET NODE_ID = ?, FIRE_TIME = ?, EXPIRES_AT = ? WHERE JOB_ID = ? AND (NODE_ID = ? OR EXPIRES_AT <= ?)";
+        this.selectSql = "SELECT JOB_ID FROM " + tableName + " WHERE JOB_ID = ?";
+        this.insertSql = "INSERT INTO " + tableName + " (JOB_ID, NODE_ID, FIRE_TIME, EXPIRES_AT) VALUES (?, ?, ?, ?)";
+    }
+
+    @Override
+    public CompletionStage<Boolean> tryAcquire(String jobId, String nodeId, Instant scheduledFireTime, Instant expiresAt) {
+        CompletableFuture<Boolean> ret = new CompletableFuture<>();
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    ret.complete(acquire(jobId, nodeId, scheduledFireTime.toEpochMilli(), expiresAt.toEpochMilli()));
+                } catch (Throwable t) {
+                    ret.completeExceptionally(t);
+                }
+            }
+        });
+        return ret;
+    }
+
+    boolean acquire(String jobId, String nodeId, long fireTime, long expiresAt) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            // Each statement is executed in a separate transaction
+            connection.setAutoCommit(true);
+            try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+                update.setString(1, nodeId);
+                update.setLong(2, fireTime);
+                update.setLong(3, expiresAt);
+                update.setString(4, jobId);
+                update.setString(5, nodeId);
+                update.setLong(6, fireTime);
+                if (update.executeUpdate() > 0) {
+                    return true;
+                }
+            }
+            try (PreparedStatement select = connection.prepareStatement(selectSql)) {
+                select.setString(1, jobId);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    if (resultSet.next()) {
+                        // The lease is held by another node
+                        return false;
+                    }
+                }
+            }
+            try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+                insert.setString(1, jobId);
+                insert.setString(2, nodeId);
+                insert.setLong(3, fireTime);
+                insert.setLong(4, expiresAt);
+                insert.executeUpdate();
+                return true;
+            } catch (SQLException e) {
+                String state = e.getSQLState();
+                if (state != null && state.startsWith(INTEGRITY_CONSTRAINT_VIOLATION)) {
+                    // Another node inserted the lease concurrently
+                    LOG.debugf("Lease of [%s] acquired by another node", jobId);
+                    return false;
+                }
+                throw e;
+            }
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
+import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -31,6 +32,31 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * Cluster mode of the simple scheduler.
+     */
+    ClusterConfig cluster();
+
+    interface ClusterConfig {
+
+        /**
+         * If set to {@code true} then an execution of a scheduled job is only performed if the lease for the execution is
+         * acquired from the {@link io.quarkus.scheduler.spi.ExecutionLeaseStore}, i.e. the job is executed by a single node
+         * in the cluster. Otherwise, the execution is skipped and the {@link io.quarkus.scheduler.SkippedExecution} event is
+         * fired.
+         * <p>
+         * Exactly one bean of type {@link io.quarkus.scheduler.spi.ExecutionLeaseStore} must be available.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The identifier of this node. A random identifier is generated by default.
+         */
+        Optional<String> nodeId();
+
+    }
+
     enum StartMode {
 
         /**
@@ -2,18 +2,22 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -53,12 +57,14 @@
 import io.quarkus.scheduler.common.runtime.CronParser;
 import io.quarkus.scheduler.common.runtime.DefaultInvoker;
 import io.quarkus.scheduler.common.runtime.Events;
+import io.quarkus.scheduler.common.runtime.ExecutionLeaseInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledMethod;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
 import io.quarkus.scheduler.spi.JobInstrumenter;
 import io.vertx.core.Vertx;
 
@@ -71,10 +77,19 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     // milliseconds
     public static final long CHECK_PERIOD = 1000L;
 
+    // milliseconds; an interval trigger with a shorter interval is executed with a delay
+    public static final long MIN_INTERVAL = 10L;
+
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
+    // Tasks ordered by the time of the next evaluation of the trigger
+    // Only the tasks that are due are evaluated during a check
+    private final PriorityBlockingQueue<ScheduledTask> queuedTasks;
     private final SchedulerConfig schedulerConfig;
+    // Only set if the cluster mode is enabled
+    private final ExecutionLeaseStore leaseStore;
+    private final String nodeId;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -82,15 +97,29 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
             Event<SchedulerPaused> schedulerPausedEvent, Event<SchedulerResumed> schedulerResumedEvent,
             Event<ScheduledJobPaused> scheduledJobPausedEvent,
             Event<ScheduledJobResumed> scheduledJobResumedEvent, Vertx vertx, SchedulerConfig schedulerConfig,
-            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor) {
+            Instance<JobInstrumenter> jobInstrumenter, Instance<ExecutionLeaseStore> executionLeaseStore,
+            ScheduledExecutorService blockingExecutor) {
         super(vertx, new CronParser(context.getCronType()), schedulerRuntimeConfig.overdueGracePeriod(),
                 new Events(skippedExecutionEvent, successExecutionEvent, failedExecutionEvent, delayedExecutionEvent,
                         schedulerPausedEvent, schedulerResumedEvent, scheduledJobPausedEvent, scheduledJobResumedEvent),
                 jobInstrumenter, blockingExecutor);
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
+        this.queuedTasks = new PriorityBlockingQueue<>(11, Comparator.comparingLong(ScheduledTask::getNextEvaluation));
         this.schedulerConfig = schedulerConfig;
 
+        if (schedulerRuntimeConfig.cluster().enabled()) {
+            if (!executionLeaseStore.isResolvable()) {
+                throw new IllegalStateException(
+                        "Cluster mode of the simple scheduler is enabled but no unambiguous ExecutionLeaseStore bean is available");
+            }
+            this.leaseStore = executionLeaseStore.get();
+            this.nodeId = schedulerRuntimeConfig.cluster().nodeId().orElseGet(() -> UUID.randomUUID().toString());
+        } else {
+            this.leaseStore = null;
+            this.nodeId = null;
+        }
+
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
             LOG.info("Simple scheduler is disabled by config property and will not be started");
@@ -123,7 +152,7 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
+        // This executor is used to check the registered triggers that are due, at least every second
         this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
@@ -157,12 +186,24 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    invoker = initLeaseInvoker(invoker, trigger.get());
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, task);
+                    enqueue(task, System.currentTimeMillis());
                 }
             }
         }
     }
 
+    private ScheduledInvoker initLeaseInvoker(ScheduledInvoker invoker, SimpleTrigger trigger) {
+        if (leaseStore == null) {
+            return invoker;
+        }
+        // The lease is acquired before the execution is delayed or offloaded
+        return new ExecutionLeaseInvoker(invoker, leaseStore, nodeId,
+                execution -> trigger.getLeaseExpiration(execution.getScheduledFireTime()), events.skippedExecution);
+    }
+
     @Override
     public boolean isStarted() {
         return scheduledExecutor != null;
@@ -195,6 +236,7 @@ public Trigger unscheduleJob(String identity) {
             String parsedIdentity = SchedulerUtils.lookUpPropertyValue(identity);
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
+                // The queued task is dropped once it's due, see checkTriggers()
                 if (scheduledTasks.remove(task.trigger.id) != null) {
                     return task.trigger;
                 }
@@ -208,12 +250,7 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        scheduleNextCheck();
     }
 
     @PreDestroy
@@ -228,17 +265,62 @@ void stop() {
     }
 
     void checkTriggers() {
-        if (!running) {
-            LOG.trace("Skip all triggers - scheduler paused");
-            return;
+        try {
+            if (!running) {
+                LOG.trace("Skip all triggers - scheduler paused");
+                return;
+            }
+            ZonedDateTime now = ZonedDateTime.now();
+            long nowMillis = now.toInstant().toEpochMilli();
+            LOG.tracef("Check triggers at %s", now);
+            List<ScheduledTask> evaluated = new ArrayList<>();
+            ScheduledTask task;
+            while ((task = queuedTasks.peek()) != null && task.nextEvaluation <= nowMillis) {
+                task = queuedTasks.poll();
+                if (task == null) {
+                    break;
+                }
+                if (scheduledTasks.get(task.trigger.id) != task) {
+                    // The job was unscheduled
+                    continue;
+                }
+                task.execute(now, vertx);
+                evaluated.add(task);
+            }
+            for (ScheduledTask t : evaluated) {
+                enqueue(t, nowMillis);
+            }
+        } finally {
+            scheduleNextCheck();
         }
-        ZonedDateTime now = ZonedDateTime.now();
-        LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
+    }
+
+    private void enqueue(ScheduledTask task, long nowMillis) {
+        task.updateNextEvaluation(nowMillis);
+        queuedTasks.offer(task);
+    }
+
+    private void scheduleNextCheck() {
+        // Check the triggers near to the whole second, or sooner if a trigger with a sub-second interval is due
+        // Note that this does not guarantee anything, it's just best effort
+        long now = System.currentTimeMillis();
+        long next = nextWholeSecond(now);
+        ScheduledTask first = queuedTasks.peek();
+        if (running && first != null && first.nextEvaluation < next) {
+            next = Math.max(first.nextEvaluation, now + 1);
+        }
+        try {
+            scheduledExecutor.schedule(this::checkTriggers, next - now, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // the scheduler is being stopped
+            LOG.debug("Unable to schedule the next check of triggers", e);
         }
     }
 
+    static long nextWholeSecond(long millis) {
+        return (millis / CHECK_PERIOD + 1) * CHECK_PERIOD;
+    }
+
     @Override
     public void pause() {
         if (!isStarted()) {
@@ -378,6 +460,8 @@ static class ScheduledTask {
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // epoch milliseconds; only modified when the task is not queued
+        volatile long nextEvaluation;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
@@ -385,6 +469,35 @@ static class ScheduledTask {
             this.isProgrammatic = isProgrammatic;
         }
 
+        long getNextEvaluation() {
+            return nextEvaluation;
+        }
+
+        void updateNextEvaluation(long nowMillis) {
+            long next;
+            if (!trigger.isRunning()) {
+                // Paused jobs are checked every second
+                next = nextWholeSecond(nowMillis);
+            } else {
+                Instant nextEvaluation = trigger.getNextEvaluation();
+                if (nextEvaluation == null) {
+                    // The trigger will never fire again
+                    next = Long.MAX_VALUE;
+                } else {
+                    next = nextEvaluation.toEpochMilli();
+                    if (!trigger.isSubSecond()) {
+                        // The trigger is evaluated near to the whole second
+                        next = next % CHECK_PERIOD == 0 ? next : nextWholeSecond(next);
+                    }
+                    if (next <= nowMillis) {
+                        // Not fired yet, e.g. because the scheduler was paused - try again
+                        next = trigger.isSubSecond() ? nowMillis + MIN_INTERVAL : nextWholeSecond(nowMillis);
+                    }
+                }
+            }
+            this.nextEvaluation = next;
+        }
+
         void execute(ZonedDateTime now, Vertx vertx) {
             if (!trigger.isRunning()) {
                 return;
@@ -422,6 +535,27 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @return the earliest time at which {@link #evaluate(ZonedDateTime)} may fire, or {@code null} if the trigger will
+         *         never fire again
+         */
+        abstract Instant getNextEvaluation();
+
+        /**
+         * @param scheduledFireTime
+         * @return the time at which the lease of an execution expires, i.e. the scheduled fire time of the following
+         *         execution
+         * @see ExecutionLeaseStore
+         */
+        abstract Instant getLeaseExpiration(Instant scheduledFireTime);
+
+        /**
+         * @return {@code true} if the trigger should not be evaluated at whole seconds only
+         */
+        boolean isSubSecond() {
+            return false;
+        }
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -456,13 +590,32 @@ static class IntervalTrigger extends SimpleTrigger {
             super(id, start, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            if (interval < MIN_INTERVAL) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
-                        CHECK_PERIOD, description);
+                        MIN_INTERVAL, description);
             }
         }
 
+        @Override
+        boolean isSubSecond() {
+            return interval < CHECK_PERIOD;
+        }
+
+        @Override
+        Instant getNextEvaluation() {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                return start.toInstant();
+            }
+            return last.toInstant().plusMillis(Math.max(interval, MIN_INTERVAL));
+        }
+
+        @Override
+        Instant getLeaseExpiration(Instant scheduledFireTime) {
+            return scheduledFireTime.plusMillis(interval);
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -470,13 +623,13 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = truncate(now);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = truncate(now);
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
@@ -502,6 +655,11 @@ public boolean isOverdue() {
                     .plus(gracePeriod).isBefore(now);
         }
 
+        private ZonedDateTime truncate(ZonedDateTime time) {
+            // Sub-second intervals are evaluated with millisecond resolution
+            return time.truncatedTo(isSubSecond() ? ChronoUnit.MILLIS : ChronoUnit.SECONDS);
+        }
+
         @Override
         public String toString() {
             StringBuilder builder = new StringBuilder();
@@ -533,6 +691,26 @@ public Instant getNextFireTime() {
             return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
         }
 
+        @Override
+        Instant getNextEvaluation() {
+            Instant next = getNextFireTime();
+            if (next != null) {
+                Instant startInstant = start.toInstant();
+                if (next.isBefore(startInstant)) {
+                    // Evaluated when the trigger starts, the last execution before the start is not fired
+                    return startInstant;
+                }
+            }
+            return next;
+        }
+
+        @Override
+        Instant getLeaseExpiration(Instant scheduledFireTime) {
+            // If there is no following execution then the lease only prevents the other nodes from firing the same execution
+            return executionTime.nextExecution(zoned(scheduledFireTime.atZone(ZoneId.systemDefault())))
+                    .map(ZonedDateTime::toInstant).orElse(scheduledFireTime.plusMillis(1));
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -667,11 +845,13 @@ public boolean isBlocking() {
                 }
                 invoker = initInvoker(invoker, events, concurrentExecution, skipPredicate, instrumenter, vertx,
                         false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
+                invoker = initLeaseInvoker(invoker, simpleTrigger);
                 ScheduledTask scheduledTask = new ScheduledTask(trigger.get(), invoker, true);
                 ScheduledTask existing = scheduledTasks.putIfAbsent(simpleTrigger.id, scheduledTask);
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                enqueue(scheduledTask, System.currentTimeMillis());
                 return simpleTrigger;
             }
             return null;
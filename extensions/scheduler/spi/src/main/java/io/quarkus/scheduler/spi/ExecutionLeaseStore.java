@@ -0,0 +1,36 @@
+package io.quarkus.scheduler.spi;
+
+import java.time.Instant;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Stores the leases of scheduled jobs so that an execution of a job is only performed by a single node in a cluster.
+ * <p>
+ * There is at most one lease per job. Before a job is executed, the node attempts to acquire the lease for the given
+ * scheduled fire time. The lease is acquired if no lease exists for the job, if the current lease is held by the same node, or
+ * if the current lease expires at or before the scheduled fire time. In other words, a node keeps the lease as long as it
+ * executes the job. If the node stops executing the job, the lease expires and another node acquires it at its next scheduled
+ * fire time.
+ * <p>
+ * An implementation must guarantee that the lease is acquired atomically, i.e. with compare-and-set semantics, and that at
+ * most one node acquires the lease for the same scheduled fire time. The clocks of the nodes are expected to be synchronized.
+ * <p>
+ * The simple scheduler uses exactly one CDI bean of this type if {@code quarkus.scheduler.cluster.enabled=true}. The scope
+ * must be either {@link jakarta.inject.Singleton} or {@link jakarta.enterprise.context.ApplicationScoped}.
+ */
+public interface ExecutionLeaseStore {
+
+    /**
+     * The returned completion stage should not block the caller; an implementation that needs to perform a blocking operation
+     * should offload the operation to a worker thread.
+     *
+     * @param jobId the identity of the job
+     * @param nodeId the identifier of the node that attempts to acquire the lease
+     * @param scheduledFireTime the scheduled fire time of the execution
+     * @param expiresAt the time at which the acquired lease expires
+     * @return a completion stage completed with {@code true} if the lease was acquired, or {@code false} if the lease is held
+     *         by another execution
+     */
+    CompletionStage<Boolean> tryAcquire(String jobId, String nodeId, Instant scheduledFireTime, Instant expiresAt);
+
+}
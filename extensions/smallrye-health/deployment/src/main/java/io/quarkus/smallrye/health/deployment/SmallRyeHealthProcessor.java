@@ -25,6 +25,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.ArcConfig;
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
 import io.quarkus.arc.deployment.BeanDefiningAnnotationBuildItem;
 import io.quarkus.arc.deployment.ExcludedTypeBuildItem;
@@ -50,8 +51,10 @@
 import io.quarkus.kubernetes.spi.KubernetesHealthStartupPathBuildItem;
 import io.quarkus.kubernetes.spi.KubernetesProbePortNameBuildItem;
 import io.quarkus.maven.dependency.GACT;
+import io.quarkus.runtime.DeferredStartup;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
+import io.quarkus.smallrye.health.runtime.DeferredStartupReadinessCheck;
 import io.quarkus.smallrye.health.runtime.QuarkusAsyncHealthCheckFactory;
 import io.quarkus.smallrye.health.runtime.ShutdownReadinessCheck;
 import io.quarkus.smallrye.health.runtime.ShutdownReadinessListener;
@@ -365,6 +368,18 @@ void shutdownHealthCheck(ShutdownBuildTimeConfig buildTimeConfig,
         }
     }
 
+    @BuildStep
+    void deferredStartupHealthCheck(ArcConfig arcConfig, BeanArchiveIndexBuildItem beanArchiveIndex,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeanProducer) {
+        if (arcConfig.deferredStartup()
+                && !beanArchiveIndex.getIndex().getAnnotations(DotName.createSimple(DeferredStartup.class)).isEmpty()) {
+            additionalBeanProducer.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClass(DeferredStartupReadinessCheck.class)
+                    .setUnremovable()
+                    .build());
+        }
+    }
+
     @BuildStep
     ShutdownListenerBuildItem shutdownListener() {
         return new ShutdownListenerBuildItem(new ShutdownReadinessListener());
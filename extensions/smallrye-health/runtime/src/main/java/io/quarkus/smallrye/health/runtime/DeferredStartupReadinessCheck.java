@@ -0,0 +1,33 @@
+package io.quarkus.smallrye.health.runtime;
+
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+import io.quarkus.arc.runtime.DeferredStartupStatus;
+
+/**
+ * The application is not ready until the {@link io.quarkus.runtime.DeferredStartup} beans and observers have completed.
+ */
+@Singleton
+@Readiness
+public class DeferredStartupReadinessCheck implements HealthCheck {
+
+    protected static final String DEFERRED_STARTUP = "Deferred Startup";
+
+    @Override
+    public HealthCheckResponse call() {
+        if (DeferredStartupStatus.isCompleted()) {
+            return HealthCheckResponse.up(DEFERRED_STARTUP);
+        }
+        HealthCheckResponseBuilder builder = HealthCheckResponse.named(DEFERRED_STARTUP).down();
+        Throwable failure = DeferredStartupStatus.getFailure();
+        if (failure != null) {
+            builder.withData("error", String.valueOf(failure));
+        }
+        return builder.build();
+    }
+}
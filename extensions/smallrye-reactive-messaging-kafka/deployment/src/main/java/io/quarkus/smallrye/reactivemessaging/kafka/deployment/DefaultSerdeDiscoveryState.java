@@ -2,6 +2,7 @@
 
 import static io.quarkus.smallrye.reactivemessaging.kafka.deployment.SmallRyeReactiveMessagingKafkaProcessor.getChannelPropertyKey;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -18,8 +19,10 @@
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
 
 import io.quarkus.deployment.util.JandexUtil;
+import io.quarkus.jackson.spi.JacksonCodecTypeBuildItem;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ChannelDirection;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ConnectorManagedChannelBuildItem;
 import io.smallrye.reactive.messaging.kafka.KafkaConnector;
@@ -29,6 +32,7 @@ class DefaultSerdeDiscoveryState {
 
     private final Map<String, Boolean> isKafkaConnector = new HashMap<>();
     private final Set<String> alreadyConfigured = new HashSet<>();
+    private final List<JacksonCodecTypeBuildItem> jacksonCodecTypes = new ArrayList<>();
 
     private Boolean connectorHasKeySerializer;
     private Boolean connectorHasValueSerializer;
@@ -44,6 +48,21 @@ class DefaultSerdeDiscoveryState {
         this.index = index;
     }
 
+    void addJacksonSerializer(Type type) {
+        jacksonCodecTypes.add(JacksonCodecTypeBuildItem.serialized(type));
+    }
+
+    void addJacksonDeserializer(Type type) {
+        jacksonCodecTypes.add(JacksonCodecTypeBuildItem.deserialized(type));
+    }
+
+    /**
+     * @return the types (de)serialized by the generated Jackson serdes, i.e. with the application {@code ObjectMapper}
+     */
+    List<JacksonCodecTypeBuildItem> getJacksonCodecTypes() {
+        return jacksonCodecTypes;
+    }
+
     Config getConfig() {
         return ConfigProvider.getConfig();
     }
@@ -40,6 +40,7 @@
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.AdditionalJpaModelBuildItem;
+import io.quarkus.jackson.spi.JacksonCodecTypeBuildItem;
 import io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ConnectorManagedChannelBuildItem;
 import io.quarkus.smallrye.reactivemessaging.kafka.DatabindProcessingStateCodec;
@@ -184,12 +185,15 @@ public void defaultChannelConfiguration(
             List<ConnectorManagedChannelBuildItem> channelsManagedByConnectors,
             BuildProducer<RunTimeConfigurationDefaultBuildItem> defaultConfigProducer,
             BuildProducer<GeneratedClassBuildItem> generatedClass,
-            BuildProducer<ReflectiveClassBuildItem> reflection) {
+            BuildProducer<ReflectiveClassBuildItem> reflection,
+            BuildProducer<JacksonCodecTypeBuildItem> jacksonCodecTypes) {
 
         DefaultSerdeDiscoveryState discoveryState = new DefaultSerdeDiscoveryState(combinedIndex.getIndex());
         if (buildTimeConfig.serializerAutodetectionEnabled()) {
             discoverDefaultSerdeConfig(discoveryState, channelsManagedByConnectors, defaultConfigProducer,
                     buildTimeConfig.serializerGenerationEnabled() ? generatedClass : null, reflection);
+            // the generated serdes use the application ObjectMapper
+            jacksonCodecTypes.produce(discoveryState.getJacksonCodecTypes());
         }
 
         if (launchMode.getLaunchMode().isDevOrTest()) {
@@ -882,6 +886,7 @@ private Result deserializerFor(DefaultSerdeDiscoveryState discovery,
             result = alreadyGeneratedDeserializers.get(type.toString());
             if (result == null) {
                 String clazz = JacksonSerdeGenerator.generateDeserializer(generatedClass, type);
+                discovery.addJacksonDeserializer(type);
                 LOGGER.infof("Generating Jackson deserializer for type %s", type.name().toString());
                 // Deserializers are access by reflection.
                 reflection.produce(
@@ -921,6 +926,7 @@ private Result serializerFor(DefaultSerdeDiscoveryState discovery, Type type,
             result = alreadyGeneratedSerializers.get(type.toString());
             if (result == null) {
                 String clazz = JacksonSerdeGenerator.generateSerializer(generatedClass, type);
+                discovery.addJacksonSerializer(type);
                 LOGGER.infof("Generating Jackson serializer for type %s", type.name().toString());
                 // Serializers are access by reflection.
                 reflection.produce(
@@ -27,6 +27,12 @@ InternalPageBuildItem createBuildMetricsPages() {
                 .icon("font-awesome-solid:trowel")
                 .componentLink("qwc-build-items.js"));
 
+        buildMetricsPages.addPage(Page.webComponentPageBuilder()
+                .namespace("devui-build-metrics")
+                .title("Critical Path")
+                .icon("font-awesome-solid:route")
+                .componentLink("qwc-build-critical-path.js"));
+
         return buildMetricsPages;
     }
 }
\ No newline at end of file
@@ -29,4 +29,14 @@ public void testGetBuildStepsMetrics() throws Exception {
         Assertions.assertTrue(recordsIncluded);
 
     }
+
+    @Test
+    public void testGetCriticalPath() throws Exception {
+        JsonNode criticalPathResponse = super.executeJsonRPCMethod("getCriticalPath");
+        Assertions.assertNotNull(criticalPathResponse);
+        Assertions.assertTrue(criticalPathResponse.get("records").isArray());
+        Assertions.assertTrue(criticalPathResponse.get("records").size() > 0);
+        Assertions.assertTrue(
+                criticalPathResponse.get("duration").asLong() <= criticalPathResponse.get("buildDuration").asLong());
+    }
 }
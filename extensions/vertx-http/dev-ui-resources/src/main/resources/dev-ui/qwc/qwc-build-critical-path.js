@@ -0,0 +1,108 @@
+import { QwcHotReloadElement, html, css} from 'qwc-hot-reload-element';
+
+import { JsonRpc } from 'jsonrpc';
+import '@vaadin/grid';
+import { columnBodyRenderer } from '@vaadin/grid/lit.js';
+import '@vaadin/progress-bar';
+/**
+ * This component shows the build steps on the critical path, i.e. the steps that serialize the build
+ */
+export class QwcBuildCriticalPath extends QwcHotReloadElement {
+
+  jsonRpc = new JsonRpc("devui-build-metrics", true);
+
+  static styles = css`
+      .build-critical-path {
+        height: 100%;
+        width: 100%;
+        display: flex;
+        flex-direction: column;
+        overflow: hidden;
+      }
+
+      vaadin-grid {
+        height: 100%;
+      }
+
+      .summary {
+        margin-bottom: 15px;
+      }
+
+      .datatable {
+        width: 100%;
+      }`;
+
+  static properties = {
+    _criticalPath: { state: true }
+  };
+
+  constructor() {
+    super();
+    this.hotReload();
+  }
+
+  hotReload(){
+    this.jsonRpc.getCriticalPath().then(e => {
+      this._criticalPath = e.result;
+    });
+  }
+
+  render() {
+      if (this._criticalPath) {
+          return this._render();
+      }else {
+          return html`
+            <div style="color: var(--lumo-secondary-text-color);width: 95%;" >
+                <div>Loading critical path...</div>
+                <vaadin-progress-bar indeterminate></vaadin-progress-bar>
+            </div>
+            `;
+      }
+  }
+
+  _render() {
+    return html`<div class="build-critical-path">
+            <div class="summary">
+                The <strong>${this._criticalPath.records.length}</strong> build steps below depend on each other and took <strong>${this._criticalPath.duration} ms</strong> of the <strong>${this._criticalPath.buildDuration} ms</strong> build.
+                The build cannot be faster than this, whatever the number of threads.
+            </div>
+            <vaadin-grid .items="${this._criticalPath.records}" class="datatable" theme="row-stripes">
+                <vaadin-grid-column resizable
+                                    header="Build step"
+                                    ${columnBodyRenderer(this._stepIdRenderer, [])}>
+                </vaadin-grid-column>
+
+                <vaadin-grid-column auto-width resizable flex-grow="0"
+                                    header="Started"
+                                    path="started">
+                </vaadin-grid-column>
+
+                <vaadin-grid-column auto-width resizable flex-grow="0"
+                                    header="Duration (ms)"
+                                    path="duration">
+                </vaadin-grid-column>
+
+                <vaadin-grid-column auto-width resizable flex-grow="0"
+                                    header="Share of the build"
+                                    ${columnBodyRenderer(this._shareRenderer, [])}>
+                </vaadin-grid-column>
+
+                <vaadin-grid-column auto-width resizable flex-grow="0"
+                                    header="Thread"
+                                    path="thread">
+                </vaadin-grid-column>
+            </vaadin-grid></div>`;
+  }
+
+  _stepIdRenderer(record) {
+    return html`<code>${record.stepId}</code>`;
+  }
+
+  _shareRenderer(record) {
+    if (!this._criticalPath.buildDuration) {
+      return html``;
+    }
+    return html`${Math.round(record.duration * 100 / this._criticalPath.buildDuration)} %`;
+  }
+}
+customElements.define('qwc-build-critical-path', QwcBuildCriticalPath);
@@ -156,6 +156,11 @@ export class QwcBuildSteps extends QwcHotReloadElement {
                                     header="Thread"
                                     path="thread">
                 </vaadin-grid-sort-column>
+
+                <vaadin-grid-sort-column auto-width resizable flex-grow="0"
+                                    header="Cache"
+                                    path="cache">
+                </vaadin-grid-sort-column>
                 
                 <vaadin-grid-column
                         frozen-to-end
@@ -97,6 +97,11 @@ public Map<String, Object> prepareBuildStepsMetrics() {
                 metrics.put("items", data.getJsonArray("items"));
                 metrics.put("itemsCount", data.getInteger("itemsCount"));
                 metrics.put("duration", buildDuration);
+                JsonObject criticalPath = data.getJsonObject("criticalPath");
+                if (criticalPath != null) {
+                    criticalPath.put("buildDuration", buildDuration);
+                    metrics.put("criticalPath", criticalPath);
+                }
             } catch (IOException e) {
                 LOG.error(e);
             }
@@ -42,6 +42,16 @@ public BuildMetrics getBuildMetrics() {
         return buildMetrics;
     }
 
+    public JsonObject getCriticalPath() {
+        Map<String, Object> buildStepMetrics = buildStepMetrics();
+        JsonObject criticalPath = (JsonObject) buildStepMetrics.get("criticalPath");
+        if (criticalPath == null) {
+            // metrics dumped by a previous version
+            criticalPath = new JsonObject().put("duration", 0L).put("records", new JsonArray());
+        }
+        return criticalPath;
+    }
+
     public JsonObject getDependencyGraph(String buildStepId) {
         Map<String, Object> buildStepMetrics = buildStepMetrics();
         Map<String, JsonObject> dependencyGraphs = (Map<String, JsonObject>) buildStepMetrics.get("dependencyGraphs");
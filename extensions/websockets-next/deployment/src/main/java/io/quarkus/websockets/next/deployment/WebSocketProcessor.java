@@ -94,6 +94,7 @@
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
+import io.quarkus.jackson.spi.JacksonCodecTypeBuildItem;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.spi.ClassSecurityAnnotationBuildItem;
 import io.quarkus.security.spi.ClassSecurityCheckStorageBuildItem;
@@ -600,6 +601,23 @@ private static boolean hasSecurityAnnNotOnHttpUpgrade(ClassInfo classInfo,
                 || metaPermissionsAllowed.get().hasPermissionsAllowed(annotations);
     }
 
+    @BuildStep
+    void jacksonCodecTypes(List<WebSocketEndpointBuildItem> endpoints,
+            BuildProducer<JacksonCodecTypeBuildItem> codecTypes) {
+        // text messages without a custom codec are encoded/decoded with the application ObjectMapper
+        for (WebSocketEndpointBuildItem endpoint : endpoints) {
+            Callback onTextMessage = endpoint.onTextMessage;
+            if (onTextMessage != null && onTextMessage.getInputCodec() == null) {
+                codecTypes.produce(JacksonCodecTypeBuildItem.deserialized(onTextMessage.messageParamType()));
+            }
+            for (Callback callback : new Callback[] { endpoint.onOpen, onTextMessage }) {
+                if (callback != null && !callback.isReturnTypeVoid() && callback.getOutputCodec() == null) {
+                    codecTypes.produce(JacksonCodecTypeBuildItem.serialized(callback.returnType()));
+                }
+            }
+        }
+    }
+
     @BuildStep
     UnremovableBeanBuildItem makeHttpUpgradeChecksUnremovable() {
         // we access the checks programmatically
@@ -106,12 +106,24 @@ public class BeanGenerator extends AbstractGenerator {
     protected final Map<BeanInfo, String> beanToGeneratedBaseName;
     protected final Predicate<DotName> injectionPointAnnotationsPredicate;
     protected final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
+    protected final Map<String, Integer> beanToContextInstanceIndex;
 
     public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
             Set<String> existingClasses, Map<BeanInfo, String> beanToGeneratedName,
             Predicate<DotName> injectionPointAnnotationsPredicate,
             List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators) {
+        this(annotationLiterals, applicationClassPredicate, privateMembers, generateSources, reflectionRegistration,
+                existingClasses, beanToGeneratedName, injectionPointAnnotationsPredicate, suppressConditionGenerators,
+                Map.of());
+    }
+
+    public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
+            PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
+            Set<String> existingClasses, Map<BeanInfo, String> beanToGeneratedName,
+            Predicate<DotName> injectionPointAnnotationsPredicate,
+            List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators,
+            Map<String, Integer> beanToContextInstanceIndex) {
         super(generateSources, reflectionRegistration);
         this.annotationLiterals = annotationLiterals;
         this.applicationClassPredicate = applicationClassPredicate;
@@ -120,6 +132,7 @@ public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<Do
         this.beanToGeneratedName = beanToGeneratedName;
         this.injectionPointAnnotationsPredicate = injectionPointAnnotationsPredicate;
         this.suppressConditionGenerators = suppressConditionGenerators;
+        this.beanToContextInstanceIndex = beanToContextInstanceIndex;
         this.beanToGeneratedBaseName = new HashMap<>();
     }
 
@@ -296,6 +309,7 @@ Collection<Resource> generateSyntheticBean(BeanInfo bean) {
         constructor.returnValue(null);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetContextInstanceIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (bean.hasDestroyLogic()) {
             implementDestroy(bean, beanCreator, providerType, Collections.emptyMap(), isApplicationClass, baseName,
@@ -388,6 +402,7 @@ Collection<Resource> generateClassBean(BeanInfo bean, ClassInfo beanClass) {
 
         // Methods
         implementGetIdentifier(bean, beanCreator);
+        implementGetContextInstanceIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (bean.hasDestroyLogic()) {
             implementDestroy(bean, beanCreator, providerType, injectionPointToProviderSupplierField, isApplicationClass,
@@ -476,6 +491,7 @@ Collection<Resource> generateProducerMethodBean(BeanInfo bean, MethodInfo produc
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetContextInstanceIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (bean.hasDestroyLogic()) {
             implementDestroy(bean, beanCreator, providerType, injectionPointToProviderField, isApplicationClass, baseName,
@@ -561,6 +577,7 @@ Collection<Resource> generateProducerFieldBean(BeanInfo bean, FieldInfo producer
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetContextInstanceIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (bean.hasDestroyLogic()) {
             implementDestroy(bean, beanCreator, providerType, null, isApplicationClass, baseName, targetPackage);
@@ -2109,6 +2126,23 @@ protected void implementGetIdentifier(BeanInfo bean, ClassCreator beanCreator) {
         getScope.returnValue(getScope.load(bean.getIdentifier()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getContextInstanceIndex()
+     */
+    protected void implementGetContextInstanceIndex(BeanInfo bean, ClassCreator beanCreator) {
+        Integer index = beanToContextInstanceIndex.get(bean.getIdentifier());
+        if (index == null) {
+            // the context of the scope of this bean is not optimized
+            return;
+        }
+        MethodCreator getContextInstanceIndex = beanCreator.getMethodCreator("getContextInstanceIndex", int.class)
+                .setModifiers(ACC_PUBLIC);
+        getContextInstanceIndex.returnValue(getContextInstanceIndex.load(index));
+    }
+
     protected void implementEquals(BeanInfo bean, ClassCreator beanCreator) {
         MethodCreator equals = beanCreator.getMethodCreator("equals", boolean.class, Object.class).setModifiers(ACC_PUBLIC);
         final ResultHandle obj = equals.getMethodParam(0);
@@ -213,10 +213,11 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         Map<BeanInfo, String> beanToGeneratedName = new HashMap<>();
         Map<ObserverInfo, String> observerToGeneratedName = new HashMap<>();
         Map<DotName, String> scopeToGeneratedName = new HashMap<>();
+        Map<String, Integer> beanToContextInstanceIndex = new HashMap<>();
 
         BeanGenerator beanGenerator = new BeanGenerator(annotationLiterals, applicationClassPredicate, privateMembers,
                 generateSources, refReg, existingClasses, beanToGeneratedName,
-                injectionPointAnnotationsPredicate, suppressConditionGenerators);
+                injectionPointAnnotationsPredicate, suppressConditionGenerators, beanToContextInstanceIndex);
         Collection<BeanInfo> beans = beanDeployment.getBeans();
         for (BeanInfo bean : beans) {
             beanGenerator.precomputeGeneratedName(bean);
@@ -259,7 +260,7 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         }
 
         ContextInstancesGenerator contextInstancesGenerator = new ContextInstancesGenerator(generateSources,
-                refReg, beanDeployment, scopeToGeneratedName);
+                refReg, beanDeployment, scopeToGeneratedName, beanToContextInstanceIndex);
         if (optimizeContextsValue) {
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.APPLICATION.getName());
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.REQUEST.getName());
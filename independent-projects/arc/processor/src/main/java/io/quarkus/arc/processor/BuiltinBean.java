@@ -294,10 +294,22 @@ private static void generateEventBytecode(GeneratorContext ctx) {
                 ctx.constructor.load(ctx.injectionPoint.getPosition()),
                 ctx.constructor.load(ctx.injectionPoint.isTransient()));
 
+        // If the event type is a final class then all the events are notified with the same observers
+        ResultHandle finalEventType;
+        ClassInfo finalEventClass = getFinalEventClass(ctx.beanDeployment, ctx.injectionPoint.getType());
+        if (finalEventClass == null) {
+            finalEventType = ctx.constructor.loadNull();
+        } else if (finalEventClass.name().toString().startsWith("java.")) {
+            finalEventType = ctx.constructor.loadClass(finalEventClass.name().toString());
+        } else {
+            // the class may be package private
+            finalEventType = ctx.constructor.loadClassFromTCCL(finalEventClass.name().toString());
+        }
+
         ResultHandle eventProvider = ctx.constructor.newInstance(
                 MethodDescriptor.ofConstructor(EventProvider.class, java.lang.reflect.Type.class,
-                        Set.class, InjectionPoint.class),
-                parameterizedType, qualifiers, injectionPoint);
+                        Set.class, InjectionPoint.class, Class.class),
+                parameterizedType, qualifiers, injectionPoint, finalEventType);
         ResultHandle eventProviderSupplier = ctx.constructor.newInstance(
                 MethodDescriptors.FIXED_VALUE_SUPPLIER_CONSTRUCTOR, eventProvider);
         ctx.constructor.writeInstanceField(
@@ -306,6 +318,19 @@ private static void generateEventBytecode(GeneratorContext ctx) {
                 ctx.constructor.getThis(), eventProviderSupplier);
     }
 
+    private static ClassInfo getFinalEventClass(BeanDeployment beanDeployment, Type eventInjectionPointType) {
+        if (eventInjectionPointType.kind() != Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        Type eventType = eventInjectionPointType.asParameterizedType().arguments().get(0);
+        if (eventType.kind() != Kind.CLASS) {
+            return null;
+        }
+        ClassInfo eventClass = getClassByName(beanDeployment.getBeanArchiveIndex(), eventType.name());
+        // generic classes are excluded because the type arguments are resolved from the runtime type of an event
+        return eventClass != null && eventClass.isFinal() && eventClass.typeParameters().isEmpty() ? eventClass : null;
+    }
+
     private static void generateInjectionPointBytecode(GeneratorContext ctx) {
         // this.injectionPointProvider1 = () -> new InjectionPointProvider();
         ResultHandle injectionPointProvider = ctx.constructor.newInstance(
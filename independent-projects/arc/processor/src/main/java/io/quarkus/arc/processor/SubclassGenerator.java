@@ -895,19 +895,7 @@ static void createInterceptedMethod(MethodInfo method, ClassCreator subclass, Fi
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
         MethodCreator interceptedMethod = subclass.getMethodCreator(originalMethodDescriptor);
 
-        // Params
-        // Object[] params = new Object[] {p1}
         List<Type> parameters = method.parameterTypes();
-        ResultHandle paramsHandle;
-        if (parameters.isEmpty()) {
-            paramsHandle = interceptedMethod.loadNull();
-        } else {
-            paramsHandle = interceptedMethod.newArray(Object.class,
-                    interceptedMethod.load(parameters.size()));
-            for (int i = 0; i < parameters.size(); i++) {
-                interceptedMethod.writeArrayValue(paramsHandle, i, interceptedMethod.getMethodParam(i));
-            }
-        }
 
         // Delegate to super class if not constructed yet
         BytecodeCreator notConstructed = interceptedMethod
@@ -960,6 +948,18 @@ static void createInterceptedMethod(MethodInfo method, ClassCreator subclass, Fi
             catchOtherExceptions.throwException(ArcUndeclaredThrowableException.class, "Error invoking subclass method",
                     catchOtherExceptions.getCaughtException());
         }
+        // Params - only allocated if the interceptor chain is actually invoked
+        // Object[] params = new Object[] {p1}
+        ResultHandle paramsHandle;
+        if (parameters.isEmpty()) {
+            paramsHandle = tryCatch.loadNull();
+        } else {
+            paramsHandle = tryCatch.newArray(Object.class, tryCatch.load(parameters.size()));
+            for (int i = 0; i < parameters.size(); i++) {
+                tryCatch.writeArrayValue(paramsHandle, i, tryCatch.getMethodParam(i));
+            }
+        }
+
         // InvocationContexts.performAroundInvoke(...)
         ResultHandle methodMetadataHandle = tryCatch.readInstanceField(metadataField, tryCatch.getThis());
         ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
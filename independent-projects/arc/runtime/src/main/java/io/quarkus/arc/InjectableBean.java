@@ -177,6 +177,16 @@ default Class<?> getImplementationClass() {
         return getBeanClass();
     }
 
+    /**
+     * The index of this bean in the instances of its context, assigned during build when the context of the scope of this
+     * bean is optimized.
+     *
+     * @return the index, or {@code -1} if the context of the scope of this bean is not optimized
+     */
+    default int getContextInstanceIndex() {
+        return -1;
+    }
+
     /**
      * Equivalent to {@code checkActive().value()}.
      *
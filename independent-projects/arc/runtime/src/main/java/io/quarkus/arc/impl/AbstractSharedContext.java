@@ -32,7 +32,7 @@ public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContex
         if (!Scopes.scopeMatches(this, bean)) {
             throw Scopes.scopeDoesNotMatchException(this, bean);
         }
-        return (T) instances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
+        return (T) instances.computeIfAbsent(bean, new Supplier<ContextInstanceHandle<?>>() {
             @Override
             public ContextInstanceHandle<?> get() {
                 return createInstanceHandle(bean, creationalContext);
@@ -48,7 +48,7 @@ public <T> T get(Contextual<T> contextual) {
         if (!Scopes.scopeMatches(this, bean)) {
             throw Scopes.scopeDoesNotMatchException(this, bean);
         }
-        ContextInstanceHandle<?> handle = instances.getIfPresent(bean.getIdentifier());
+        ContextInstanceHandle<?> handle = instances.getIfPresent(bean);
         return handle != null ? (T) handle.get() : null;
     }
 
@@ -76,7 +76,7 @@ public boolean isActive() {
     @Override
     public void destroy(Contextual<?> contextual) {
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> handle = instances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> handle = instances.remove(bean);
         if (handle != null) {
             handle.destroy();
         }
@@ -90,6 +90,7 @@ public class ArcContainerImpl implements ArcContainer {
     private final List<InjectableObserverMethod<?>> observers;
     private final Contexts contexts;
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    private final ComputingCache<ObserverResolvable, List<InjectableObserverMethod<?>>> resolvedObservers;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
@@ -161,6 +162,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
         decorators.sort(Comparator.comparingInt(InjectableDecorator::getPriority));
 
         resolved = new ComputingCache<>(this::resolve);
+        resolvedObservers = new ComputingCache<>(this::resolveObservers);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
         resourceProviders = new ArrayList<>();
@@ -478,6 +480,7 @@ public synchronized void shutdown() {
             // Clear caches
             Reflections.clearCaches();
             resolved.clear();
+            resolvedObservers.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
 
@@ -908,6 +911,22 @@ <T> List<InjectableObserverMethod<? super T>> resolveObserverMethods(Type eventT
         return resolvedObservers;
     }
 
+    /**
+     * Unlike {@link #resolveObserverMethods(Type, Set)}, the observer methods are resolved only once for the given event
+     * type and qualifiers, so that the notifiers created for the same event do not walk the type hierarchy again.
+     *
+     * @return the immutable list of observer methods sorted by priority
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    <T> List<InjectableObserverMethod<? super T>> resolveObserverMethodsCached(Type eventType,
+            Set<Annotation> eventQualifiers) {
+        return (List) resolvedObservers.getValue(new ObserverResolvable(eventType, eventQualifiers));
+    }
+
+    private List<InjectableObserverMethod<?>> resolveObservers(ObserverResolvable resolvable) {
+        return List.copyOf(resolveObserverMethods(resolvable.eventType, resolvable.qualifiers));
+    }
+
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
         if (interceptors.isEmpty()) {
             return Collections.emptyList();
@@ -1042,6 +1061,36 @@ public static ArcContainerImpl instance() {
         return unwrap(Arc.container());
     }
 
+    private static final class ObserverResolvable {
+
+        final Type eventType;
+
+        final Set<Annotation> qualifiers;
+
+        ObserverResolvable(Type eventType, Set<Annotation> qualifiers) {
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * eventType.hashCode() + qualifiers.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ObserverResolvable)) {
+                return false;
+            }
+            ObserverResolvable other = (ObserverResolvable) obj;
+            return eventType.equals(other.eventType) && qualifiers.equals(other.qualifiers);
+        }
+
+    }
+
     private static final class Resolvable {
 
         private static final Annotation[] ANY_QUALIFIER = { Any.Literal.INSTANCE };
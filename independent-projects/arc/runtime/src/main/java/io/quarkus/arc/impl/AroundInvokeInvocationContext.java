@@ -18,6 +18,8 @@
  * of an interceptor chain execution. In other words, it is possible to "cut off" the chain (interceptors executed before
  * dispatch return immediately) and execute all remaining interceptors asynchronously, possibly on a different thread.
  * <p>
+ * The context data map is only created when an interceptor asks for it.
+ * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredictable behavior may occur.
  */
@@ -33,7 +35,7 @@ static Object perform(Object target, Object[] args, InterceptedMethodMetadata me
     private final InterceptedMethodMetadata metadata;
 
     AroundInvokeInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata) {
-        super(target, args, new ContextDataMap(metadata.bindings));
+        super(target, args);
         this.metadata = metadata;
     }
 
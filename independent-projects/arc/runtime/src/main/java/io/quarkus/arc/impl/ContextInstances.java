@@ -5,6 +5,7 @@
 import java.util.function.Supplier;
 
 import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
 
 public interface ContextInstances {
 
@@ -16,6 +17,16 @@ public interface ContextInstances {
      */
     ContextInstanceHandle<?> computeIfAbsent(String id, Supplier<ContextInstanceHandle<?>> supplier);
 
+    /**
+     *
+     * @param bean
+     * @param supplier
+     * @return the instance handle
+     */
+    default ContextInstanceHandle<?> computeIfAbsent(InjectableBean<?> bean, Supplier<ContextInstanceHandle<?>> supplier) {
+        return computeIfAbsent(bean.getIdentifier(), supplier);
+    }
+
     /**
      *
      * @param id
@@ -23,6 +34,15 @@ public interface ContextInstances {
      */
     ContextInstanceHandle<?> getIfPresent(String id);
 
+    /**
+     *
+     * @param bean
+     * @return the instance handle if present, {@code null} otherwise
+     */
+    default ContextInstanceHandle<?> getIfPresent(InjectableBean<?> bean) {
+        return getIfPresent(bean.getIdentifier());
+    }
+
     /**
      *
      * @param id
@@ -30,6 +50,15 @@ public interface ContextInstances {
      */
     ContextInstanceHandle<?> remove(String id);
 
+    /**
+     *
+     * @param bean
+     * @return the removed instance handle, or {@code null}
+     */
+    default ContextInstanceHandle<?> remove(InjectableBean<?> bean) {
+        return remove(bean.getIdentifier());
+    }
+
     /**
      *
      * @return all instance handles
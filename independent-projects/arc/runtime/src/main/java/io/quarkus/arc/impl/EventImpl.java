@@ -60,25 +60,31 @@
     private final HierarchyDiscovery injectionPointTypeHierarchy;
     private final Type eventType;
     private final Set<Annotation> qualifiers;
-    private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
+    private final Notifiers<T> notifiers;
     private final InjectionPoint injectionPoint;
 
-    private transient volatile Notifier<? super T> lastNotifier;
-
     private static final Logger LOGGER = Logger.getLogger(EventImpl.class);
 
     EventImpl(Type eventType, Set<Annotation> qualifiers, InjectionPoint injectionPoint) {
+        this(eventType, qualifiers, injectionPoint, new Notifiers<>(null));
+    }
+
+    EventImpl(Type eventType, Set<Annotation> qualifiers, InjectionPoint injectionPoint, Notifiers<T> notifiers) {
         this.eventType = initEventType(eventType);
         this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
         this.qualifiers = Set.copyOf(qualifiers);
-        this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        this.notifiers = notifiers;
         this.injectionPoint = injectionPoint;
     }
 
     @Override
     public void fire(T event) {
         Objects.requireNonNull(event, "Event cannot be null");
-        getNotifier(event.getClass()).notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
+        Notifier<? super T> notifier = notifiers.finalNotifier;
+        if (notifier == null || notifier.runtimeType != event.getClass()) {
+            notifier = getNotifier(event.getClass());
+        }
+        notifier.notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
     }
 
     @Override
@@ -98,7 +104,7 @@ public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions o
             executor = Arc.container().getExecutorService();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
@@ -114,22 +120,29 @@ public U get() {
             }
         };
 
+        // a single task notifies all the async observers of the event; the events fired in a row are not batched in one
+        // task, as an observer waiting for an event fired after its own would never be notified
         CompletableFuture<U> completableFuture = CompletableFuture.supplyAsync(notifyLogic, executor);
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
-        Notifier<? super T> notifier = this.lastNotifier;
+        Notifier<? super T> notifier = notifiers.lastNotifier;
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
             return notifier;
         }
-        return this.lastNotifier = notifiers.computeIfAbsent(runtimeType,
+        notifier = notifiers.notifiers.computeIfAbsent(runtimeType,
                 new Function<>() {
                     @Override
                     public Notifier<? super T> apply(Class<?> clazz) {
                         return createNotifier(clazz);
                     }
                 });
+        if (notifiers.finalEventType != null && notifiers.finalEventType.equals(runtimeType)) {
+            notifiers.finalNotifier = notifier;
+        }
+        notifiers.lastNotifier = notifier;
+        return notifier;
     }
 
     @Override
@@ -186,7 +199,7 @@ static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<
         normalizedQualifiers.add(Any.Literal.INSTANCE);
         EventMetadata metadata = new EventMetadataImpl(normalizedQualifiers, eventType, injectionPoint);
         List<ObserverMethod<? super T>> notifierObserverMethods = new ArrayList<>(
-                container.resolveObserverMethods(eventType, normalizedQualifiers));
+                container.resolveObserverMethodsCached(eventType, normalizedQualifiers));
         return new Notifier<>(runtimeType, notifierObserverMethods, metadata, activateRequestContext);
     }
 
@@ -250,10 +263,36 @@ private void handleExceptions(ObserverExceptionHandler handler) {
         }
     }
 
+    /**
+     * The notifiers of an event, shared by all the {@link EventImpl} instances created for the same injection point.
+     * <p>
+     * The observer methods are known at build time, but the observers of an event are resolved here, once per runtime
+     * type, with the assignability rules of the container.
+     *
+     * @param <T>
+     */
+    static final class Notifiers<T> {
+
+        // the event type if it's a final class, i.e. the runtime type of all the events fired
+        private final Class<?> finalEventType;
+        private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
+        private volatile Notifier<? super T> lastNotifier;
+        private volatile Notifier<? super T> finalNotifier;
+
+        Notifiers(Class<?> finalEventType) {
+            this.finalEventType = finalEventType;
+            this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        }
+
+    }
+
     static class Notifier<T> {
 
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        // the sync and async observer methods, in the order of notification
+        private final ObserverMethod<? super T>[] syncObserverMethods;
+        private final ObserverMethod<? super T>[] asyncObserverMethods;
         final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
@@ -267,27 +306,41 @@ private void handleExceptions(ObserverExceptionHandler handler) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
             this.eventMetadata = eventMetadata;
+            List<ObserverMethod<? super T>> syncObserverMethods = new ArrayList<>(observerMethods.size());
+            List<ObserverMethod<? super T>> asyncObserverMethods = new ArrayList<>();
             boolean hasTxObservers = false;
             for (var method : observerMethods) {
                 if (isTxObserver(method)) {
                     hasTxObservers = true;
-                    break;
+                }
+                if (method.isAsync()) {
+                    asyncObserverMethods.add(method);
+                } else {
+                    syncObserverMethods.add(method);
                 }
             }
+            this.syncObserverMethods = toArray(syncObserverMethods);
+            this.asyncObserverMethods = toArray(asyncObserverMethods);
             this.hasTxObservers = hasTxObservers;
             this.activateRequestContext = activateRequestContext;
         }
 
+        @SuppressWarnings("unchecked")
+        private static <T> ObserverMethod<? super T>[] toArray(List<ObserverMethod<? super T>> observerMethods) {
+            return observerMethods.toArray(new ObserverMethod[0]);
+        }
+
         void notify(T event) {
             notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
         }
 
         @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
+            ObserverMethod<? super T>[] observerMethods = async ? asyncObserverMethods : syncObserverMethods;
+            if (observerMethods.length > 0) {
 
-                Predicate<ObserverMethod<?>> predicate = async ? ObserverMethodIsAsync.INSTANCE
-                        : ObserverMethodIsNotAsync.INSTANCE;
+                // null if all the observer methods are notified
+                Predicate<ObserverMethod<?>> predicate = null;
 
                 if (!async && hasTxObservers) {
                     // Note that tx observers are never async
@@ -317,13 +370,13 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                                 // See for instance discussions on https://github.com/eclipse-ee4j/cdi/issues/467
                                 txManager.getTransaction().registerSynchronization(sync);
                                 // registration succeeded, notify all non-tx observers synchronously
-                                predicate = predicate.and(ObserverMethodIsNotTxObserver.INSTANCE);
+                                predicate = ObserverMethodIsNotTxObserver.INSTANCE;
                             } catch (Exception e) {
                                 if (e.getCause() instanceof RollbackException
                                         || e.getCause() instanceof IllegalStateException
                                         || e.getCause() instanceof SystemException) {
                                     // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
-                                    predicate = predicate.and(ObserverMethodIsNotAfterSuccessTxObserver.INSTANCE);
+                                    predicate = ObserverMethodIsNotAfterSuccessTxObserver.INSTANCE;
                                 }
                             }
                         }
@@ -340,27 +393,27 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                 if (activateRequestContext) {
                     ManagedContext requestContext = Arc.container().requestContext();
                     if (requestContext.isActive()) {
-                        notifyObservers(event, exceptionHandler, predicate);
+                        notifyObservers(observerMethods, event, exceptionHandler, predicate);
                     } else {
                         try {
                             requestContext.activate();
-                            notifyObservers(event, exceptionHandler, predicate);
+                            notifyObservers(observerMethods, event, exceptionHandler, predicate);
                         } finally {
                             requestContext.terminate();
                         }
                     }
                 } else {
-                    notifyObservers(event, exceptionHandler, predicate);
+                    notifyObservers(observerMethods, event, exceptionHandler, predicate);
                 }
             }
         }
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
-        private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
-                Predicate<ObserverMethod<?>> predicate) {
+        private void notifyObservers(ObserverMethod<? super T>[] observerMethods, T event,
+                ObserverExceptionHandler exceptionHandler, Predicate<ObserverMethod<?>> predicate) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
             for (ObserverMethod<?> observerMethod : observerMethods) {
-                if (predicate.test(observerMethod)) {
+                if (predicate == null || predicate.test(observerMethod)) {
                     try {
                         observerMethod.notify(eventContext);
                     } catch (Throwable t) {
@@ -374,6 +427,10 @@ boolean isEmpty() {
             return observerMethods.isEmpty();
         }
 
+        boolean hasAsyncObservers() {
+            return asyncObserverMethods.length > 0;
+        }
+
         private static boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
@@ -407,26 +464,6 @@ public void afterCompletion(int i) {
         }
     }
 
-    private static class ObserverMethodIsAsync implements Predicate<ObserverMethod<?>> {
-
-        private static final Predicate<ObserverMethod<?>> INSTANCE = new ObserverMethodIsAsync();
-
-        @Override
-        public boolean test(ObserverMethod<?> observerMethod) {
-            return observerMethod.isAsync();
-        }
-    }
-
-    private static class ObserverMethodIsNotAsync implements Predicate<ObserverMethod<?>> {
-
-        private static final Predicate<ObserverMethod<?>> INSTANCE = new ObserverMethodIsNotAsync();
-
-        @Override
-        public boolean test(ObserverMethod<?> observerMethod) {
-            return !observerMethod.isAsync();
-        }
-    }
-
     private static class ObserverMethodIsNotTxObserver implements Predicate<ObserverMethod<?>> {
 
         private static final Predicate<ObserverMethod<?>> INSTANCE = new ObserverMethodIsNotTxObserver();
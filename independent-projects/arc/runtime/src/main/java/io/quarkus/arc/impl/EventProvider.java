@@ -19,16 +19,31 @@
     private final Type eventType;
     private final Set<Annotation> eventQualifiers;
     private final InjectionPoint injectionPoint;
+    // shared by all the events created for the injection point, so that the observers are only resolved once
+    private final EventImpl.Notifiers<T> notifiers;
 
     public EventProvider(Type eventType, Set<Annotation> eventQualifiers, InjectionPoint injectionPoint) {
+        this(eventType, eventQualifiers, injectionPoint, null);
+    }
+
+    /**
+     *
+     * @param eventType
+     * @param eventQualifiers
+     * @param injectionPoint
+     * @param finalEventType the event type if it was found to be a final class during build, {@code null} otherwise
+     */
+    public EventProvider(Type eventType, Set<Annotation> eventQualifiers, InjectionPoint injectionPoint,
+            Class<?> finalEventType) {
         this.eventType = eventType;
         this.eventQualifiers = eventQualifiers;
         this.injectionPoint = injectionPoint;
+        this.notifiers = new EventImpl.Notifiers<>(finalEventType);
     }
 
     @Override
     public Event<T> get(CreationalContext<Event<T>> creationalContext) {
-        return new EventImpl<>(eventType, eventQualifiers, injectionPoint);
+        return new EventImpl<>(eventType, eventQualifiers, injectionPoint, notifiers);
     }
 
 }
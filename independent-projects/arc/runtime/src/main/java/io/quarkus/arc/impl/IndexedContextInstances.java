@@ -0,0 +1,220 @@
+package io.quarkus.arc.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * Context instances backed by an array with a slot for each bean of the scope. The index of the slot of a bean is assigned
+ * during build and returned by {@link InjectableBean#getContextInstanceIndex()}, so that the instance of a bean is found
+ * without hashing its identifier.
+ * <p>
+ * Instances are created lazily without a lock: the thread that claims the empty slot of a bean with a CAS creates the
+ * instance, and only the threads that find the slot claimed wait for the instance to be created.
+ * <p>
+ * This class is extended by the classes generated for the optimized scopes, which provide the identifiers of the beans
+ * in index order.
+ */
+public abstract class IndexedContextInstances implements ContextInstances {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle SIZE;
+
+    static {
+        try {
+            SIZE = MethodHandles.lookup().findVarHandle(IndexedContextInstances.class, "size", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new Error(e);
+        }
+    }
+
+    private final Map<String, Integer> indexes;
+    // null, a ContextInstanceHandle or a Creation
+    private final Object[] slots;
+    // the number of instance handles, so that removing all of them does not scan the slots of an empty context
+    private volatile int size;
+
+    protected IndexedContextInstances(Map<String, Integer> indexes) {
+        this.indexes = indexes;
+        this.slots = new Object[indexes.size()];
+    }
+
+    /**
+     *
+     * @param identifiers the bean identifiers in index order
+     * @return the index of each bean identifier
+     */
+    public static Map<String, Integer> indexes(String[] identifiers) {
+        Map<String, Integer> indexes = new HashMap<>((int) (identifiers.length / 0.75f) + 1);
+        for (int i = 0; i < identifiers.length; i++) {
+            indexes.put(identifiers[i], i);
+        }
+        return indexes;
+    }
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(String id, Supplier<ContextInstanceHandle<?>> supplier) {
+        return computeIfAbsent(indexOf(id), supplier);
+    }
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(InjectableBean<?> bean, Supplier<ContextInstanceHandle<?>> supplier) {
+        return computeIfAbsent(indexOf(bean), supplier);
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(String id) {
+        return getIfPresent(indexOf(id));
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(InjectableBean<?> bean) {
+        return getIfPresent(indexOf(bean));
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(String id) {
+        return remove(indexOf(id));
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(InjectableBean<?> bean) {
+        return remove(indexOf(bean));
+    }
+
+    @Override
+    public Set<ContextInstanceHandle<?>> getAllPresent() {
+        Set<ContextInstanceHandle<?>> ret = new HashSet<>();
+        for (int i = 0; i < slots.length; i++) {
+            ContextInstanceHandle<?> handle = getIfPresent(i);
+            if (handle != null) {
+                ret.add(handle);
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    public void removeEach(Consumer<? super ContextInstanceHandle<?>> action) {
+        for (int i = 0; i < slots.length && size > 0; i++) {
+            ContextInstanceHandle<?> handle = remove(i);
+            if (handle != null && action != null) {
+                action.accept(handle);
+            }
+        }
+    }
+
+    private int indexOf(InjectableBean<?> bean) {
+        int index = bean.getContextInstanceIndex();
+        return index >= 0 ? index : indexOf(bean.getIdentifier());
+    }
+
+    private int indexOf(String id) {
+        Integer index = indexes.get(id);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown bean identifier");
+        }
+        return index;
+    }
+
+    private ContextInstanceHandle<?> computeIfAbsent(int index, Supplier<ContextInstanceHandle<?>> supplier) {
+        Object value = SLOTS.getAcquire(slots, index);
+        if (value instanceof ContextInstanceHandle) {
+            return (ContextInstanceHandle<?>) value;
+        }
+        return create(index, value, supplier);
+    }
+
+    private ContextInstanceHandle<?> create(int index, Object value, Supplier<ContextInstanceHandle<?>> supplier) {
+        for (;;) {
+            if (value == null) {
+                Creation creation = new Creation();
+                if (SLOTS.compareAndSet(slots, index, null, creation)) {
+                    ContextInstanceHandle<?> handle;
+                    try {
+                        handle = supplier.get();
+                    } catch (Throwable t) {
+                        SLOTS.setRelease(slots, index, null);
+                        creation.countDown();
+                        throw t;
+                    }
+                    SIZE.getAndAdd(this, 1);
+                    SLOTS.setRelease(slots, index, handle);
+                    creation.countDown();
+                    return handle;
+                }
+            } else if (value instanceof Creation) {
+                Creation creation = (Creation) value;
+                if (creation.thread == Thread.currentThread()) {
+                    // the instance is requested again while it is being created, e.g. from a @PostConstruct callback
+                    // this is consistent with the reentrant lock used by the non-optimized context instances
+                    return supplier.get();
+                }
+                creation.awaitUninterruptibly();
+            } else {
+                return (ContextInstanceHandle<?>) value;
+            }
+            value = SLOTS.getAcquire(slots, index);
+        }
+    }
+
+    private ContextInstanceHandle<?> getIfPresent(int index) {
+        Object value = SLOTS.getAcquire(slots, index);
+        return value instanceof ContextInstanceHandle ? (ContextInstanceHandle<?>) value : null;
+    }
+
+    private ContextInstanceHandle<?> remove(int index) {
+        for (;;) {
+            Object value = SLOTS.getAcquire(slots, index);
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof Creation) {
+                Creation creation = (Creation) value;
+                if (creation.thread == Thread.currentThread()) {
+                    return null;
+                }
+                creation.awaitUninterruptibly();
+            } else if (SLOTS.compareAndSet(slots, index, value, null)) {
+                SIZE.getAndAdd(this, -1);
+                return (ContextInstanceHandle<?>) value;
+            }
+        }
+    }
+
+    /**
+     * Marks the slot of an instance being created.
+     */
+    private static final class Creation extends CountDownLatch {
+
+        final Thread thread = Thread.currentThread();
+
+        Creation() {
+            super(1);
+        }
+
+        void awaitUninterruptibly() {
+            boolean interrupted = false;
+            while (getCount() > 0) {
+                try {
+                    await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
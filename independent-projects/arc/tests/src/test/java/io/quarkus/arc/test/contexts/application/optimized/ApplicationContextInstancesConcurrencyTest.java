@@ -0,0 +1,91 @@
+package io.quarkus.arc.test.contexts.application.optimized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ApplicationContextInstancesConcurrencyTest {
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Slow.class, Fast.class)
+            .optimizeContexts(true)
+            .build();
+
+    @Test
+    public void testContextInstanceIndex() {
+        InjectableBean<Slow> slow = Arc.container().instance(Slow.class).getBean();
+        InjectableBean<Fast> fast = Arc.container().instance(Fast.class).getBean();
+        assertTrue(slow.getContextInstanceIndex() >= 0);
+        assertTrue(fast.getContextInstanceIndex() >= 0);
+        assertTrue(slow.getContextInstanceIndex() != fast.getContextInstanceIndex());
+    }
+
+    @Test
+    public void testSingleInstanceCreated() throws Exception {
+        Slow.CREATED.set(0);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> ids = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                ids.add(executor.submit(() -> {
+                    start.await();
+                    return Arc.container().instance(Slow.class).get().getId();
+                }));
+            }
+            start.countDown();
+            String id = ids.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<String> future : ids) {
+                assertEquals(id, future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, Slow.CREATED.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ApplicationScoped
+    public static class Slow {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        private String id;
+
+        String getId() {
+            return id;
+        }
+
+        @PostConstruct
+        void init() throws InterruptedException {
+            id = "slow" + CREATED.incrementAndGet();
+            // Give the other threads the time to find the instance being created
+            Thread.sleep(100);
+        }
+
+    }
+
+    @ApplicationScoped
+    public static class Fast {
+
+    }
+}
@@ -28,6 +28,15 @@ public void testContextData() throws IOException {
         assertEquals("alpha:bravo:ok:true", Arc.container().instance(SimpleBean.class).get().foo());
     }
 
+    @Test
+    public void testContextDataNotShared() throws IOException {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("alpha:bravo:ok:true", bean.foo());
+            assertEquals("alpha:bravo:1:true", bean.bar(1));
+        }
+    }
+
     @Simple
     @Singleton
     static class SimpleBean {
@@ -36,6 +45,10 @@ String foo() {
             return "ok";
         }
 
+        String bar(int value) {
+            return String.valueOf(value);
+        }
+
     }
 
     @Simple
@@ -45,6 +58,9 @@ public static class AlphaInterceptor {
 
         @AroundInvoke
         Object around(InvocationContext ctx) throws Exception {
+            if (ctx.getContextData().containsKey("bravo")) {
+                throw new IllegalStateException("Context data leaked from a previous invocation");
+            }
             Object ret = "alpha:" + ctx.proceed();
             return ret + ":" + ctx.getContextData().get("bravo");
         }
@@ -0,0 +1,102 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class AsyncObserverConcurrencyTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, Observer.class);
+
+    @Test
+    public void testEventsFiredInARow() throws Exception {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        Observer observer = Arc.container().instance(Observer.class).get();
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(producer.produce(i).toCompletableFuture());
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, futures.get(i).get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(100, observer.numbers.size());
+    }
+
+    @Test
+    public void testObserverWaitingForAnotherEvent() throws Exception {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        // the observer of -1 fires another event and waits until it's notified
+        assertEquals(-1, producer.produce(-1).toCompletableFuture().get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testObserverWaitingForEventFiredLater() throws Exception {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        Observer observer = Arc.container().instance(Observer.class).get();
+        // the observer of -2 waits until -3, fired right after it by the same thread, is notified on another thread
+        CompletableFuture<Integer> waiting = producer.produce(-2).toCompletableFuture();
+        CompletableFuture<Integer> released = producer.produce(-3).toCompletableFuture();
+        assertEquals(-3, released.get(10, TimeUnit.SECONDS));
+        assertEquals(-2, waiting.get(10, TimeUnit.SECONDS));
+        assertNotEquals(observer.waitingThread, observer.releasingThread);
+    }
+
+    @Singleton
+    static class Producer {
+
+        @Inject
+        Event<Integer> event;
+
+        CompletionStage<Integer> produce(int number) {
+            return event.fireAsync(number);
+        }
+
+    }
+
+    @Singleton
+    static class Observer {
+
+        final List<Integer> numbers = new CopyOnWriteArrayList<>();
+        final CountDownLatch released = new CountDownLatch(1);
+        volatile Thread waitingThread;
+        volatile Thread releasingThread;
+
+        @Inject
+        Event<Integer> event;
+
+        void observe(@ObservesAsync Integer number) throws Exception {
+            if (number == -1) {
+                event.fireAsync(Integer.MAX_VALUE).toCompletableFuture().get(5, TimeUnit.SECONDS);
+            } else if (number == -2) {
+                waitingThread = Thread.currentThread();
+                assertTrue(released.await(5, TimeUnit.SECONDS));
+            } else if (number == -3) {
+                releasingThread = Thread.currentThread();
+                released.countDown();
+            }
+            numbers.add(number);
+        }
+
+    }
+}
@@ -0,0 +1,179 @@
+package io.quarkus.commons.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
+import io.quarkus.bootstrap.runner.RunnerClassLoader;
+import io.quarkus.bootstrap.runner.SerializedApplication;
+
+/**
+ * Compares loading all the classes of an application from the fast-jar jars with loading them from the class pack.
+ * The size of both layouts on disk is printed when the application is created. Run with {@code -prof gc} to compare
+ * the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(2)
+public class BenchmarkClassPack {
+
+    @Param({ "100" })
+    public int jars;
+
+    @Param({ "50" })
+    public int classesPerJar;
+
+    private Path jarsRoot;
+    private Path packRoot;
+    private List<String> classNames;
+
+    @Setup(Level.Trial)
+    public void createApplications() throws IOException {
+        jarsRoot = Files.createTempDirectory("quarkus-fast-jar");
+        packRoot = Files.createTempDirectory("quarkus-class-pack");
+        List<Path> jarsClassPath = new ArrayList<>(jars);
+        List<Path> packClassPath = new ArrayList<>(jars);
+        classNames = new ArrayList<>(jars * classesPerJar);
+        Files.createDirectories(jarsRoot.resolve("lib"));
+        Files.createDirectories(packRoot.resolve("lib"));
+        for (int i = 0; i < jars; i++) {
+            Path jar = jarsRoot.resolve("lib/dependency-" + i + ".jar");
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+                for (int j = 0; j < classesPerJar; j++) {
+                    String className = "org/acme/dependency" + i + "/Class" + j;
+                    out.putNextEntry(new ZipEntry(className + ".class"));
+                    out.write(emptyClass(className));
+                    out.closeEntry();
+                    classNames.add(className.replace('/', '.'));
+                }
+            }
+            jarsClassPath.add(jar);
+            Path packJar = packRoot.resolve("lib/dependency-" + i + ".jar");
+            Files.copy(jar, packJar);
+            packClassPath.add(packJar);
+        }
+        writeIndex(jarsRoot, jarsClassPath);
+        writeIndex(packRoot, packClassPath);
+        Path pack = packRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_PACK);
+        try (OutputStream out = Files.newOutputStream(pack)) {
+            SerializedApplication.writeClassPack(out, packClassPath);
+        }
+        System.out.printf("%nfast-jar: %d bytes, with class pack: %d bytes%n", size(jarsRoot), size(packRoot));
+    }
+
+    private static void writeIndex(Path root, List<Path> classPath) throws IOException {
+        Path dat = Files.createDirectories(root.resolve("quarkus")).resolve("quarkus-application.dat");
+        try (OutputStream out = Files.newOutputStream(dat)) {
+            SerializedApplication.write(out, "org.acme.Main", root, classPath, Collections.emptyList(),
+                    Collections.emptyList());
+        }
+    }
+
+    /**
+     * @return the bytes of a class with no members, extending {@code java.lang.Object}
+     */
+    private static byte[] emptyClass(String internalName) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(52);
+            out.writeShort(5);
+            out.writeByte(1);
+            out.writeUTF(internalName);
+            out.writeByte(7);
+            out.writeShort(1);
+            out.writeByte(1);
+            out.writeUTF("java/lang/Object");
+            out.writeByte(7);
+            out.writeShort(3);
+            // public super
+            out.writeShort(0x0021);
+            out.writeShort(2);
+            out.writeShort(4);
+            // no interfaces, fields, methods nor attributes
+            out.writeShort(0);
+            out.writeShort(0);
+            out.writeShort(0);
+            out.writeShort(0);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static long size(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).mapToLong(path -> path.toFile().length()).sum();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteApplications() throws IOException {
+        delete(jarsRoot);
+        delete(packRoot);
+    }
+
+    private static void delete(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int loadFromJars() throws Exception {
+        return loadAll(jarsRoot);
+    }
+
+    @Benchmark
+    public int loadFromClassPack() throws Exception {
+        return loadAll(packRoot);
+    }
+
+    private int loadAll(Path root) throws Exception {
+        RunnerClassLoader cl = SerializedApplication
+                .read(root.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT), root)
+                .getRunnerClassLoader();
+        try {
+            int loaded = 0;
+            for (String className : classNames) {
+                loaded += cl.loadClass(className).getModifiers();
+            }
+            return loaded;
+        } finally {
+            cl.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "BenchmarkClassPack", "-prof", "gc" });
+    }
+
+}
@@ -0,0 +1,128 @@
+package io.quarkus.commons.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.bootstrap.runner.RunnerClassLoader;
+import io.quarkus.bootstrap.runner.SerializedApplication;
+
+/**
+ * Compares the startup cost of the two class path index formats: reading the index, then looking up the
+ * resources of every package once, as an application does while it boots.
+ * We benchmark in single shot mode as this code runs once per application start, mostly before JIT kicks in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(2)
+public class BenchmarkClassPathIndex {
+
+    @Param({ "400" })
+    public int jars;
+
+    @Param({ "30" })
+    public int packagesPerJar;
+
+    private Path appRoot;
+    private Path serialized;
+    private Path mapped;
+    private List<String> lookups;
+
+    @Setup(Level.Trial)
+    public void createApplication() throws IOException {
+        appRoot = Files.createTempDirectory("quarkus-class-path-index");
+        Path lib = Files.createDirectories(appRoot.resolve("lib"));
+        List<Path> classPath = new ArrayList<>(jars);
+        lookups = new ArrayList<>(jars * packagesPerJar);
+        for (int i = 0; i < jars; i++) {
+            Path jar = lib.resolve("dependency-" + i + ".jar");
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+                out.putNextEntry(new ZipEntry("META-INF/services/org.acme.Service" + i));
+                out.closeEntry();
+                for (int j = 0; j < packagesPerJar; j++) {
+                    String dir = "org/acme/dependency" + i + "/p" + j + "/";
+                    for (int k = 0; k < 3; k++) {
+                        out.putNextEntry(new ZipEntry(dir + "Class" + k + ".class"));
+                        out.closeEntry();
+                    }
+                    // a lookup of a class that is not there, so that only the index is exercised
+                    lookups.add(dir + "Missing.class");
+                }
+            }
+            classPath.add(jar);
+        }
+        serialized = appRoot.resolve("serialized.dat");
+        try (OutputStream out = Files.newOutputStream(serialized)) {
+            SerializedApplication.write(out, "org.acme.Main", appRoot, classPath, Collections.emptyList(),
+                    Collections.emptyList());
+        }
+        mapped = appRoot.resolve("mapped.dat");
+        try (OutputStream out = Files.newOutputStream(mapped)) {
+            SerializedApplication.writeMapped(out, "org.acme.Main", appRoot, classPath, Collections.emptyList(),
+                    Collections.emptyList());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteApplication() throws IOException {
+        try (Stream<Path> files = Files.walk(appRoot)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int serializedIndex() throws IOException {
+        return startup(serialized);
+    }
+
+    @Benchmark
+    public int mappedIndex() throws IOException {
+        return startup(mapped);
+    }
+
+    private int startup(Path dat) throws IOException {
+        RunnerClassLoader cl = SerializedApplication.read(dat, appRoot).getRunnerClassLoader();
+        try {
+            int found = 0;
+            for (String lookup : lookups) {
+                if (cl.getResource(lookup) != null) {
+                    found++;
+                }
+            }
+            return found;
+        } finally {
+            cl.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "BenchmarkClassPathIndex", "-prof", "gc" });
+    }
+
+}
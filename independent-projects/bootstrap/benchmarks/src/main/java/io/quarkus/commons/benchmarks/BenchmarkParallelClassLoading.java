@@ -0,0 +1,110 @@
+package io.quarkus.commons.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import io.quarkus.bootstrap.classloading.ClassPathElement;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+
+/**
+ * Loads the classes of a jar from several threads at once through a fresh {@link QuarkusClassLoader}, as the
+ * threads of an application do while it boots. Each thread loads all the classes in its own order, so that threads
+ * both define different classes concurrently and race to define the same classes.
+ * The classes of the JMH jar are used, as they are on the class path of the benchmark anyway.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 30)
+@Threads(8)
+@Fork(2)
+public class BenchmarkParallelClassLoading {
+
+    private Path jar;
+    private List<String> classNames;
+    private QuarkusClassLoader classLoader;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        List<String> classNames;
+
+        @Setup(Level.Trial)
+        public void shuffle(BenchmarkParallelClassLoading benchmark, ThreadParams params) {
+            classNames = new ArrayList<>(benchmark.classNames);
+            Collections.shuffle(classNames, new Random(params.getThreadIndex()));
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void findClasses() throws Exception {
+        jar = Path.of(Benchmark.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> candidates = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            for (JarEntry entry : Collections.list(jarFile.entries())) {
+                String name = entry.getName();
+                if (name.endsWith(".class") && !name.startsWith("META-INF/") && !name.endsWith("module-info.class")) {
+                    candidates.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+                }
+            }
+        }
+        // keep the classes that can be defined without the optional dependencies of the jar
+        classNames = new ArrayList<>(candidates.size());
+        try (QuarkusClassLoader cl = newClassLoader()) {
+            for (String className : candidates) {
+                try {
+                    cl.loadClass(className);
+                    classNames.add(className);
+                } catch (ClassNotFoundException | LinkageError ignored) {
+                }
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void createClassLoader() {
+        classLoader = newClassLoader();
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeClassLoader() {
+        classLoader.close();
+    }
+
+    private QuarkusClassLoader newClassLoader() {
+        return QuarkusClassLoader.builder("benchmark", ClassLoader.getPlatformClassLoader(), false)
+                .addNormalPriorityElement(ClassPathElement.fromPath(jar, true))
+                .build();
+    }
+
+    @Benchmark
+    public void loadClasses(ThreadState state, Blackhole blackhole) throws ClassNotFoundException {
+        for (String className : state.classNames) {
+            blackhole.consume(classLoader.loadClass(className));
+        }
+    }
+}
@@ -17,6 +17,8 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
@@ -38,6 +40,11 @@ public class PathTreeClassPathElement extends AbstractClassPathElement {
     private final boolean runtime;
     private final ResolvedDependency resolvedDependency;
     private volatile Set<String> resources;
+    /**
+     * The resources already looked up, so that the same resource is not looked up in the tree again under the read
+     * lock. Only archives are cached, the content of directories may change.
+     */
+    private final ConcurrentMap<String, ClassPathResource> resourceCache;
 
     public PathTreeClassPathElement(PathTree pathTree, boolean runtime) {
         this(pathTree, runtime, null);
@@ -48,6 +55,7 @@ public PathTreeClassPathElement(PathTree pathTree, boolean runtime, ResolvedDepe
         this.lock = new ReentrantReadWriteLock();
         this.runtime = runtime;
         this.resolvedDependency = resolvedDependency;
+        this.resourceCache = this.pathTree.isArchiveOrigin() ? new ConcurrentHashMap<>() : null;
     }
 
     @Override
@@ -103,7 +111,20 @@ public ClassPathResource getResource(String name) {
         if (resources != null && !resources.contains(sanitized)) {
             return null;
         }
-        return apply(tree -> tree.apply(sanitized, this::getResource));
+        if (resourceCache == null) {
+            return apply(tree -> tree.apply(sanitized, this::getResource));
+        }
+        ClassPathResource resource = resourceCache.get(sanitized);
+        if (resource == null) {
+            resource = apply(tree -> tree.apply(sanitized, this::getResource));
+            if (resource != null) {
+                final ClassPathResource existing = resourceCache.putIfAbsent(sanitized, resource);
+                if (existing != null) {
+                    resource = existing;
+                }
+            }
+        }
+        return resource;
     }
 
     private Resource getResource(PathVisit visit) {
@@ -200,6 +221,9 @@ public ProtectionDomain getProtectionDomain() {
     public void close() throws IOException {
         lock.writeLock().lock();
         resources = null;
+        if (resourceCache != null) {
+            resourceCache.clear();
+        }
         try {
             pathTree.close();
         } finally {
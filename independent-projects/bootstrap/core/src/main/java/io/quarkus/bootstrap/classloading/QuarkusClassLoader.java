@@ -539,25 +539,32 @@ protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundE
         boolean interrupted = Thread.interrupted();
         try {
             ClassPathResourceIndex classPathResourceIndex = getClassPathResourceIndex();
-            synchronized (getClassLoadingLock(name)) {
-                Class<?> c = findLoadedClass(name);
-                if (c != null) {
-                    return c;
-                }
-                String resourceName = fromClassNameToResourceName(name);
-                if (classPathResourceIndex.isBanned(resourceName)) {
-                    throw new ClassNotFoundException(name);
+            // the lookups and the delegation to the parent do not need the class loading lock, which is only
+            // taken to define a class, so that threads loading different classes do not wait for each other and
+            // no lock object is created for the classes this class loader does not define
+            Class<?> c = findLoadedClass(name);
+            if (c != null) {
+                return c;
+            }
+            String resourceName = fromClassNameToResourceName(name);
+            if (classPathResourceIndex.isBanned(resourceName)) {
+                throw new ClassNotFoundException(name);
+            }
+            boolean parentFirst = parentFirst(resourceName, classPathResourceIndex);
+            if (parentFirst) {
+                try {
+                    return parent.loadClass(name);
+                } catch (ClassNotFoundException ignore) {
+                    log.tracef("Class %s not found in parent first load from %s", name, parent);
                 }
-                boolean parentFirst = parentFirst(resourceName, classPathResourceIndex);
-                if (parentFirst) {
-                    try {
-                        return parent.loadClass(name);
-                    } catch (ClassNotFoundException ignore) {
-                        log.tracef("Class %s not found in parent first load from %s", name, parent);
+            }
+            ClassPathElement classPathElement = classPathResourceIndex.getFirstClassPathElement(resourceName);
+            if (classPathElement != null) {
+                synchronized (getClassLoadingLock(name)) {
+                    c = findLoadedClass(name);
+                    if (c != null) {
+                        return c;
                     }
-                }
-                ClassPathElement classPathElement = classPathResourceIndex.getFirstClassPathElement(resourceName);
-                if (classPathElement != null) {
                     final ClassPathResource classPathElementResource = classPathElement.getResource(resourceName);
                     if (classPathElementResource != null) { //can happen if the class loader was closed
                         byte[] data = classPathElementResource.getData();
@@ -571,14 +578,14 @@ protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundE
                         return cl;
                     }
                 }
+            }
 
-                if (!parentFirst) {
-                    return parent.loadClass(name);
-                }
-
-                throw new ClassNotFoundException(name);
+            if (!parentFirst) {
+                return parent.loadClass(name);
             }
 
+            throw new ClassNotFoundException(name);
+
         } finally {
             if (interrupted) {
                 //restore interrupt state
@@ -592,23 +599,25 @@ private void definePackage(String name, ClassPathElement classPathElement) {
         //we can't use getPackage here
         //if can return a package from the parent
         if ((pkgName != null) && definedPackages.get(pkgName) == null) {
-            synchronized (getClassLoadingLock(pkgName)) {
-                if (definedPackages.get(pkgName) == null) {
-                    ManifestAttributes manifest = classPathElement.getManifestAttributes();
-                    if (manifest != null) {
-                        definedPackages.put(pkgName, definePackage(pkgName, manifest.getSpecificationTitle(),
-                                manifest.getSpecificationVersion(),
-                                manifest.getSpecificationVendor(),
-                                manifest.getImplementationTitle(),
-                                manifest.getImplementationVersion(),
-                                manifest.getImplementationVendor(), null));
-                        return;
-                    }
-
+            Package pkg;
+            try {
+                ManifestAttributes manifest = classPathElement.getManifestAttributes();
+                if (manifest != null) {
+                    pkg = definePackage(pkgName, manifest.getSpecificationTitle(),
+                            manifest.getSpecificationVersion(),
+                            manifest.getSpecificationVendor(),
+                            manifest.getImplementationTitle(),
+                            manifest.getImplementationVersion(),
+                            manifest.getImplementationVendor(), null);
+                } else {
                     // this could certainly be improved to use the actual manifest
-                    definedPackages.put(pkgName, definePackage(pkgName, null, null, null, null, null, null, null));
+                    pkg = definePackage(pkgName, null, null, null, null, null, null, null);
                 }
+            } catch (IllegalArgumentException e) {
+                // another thread defined the package concurrently, no lock is taken as this is rare
+                pkg = getDefinedPackage(pkgName);
             }
+            definedPackages.putIfAbsent(pkgName, pkg);
         }
     }
 
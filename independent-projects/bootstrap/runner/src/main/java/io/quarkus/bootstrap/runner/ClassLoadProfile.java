@@ -0,0 +1,92 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The order in which the {@link RunnerClassLoader} defined the classes of an application, recorded while the
+ * application runs when the {@value #RECORD_PROPERTY} system property is set to the path of the file to write it to.
+ * <p>
+ * The file is written when the JVM shuts down, with one class name per line, and can be given back to the build with
+ * {@code quarkus.package.jar.class-load-profile}, so that the classes are preloaded and packed in the order a real
+ * workload needs them.
+ */
+public final class ClassLoadProfile {
+
+    public static final String RECORD_PROPERTY = "quarkus.class-load-profile.record";
+
+    private final Path path;
+    private final ConcurrentLinkedQueue<String> definedClasses = new ConcurrentLinkedQueue<>();
+
+    private ClassLoadProfile(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * @return the profile to record, or {@code null} if recording was not requested
+     */
+    static ClassLoadProfile recordIfRequested() {
+        String path = System.getProperty(RECORD_PROPERTY);
+        if (path == null || path.isBlank()) {
+            return null;
+        }
+        ClassLoadProfile profile = new ClassLoadProfile(Path.of(path));
+        Runtime.getRuntime().addShutdownHook(new Thread(profile::write, "Class load profile writer"));
+        return profile;
+    }
+
+    void classDefined(String name) {
+        definedClasses.add(name);
+    }
+
+    private void write() {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                writer.write("# Classes in the order they were defined by the Quarkus class loader");
+                writer.newLine();
+                for (String name : definedClasses) {
+                    writer.write(name);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write the class load profile to " + path + ": " + e);
+        }
+    }
+
+    /**
+     * Reads a profile written by a previous run of the application.
+     *
+     * @return the class names, in the order they were defined, without duplicates
+     */
+    public static List<String> read(Path path) throws IOException {
+        Set<String> names = new LinkedHashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int idx = line.indexOf('#');
+                if (idx != -1) {
+                    line = line.substring(0, idx);
+                }
+                line = line.strip();
+                if (!line.isEmpty()) {
+                    names.add(line);
+                }
+            }
+        }
+        return new ArrayList<>(names);
+    }
+}
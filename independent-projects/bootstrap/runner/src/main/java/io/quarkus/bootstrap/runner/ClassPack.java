@@ -0,0 +1,318 @@
+package io.quarkus.bootstrap.runner;
+
+import static io.quarkus.commons.classloading.ClassLoaderHelper.fromClassNameToResourceName;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The classes of the whole class path, stored uncompressed in a single file that is memory-mapped when the
+ * application starts, so that the {@link RunnerClassLoader} can define classes straight from the mapping, without
+ * inflating them or copying them into a {@code byte[]}.
+ * <p>
+ * The classes of each class path element are stored contiguously, starting on a page boundary, so that the
+ * classes of a library, which are usually loaded together, share as few pages as possible with other libraries,
+ * while keeping the pages as full as possible. When a {@link ClassLoadProfile} of the application is available, the
+ * classes it contains are stored first instead, in the order they were loaded, so that the classes needed to start
+ * the application and serve the first requests are read sequentially from a few pages.
+ * <p>
+ * Only the first occurrence of each class in class path order is stored, as this is the one the
+ * {@link RunnerClassLoader} would load from the jars, and classes of multi-release jars are left out. The jars still
+ * contain the classes, so that they can be read as resources. The size of each jar and a checksum of its central
+ * directory, which lists the name, CRC and size of every entry, are recorded, and the pack is ignored if a jar was
+ * changed after the pack was written. The modification times are not used, as container image builds usually reset
+ * them.
+ * <p>
+ * Layout, all values being big-endian:
+ *
+ * <pre>
+ * int  magic
+ * int  version
+ * u2   number of class path elements
+ * for each class path element:
+ *   long size of the jar
+ *   long CRC32 of the central directory of the jar
+ * a {@link PerfectHashTable} of the class resource names, whose values are:
+ *   u2   index of the class path element containing the class
+ *   int  offset of the class data in the file
+ *   int  length of the class data
+ * class data: the profiled classes, then the classes of each class path element starting at a multiple of
+ *   {@link #PAGE_SIZE}
+ * </pre>
+ *
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+final class ClassPack {
+
+    private static final int MAGIC = 0XF0315434;
+    private static final int VERSION = 3;
+    private static final int PAGE_SIZE = 4096;
+    private static final int HEADER_LENGTH = 10;
+    private static final int STAMP_LENGTH = 16;
+    private static final int VALUE_LENGTH = 10;
+
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int END_LENGTH = 22;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_LENGTH = 20;
+    private static final int ZIP64_END_LENGTH = 56;
+
+    private static final Logger log = Logger.getLogger(ClassPack.class);
+
+    private final ByteBuffer buffer;
+    private final ClassLoadingResource[] allResources;
+    private final PerfectHashTable classes;
+
+    private ClassPack(ByteBuffer buffer, ClassLoadingResource[] allResources) {
+        this.buffer = buffer;
+        this.allResources = allResources;
+        this.classes = new PerfectHashTable(buffer, HEADER_LENGTH + STAMP_LENGTH * allResources.length);
+    }
+
+    /**
+     * @return the position of the given class in the pack, or {@code -1} if the pack does not contain it
+     */
+    int find(String classResource) {
+        return classes.find(classResource);
+    }
+
+    /**
+     * @return the resource the class at the given position was packed from
+     */
+    ClassLoadingResource getResource(int position) {
+        return allResources[buffer.getShort(position) & 0xFFFF];
+    }
+
+    /**
+     * @return a view of the data of the class at the given position
+     */
+    ByteBuffer getData(int position) {
+        return buffer.slice(buffer.getInt(position + 2), buffer.getInt(position + 6));
+    }
+
+    /**
+     * @return the class pack, or {@code null} if one of the jars of the class path was changed after it was written
+     */
+    static ClassPack read(Path path, ClassLoadingResource[] allResources) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping remains valid once the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new RuntimeException("Wrong magic number");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new RuntimeException("Wrong class pack version");
+        }
+        if ((buffer.getShort(8) & 0xFFFF) != allResources.length) {
+            throw new RuntimeException("The class pack does not match the class path");
+        }
+        for (int i = 0; i < allResources.length; i++) {
+            Path jar = ((JarResource) allResources[i]).jarPath;
+            int stamp = HEADER_LENGTH + STAMP_LENGTH * i;
+            if (Files.size(jar) != buffer.getLong(stamp) || centralDirectoryChecksum(jar) != buffer.getLong(stamp + 8)) {
+                log.warnf("Ignoring the class pack %s as %s was modified after the application was built", path, jar);
+                return null;
+            }
+        }
+        return new ClassPack(buffer, allResources);
+    }
+
+    /**
+     * Writes the classes of the given class path, which must be in the same order as the one the class path index
+     * was written with.
+     *
+     * @param classLoadOrder the names of the classes to store first, in this order, may be empty
+     */
+    static void write(OutputStream outputStream, List<Path> classPath, List<String> classLoadOrder) throws IOException {
+        Map<String, PackedClass> packedClasses = new LinkedHashMap<>();
+        // the classes of multi-release jars are not packed, as the version to load is only known at runtime, but
+        // they still hide the classes with the same name further down the class path
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < classPath.size(); i++) {
+            try (JarFile zip = new JarFile(classPath.get(i).toFile())) {
+                boolean multiRelease = zip.isMultiRelease();
+                Enumeration<? extends ZipEntry> entries = zip.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    String name = entry.getName();
+                    if (!entry.isDirectory() && name.endsWith(".class")
+                            && !name.startsWith(SerializedApplication.META_INF_VERSIONS)
+                            && seen.add(name) && !multiRelease) {
+                        packedClasses.put(name, new PackedClass(i, entry.getSize()));
+                    }
+                }
+            }
+        }
+        int profiled = 0;
+        if (!classLoadOrder.isEmpty()) {
+            Map<String, PackedClass> ordered = new LinkedHashMap<>();
+            for (String className : classLoadOrder) {
+                String name = fromClassNameToResourceName(className);
+                PackedClass packedClass = packedClasses.get(name);
+                if (packedClass != null && ordered.putIfAbsent(name, packedClass) == null) {
+                    profiled++;
+                }
+            }
+            for (Map.Entry<String, PackedClass> entry : packedClasses.entrySet()) {
+                ordered.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            packedClasses = ordered;
+        }
+        List<String> names = new ArrayList<>(packedClasses.keySet());
+        long offset = align(HEADER_LENGTH + (long) STAMP_LENGTH * classPath.size()
+                + PerfectHashTable.lengthWithoutValues(names) + (long) VALUE_LENGTH * names.size());
+        int classPathIndex = -1;
+        int position = 0;
+        for (PackedClass packedClass : packedClasses.values()) {
+            // the profiled classes come from all over the class path and are stored without any padding
+            if (position == profiled || (position > profiled && packedClass.classPathIndex != classPathIndex)) {
+                classPathIndex = packedClass.classPathIndex;
+                offset = align(offset);
+            }
+            packedClass.offset = offset;
+            offset += packedClass.length;
+            position++;
+        }
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The classes of the application do not fit into a single class pack");
+        }
+
+        Map<String, PackedClass> classes = packedClasses;
+        try (DataOutputStream data = new DataOutputStream(new BufferedOutputStream(outputStream))) {
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeShort(classPath.size());
+            for (Path jar : classPath) {
+                data.writeLong(Files.size(jar));
+                data.writeLong(centralDirectoryChecksum(jar));
+            }
+            PerfectHashTable.write(data, names, new PerfectHashTable.ValueWriter() {
+                @Override
+                public void write(DataOutputStream out, String name) throws IOException {
+                    PackedClass packedClass = classes.get(name);
+                    out.writeShort(packedClass.classPathIndex);
+                    out.writeInt((int) packedClass.offset);
+                    out.writeInt((int) packedClass.length);
+                }
+            });
+            // the profiled classes jump from jar to jar, so the jars are kept open until all the classes are written
+            JarFile[] zips = new JarFile[classPath.size()];
+            try {
+                for (Map.Entry<String, PackedClass> entry : packedClasses.entrySet()) {
+                    PackedClass packedClass = entry.getValue();
+                    JarFile zip = zips[packedClass.classPathIndex];
+                    if (zip == null) {
+                        zip = zips[packedClass.classPathIndex] = new JarFile(
+                                classPath.get(packedClass.classPathIndex).toFile());
+                    }
+                    pad(data, packedClass.offset);
+                    try (InputStream in = zip.getInputStream(zip.getEntry(entry.getKey()))) {
+                        if (in.transferTo(data) != packedClass.length) {
+                            throw new IOException("Failed to read all data for " + entry.getKey());
+                        }
+                    }
+                }
+            } finally {
+                for (JarFile zip : zips) {
+                    if (zip != null) {
+                        zip.close();
+                    }
+                }
+            }
+            data.flush();
+        }
+    }
+
+    /**
+     * @return the CRC32 of the central directory of the given zip file
+     */
+    static long centralDirectoryChecksum(Path zip) throws IOException {
+        try (FileChannel channel = FileChannel.open(zip, StandardOpenOption.READ)) {
+            long size = channel.size();
+            // the end of central directory record is only followed by the zip comment, which is usually empty
+            ByteBuffer tail = null;
+            int end = -1;
+            for (int maxCommentLength : new int[] { 256, 0xFFFF }) {
+                int tailLength = (int) Math.min(size, END_LENGTH + maxCommentLength);
+                tail = channel.map(FileChannel.MapMode.READ_ONLY, size - tailLength, tailLength)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                end = findEndRecord(tail);
+                if (end != -1 || tailLength == size) {
+                    break;
+                }
+            }
+            if (end == -1) {
+                throw new IOException("No end of central directory record found in " + zip);
+            }
+            long length = tail.getInt(end + 12) & 0xFFFFFFFFL;
+            long offset = tail.getInt(end + 16) & 0xFFFFFFFFL;
+            if (length == 0xFFFFFFFFL || offset == 0xFFFFFFFFL) {
+                int locator = end - ZIP64_LOCATOR_LENGTH;
+                if (locator < 0 || tail.getInt(locator) != ZIP64_LOCATOR_SIGNATURE) {
+                    throw new IOException("No ZIP64 end of central directory locator found in " + zip);
+                }
+                ByteBuffer zip64End = channel.map(FileChannel.MapMode.READ_ONLY, tail.getLong(locator + 8),
+                        ZIP64_END_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+                length = zip64End.getLong(40);
+                offset = zip64End.getLong(48);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+            return crc.getValue();
+        }
+    }
+
+    private static int findEndRecord(ByteBuffer tail) {
+        for (int i = tail.limit() - END_LENGTH; i >= 0; i--) {
+            if (tail.getInt(i) == END_SIGNATURE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long align(long offset) {
+        return (offset + PAGE_SIZE - 1) & -PAGE_SIZE;
+    }
+
+    private static void pad(DataOutputStream data, long offset) throws IOException {
+        while (data.size() < offset) {
+            data.write(0);
+        }
+    }
+
+    private static final class PackedClass {
+        final int classPathIndex;
+        final long length;
+        long offset;
+
+        PackedClass(int classPathIndex, long length) {
+            this.classPathIndex = classPathIndex;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkus.bootstrap.runner;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A {@link ResourceIndex} backed by hash maps populated when the class path index is read.
+ */
+final class MapResourceIndex implements ResourceIndex {
+
+    /**
+     * A map of resources by dir name. Root dir/default package is represented by the empty string
+     */
+    private final Map<String, ClassLoadingResource[]> resourceDirectoryMap;
+    private final Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap;
+
+    MapResourceIndex(Map<String, ClassLoadingResource[]> resourceDirectoryMap,
+            Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
+        this.resourceDirectoryMap = resourceDirectoryMap;
+        this.directlyIndexedResourcesIndexMap = directlyIndexedResourcesIndexMap;
+    }
+
+    @Override
+    public ClassLoadingResource[] getDirectoryResources(String dirName) {
+        return resourceDirectoryMap.get(dirName);
+    }
+
+    @Override
+    public ClassLoadingResource[] getDirectlyIndexedResources(String resourceName) {
+        return directlyIndexedResourcesIndexMap.get(resourceName);
+    }
+
+    @Override
+    public void forEachResource(Consumer<ClassLoadingResource> action) {
+        for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
+            for (ClassLoadingResource i : entry.getValue()) {
+                action.accept(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A {@link ResourceIndex} that looks resources up directly in a memory-mapped class path index, without building any
+ * Java collection when the application starts.
+ * <p>
+ * The index contains two {@link PerfectHashTable}s, one for the directories and one for the directly indexed
+ * resources, whose values are:
+ *
+ * <pre>
+ * u2   number of class path elements
+ * u2[] class path element indexes
+ * </pre>
+ */
+final class MappedResourceIndex implements ResourceIndex {
+
+    private final ClassLoadingResource[] allResources;
+    // lookups of names found in a single class path element, by far the most common case, return these
+    // arrays so that no allocation happens
+    private final ClassLoadingResource[][] singleResources;
+    private final ByteBuffer buffer;
+    private final PerfectHashTable directories;
+    private final PerfectHashTable directlyIndexedResources;
+
+    MappedResourceIndex(ClassLoadingResource[] allResources, ByteBuffer buffer, int offset) {
+        this.allResources = allResources;
+        this.singleResources = new ClassLoadingResource[allResources.length][];
+        for (int i = 0; i < allResources.length; i++) {
+            singleResources[i] = new ClassLoadingResource[] { allResources[i] };
+        }
+        this.buffer = buffer;
+        this.directories = new PerfectHashTable(buffer, offset);
+        this.directlyIndexedResources = new PerfectHashTable(buffer, directories.end());
+    }
+
+    @Override
+    public ClassLoadingResource[] getDirectoryResources(String dirName) {
+        return get(directories, dirName);
+    }
+
+    @Override
+    public ClassLoadingResource[] getDirectlyIndexedResources(String resourceName) {
+        return get(directlyIndexedResources, resourceName);
+    }
+
+    private ClassLoadingResource[] get(PerfectHashTable table, String name) {
+        int value = table.find(name);
+        if (value == -1) {
+            return null;
+        }
+        int count = buffer.getShort(value) & 0xFFFF;
+        if (count == 1) {
+            return singleResources[buffer.getShort(value + 2) & 0xFFFF];
+        }
+        ClassLoadingResource[] result = new ClassLoadingResource[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = allResources[buffer.getShort(value + 2 + 2 * i) & 0xFFFF];
+        }
+        return result;
+    }
+
+    @Override
+    public void forEachResource(Consumer<ClassLoadingResource> action) {
+        for (ClassLoadingResource resource : allResources) {
+            action.accept(resource);
+        }
+    }
+
+    /**
+     * Writes the directories table followed by the directly indexed resources table, each associating names with
+     * the indexes of the class path elements containing them.
+     */
+    static void write(DataOutputStream out, Map<String, List<Integer>> directories,
+            Map<String, List<Integer>> directlyIndexedResources) throws IOException {
+        writeTable(out, directories);
+        writeTable(out, directlyIndexedResources);
+    }
+
+    private static void writeTable(DataOutputStream out, Map<String, List<Integer>> entries) throws IOException {
+        PerfectHashTable.write(out, new ArrayList<>(entries.keySet()), new PerfectHashTable.ValueWriter() {
+            @Override
+            public void write(DataOutputStream out, String name) throws IOException {
+                List<Integer> indexes = entries.get(name);
+                out.writeShort(indexes.size());
+                for (Integer index : indexes) {
+                    out.writeShort(index);
+                }
+            }
+        });
+    }
+}
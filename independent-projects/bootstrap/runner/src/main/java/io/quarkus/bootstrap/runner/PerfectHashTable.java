@@ -0,0 +1,252 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A read-only table of names stored in a {@link ByteBuffer}, usually memory-mapped, and looked up using a minimal
+ * perfect hash, so that no Java collection needs to be built to read it.
+ * <p>
+ * The perfect hash is computed when the table is written using the hash and displace algorithm: the names are first
+ * split into buckets, then for each bucket a seed is searched so that a second hash of each name of the bucket points
+ * to a slot that is not used yet. The seeds of the buckets containing a single name directly encode their slot
+ * instead. Looking up a name thus costs two hash computations and a single comparison with the name stored at the
+ * slot, which rules out names that are not part of the table.
+ * <p>
+ * Layout, all values being big-endian:
+ *
+ * <pre>
+ * int    number of names (n)
+ * int    number of buckets (b)
+ * int[b] bucket seeds, a negative seed s meaning the bucket's single name uses slot -s-1
+ * int[n] offsets of the slot entries, relative to the start of the entries
+ * int    length of the entries
+ * entries, each being:
+ *   u2   length of the UTF-8 encoded name
+ *   u1[] UTF-8 encoded name
+ *   u1[] value, whose format is up to the user of the table
+ * </pre>
+ */
+final class PerfectHashTable {
+
+    private static final int MAX_SEED = 1 << 24;
+
+    // only absolute reads are used on the buffer, which are safe for concurrent use
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int bucketCount;
+    private final int seedsOffset;
+    private final int offsetsOffset;
+    private final int entriesOffset;
+    private final int end;
+
+    PerfectHashTable(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.size = buffer.getInt(offset);
+        this.bucketCount = buffer.getInt(offset + 4);
+        this.seedsOffset = offset + 8;
+        this.offsetsOffset = seedsOffset + 4 * bucketCount;
+        this.entriesOffset = offsetsOffset + 4 * size + 4;
+        this.end = entriesOffset + buffer.getInt(entriesOffset - 4);
+    }
+
+    /**
+     * @return the offset in the buffer of the first byte following the table
+     */
+    int end() {
+        return end;
+    }
+
+    /**
+     * @return the offset in the buffer of the value associated with the given name, or {@code -1} if the name is not
+     *         part of the table
+     */
+    int find(String name) {
+        if (size == 0) {
+            return -1;
+        }
+        int seed = buffer.getInt(seedsOffset + 4 * (hash(name, 0) % bucketCount));
+        int slot = seed < 0 ? -seed - 1 : hash(name, seed) % size;
+        int entry = entriesOffset + buffer.getInt(offsetsOffset + 4 * slot);
+        int nameLength = buffer.getShort(entry) & 0xFFFF;
+        if (!nameEquals(entry + 2, nameLength, name)) {
+            return -1;
+        }
+        return entry + 2 + nameLength;
+    }
+
+    private boolean nameEquals(int offset, int length, String name) {
+        if (length < name.length()) {
+            // each char takes at least one byte
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 0x80) {
+                byte[] bytes = new byte[length];
+                buffer.get(offset, bytes);
+                return new String(bytes, StandardCharsets.UTF_8).equals(name);
+            }
+            if (buffer.get(offset + i) != (byte) c) {
+                return false;
+            }
+        }
+        return length == name.length();
+    }
+
+    /**
+     * Writes the value associated with a name.
+     */
+    interface ValueWriter {
+        void write(DataOutputStream out, String name) throws IOException;
+    }
+
+    /**
+     * Writes a table containing the given names.
+     */
+    static void write(DataOutputStream out, List<String> names, ValueWriter valueWriter) throws IOException {
+        int n = names.size();
+        int b = Math.max(1, n);
+        int[] seeds = new int[b];
+        int[] slots = computeSlots(names, seeds);
+
+        // the entries are written in slot order
+        String[] namesBySlot = new String[n];
+        for (int i = 0; i < n; i++) {
+            namesBySlot[slots[i]] = names.get(i);
+        }
+        int[] offsets = new int[n];
+        ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+        try (DataOutputStream entries = new DataOutputStream(entryBytes)) {
+            for (int slot = 0; slot < n; slot++) {
+                byte[] encoded = namesBySlot[slot].getBytes(StandardCharsets.UTF_8);
+                if (encoded.length > 0xFFFF) {
+                    throw new IllegalArgumentException("Resource name is too long: " + namesBySlot[slot]);
+                }
+                offsets[slot] = entries.size();
+                entries.writeShort(encoded.length);
+                entries.write(encoded);
+                valueWriter.write(entries, namesBySlot[slot]);
+            }
+        }
+
+        out.writeInt(n);
+        out.writeInt(b);
+        for (int seed : seeds) {
+            out.writeInt(seed);
+        }
+        for (int offset : offsets) {
+            out.writeInt(offset);
+        }
+        out.writeInt(entryBytes.size());
+        entryBytes.writeTo(out);
+    }
+
+    /**
+     * @return the number of bytes {@link #write(DataOutputStream, List, ValueWriter)} writes before the values, for
+     *         the given names
+     */
+    static int lengthWithoutValues(List<String> names) {
+        int length = 4 + 4 + 4 * Math.max(1, names.size()) + 4 * names.size() + 4;
+        for (String name : names) {
+            length += 2 + name.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return length;
+    }
+
+    private static int hash(String name, int seed) {
+        // FNV-1a over the chars, so that no encoding is needed when looking names up, followed by a MurmurHash3
+        // finalizer to spread the bits
+        int h = 0x811c9dc5 ^ (seed * 0x9e3779b9);
+        for (int i = 0; i < name.length(); i++) {
+            h ^= name.charAt(i);
+            h *= 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h & Integer.MAX_VALUE;
+    }
+
+    /**
+     * Computes the seed of each bucket and returns the slot of each name.
+     */
+    private static int[] computeSlots(List<String> names, int[] seeds) {
+        int n = names.size();
+        int b = seeds.length;
+        List<List<Integer>> buckets = new ArrayList<>(b);
+        for (int i = 0; i < b; i++) {
+            buckets.add(new ArrayList<>(2));
+        }
+        for (int i = 0; i < n; i++) {
+            buckets.get(hash(names.get(i), 0) % b).add(i);
+        }
+        Integer[] bucketOrder = new Integer[b];
+        for (int i = 0; i < b; i++) {
+            bucketOrder[i] = i;
+        }
+        // the largest buckets are the hardest to place, so they go first, while most slots are still free
+        Arrays.sort(bucketOrder, Comparator.comparingInt((Integer i) -> buckets.get(i).size()).reversed());
+
+        int[] slots = new int[n];
+        boolean[] used = new boolean[n];
+        int[] candidates = new int[0];
+        int nextFreeSlot = 0;
+        for (Integer bucketIndex : bucketOrder) {
+            List<Integer> bucket = buckets.get(bucketIndex);
+            if (bucket.isEmpty()) {
+                break;
+            }
+            if (bucket.size() == 1) {
+                while (used[nextFreeSlot]) {
+                    nextFreeSlot++;
+                }
+                used[nextFreeSlot] = true;
+                slots[bucket.get(0)] = nextFreeSlot;
+                seeds[bucketIndex] = -nextFreeSlot - 1;
+                continue;
+            }
+            if (candidates.length < bucket.size()) {
+                candidates = new int[bucket.size()];
+            }
+            int seed = 1;
+            while (!tryPlace(names, bucket, seed, used, candidates)) {
+                if (++seed == MAX_SEED) {
+                    throw new IllegalStateException("Unable to compute a perfect hash for the class path index");
+                }
+            }
+            for (int i = 0; i < bucket.size(); i++) {
+                used[candidates[i]] = true;
+                slots[bucket.get(i)] = candidates[i];
+            }
+            seeds[bucketIndex] = seed;
+        }
+        return slots;
+    }
+
+    private static boolean tryPlace(List<String> names, List<Integer> bucket, int seed, boolean[] used,
+            int[] candidates) {
+        for (int i = 0; i < bucket.size(); i++) {
+            int slot = hash(names.get(bucket.get(i)), seed) % used.length;
+            if (used[slot]) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (candidates[j] == slot) {
+                    return false;
+                }
+            }
+            candidates[i] = slot;
+        }
+        return true;
+    }
+}
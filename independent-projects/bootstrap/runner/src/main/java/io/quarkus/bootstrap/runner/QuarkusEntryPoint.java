@@ -1,9 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
@@ -24,6 +22,7 @@
 public class QuarkusEntryPoint {
 
     public static final String QUARKUS_APPLICATION_DAT = "quarkus/quarkus-application.dat";
+    public static final String QUARKUS_CLASSES_PACK = "quarkus/quarkus-classes.pack";
     public static final String LIB_DEPLOYMENT_DEPLOYMENT_CLASS_PATH_DAT = "lib/deployment/deployment-class-path.dat";
 
     public static void main(String... args) throws Throwable {
@@ -53,13 +52,9 @@ private static void doRun(String... args) throws Throwable {
         } else if (Boolean.getBoolean("quarkus.launch.rebuild")) {
             doReaugment(appRoot);
         } else {
-            SerializedApplication app;
-            // the magic number here is close to the smallest possible dat file
-            try (InputStream in = new BufferedInputStream(Files.newInputStream(appRoot.resolve(QUARKUS_APPLICATION_DAT)),
-                    24_576)) {
-                app = SerializedApplication.read(in, appRoot);
-            }
+            SerializedApplication app = SerializedApplication.read(appRoot.resolve(QUARKUS_APPLICATION_DAT), appRoot);
             final RunnerClassLoader appRunnerClassLoader = app.getRunnerClassLoader();
+            appRunnerClassLoader.setClassLoadProfile(ClassLoadProfile.recordIfRequested());
             try {
                 Thread.currentThread().setContextClassLoader(appRunnerClassLoader);
                 QuarkusForkJoinWorkerThread.setQuarkusAppClassloader(appRunnerClassLoader);
@@ -0,0 +1,29 @@
+package io.quarkus.bootstrap.runner;
+
+import java.util.function.Consumer;
+
+/**
+ * The class path index used by the {@link RunnerClassLoader} to find the resources that may contain a given
+ * class or resource.
+ * <p>
+ * Implementations must be safe for concurrent use without locking, as lookups happen on the class loading path.
+ */
+interface ResourceIndex {
+
+    /**
+     * @param dirName the name of the directory, the root directory/default package being represented by the empty string
+     * @return the resources containing entries in the given directory, or {@code null} if there are none
+     */
+    ClassLoadingResource[] getDirectoryResources(String dirName);
+
+    /**
+     * @param resourceName the name of a resource located in one of the fully indexed directories
+     * @return the resources containing the given resource, or {@code null} if there are none
+     */
+    ClassLoadingResource[] getDirectlyIndexedResources(String resourceName);
+
+    /**
+     * Invokes the given action for each resource of the index. A resource may be passed more than once.
+     */
+    void forEachResource(Consumer<ClassLoadingResource> action);
+}
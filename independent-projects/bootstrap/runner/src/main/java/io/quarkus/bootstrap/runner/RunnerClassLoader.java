@@ -4,6 +4,7 @@
 import static io.quarkus.commons.classloading.ClassLoaderHelper.isInJdkPackage;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -34,34 +35,45 @@ public final class RunnerClassLoader extends ClassLoader {
     }
 
     /**
-     * A map of resources by dir name. Root dir/default package is represented by the empty string
+     * The resources by dir name, as well as the resources of the fully indexed directories.
      */
-    private final Map<String, ClassLoadingResource[]> resourceDirectoryMap;
+    private final ResourceIndex resourceIndex;
 
     private final Set<String> parentFirstPackages;
     private final Set<String> nonExistentResources;
-    // the following two fields go hand in hand - they need to both be populated from the same data
+    // the fully indexed directories of the resource index need to be populated from the same data as this field
     // in order for the resource loading to work properly
     // normally this field would be a set, but it only contains 2 elements, so making it a list is actually better
     private final List<String> fullyIndexedDirectories;
-    private final Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap;
+    // null unless the application was packaged with a class pack
+    private final ClassPack classPack;
 
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
-    //Protected by synchronization on the above field, as they are related.
-    private boolean postBootPhase = false;
+    //Only set while holding the lock on the above field, as they are related.
+    //Volatile so that class loading does not need the lock at all during the boot phase.
+    private volatile boolean postBootPhase = false;
 
     private final CracResource resource;
 
+    // null unless the class load order is recorded
+    private volatile ClassLoadProfile classLoadProfile;
+
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
+        this(parent, new MapResourceIndex(resourceDirectoryMap, directlyIndexedResourcesIndexMap), parentFirstPackages,
+                nonExistentResources, fullyIndexedDirectories, null);
+    }
+
+    RunnerClassLoader(ClassLoader parent, ResourceIndex resourceIndex, Set<String> parentFirstPackages,
+            Set<String> nonExistentResources, List<String> fullyIndexedDirectories, ClassPack classPack) {
         super(parent);
-        this.resourceDirectoryMap = resourceDirectoryMap;
+        this.resourceIndex = resourceIndex;
         this.parentFirstPackages = parentFirstPackages;
         this.nonExistentResources = nonExistentResources;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
-        this.directlyIndexedResourcesIndexMap = directlyIndexedResourcesIndexMap;
+        this.classPack = classPack;
 
         resource = new CracResource();
         org.crac.Core.getGlobalContext().register(resource);
@@ -94,13 +106,20 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
         }
         final ClassLoadingResource[] resources;
         if (packageName == null) {
-            resources = resourceDirectoryMap.get("");
+            resources = resourceIndex.getDirectoryResources("");
         } else {
             String dirName = packageName.replace('.', '/');
-            resources = resourceDirectoryMap.get(dirName);
+            resources = resourceIndex.getDirectoryResources(dirName);
         }
         if (resources != null) {
             String classResource = fromClassNameToResourceName(name);
+            if (classPack != null) {
+                int packed = classPack.find(classResource);
+                if (packed != -1) {
+                    definePackage(packageName, resources);
+                    return defineClass(name, classPack.getData(packed), classPack.getResource(packed));
+                }
+            }
             for (ClassLoadingResource resource : resources) {
                 accessingResource(resource);
                 byte[] data = resource.getResourceData(classResource);
@@ -146,10 +165,28 @@ private void definePackage(String pkgName, ClassLoadingResource[] resources) {
         }
     }
 
+    void setClassLoadProfile(ClassLoadProfile classLoadProfile) {
+        this.classLoadProfile = classLoadProfile;
+    }
+
     private Class<?> defineClass(String name, byte[] data, ClassLoadingResource resource) {
         Class<?> loaded;
         try {
-            return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+            return classDefined(defineClass(name, data, 0, data.length, resource.getProtectionDomain()));
+        } catch (LinkageError e) {
+            loaded = findLoadedClass(name);
+            if (loaded != null) {
+                return loaded;
+            }
+            throw e;
+        }
+    }
+
+    private Class<?> defineClass(String name, ByteBuffer data, ClassLoadingResource resource) {
+        Class<?> loaded;
+        try {
+            // the data is a view of the memory-mapped class pack, which the JVM reads without copying it
+            return classDefined(defineClass(name, data, resource.getProtectionDomain()));
         } catch (LinkageError e) {
             loaded = findLoadedClass(name);
             if (loaded != null) {
@@ -159,13 +196,21 @@ private Class<?> defineClass(String name, byte[] data, ClassLoadingResource reso
         }
     }
 
+    private Class<?> classDefined(Class<?> defined) {
+        ClassLoadProfile classLoadProfile = this.classLoadProfile;
+        if (classLoadProfile != null) {
+            classLoadProfile.classDefined(defined.getName());
+        }
+        return defined;
+    }
+
     private void accessingResource(final ClassLoadingResource resource) {
+        if (!postBootPhase) {
+            //We only want to limit the jar buffers after the initial bootstrap has been completed
+            return;
+        }
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
-            if (!postBootPhase) {
-                //We only want to limit the jar buffers after the initial bootstrap has been completed
-                return;
-            }
             // This is not a cache aiming to accurately retain the most hot resources:
             // it's too small to benefit from traditional hit metrics,
             // we rather prefer to keep it very light.
@@ -227,7 +272,7 @@ private String sanitizeName(final String name) {
     }
 
     private ClassLoadingResource[] getClassLoadingResources(final String name) {
-        ClassLoadingResource[] resources = directlyIndexedResourcesIndexMap.get(name);
+        ClassLoadingResource[] resources = resourceIndex.getDirectlyIndexedResources(name);
         if (resources != null) {
             return resources;
         }
@@ -237,16 +282,16 @@ private ClassLoadingResource[] getClassLoadingResources(final String name) {
         }
         if (!dirName.equals(name) && fullyIndexedDirectories.contains(dirName)) {
             if (dirName.isEmpty()) {
-                return resourceDirectoryMap.get(name);
+                return resourceIndex.getDirectoryResources(name);
             }
             // If we arrive here, we know that resource being queried belongs to one of the fully indexed directories
-            // Had that resource existed however, it would have been present in directlyIndexedResourcesIndexMap
+            // Had that resource existed however, it would have been present in the directly indexed resources
             return null;
         }
-        resources = resourceDirectoryMap.get(dirName);
+        resources = resourceIndex.getDirectoryResources(dirName);
         if (resources == null) {
             // the resource could itself be a directory
-            resources = resourceDirectoryMap.get(name);
+            resources = resourceIndex.getDirectoryResources(name);
         }
         return resources;
     }
@@ -311,20 +356,12 @@ protected Class<?> findClass(String moduleName, String name) {
     }
 
     public void close() {
-        for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-            for (ClassLoadingResource i : entry.getValue()) {
-                i.close();
-            }
-        }
+        resourceIndex.forEachResource(ClassLoadingResource::close);
     }
 
     public void resetInternalCaches() {
         synchronized (this.currentlyBufferedResources) {
-            for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-                for (ClassLoadingResource i : entry.getValue()) {
-                    i.resetInternalCaches();
-                }
-            }
+            resourceIndex.forEachResource(ClassLoadingResource::resetInternalCaches);
             this.postBootPhase = true;
         }
     }
@@ -1,14 +1,21 @@
 package io.quarkus.bootstrap.runner;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -38,6 +45,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
+    private static final int MAPPED_MAGIC = 0XF0315433;
     private static final int VERSION = 2;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
@@ -77,19 +85,7 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                     directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
                 }
             }
-            Set<String> parentFirstPackages = new HashSet<>();
-
-            for (Path jar : parentFirst) {
-                collectPackages(jar, parentFirstPackages);
-            }
-            data.writeShort(parentFirstPackages.size());
-            for (String p : parentFirstPackages) {
-                data.writeUTF(p.replace('/', '.').replace('\\', '.'));
-            }
-            data.writeShort(nonExistentResources.size());
-            for (String nonExistentResource : nonExistentResources) {
-                data.writeUTF(nonExistentResource);
-            }
+            writeParentFirstPackagesAndNonExistentResources(data, parentFirst, nonExistentResources);
             data.writeShort(directlyIndexedResourcesToCPJarIndex.size());
             for (Map.Entry<String, List<Integer>> entry : directlyIndexedResourcesToCPJarIndex.entrySet()) {
                 data.writeUTF(entry.getKey());
@@ -102,7 +98,174 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
         }
     }
 
+    /**
+     * Writes the class path index in the memory-mapped format, which is read by {@link #read(Path, Path)} without
+     * building any Java collection for the directories and the directly indexed resources.
+     */
+    public static void writeMapped(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources)
+            throws IOException {
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        Map<String, List<Integer>> directories = new LinkedHashMap<>();
+        Map<String, List<Integer>> directlyIndexedResources = new LinkedHashMap<>();
+        try (DataOutputStream header = new DataOutputStream(headerBytes)) {
+            header.writeUTF(mainClass);
+            header.writeShort(classPath.size());
+            for (int i = 0; i < classPath.size(); i++) {
+                Path jar = classPath.get(i);
+                String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
+                header.writeUTF(relativePath);
+                try (JarFile zip = new JarFile(jar.toFile())) {
+                    writeManifest(header, zip);
+                    Set<String> dirs = new LinkedHashSet<>();
+                    for (String resource : indexEntries(zip, dirs)) {
+                        addClassPathIndex(directlyIndexedResources, resource, i);
+                    }
+                    // unlike the regular format, the parent directories are resolved here rather than at startup
+                    for (String dir : dirs) {
+                        int j = dir.indexOf('/');
+                        while (j >= 0) {
+                            addClassPathIndex(directories, dir.substring(0, j), i);
+                            j = dir.indexOf('/', j + 1);
+                        }
+                        addClassPathIndex(directories, dir, i);
+                    }
+                }
+            }
+            writeParentFirstPackagesAndNonExistentResources(header, parentFirst, nonExistentResources);
+        }
+        try (DataOutputStream data = new DataOutputStream(new BufferedOutputStream(outputStream))) {
+            data.writeInt(MAPPED_MAGIC);
+            data.writeInt(VERSION);
+            data.writeInt(headerBytes.size());
+            headerBytes.writeTo(data);
+            MappedResourceIndex.write(data, directories, directlyIndexedResources);
+            data.flush();
+        }
+    }
+
+    private static void addClassPathIndex(Map<String, List<Integer>> map, String name, int index) {
+        List<Integer> indexes = map.computeIfAbsent(name, s -> new ArrayList<>(1));
+        if (indexes.isEmpty() || indexes.get(indexes.size() - 1) != index) {
+            indexes.add(index);
+        }
+    }
+
+    private static void writeParentFirstPackagesAndNonExistentResources(DataOutputStream data, List<Path> parentFirst,
+            List<String> nonExistentResources) throws IOException {
+        Set<String> parentFirstPackages = new HashSet<>();
+
+        for (Path jar : parentFirst) {
+            collectPackages(jar, parentFirstPackages);
+        }
+        data.writeShort(parentFirstPackages.size());
+        for (String p : parentFirstPackages) {
+            data.writeUTF(p.replace('/', '.').replace('\\', '.'));
+        }
+        data.writeShort(nonExistentResources.size());
+        for (String nonExistentResource : nonExistentResources) {
+            data.writeUTF(nonExistentResource);
+        }
+    }
+
+    /**
+     * Writes the class pack of the given class path, which must be in the same order as the one the class path index
+     * was written with. When present, the class pack is used by {@link #read(Path, Path)}.
+     *
+     * @see QuarkusEntryPoint#QUARKUS_CLASSES_PACK
+     */
+    public static void writeClassPack(OutputStream outputStream, List<Path> classPath) throws IOException {
+        writeClassPack(outputStream, classPath, List.of());
+    }
+
+    /**
+     * Writes the class pack, storing the given classes first, in the order of the {@link ClassLoadProfile} they come
+     * from.
+     */
+    public static void writeClassPack(OutputStream outputStream, List<Path> classPath, List<String> classLoadOrder)
+            throws IOException {
+        ClassPack.write(outputStream, classPath, classLoadOrder);
+    }
+
+    /**
+     * Reads a class path index written in either format, along with the class pack of the application if there is
+     * one.
+     */
+    public static SerializedApplication read(Path applicationDat, Path appRoot) throws IOException {
+        Path classPackPath = appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_PACK);
+        if (!Files.exists(classPackPath)) {
+            classPackPath = null;
+        }
+        try (FileChannel channel = FileChannel.open(applicationDat, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(4);
+            while (magic.hasRemaining()) {
+                if (channel.read(magic) == -1) {
+                    break;
+                }
+            }
+            if (!magic.hasRemaining() && magic.getInt(0) == MAPPED_MAGIC) {
+                // the mapping remains valid once the channel is closed
+                return readMapped(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), appRoot,
+                        classPackPath);
+            }
+        }
+        // the magic number here is close to the smallest possible dat file
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(applicationDat), 24_576)) {
+            return read(in, appRoot, classPackPath);
+        }
+    }
+
+    private static ClassPack readClassPack(Path classPackPath, ClassLoadingResource[] allClassLoadingResources)
+            throws IOException {
+        if (classPackPath == null) {
+            return null;
+        }
+        return ClassPack.read(classPackPath, allClassLoadingResources);
+    }
+
+    private static SerializedApplication readMapped(ByteBuffer buffer, Path appRoot, Path classPackPath)
+            throws IOException {
+        if (buffer.getInt(4) != VERSION) {
+            throw new RuntimeException("Wrong class path version");
+        }
+        int headerLength = buffer.getInt(8);
+        byte[] header = new byte[headerLength];
+        buffer.get(12, header);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(header))) {
+            String mainClass = in.readUTF();
+            int numPaths = in.readUnsignedShort();
+            ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
+            for (int pathCount = 0; pathCount < numPaths; pathCount++) {
+                String path = in.readUTF();
+                allClassLoadingResources[pathCount] = new JarResource(readManifest(in), appRoot.resolve(path));
+            }
+            Set<String> parentFirstPackages = new HashSet<>();
+            int packages = in.readUnsignedShort();
+            for (int i = 0; i < packages; ++i) {
+                parentFirstPackages.add(in.readUTF());
+            }
+            Set<String> nonExistentResources = new HashSet<>();
+            int nonExistentResourcesSize = in.readUnsignedShort();
+            for (int i = 0; i < nonExistentResourcesSize; i++) {
+                nonExistentResources.add(in.readUTF());
+            }
+            RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
+                    new MappedResourceIndex(allClassLoadingResources, buffer, 12 + headerLength),
+                    parentFirstPackages, nonExistentResources, FULLY_INDEXED_PATHS,
+                    readClassPack(classPackPath, allClassLoadingResources));
+            for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
+                classLoadingResource.init();
+            }
+            return new SerializedApplication(runnerClassLoader, mainClass);
+        }
+    }
+
     public static SerializedApplication read(InputStream inputStream, Path appRoot) throws IOException {
+        return read(inputStream, appRoot, null);
+    }
+
+    private static SerializedApplication read(InputStream inputStream, Path appRoot, Path classPackPath)
+            throws IOException {
         try (DataInputStream in = new DataInputStream(inputStream)) {
             if (in.readInt() != MAGIC) {
                 throw new RuntimeException("Wrong magic number");
@@ -117,13 +280,7 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
             ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
             for (int pathCount = 0; pathCount < numPaths; pathCount++) {
                 String path = in.readUTF();
-                boolean hasManifest = in.readBoolean();
-                ManifestInfo info = null;
-                if (hasManifest) {
-                    info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
-                            readNullableString(in), readNullableString(in), readNullableString(in));
-                }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                JarResource resource = new JarResource(readManifest(in), appRoot.resolve(path));
                 allClassLoadingResources[pathCount] = resource;
                 int numDirs = in.readUnsignedShort();
                 for (int i = 0; i < numDirs; ++i) {
@@ -159,8 +316,9 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 directlyIndexedResourcesIndexMap.put(resource, matchingResources);
             }
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
-                    resourceDirectoryTracker.getResult(), parentFirstPackages,
-                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap);
+                    new MapResourceIndex(resourceDirectoryTracker.getResult(), directlyIndexedResourcesIndexMap),
+                    parentFirstPackages, nonExistentResources, FULLY_INDEXED_PATHS,
+                    readClassPack(classPackPath, allClassLoadingResources));
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
                 classLoadingResource.init();
             }
@@ -168,6 +326,14 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
         }
     }
 
+    private static ManifestInfo readManifest(DataInputStream in) throws IOException {
+        if (in.readBoolean()) {
+            return new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
+                    readNullableString(in), readNullableString(in), readNullableString(in));
+        }
+        return null;
+    }
+
     private static String readNullableString(DataInputStream in) throws IOException {
         if (in.readBoolean()) {
             return in.readUTF();
@@ -181,83 +347,97 @@ private static String readNullableString(DataInputStream in) throws IOException
      */
     private static List<String> writeJar(DataOutputStream out, Path jar) throws IOException {
         try (JarFile zip = new JarFile(jar.toFile())) {
-            Manifest manifest = zip.getManifest();
-            if (manifest == null) {
+            writeManifest(out, zip);
+            Set<String> dirs = new LinkedHashSet<>();
+            List<String> result = indexEntries(zip, dirs);
+            out.writeShort(dirs.size());
+            for (String i : dirs) {
+                out.writeUTF(i);
+            }
+            return result;
+        }
+    }
+
+    private static void writeManifest(DataOutputStream out, JarFile zip) throws IOException {
+        Manifest manifest = zip.getManifest();
+        if (manifest == null) {
+            out.writeBoolean(false);
+        } else {
+            //write the manifest
+            Attributes ma = manifest.getMainAttributes();
+            if (ma == null) {
                 out.writeBoolean(false);
             } else {
-                //write the manifest
-                Attributes ma = manifest.getMainAttributes();
-                if (ma == null) {
-                    out.writeBoolean(false);
-                } else {
-                    out.writeBoolean(true);
-                    writeNullableString(out, ma.getValue(Attributes.Name.SPECIFICATION_TITLE));
-                    writeNullableString(out, ma.getValue(Attributes.Name.SPECIFICATION_VERSION));
-                    writeNullableString(out, ma.getValue(Attributes.Name.SPECIFICATION_VENDOR));
-                    writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_TITLE));
-                    writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_VERSION));
-                    writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_VENDOR));
-                }
+                out.writeBoolean(true);
+                writeNullableString(out, ma.getValue(Attributes.Name.SPECIFICATION_TITLE));
+                writeNullableString(out, ma.getValue(Attributes.Name.SPECIFICATION_VERSION));
+                writeNullableString(out, ma.getValue(Attributes.Name.SPECIFICATION_VENDOR));
+                writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_TITLE));
+                writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_VERSION));
+                writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_VENDOR));
             }
+        }
+    }
 
-            Set<String> dirs = new LinkedHashSet<>();
-            Map<String, List<String>> fullyIndexedPaths = new LinkedHashMap<>();
-            Enumeration<? extends ZipEntry> entries = zip.entries();
-            boolean hasDefaultPackage = false;
-            while (entries.hasMoreElements()) {
-                ZipEntry entry = entries.nextElement();
-                if (!entry.getName().contains("/")) {
-                    hasDefaultPackage = true;
-                    if (!entry.getName().isEmpty() && FULLY_INDEXED_PATHS.contains("")) {
-                        fullyIndexedPaths.computeIfAbsent("", SerializedApplication::newFullyIndexedPathsValue)
-                                .add(entry.getName());
-                    }
-                } else if (!entry.isDirectory()) {
-                    //some jars don't have correct directory entries
-                    //so we look at the file paths instead
-                    //looking at you h2
-                    final int index = entry.getName().lastIndexOf('/');
-                    dirs.add(entry.getName().substring(0, index));
-
-                    if (entry.getName().startsWith(META_INF_VERSIONS)) {
-                        //multi release jar
-                        //we add all packages here
-                        //they may not be relevant for some versions, but that is fine
-                        String part = entry.getName().substring(META_INF_VERSIONS.length());
-                        int slash = part.indexOf("/");
-                        if (slash != -1) {
-                            final int subIndex = part.lastIndexOf('/');
-                            if (subIndex != slash) {
-                                dirs.add(part.substring(slash + 1, subIndex));
-                            }
+    /**
+     * Adds the directories of the jar to {@code dirs}.
+     *
+     * @return a List of all resources that exist in the paths that we desire to have fully indexed
+     *         (configured via {@code FULLY_INDEXED_PATHS})
+     */
+    private static List<String> indexEntries(JarFile zip, Set<String> dirs) {
+        Map<String, List<String>> fullyIndexedPaths = new LinkedHashMap<>();
+        Enumeration<? extends ZipEntry> entries = zip.entries();
+        boolean hasDefaultPackage = false;
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (!entry.getName().contains("/")) {
+                hasDefaultPackage = true;
+                if (!entry.getName().isEmpty() && FULLY_INDEXED_PATHS.contains("")) {
+                    fullyIndexedPaths.computeIfAbsent("", SerializedApplication::newFullyIndexedPathsValue)
+                            .add(entry.getName());
+                }
+            } else if (!entry.isDirectory()) {
+                //some jars don't have correct directory entries
+                //so we look at the file paths instead
+                //looking at you h2
+                final int index = entry.getName().lastIndexOf('/');
+                dirs.add(entry.getName().substring(0, index));
+
+                if (entry.getName().startsWith(META_INF_VERSIONS)) {
+                    //multi release jar
+                    //we add all packages here
+                    //they may not be relevant for some versions, but that is fine
+                    String part = entry.getName().substring(META_INF_VERSIONS.length());
+                    int slash = part.indexOf("/");
+                    if (slash != -1) {
+                        final int subIndex = part.lastIndexOf('/');
+                        if (subIndex != slash) {
+                            dirs.add(part.substring(slash + 1, subIndex));
                         }
                     }
+                }
 
-                    for (int i = 0; i < FULLY_INDEXED_PATHS.size(); i++) {
-                        String path = FULLY_INDEXED_PATHS.get(i);
-                        if (path.isEmpty()) {
-                            continue;
-                        }
-                        if (entry.getName().startsWith(path)) {
-                            fullyIndexedPaths.computeIfAbsent(path, SerializedApplication::newFullyIndexedPathsValue)
-                                    .add(entry.getName());
-                        }
+                for (int i = 0; i < FULLY_INDEXED_PATHS.size(); i++) {
+                    String path = FULLY_INDEXED_PATHS.get(i);
+                    if (path.isEmpty()) {
+                        continue;
+                    }
+                    if (entry.getName().startsWith(path)) {
+                        fullyIndexedPaths.computeIfAbsent(path, SerializedApplication::newFullyIndexedPathsValue)
+                                .add(entry.getName());
                     }
                 }
             }
-            if (hasDefaultPackage) {
-                dirs.add("");
-            }
-            out.writeShort(dirs.size());
-            for (String i : dirs) {
-                out.writeUTF(i);
-            }
-            List<String> result = new ArrayList<>();
-            for (List<String> values : fullyIndexedPaths.values()) {
-                result.addAll(values);
-            }
-            return result;
         }
+        if (hasDefaultPackage) {
+            dirs.add("");
+        }
+        List<String> result = new ArrayList<>();
+        for (List<String> values : fullyIndexedPaths.values()) {
+            result.addAll(values);
+        }
+        return result;
     }
 
     private static List<String> newFullyIndexedPathsValue(String ignored) {
@@ -0,0 +1,230 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ClassPackTest {
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testClassesAreDefinedFromThePack() throws Exception {
+        Path jar = Files.createDirectories(appRoot.resolve("lib")).resolve("packed.jar");
+        writeStoredJar(jar, classResource(Packed.class));
+        Path dat = writeApplication(jar);
+        patchPackedClass();
+
+        RunnerClassLoader cl = SerializedApplication.read(dat, appRoot).getRunnerClassLoader();
+        try {
+            Class<?> packed = cl.loadClass(Packed.class.getName());
+            assertThat(packed.getClassLoader()).isSameAs(cl);
+            assertThat(packed.getProtectionDomain().getCodeSource().getLocation().toString()).endsWith("packed.jar");
+            assertThat(packed.getPackage().getName()).isEqualTo(Packed.class.getPackageName());
+            // the class was defined from the patched pack, not from the jar
+            assertThat(((Supplier<?>) packed.getDeclaredConstructor().newInstance()).get()).isEqualTo("PACKED");
+            assertThat(cl.loadClass(Packed.class.getName())).isSameAs(packed);
+
+            assertThat(cl.getResource(packageDir() + "/resource.txt")).isNotNull();
+            assertThrows(ClassNotFoundException.class, () -> cl.loadClass(Packed.class.getPackageName() + ".Missing"));
+        } finally {
+            cl.close();
+        }
+    }
+
+    @Test
+    public void testPackIsUsedWhenOnlyTheModificationTimeOfAJarChanged() throws Exception {
+        Path jar = Files.createDirectories(appRoot.resolve("lib")).resolve("packed.jar");
+        writeStoredJar(jar, classResource(Packed.class));
+        Path dat = writeApplication(jar);
+        patchPackedClass();
+        // like the lib layer of a container image built by Jib
+        Files.setLastModifiedTime(jar, FileTime.from(Instant.EPOCH));
+
+        RunnerClassLoader cl = SerializedApplication.read(dat, appRoot).getRunnerClassLoader();
+        try {
+            Class<?> packed = cl.loadClass(Packed.class.getName());
+            assertThat(packed.getClassLoader()).isSameAs(cl);
+            assertThat(((Supplier<?>) packed.getDeclaredConstructor().newInstance()).get()).isEqualTo("PACKED");
+        } finally {
+            cl.close();
+        }
+    }
+
+    @Test
+    public void testPackIsIgnoredWhenAJarWasModified() throws Exception {
+        Path jar = Files.createDirectories(appRoot.resolve("lib")).resolve("packed.jar");
+        writeStoredJar(jar, classResource(Packed.class));
+        Path dat = writeApplication(jar);
+        // the jar keeps the same size and modification time, only the name of an entry changes
+        FileTime lastModifiedTime = Files.getLastModifiedTime(jar);
+        String renamed = classResource(Packed.class);
+        writeStoredJar(jar, renamed.substring(0, renamed.length() - 1) + "_");
+        Files.setLastModifiedTime(jar, lastModifiedTime);
+
+        assertThat(ClassPack.read(appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_PACK),
+                new ClassLoadingResource[] { new JarResource(null, jar) })).isNull();
+        RunnerClassLoader cl = SerializedApplication.read(dat, appRoot).getRunnerClassLoader();
+        try {
+            // the stale pack would still define the class, it is only found in the parent class loader instead
+            assertThat(cl.loadClass(Packed.class.getName()).getClassLoader()).isNotSameAs(cl);
+            assertThat(cl.getResource(packageDir() + "/resource.txt")).isNotNull();
+        } finally {
+            cl.close();
+        }
+    }
+
+    @Test
+    public void testProfiledClassesAreStoredFirst() throws Exception {
+        Path lib = Files.createDirectories(appRoot.resolve("lib"));
+        Path first = lib.resolve("first.jar");
+        Path second = lib.resolve("second.jar");
+        export(ShrinkWrap.create(JavaArchive.class).addClass(Packed.class), first);
+        export(ShrinkWrap.create(JavaArchive.class).addClass(Profiled.class), second);
+        List<Path> classPath = List.of(first, second);
+        Path profile = Files.writeString(appRoot.resolve("profile.txt"), "# header\n"
+                + Profiled.class.getName() + "\n\n" + Packed.class.getName() + "\n" + Profiled.class.getName() + "\n");
+        List<String> classLoadOrder = ClassLoadProfile.read(profile);
+        assertThat(classLoadOrder).containsExactly(Profiled.class.getName(), Packed.class.getName());
+
+        Path dat = Files.createDirectories(appRoot.resolve("quarkus")).resolve("quarkus-application.dat");
+        try (OutputStream out = Files.newOutputStream(dat)) {
+            SerializedApplication.writeMapped(out, "org.acme.Main", appRoot, classPath, Collections.emptyList(),
+                    Collections.emptyList());
+        }
+        Path pack = appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_PACK);
+        try (OutputStream out = Files.newOutputStream(pack)) {
+            SerializedApplication.writeClassPack(out, classPath, classLoadOrder);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(pack));
+        ClassPack classPack = ClassPack.read(pack,
+                new ClassLoadingResource[] { new JarResource(null, first), new JarResource(null, second) });
+        int profiledPosition = classPack.find(classResource(Profiled.class));
+        int profiledOffset = buffer.getInt(profiledPosition + 2);
+        int packedOffset = buffer.getInt(classPack.find(classResource(Packed.class)) + 2);
+        // the second class follows the first one, without the padding between class path elements
+        assertThat(packedOffset).isEqualTo(profiledOffset + buffer.getInt(profiledPosition + 6));
+
+        RunnerClassLoader cl = SerializedApplication.read(dat, appRoot).getRunnerClassLoader();
+        try {
+            Class<?> profiled = cl.loadClass(Profiled.class.getName());
+            assertThat(profiled.getProtectionDomain().getCodeSource().getLocation().toString()).endsWith("second.jar");
+            assertThat(((Supplier<?>) profiled.getDeclaredConstructor().newInstance()).get()).isEqualTo("profiled");
+            Class<?> packed = cl.loadClass(Packed.class.getName());
+            assertThat(packed.getProtectionDomain().getCodeSource().getLocation().toString()).endsWith("first.jar");
+        } finally {
+            cl.close();
+        }
+    }
+
+    private Path writeApplication(Path jar) throws IOException {
+        List<Path> classPath = List.of(jar);
+        Path dat = Files.createDirectories(appRoot.resolve("quarkus")).resolve("quarkus-application.dat");
+        try (OutputStream out = Files.newOutputStream(dat)) {
+            SerializedApplication.writeMapped(out, "org.acme.Main", appRoot, classPath, Collections.emptyList(),
+                    Collections.emptyList());
+        }
+        try (OutputStream out = Files.newOutputStream(appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_PACK))) {
+            SerializedApplication.writeClassPack(out, classPath);
+        }
+        return dat;
+    }
+
+    /**
+     * Replaces the value returned by the packed class in the pack only, so that the tests can tell where it was loaded
+     * from.
+     */
+    private void patchPackedClass() throws IOException {
+        Path pack = appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_PACK);
+        byte[] data = Files.readAllBytes(pack);
+        byte[] value = "packed".getBytes(StandardCharsets.UTF_8);
+        // the string constant only occurs in the data of the packed class
+        for (int i = 0; i <= data.length - value.length; i++) {
+            if (Arrays.equals(data, i, i + value.length, value, 0, value.length)) {
+                System.arraycopy("PACKED".getBytes(StandardCharsets.UTF_8), 0, data, i, value.length);
+                Files.write(pack, data);
+                return;
+            }
+        }
+        throw new IllegalStateException("Value not found in the packed class");
+    }
+
+    /**
+     * Writes a jar of uncompressed entries, so that its size only depends on the names and lengths of the entries.
+     */
+    private static void writeStoredJar(Path path, String classEntryName) throws IOException {
+        byte[] classData;
+        try (InputStream in = ClassPackTest.class.getClassLoader().getResourceAsStream(classResource(Packed.class))) {
+            classData = in.readAllBytes();
+        }
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(path))) {
+            if (classEntryName != null) {
+                writeStoredEntry(out, classEntryName, classData);
+            }
+            writeStoredEntry(out, packageDir() + "/resource.txt", "resource".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void writeStoredEntry(ZipOutputStream out, String name, byte[] data) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(data.length);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        entry.setCrc(crc.getValue());
+        entry.setTime(0);
+        out.putNextEntry(entry);
+        out.write(data);
+        out.closeEntry();
+    }
+
+    private static String classResource(Class<?> clazz) {
+        return clazz.getName().replace('.', '/') + ".class";
+    }
+
+    private static String packageDir() {
+        return Packed.class.getPackageName().replace('.', '/');
+    }
+
+    private static void export(JavaArchive archive, Path path) throws IOException {
+        archive.as(ZipExporter.class).exportTo(path.toFile(), true);
+    }
+
+    public static class Packed implements Supplier<String> {
+        @Override
+        public String get() {
+            return "packed";
+        }
+    }
+
+    public static class Profiled implements Supplier<String> {
+        @Override
+        public String get() {
+            return "profiled";
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SerializedApplicationTest {
+
+    private static final int GENERATED_PACKAGES = 2000;
+
+    @TempDir
+    static Path appRoot;
+
+    static List<Path> classPath;
+
+    @BeforeAll
+    static void createJars() throws IOException {
+        Path lib = Files.createDirectories(appRoot.resolve("lib"));
+        JavaArchive first = ShrinkWrap.create(JavaArchive.class)
+                .addAsResource(new StringAsset("a"), "org/acme/a.txt")
+                .addAsResource(new StringAsset("root"), "root.txt")
+                .addAsResource(new StringAsset("first"), "META-INF/services/org.acme.Service")
+                .addAsResource(new StringAsset("unicode"), "org/acme/été.txt");
+        JavaArchive second = ShrinkWrap.create(JavaArchive.class)
+                .addAsResource(new StringAsset("b"), "org/acme/b.txt")
+                .addAsResource(new StringAsset("c"), "org/acme/deep/c.txt")
+                .addAsResource(new StringAsset("second"), "META-INF/services/org.acme.Service");
+        JavaArchive generated = ShrinkWrap.create(JavaArchive.class);
+        for (int i = 0; i < GENERATED_PACKAGES; i++) {
+            generated.addAsResource(new StringAsset("g"), "org/generated/p" + i + "/r.txt");
+        }
+        classPath = List.of(export(first, lib.resolve("first.jar")), export(second, lib.resolve("second.jar")),
+                export(generated, lib.resolve("generated.jar")));
+    }
+
+    @Test
+    public void testSerializedFormat() throws IOException {
+        Path dat = appRoot.resolve("serialized.dat");
+        try (OutputStream out = Files.newOutputStream(dat)) {
+            SerializedApplication.write(out, "org.acme.Main", appRoot, classPath, Collections.emptyList(),
+                    List.of("missing.txt"));
+        }
+        verify(SerializedApplication.read(dat, appRoot));
+    }
+
+    @Test
+    public void testMappedFormat() throws IOException {
+        Path dat = appRoot.resolve("mapped.dat");
+        try (OutputStream out = Files.newOutputStream(dat)) {
+            SerializedApplication.writeMapped(out, "org.acme.Main", appRoot, classPath, Collections.emptyList(),
+                    List.of("missing.txt"));
+        }
+        verify(SerializedApplication.read(dat, appRoot));
+    }
+
+    private static void verify(SerializedApplication app) throws IOException {
+        assertThat(app.getMainClass()).isEqualTo("org.acme.Main");
+        RunnerClassLoader cl = app.getRunnerClassLoader();
+        try {
+            assertResource(cl, "org/acme/a.txt", "first.jar");
+            assertResource(cl, "/org/acme/a.txt", "first.jar");
+            assertResource(cl, "org/acme/b.txt", "second.jar");
+            assertResource(cl, "org/acme/deep/c.txt", "second.jar");
+            assertResource(cl, "root.txt", "first.jar");
+            assertResource(cl, "org/acme/été.txt", "first.jar");
+            assertThat(Collections.list(cl.getResources("META-INF/services/org.acme.Service")))
+                    .extracting(URL::toString)
+                    .hasSize(2)
+                    .anySatisfy(url -> assertThat(url).contains("first.jar"))
+                    .anySatisfy(url -> assertThat(url).contains("second.jar"));
+            for (int i = 0; i < GENERATED_PACKAGES; i++) {
+                assertResource(cl, "org/generated/p" + i + "/r.txt", "generated.jar");
+            }
+
+            assertThat(cl.getResource("org/acme/missing.txt")).isNull();
+            assertThat(cl.getResource("org/unknown/a.txt")).isNull();
+            assertThat(cl.getResource("org/acme/été-missing.txt")).isNull();
+            assertThat(cl.getResource("META-INF/services/org.acme.Unknown")).isNull();
+            assertThat(cl.getResource("missing.txt")).isNull();
+        } finally {
+            cl.close();
+        }
+    }
+
+    private static void assertResource(RunnerClassLoader cl, String name, String jar) {
+        URL url = cl.getResource(name);
+        assertThat(url).as(name).isNotNull();
+        assertThat(url.toString()).contains(jar);
+    }
+
+    private static Path export(JavaArchive archive, Path path) {
+        archive.as(ZipExporter.class).exportTo(path.toFile(), true);
+        return path;
+    }
+}
@@ -0,0 +1,91 @@
+package io.quarkus.qute.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.CompletedStage;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EvalContext;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolver;
+
+/**
+ * Renders a loop over multi-part expressions, such as {@code item.owner.address.city}, to measure the synchronous path
+ * of the evaluator. With {@code completed} results, the value resolvers return a {@link CompletedStage} and each part is
+ * resolved without composing stages. With {@code future} results, the value resolvers return an already completed
+ * {@link CompletableFuture}, which the evaluator composes like any asynchronous result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BenchmarkExpressionResolution {
+
+    @Param({ "completed", "future" })
+    public String results;
+
+    @Param({ "100" })
+    public int items;
+
+    private Template template;
+    private List<Item> data;
+
+    @Setup
+    public void setup() {
+        boolean completed = results.equals("completed");
+        Engine engine = Engine.builder()
+                .addDefaults()
+                .addValueResolver(resolver(Item.class, "name", ctx -> ((Item) ctx.getBase()).name, completed))
+                .addValueResolver(resolver(Item.class, "owner", ctx -> ((Item) ctx.getBase()).owner, completed))
+                .addValueResolver(resolver(Owner.class, "address", ctx -> ((Owner) ctx.getBase()).address, completed))
+                .addValueResolver(resolver(Address.class, "city", ctx -> ((Address) ctx.getBase()).city, completed))
+                .build();
+        template = engine.parse("{#for item in items}{item.name} lives in {item.owner.address.city}\n{/for}");
+        data = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            data.add(new Item("item" + i, new Owner(new Address("city" + i))));
+        }
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("items", data).render();
+    }
+
+    private static ValueResolver resolver(Class<?> baseClass, String name, Function<EvalContext, Object> fun,
+            boolean completed) {
+        return ValueResolver.builder()
+                .applyToBaseClass(baseClass)
+                .applyToName(name)
+                .resolveAsync(completed ? ctx -> CompletedStage.of(fun.apply(ctx))
+                        : ctx -> CompletableFuture.completedFuture(fun.apply(ctx)))
+                .build();
+    }
+
+    record Item(String name, Owner owner) {
+    }
+
+    record Owner(Address address) {
+    }
+
+    record Address(String city) {
+    }
+
+}
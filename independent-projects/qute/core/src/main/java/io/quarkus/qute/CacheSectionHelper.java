@@ -1,41 +1,201 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
  * This section can be used to cache parts of the template.
+ * <p>
+ * By default, a cached part is identified by its position in the template. A {@code key} expression can be used to cache
+ * several variants of the part. If the {@code _auto} flag is set then the expressions referenced in the part that only read
+ * data or properties, such as {@code user.name}, are evaluated and their values become part of the key, i.e. the part is only
+ * rendered again if a referenced value changes. Expressions with a namespace or a method call, and expressions in the body of
+ * a section that defines its own data, such as an iteration element, do not contribute to the key. The values are evaluated
+ * once; if the part has to be rendered, the values of the key are reused. Note that the values are represented by their
+ * {@link Object#toString()} value, and that a long key is replaced with its SHA-256 hash. Therefore, the {@code toString()}
+ * method of a referenced value must reflect all the data the part renders; rendering fails if a value does not override
+ * {@link Object#toString()}, as its identity would make every rendering miss the cache.
+ * <p>
+ * The {@code tags} parameter can be used to assign a comma-separated list of tags to the cached part. A {@link Cache} that
+ * supports tags can then invalidate all parts with a specific tag.
+ *
+ * <pre>
+ * {#cached key=user.id tags='header'}...{/cached}
+ * {#cached _auto tags='catalog,sidebar'}...{/cached}
+ * </pre>
  */
 public class CacheSectionHelper implements SectionHelper {
 
+    private static final String UNRESOLVED = "?";
+    private static final String NULL = "null";
+    private static final ClassValue<Boolean> HAS_VALUE_BASED_TO_STRING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("toString").getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+    private static final int MAX_KEY_VALUES_LENGTH = 256;
+
     private final String keyPrefix;
     private final Expression key;
+    private final List<Expression> keyExpressions;
+    private final Set<String> tags;
     private final Cache cache;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder misses = new LongAdder();
 
-    CacheSectionHelper(String keyPrefix, Expression key, Cache cache) {
+    CacheSectionHelper(String keyPrefix, Expression key, List<Expression> keyExpressions, Set<String> tags, Cache cache) {
         this.keyPrefix = keyPrefix;
         this.key = key;
+        this.keyExpressions = keyExpressions;
+        this.tags = tags;
         this.cache = cache;
     }
 
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
         if (key == null) {
-            return resolveInternal(keyPrefix, context);
+            return resolveKeyExpressions(keyPrefix, context);
         }
         return context.resolutionContext().evaluate(key)
                 .thenCompose(key -> {
-                    return resolveInternal(keyPrefix + key.toString(), context);
+                    return resolveKeyExpressions(keyPrefix + key.toString(), context);
                 });
     }
 
-    private CompletionStage<ResultNode> resolveInternal(String key, SectionResolutionContext context) {
-        return cache.getValue(key, new Function<String, CompletionStage<ResultNode>>() {
+    /**
+     *
+     * @return the prefix of all keys used for this cached part, i.e. its identifier
+     */
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    /**
+     *
+     * @return the tags of this cached part
+     */
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    /**
+     *
+     * @return the number of renderings where the result was found in the cache
+     */
+    public long getHitCount() {
+        return Math.max(0, requests.sum() - misses.sum());
+    }
+
+    /**
+     *
+     * @return the number of renderings where the cached part had to be rendered
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private CompletionStage<ResultNode> resolveKeyExpressions(String key, SectionResolutionContext context) {
+        if (keyExpressions.isEmpty()) {
+            return resolveInternal(key, context, context.resolutionContext());
+        }
+        Object[] values = new Object[keyExpressions.size()];
+        return evaluateKeyExpression(values, 0, context).thenCompose(ignored -> {
+            StringBuilder builder = new StringBuilder().append('[');
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                Object value = values[i];
+                if (Results.isNotFound(value)) {
+                    builder.append(UNRESOLVED);
+                } else if (value == null) {
+                    builder.append(NULL);
+                } else {
+                    if (!HAS_VALUE_BASED_TO_STRING.get(value.getClass())) {
+                        Expression expression = keyExpressions.get(i);
+                        throw TemplateException.builder()
+                                .message("The value of \\{{expr}} is an instance of [{clazz}], which does not override "
+                                        + "toString() and cannot be part of an _auto cache key")
+                                .code(Code.KEY_VALUE_WITHOUT_TO_STRING)
+                                .argument("expr", expression.toOriginalString())
+                                .argument("clazz", value.getClass().getName())
+                                .origin(expression.getOrigin())
+                                .build();
+                    }
+                    // the length prefix keeps values containing a separator from forming the key of other values
+                    String str = value.toString();
+                    builder.append(str.length()).append(':').append(str);
+                }
+            }
+            builder.append(']');
+            String keyValues = builder.length() > MAX_KEY_VALUES_LENGTH ? "[#" + sha256(builder) + "]" : builder.toString();
+            return resolveInternal(key + keyValues, context,
+                    new KeyValuesResolutionContext(context.resolutionContext(), keyExpressions, values));
+        });
+    }
+
+    private CompletionStage<Void> evaluateKeyExpression(Object[] values, int index, SectionResolutionContext context) {
+        return context.resolutionContext().evaluate(keyExpressions.get(index))
+                .exceptionally(failure -> {
+                    if (isPropertyNotFound(failure)) {
+                        // e.g. a property of an object that is only rendered if it exists, in strict rendering
+                        return Results.NotFound.EMPTY;
+                    }
+                    throw failure instanceof CompletionException ? (CompletionException) failure
+                            : new CompletionException(failure);
+                })
+                .thenCompose(value -> {
+                    values[index] = value;
+                    int next = index + 1;
+                    if (next < keyExpressions.size()) {
+                        return evaluateKeyExpression(values, next, context);
+                    }
+                    return CompletedStage.ofVoid();
+                });
+    }
+
+    private static boolean isPropertyNotFound(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof TemplateException
+                && ((TemplateException) cause).getCode() == EvaluatorImpl.Code.PROPERTY_NOT_FOUND;
+    }
+
+    private static String sha256(CharSequence value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CompletionStage<ResultNode> resolveInternal(String key, SectionResolutionContext context,
+            ResolutionContext resolutionContext) {
+        requests.increment();
+        return cache.getValue(key, tags, new Function<String, CompletionStage<ResultNode>>() {
             @Override
             public CompletionStage<ResultNode> apply(String key) {
-                return context.execute().thenCompose(rn -> {
+                misses.increment();
+                return context.execute(resolutionContext).thenCompose(rn -> {
                     // Note that we cannot cache the ResultNode but the string representation instead
                     StringBuilder sb = new StringBuilder();
                     rn.process(sb::append);
@@ -56,6 +216,8 @@ public static class Factory implements SectionHelperFactory<CacheSectionHelper>
 
         static final String KEY = "key";
         static final String DEFAULT_KEY = "$default$";
+        static final String AUTO_KEY = "_auto";
+        static final String TAGS = "tags";
 
         private final Cache cache;
 
@@ -70,7 +232,13 @@ public List<String> getDefaultAliases() {
 
         @Override
         public ParametersInfo getParameters() {
-            return ParametersInfo.builder().addParameter(KEY, DEFAULT_KEY).build();
+            return ParametersInfo.builder()
+                    .addParameter(KEY, DEFAULT_KEY)
+                    // {#cached _auto}
+                    .addParameter(Parameter.builder(AUTO_KEY).optional().valuePredicate(AUTO_KEY::equals))
+                    // {#cached tags='foo,bar'}
+                    .addParameter(Parameter.builder(TAGS).optional().ignoreUnnamedValues())
+                    .build();
         }
 
         @Override
@@ -85,7 +253,72 @@ public CacheSectionHelper initialize(SectionInitContext context) {
             if (!context.getParameter(KEY).equals(DEFAULT_KEY)) {
                 key = context.getExpression(KEY);
             }
-            return new CacheSectionHelper(keyPrefix.toString(), key, cache);
+            List<Expression> keyExpressions = Collections.emptyList();
+            if (context.hasParameter(AUTO_KEY)) {
+                // Use the expressions referenced in the cached part; each unique expression is only evaluated once
+                Map<String, Expression> unique = new LinkedHashMap<>();
+                for (SectionBlock block : context.getBlocks()) {
+                    collectKeyExpressions(block.nodes, unique);
+                }
+                keyExpressions = List.copyOf(unique.values());
+            }
+            return new CacheSectionHelper(keyPrefix.toString(), key, keyExpressions, parseTags(context.getParameter(TAGS)),
+                    cache);
+        }
+
+        private static void collectKeyExpressions(List<TemplateNode> nodes, Map<String, Expression> unique) {
+            for (TemplateNode node : nodes) {
+                if (node instanceof ExpressionNode) {
+                    addKeyExpression(((ExpressionNode) node).expression, unique);
+                } else if (node instanceof SectionNode) {
+                    SectionNode section = (SectionNode) node;
+                    for (SectionBlock block : section.getBlocks()) {
+                        for (Expression expression : block.expressions.values()) {
+                            addKeyExpression(expression, unique);
+                        }
+                        // the body of a section that defines data is not resolved in the scope of the cached part
+                        if (!definesData(section.getHelper())) {
+                            collectKeyExpressions(block.nodes, unique);
+                        }
+                    }
+                }
+            }
+        }
+
+        private static void addKeyExpression(Expression expression, Map<String, Expression> unique) {
+            if (expression.isLiteral() || expression.hasNamespace()) {
+                return;
+            }
+            for (Expression.Part part : expression.getParts()) {
+                if (part.isVirtualMethod()) {
+                    // a method call may be expensive or have side effects
+                    return;
+                }
+            }
+            unique.putIfAbsent(expression.toOriginalString(), expression);
+        }
+
+        private static boolean definesData(SectionHelper helper) {
+            return helper instanceof LoopSectionHelper || helper instanceof SetSectionHelper
+                    || helper instanceof WithSectionHelper || helper instanceof UserTagSectionHelper
+                    || helper instanceof IncludeSectionHelper;
+        }
+
+        static Set<String> parseTags(String value) {
+            if (value == null) {
+                return Collections.emptySet();
+            }
+            if (LiteralSupport.isStringLiteral(value)) {
+                value = LiteralSupport.extractStringValue(value);
+            }
+            Set<String> tags = new LinkedHashSet<>();
+            for (String tag : value.split(",")) {
+                tag = tag.strip();
+                if (!tag.isEmpty()) {
+                    tags.add(tag);
+                }
+            }
+            return Collections.unmodifiableSet(tags);
         }
 
         @Override
@@ -103,6 +336,94 @@ public Scope initializeBlock(Scope previousScope, BlockInfo block) {
 
     }
 
+    /**
+     * Returns the values of the key expressions evaluated for the cache lookup, so that they are not evaluated again when
+     * the cached part is rendered. Other expressions and child contexts are resolved by the delegate.
+     */
+    static final class KeyValuesResolutionContext implements ResolutionContext {
+
+        private final ResolutionContext delegate;
+        private final Map<String, Object> values;
+
+        KeyValuesResolutionContext(ResolutionContext delegate, List<Expression> keyExpressions, Object[] values) {
+            this.delegate = delegate;
+            this.values = new HashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                if (!Results.isNotFound(values[i])) {
+                    this.values.put(keyExpressions.get(i).toOriginalString(), values[i]);
+                }
+            }
+        }
+
+        @Override
+        public CompletionStage<Object> evaluate(String expression) {
+            return delegate.evaluate(expression);
+        }
+
+        @Override
+        public CompletionStage<Object> evaluate(Expression expression) {
+            String key = expression.toOriginalString();
+            if (values.containsKey(key)) {
+                return CompletedStage.of(values.get(key));
+            }
+            return delegate.evaluate(expression);
+        }
+
+        @Override
+        public ResolutionContext createChild(Object data, Map<String, SectionBlock> extendingBlocks) {
+            return delegate.createChild(data, extendingBlocks);
+        }
+
+        @Override
+        public Object getData() {
+            return delegate.getData();
+        }
+
+        @Override
+        public ResolutionContext getParent() {
+            return delegate.getParent();
+        }
+
+        @Override
+        public SectionBlock getExtendingBlock(String name) {
+            return delegate.getExtendingBlock(name);
+        }
+
+        @Override
+        public SectionBlock getCurrentExtendingBlock(String name) {
+            return delegate.getCurrentExtendingBlock(name);
+        }
+
+        @Override
+        public Object getAttribute(String key) {
+            return delegate.getAttribute(key);
+        }
+
+        @Override
+        public Template getTemplate() {
+            return delegate.getTemplate();
+        }
+
+        @Override
+        public Evaluator getEvaluator() {
+            return delegate.getEvaluator();
+        }
+
+    }
+
+    enum Code implements ErrorCode {
+
+        KEY_VALUE_WITHOUT_TO_STRING,
+
+        ;
+
+        @Override
+        public String getName() {
+            return "CACHED_" + name();
+        }
+
+    }
+
     /**
      * A cache abstraction. An implementation must be thread-safe.
      */
@@ -116,6 +437,19 @@ public interface Cache {
          */
         CompletionStage<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader);
 
+        /**
+         * An implementation that supports tag-based invalidation should override this method.
+         *
+         * @param key The key for the cached part of the template
+         * @param tags The tags of the cached part of the template, may be empty
+         * @param loader The loader that can be used to load the cached value
+         * @return the cached result
+         */
+        default CompletionStage<ResultNode> getValue(String key, Set<String> tags,
+                Function<String, CompletionStage<ResultNode>> loader) {
+            return getValue(key, loader);
+        }
+
     }
 
 }
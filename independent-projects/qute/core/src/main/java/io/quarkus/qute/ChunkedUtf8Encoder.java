@@ -0,0 +1,149 @@
+package io.quarkus.qute;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Encodes the rendered parts of a template in UTF-8 incrementally, i.e. without building the whole result first. The encoded
+ * bytes are written in a chunk of a fixed size; a full chunk is passed to the chunk consumer and a new chunk is allocated.
+ * <p>
+ * {@link TextNode}s are recognized and their pre-encoded value is copied directly.
+ * <p>
+ * A surrogate pair may be split across consecutive parts, e.g. a text node ending with a high surrogate followed by an
+ * expression starting with a low surrogate. Unpaired surrogates are replaced with {@code '?'}, which is consistent with
+ * {@link String#getBytes(java.nio.charset.Charset)}. This class is not thread-safe.
+ */
+final class ChunkedUtf8Encoder implements Consumer<String> {
+
+    private static final byte REPLACEMENT = '?';
+
+    private final int chunkSize;
+    private final Consumer<byte[]> chunkConsumer;
+
+    private byte[] chunk;
+    private int position;
+    private char highSurrogate;
+
+    ChunkedUtf8Encoder(int chunkSize, Consumer<byte[]> chunkConsumer) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.chunkConsumer = chunkConsumer;
+        this.chunk = new byte[chunkSize];
+    }
+
+    @Override
+    public void accept(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            encode(value.charAt(i));
+        }
+    }
+
+    /**
+     * Writes a string whose bytes were already encoded with {@link #encodeText(String)}. A surrogate at the boundaries of
+     * the string is encoded along with the surrounding strings, as it may be part of a pair split across them.
+     */
+    void acceptEncoded(String value, byte[] bytes) {
+        int length = value.length();
+        if (length > 0 && Character.isLowSurrogate(value.charAt(0))) {
+            encode(value.charAt(0));
+        } else {
+            completeSurrogate();
+        }
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (position == chunk.length) {
+                emit();
+            }
+            int count = Math.min(bytes.length - offset, chunk.length - position);
+            System.arraycopy(bytes, offset, chunk, position, count);
+            position += count;
+            offset += count;
+        }
+        if (length > 0 && Character.isHighSurrogate(value.charAt(length - 1))) {
+            encode(value.charAt(length - 1));
+        }
+    }
+
+    /**
+     * @return the given string encoded in UTF-8, without a leading low surrogate and a trailing high surrogate
+     * @see #acceptEncoded(String, byte[])
+     */
+    static byte[] encodeText(String value) {
+        int start = 0;
+        int end = value.length();
+        if (end > 0 && Character.isLowSurrogate(value.charAt(0))) {
+            start++;
+        }
+        if (end > start && Character.isHighSurrogate(value.charAt(end - 1))) {
+            end--;
+        }
+        return value.substring(start, end).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Passes the last, possibly incomplete, chunk to the chunk consumer.
+     */
+    void flush() {
+        completeSurrogate();
+        if (position > 0) {
+            chunkConsumer.accept(position == chunk.length ? chunk : Arrays.copyOf(chunk, position));
+            chunk = null;
+            position = 0;
+        }
+    }
+
+    private void encode(char c) {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                write((byte) (0xF0 | (codePoint >> 18)));
+                write((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                write((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                write((byte) (0x80 | (codePoint & 0x3F)));
+                return;
+            }
+            write(REPLACEMENT);
+        }
+        if (c < 0x80) {
+            write((byte) c);
+        } else if (c < 0x800) {
+            write((byte) (0xC0 | (c >> 6)));
+            write((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c)) {
+            // the low surrogate may be part of the next string
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            write(REPLACEMENT);
+        } else {
+            write((byte) (0xE0 | (c >> 12)));
+            write((byte) (0x80 | ((c >> 6) & 0x3F)));
+            write((byte) (0x80 | (c & 0x3F)));
+        }
+    }
+
+    private void completeSurrogate() {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            write(REPLACEMENT);
+        }
+    }
+
+    private void write(byte b) {
+        if (position == chunk.length) {
+            emit();
+        }
+        chunk[position++] = b;
+    }
+
+    private void emit() {
+        chunkConsumer.accept(chunk);
+        chunk = new byte[chunkSize];
+        position = 0;
+    }
+
+}
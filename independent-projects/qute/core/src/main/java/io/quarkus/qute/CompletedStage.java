@@ -47,6 +47,15 @@ public static CompletedStage<Object> ofNull() {
         return NULL;
     }
 
+    /**
+     * @param stage
+     * @return {@code true} if the given stage is a {@link CompletedStage} that did not complete exceptionally, i.e. its result
+     *         can be obtained synchronously
+     */
+    static boolean isSuccess(CompletionStage<?> stage) {
+        return stage instanceof CompletedStage && ((CompletedStage<?>) stage).exception == null;
+    }
+
     private final T result;
     private final Throwable exception;
 
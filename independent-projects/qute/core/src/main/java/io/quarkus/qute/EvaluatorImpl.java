@@ -131,8 +131,17 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
             return resolve(evalContext, null, true, expression, true, partIndex);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+            CompletionStage<Object> result = resolve(evalContext, null, true, expression, false, partIndex);
+            if (CompletedStage.isSuccess(result)) {
+                // Synchronous fast path - no need to allocate a continuation
+                try {
+                    return resolveReference(false, ((CompletedStage<Object>) result).get(), parts, resolutionContext,
+                            expression, partIndex + 1);
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
     }
 
@@ -143,7 +152,15 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cached = evalContext.getCachedResolver();
             if (cached != null && cached.appliesTo(evalContext)) {
-                return cached.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> result = cached.resolve(evalContext);
+                if (CompletedStage.isSuccess(result)) {
+                    // Synchronous fast path - no need to allocate a continuation
+                    Object r = ((CompletedStage<Object>) result).get();
+                    if (!Results.isNotFound(r)) {
+                        return CompletionStageSupport.toCompletionStage(r);
+                    }
+                }
+                return result.thenCompose(r -> {
                     if (Results.isNotFound(r)) {
                         return resolve(evalContext, null, false, expression, isLastPart, partIndex);
                     } else {
@@ -206,9 +223,18 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             return CompletedStage.of(notFound);
         }
 
+        CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+        if (CompletedStage.isSuccess(result)) {
+            // Synchronous fast path - no need to allocate a continuation
+            Object r = ((CompletedStage<Object>) result).get();
+            if (!Results.isNotFound(r)) {
+                evalContext.setCachedResolver(applicableResolver.getCachedResolver(evalContext));
+                return CompletionStageSupport.toCompletionStage(r);
+            }
+        }
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
+        return result.thenCompose(r -> {
             if (Results.isNotFound(r)) {
                 // Result not found - try the next resolver
                 return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
@@ -33,7 +33,16 @@ public CompletionStage<ResultNode> resolve(ResolutionContext context) {
         if (traceLevel) {
             LOG.tracef("Resolve {%s} started:%s", expression.toOriginalString(), expression.getOrigin());
         }
-        return context.evaluate(expression).thenCompose(this::toResultNode);
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (CompletedStage.isSuccess(result)) {
+            // Synchronous fast path - no need to allocate a continuation
+            try {
+                return toResultNode(((CompletedStage<Object>) result).get());
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
+        return result.thenCompose(this::toResultNode);
     }
 
     @Override
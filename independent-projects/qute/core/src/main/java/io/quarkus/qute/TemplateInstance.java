@@ -128,6 +128,38 @@ default Multi<String> createMulti() {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Create a new {@link Multi} that can be used to consume the rendered template encoded in UTF-8. Each item is a chunk of
+     * the given size, except for the last one which may be smaller.
+     * <p>
+     * Unlike {@link #createUni()} the rendered template is not built as a whole string first; the static text of a template
+     * is only encoded once and the output of expressions is encoded incrementally. The chunks can be written to an HTTP
+     * response as soon as they are emitted.
+     * <p>
+     * The rendering does not wait for the demand of the subscriber: the chunks are emitted as the template is rendered and
+     * buffered until they are requested, so a subscriber that requests them slower than they are rendered may still hold
+     * the whole output in memory.
+     * <p>
+     * This operation does not trigger rendering. Instead, each subscription triggers a new rendering of the template.
+     *
+     * @param chunkSize the size of a chunk in bytes
+     * @return a new Multi
+     * @see #consume(Consumer)
+     */
+    default Multi<byte[]> createUtf8Multi(int chunkSize) {
+        return Multi.createFrom().emitter(emitter -> {
+            ChunkedUtf8Encoder encoder = new ChunkedUtf8Encoder(chunkSize, emitter::emit);
+            consume(encoder).whenComplete((r, f) -> {
+                if (f == null) {
+                    encoder.flush();
+                    emitter.complete();
+                } else {
+                    emitter.fail(f);
+                }
+            });
+        });
+    }
+
     /**
      * Create a new {@link Uni} that can be used to consume the rendered template.
      * <p>
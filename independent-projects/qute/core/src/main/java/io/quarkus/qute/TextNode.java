@@ -11,6 +11,8 @@ public class TextNode extends ResultNode implements TemplateNode {
     private final CompletedStage<ResultNode> result;
     private final String value;
     private final Origin origin;
+    // encoded lazily when the node is rendered in UTF-8 for the first time
+    private volatile byte[] encodedValue;
 
     public TextNode(String value, Origin origin) {
         this.result = CompletedStage.of(this);
@@ -44,7 +46,20 @@ public String getValue() {
 
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof ChunkedUtf8Encoder) {
+            ((ChunkedUtf8Encoder) consumer).acceptEncoded(value, getEncodedValue());
+        } else {
+            consumer.accept(value);
+        }
+    }
+
+    private byte[] getEncodedValue() {
+        byte[] encoded = encodedValue;
+        if (encoded == null) {
+            encoded = ChunkedUtf8Encoder.encodeText(value);
+            encodedValue = encoded;
+        }
+        return encoded;
     }
 
     @Override
@@ -22,6 +22,22 @@ public void testAsyncData() {
         assertEquals("alpha", engine.parse("{token}").data("token", CompletedStage.of("alpha")).render());
     }
 
+    @Test
+    public void testMixedSyncAndAsyncParts() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Client.class)
+                        .applyToName("tokens").resolveSync(ec -> ((Client) ec.getBase()).getTokens()).build())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Client.class)
+                        .applyToName("name").resolveSync(ec -> CompletedStage.of("foo")).build())
+                .build();
+        Template template = engine
+                .parse("{client.tokens.size}:{client.tokens.get(1)}:{client.name ?: 'bar'}:{client.missing ?: 'none'}");
+        for (int i = 0; i < 3; i++) {
+            // render multiple times so that the cached resolvers are used
+            assertEquals("3:bravo:foo:none", template.data("client", new Client()).render());
+        }
+    }
+
     static class Client {
 
         public CompletionStage<List<String>> getTokens() {
@@ -2,7 +2,11 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -71,6 +75,142 @@ public void testCachedWithFailure() {
         assertEquals(1, map.size());
     }
 
+    @Test
+    public void testCachedWithAutoKey() {
+        ConcurrentMap<String, CompletionStage<ResultNode>> map = new ConcurrentHashMap<>();
+        Engine engine = engineWithCache(map);
+
+        Template template = engine.parse(
+                "{#cached _auto}{user.name}:{user.getName()}{#for item in items}:{item}{/for}{/cached}", null, "foo.html");
+        CacheSectionHelper helper = (CacheSectionHelper) template.findNodes(n -> n.isSection()).iterator().next()
+                .asSection().getHelper();
+        List<String> items = List.of("a", "b");
+
+        assertEquals("foo:foo:a:b", template.data("user", new User("foo"), "items", items).render());
+        assertEquals("foo:foo:a:b", template.data("user", new User("foo"), "items", items).render());
+        assertEquals(1, helper.getMissCount());
+        assertEquals(1, helper.getHitCount());
+        // the method call and the iteration element are not part of the key
+        assertEquals("foo.html:1:1_[3:foo,6:[a, b]]", map.keySet().iterator().next());
+
+        assertEquals("bar:bar:a:b", template.data("user", new User("bar"), "items", items).render());
+        assertEquals("bar:bar:a", template.data("user", new User("bar"), "items", List.of("a")).render());
+        assertEquals(3, helper.getMissCount());
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    public void testCachedWithAutoKeyEvaluatedOnce() {
+        ConcurrentMap<String, CompletionStage<ResultNode>> map = new ConcurrentHashMap<>();
+        Engine engine = engineWithCache(map);
+
+        Template template = engine.parse("{#cached _auto}{counter.val}{/cached}");
+        Counter counter = new Counter();
+        // the value evaluated for the key is rendered
+        assertEquals("1", template.data("counter", counter).render());
+        assertEquals("2", template.data("counter", counter).render());
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testCachedWithLongAutoKey() {
+        ConcurrentMap<String, CompletionStage<ResultNode>> map = new ConcurrentHashMap<>();
+        Engine engine = engineWithCache(map);
+
+        Template template = engine.parse("{#cached _auto}{user.name}{/cached}", null, "foo.html");
+        String name = "x".repeat(1000);
+        assertEquals(name, template.data("user", new User(name)).render());
+        assertTrue(map.keySet().iterator().next().matches("foo\\.html:1:1_\\[#[0-9a-f]{64}\\]"));
+    }
+
+    @Test
+    public void testCachedWithAutoKeyValuesContainingSeparators() {
+        ConcurrentMap<String, CompletionStage<ResultNode>> map = new ConcurrentHashMap<>();
+        Engine engine = engineWithCache(map);
+
+        Template template = engine.parse("{#cached _auto}{first}|{last}{/cached}");
+        assertEquals("a,b|c", template.data("first", "a,b", "last", "c").render());
+        // the values differ, so the part must not be served from the entry of the previous values
+        assertEquals("a|b,c", template.data("first", "a", "last", "b,c").render());
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testCachedWithAutoKeyValueWithoutToString() {
+        ConcurrentMap<String, CompletionStage<ResultNode>> map = new ConcurrentHashMap<>();
+        Engine engine = engineWithCache(map);
+
+        Template template = engine.parse("{#cached _auto}{counter}{/cached}");
+        TemplateException e = assertThrows(TemplateException.class,
+                () -> template.data("counter", new Counter()).render());
+        assertEquals(CacheSectionHelper.Code.KEY_VALUE_WITHOUT_TO_STRING, e.getCode());
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testCachedWithAutoKeyFailure() {
+        ConcurrentMap<String, CompletionStage<ResultNode>> map = new ConcurrentHashMap<>();
+        Engine engine = engineWithCache(map);
+
+        Template template = engine.parse("{#cached _auto}{#if fail}{counter.failing}{/if}{/cached}");
+        // a failing property is not part of an unresolved key
+        assertThrows(IllegalStateException.class,
+                () -> template.data("counter", new Counter(), "fail", false).render());
+        assertEquals(0, map.size());
+        // a missing property is unresolved, also in strict rendering
+        assertEquals("", template.data("fail", false).render());
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testCachedStats() {
+        ConcurrentMap<String, CompletionStage<ResultNode>> map = new ConcurrentHashMap<>();
+        Engine engine = engineWithCache(map);
+
+        Template template = engine.parse("{#cached key=myKey tags='foo, bar'}{counter.val}{/cached}");
+        Counter counter = new Counter();
+        template.data("counter", counter, "myKey", "foo").render();
+        template.data("counter", counter, "myKey", "foo").render();
+        template.data("counter", counter, "myKey", "bar").render();
+
+        CacheSectionHelper helper = (CacheSectionHelper) template.findNodes(n -> n.isSection()).iterator().next()
+                .asSection().getHelper();
+        assertEquals(1, helper.getHitCount());
+        assertEquals(2, helper.getMissCount());
+        assertEquals(Set.of("foo", "bar"), helper.getTags());
+    }
+
+    @Test
+    public void testCachedWithTags() {
+        ConcurrentMap<String, CompletionStage<ResultNode>> map = new ConcurrentHashMap<>();
+        // the invalidation by tag is implemented by the cache, the section only passes the tags of each part
+        Map<String, Set<String>> keyToTags = new ConcurrentHashMap<>();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addSectionHelper(new CacheSectionHelper.Factory(new Cache() {
+
+                    @Override
+                    public CompletionStage<ResultNode> getValue(String key, Set<String> tags,
+                            Function<String, CompletionStage<ResultNode>> loader) {
+                        keyToTags.put(key, tags);
+                        return getValue(key, loader);
+                    }
+
+                    @Override
+                    public CompletionStage<ResultNode> getValue(String key,
+                            Function<String, CompletionStage<ResultNode>> loader) {
+                        return map.computeIfAbsent(key, k -> loader.apply(k));
+                    }
+                })).build();
+
+        Template template = engine.parse("{#cached tags='header, nav'}{counter.val}{/cached}::{#cached}{counter.val}{/cached}",
+                null, "foo.html");
+        Counter counter = new Counter();
+        assertEquals("1::2", template.data("counter", counter).render());
+        assertEquals("1::2", template.data("counter", counter).render());
+        assertEquals(2, map.size());
+        assertEquals(Map.of("foo.html:1:1_", Set.of("header", "nav"), "foo.html:1:53_", Set.of()), keyToTags);
+    }
+
     private Engine engineWithCache(ConcurrentMap<String, CompletionStage<ResultNode>> map) {
         return Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
                 .addSectionHelper(new CacheSectionHelper.Factory(new Cache() {
@@ -82,6 +222,20 @@ public CompletionStage<ResultNode> getValue(String key,
                 })).build();
     }
 
+    public static class User {
+
+        public String name;
+
+        User(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
     public static class Counter {
 
         private final AtomicInteger val = new AtomicInteger();
@@ -90,6 +244,10 @@ public int getVal() {
             return val.incrementAndGet();
         }
 
+        public int getFailing() {
+            throw new IllegalStateException();
+        }
+
         public int getVal(boolean failure) {
             if (failure) {
                 throw new IllegalStateException();
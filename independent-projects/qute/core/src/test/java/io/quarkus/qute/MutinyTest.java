@@ -1,9 +1,12 @@
 package io.quarkus.qute;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -31,6 +34,31 @@ public void testCreateMulti() throws InterruptedException {
         assertMulti(multi.select().first(), "foo");
     }
 
+    @Test
+    public void testCreateUtf8Multi() {
+        Engine engine = Engine.builder().addDefaults().build();
+        // static text, multi-byte characters, surrogate pairs split across two expressions or across an expression and
+        // static text, and an unpaired surrogate
+        Template template = engine.parse(
+                "Hello {name}! Ďakujem {#each items}{it}{/} \uD83D{low} {high}\uDE00 \uD83D{end}");
+        TemplateInstance instance = template.data("name", "Žluťoučký kůň", "items", List.of("€", "\uD83D", "\uDE00", "x"),
+                "low", "\uDE00", "high", "\uD83D", "end", "!");
+        String expected = instance.render();
+        assertEquals(3, expected.codePoints().filter(Character::isSupplementaryCodePoint).count());
+        for (int chunkSize : new int[] { 1, 3, 7, 1024 }) {
+            List<byte[]> chunks = instance.createUtf8Multi(chunkSize).collect().asList().await().indefinitely();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (int i = 0; i < chunks.size(); i++) {
+                byte[] chunk = chunks.get(i);
+                if (i < chunks.size() - 1) {
+                    assertEquals(chunkSize, chunk.length);
+                }
+                out.writeBytes(chunk);
+            }
+            assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), out.toByteArray(), "Chunk size: " + chunkSize);
+        }
+    }
+
     @Test
     public void testCreateUni() throws InterruptedException {
         Engine engine = Engine.builder().addDefaults().build();
@@ -39,6 +39,18 @@ public class ResteasyReactiveConfig {
      */
     private boolean defaultProduces;
 
+    /**
+     * Whether the trailing handlers of an endpoint that can never suspend the request (content type selection,
+     * response creation and response writing) are fused into a single handler.
+     */
+    private boolean fuseHandlerChain;
+
+    /**
+     * Whether the flushes of a connection are coalesced, so that the responses completed during the same event loop
+     * iteration are written with a single flush.
+     */
+    private boolean coalesceFlushes;
+
     // we need this (and the setters) due to Bytecode Recording
     public ResteasyReactiveConfig() {
     }
@@ -52,6 +64,12 @@ public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int output
         this.defaultProduces = defaultProduces;
     }
 
+    public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int outputBufferSize, boolean singleDefaultProduces,
+            boolean defaultProduces, boolean fuseHandlerChain) {
+        this(inputBufferSize, minChunkSize, outputBufferSize, singleDefaultProduces, defaultProduces);
+        this.fuseHandlerChain = fuseHandlerChain;
+    }
+
     public long getInputBufferSize() {
         return inputBufferSize;
     }
@@ -91,4 +109,20 @@ public boolean isDefaultProduces() {
     public void setDefaultProduces(boolean defaultProduces) {
         this.defaultProduces = defaultProduces;
     }
+
+    public boolean isFuseHandlerChain() {
+        return fuseHandlerChain;
+    }
+
+    public void setFuseHandlerChain(boolean fuseHandlerChain) {
+        this.fuseHandlerChain = fuseHandlerChain;
+    }
+
+    public boolean isCoalesceFlushes() {
+        return coalesceFlushes;
+    }
+
+    public void setCoalesceFlushes(boolean coalesceFlushes) {
+        this.coalesceFlushes = coalesceFlushes;
+    }
 }
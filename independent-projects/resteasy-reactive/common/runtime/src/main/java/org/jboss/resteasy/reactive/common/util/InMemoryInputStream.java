@@ -0,0 +1,42 @@
+package org.jboss.resteasy.reactive.common.util;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * A stream over a request or response body that has been fully read into memory.
+ * <p>
+ * Readers that can parse from a byte array directly may use {@link #array()}, {@link #position()} and
+ * {@link #available()} instead of reading through the stream, which avoids copying the body into their own
+ * buffers chunk by chunk. They should then call {@link #consume()} so the body is not read again.
+ */
+public class InMemoryInputStream extends ByteArrayInputStream {
+
+    public InMemoryInputStream(byte[] buf) {
+        super(buf);
+    }
+
+    public InMemoryInputStream(byte[] buf, int offset, int length) {
+        super(buf, offset, length);
+    }
+
+    /**
+     * @return the array backing this stream, the unread part of which starts at {@link #position()}
+     */
+    public byte[] array() {
+        return buf;
+    }
+
+    /**
+     * @return the offset in {@link #array()} of the next byte to be read
+     */
+    public synchronized int position() {
+        return pos;
+    }
+
+    /**
+     * Marks all the remaining bytes as read.
+     */
+    public synchronized void consume() {
+        pos = count;
+    }
+}
@@ -1,5 +1,7 @@
 package org.jboss.resteasy.reactive.server.jackson;
 
+import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyReaderUtil.readValue;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
@@ -40,7 +42,7 @@ private Object doReadFrom(Class<Object> type, Type genericType, InputStream enti
             return null;
         }
         ObjectReader reader = getEffectiveReader();
-        return reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type))
-                .readValue(entityStream);
+        return readValue(reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type)),
+                entityStream);
     }
 }
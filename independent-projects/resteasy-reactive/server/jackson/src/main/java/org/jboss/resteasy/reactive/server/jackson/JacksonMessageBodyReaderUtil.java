@@ -0,0 +1,28 @@
+package org.jboss.resteasy.reactive.server.jackson;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.jboss.resteasy.reactive.common.util.InMemoryInputStream;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+public final class JacksonMessageBodyReaderUtil {
+
+    private JacksonMessageBodyReaderUtil() {
+    }
+
+    /**
+     * Parses a body that was fully buffered on the IO thread straight from its array, instead of having Jackson
+     * copy it through the stream into its own buffers.
+     */
+    public static Object readValue(ObjectReader reader, InputStream entityStream) throws IOException {
+        if (entityStream instanceof InMemoryInputStream) {
+            InMemoryInputStream inMemory = (InMemoryInputStream) entityStream;
+            Object result = reader.readValue(inMemory.array(), inMemory.position(), inMemory.available());
+            inMemory.consume();
+            return result;
+        }
+        return reader.readValue(entityStream);
+    }
+}
@@ -101,6 +101,16 @@ public static class ScanStep {
          */
         private boolean defaultProduces;
 
+        private boolean fuseHandlerChain;
+
+        private boolean coalesceFlushes;
+
+        /**
+         * The input buffer size of the running application. The default of {@code 0} hands every request body to a
+         * worker thread.
+         */
+        private long runtimeInputBufferSize;
+
         private boolean removesTrailingSlash = true;
 
         private Map<DotName, ClassInfo> additionalResources = new HashMap<>();
@@ -130,6 +140,15 @@ public ScanStep setInputBufferSize(int inputBufferSize) {
             return this;
         }
 
+        public long getRuntimeInputBufferSize() {
+            return runtimeInputBufferSize;
+        }
+
+        public ScanStep setRuntimeInputBufferSize(long runtimeInputBufferSize) {
+            this.runtimeInputBufferSize = runtimeInputBufferSize;
+            return this;
+        }
+
         public boolean isSingleDefaultProduces() {
             return singleDefaultProduces;
         }
@@ -139,6 +158,24 @@ public ScanStep setSingleDefaultProduces(boolean singleDefaultProduces) {
             return this;
         }
 
+        public boolean isFuseHandlerChain() {
+            return fuseHandlerChain;
+        }
+
+        public ScanStep setFuseHandlerChain(boolean fuseHandlerChain) {
+            this.fuseHandlerChain = fuseHandlerChain;
+            return this;
+        }
+
+        public boolean isCoalesceFlushes() {
+            return coalesceFlushes;
+        }
+
+        public ScanStep setCoalesceFlushes(boolean coalesceFlushes) {
+            this.coalesceFlushes = coalesceFlushes;
+            return this;
+        }
+
         public ScanStep addContextType(DotName type) {
             contextTypes.add(type);
             return this;
@@ -236,7 +273,7 @@ public ScanResult scan() {
                     .setInjectableBeans(new HashMap<>())
                     .setConfig(
                             new ResteasyReactiveConfig(inputBufferSize, minChunkSize, outputBufferSize, singleDefaultProduces,
-                                    defaultProduces))
+                                    defaultProduces, fuseHandlerChain))
                     .setHttpAnnotationToMethod(resources.getHttpAnnotationToMethod())
                     .setApplicationScanningResult(applicationScanningResult)
                     .setRemovesTrailingSlash(removesTrailingSlash);
@@ -406,8 +443,12 @@ public RunnableApplication createApplication(RuntimeConfiguration runtimeConfigu
                 }
             }
 
+            ResteasyReactiveConfig config = new ResteasyReactiveConfig();
+            config.setInputBufferSize(scanStep.runtimeInputBufferSize);
+            config.setFuseHandlerChain(scanStep.fuseHandlerChain);
+            config.setCoalesceFlushes(scanStep.coalesceFlushes);
             DeploymentInfo info = new DeploymentInfo()
-                    .setResteasyReactiveConfig(new ResteasyReactiveConfig())
+                    .setResteasyReactiveConfig(config)
                     .setFeatures(sa.scannedFeatures)
                     .setInterceptors(sa.resourceInterceptors)
                     .setDynamicFeatures(sa.dynamicFeatures)
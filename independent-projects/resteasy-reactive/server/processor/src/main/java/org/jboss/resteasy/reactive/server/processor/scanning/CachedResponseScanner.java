@@ -0,0 +1,58 @@
+package org.jboss.resteasy.reactive.server.processor.scanning;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.CachedResponse;
+import org.jboss.resteasy.reactive.server.handlers.CachedResponseHandler;
+import org.jboss.resteasy.reactive.server.model.FixedHandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+
+public class CachedResponseScanner implements MethodScanner {
+
+    private static final DotName CACHED_RESPONSE = DotName.createSimple(CachedResponse.class.getName());
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        AnnotationInstance cachedResponse = annotationStore.getAnnotation(method, CACHED_RESPONSE);
+        if (cachedResponse == null) {
+            return Collections.emptyList();
+        }
+        if (!annotationStore.hasAnnotation(method, ResteasyReactiveDotNames.GET)) {
+            throw new IllegalStateException(
+                    "'@CachedResponse' can only be used on '@GET' resource methods. Offending method is '"
+                            + method.name() + "' of class '" + method.declaringClass().name() + "'");
+        }
+
+        long ttl = cachedResponse.value("ttl").asLong();
+        AnnotationValue unitValue = cachedResponse.value("unit");
+        TimeUnit unit = unitValue == null ? TimeUnit.SECONDS : TimeUnit.valueOf(unitValue.asEnum());
+        AnnotationValue varyHeadersValue = cachedResponse.value("varyHeaders");
+        AnnotationValue maxEntriesValue = cachedResponse.value("maxEntries");
+        AnnotationValue maxEntrySizeValue = cachedResponse.value("maxEntrySize");
+
+        CachedResponseHandler handler = new CachedResponseHandler();
+        handler.setTtlMillis(unit.toMillis(ttl));
+        handler.setVaryHeaders(varyHeadersValue == null ? new String[0] : varyHeadersValue.asStringArray());
+        handler.setMaxEntries(maxEntriesValue == null ? 1000 : maxEntriesValue.asInt());
+        handler.setMaxEntrySize(maxEntrySizeValue == null ? 1024 * 1024 : maxEntrySizeValue.asInt());
+        // cache hits are served after the request filters ran, but before any parameter is resolved
+        // the headers are captured before the response filters add theirs, as the filters run again on a cache hit
+        return List.of(
+                new FixedHandlerChainCustomizer(handler, HandlerChainCustomizer.Phase.RESOLVE_METHOD_PARAMETERS),
+                new FixedHandlerChainCustomizer(new CachedResponseHandler.CaptureHeadersHandler(),
+                        HandlerChainCustomizer.Phase.AFTER_RESPONSE_CREATED));
+    }
+}
@@ -0,0 +1,46 @@
+package org.jboss.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the serialized body of a successful {@code GET} response in memory, so that subsequent requests for the same
+ * path, query and varying headers are answered without invoking the resource method or serializing the entity again.
+ * <p>
+ * The response headers set by the resource method, except {@code Set-Cookie}, are replayed with the cached body. The
+ * headers added by response filters are not stored, as the filters also run for cached responses.
+ * Cached responses carry an {@code ETag} header, and conditional requests with a matching {@code If-None-Match} header
+ * are answered with {@code 304 Not Modified}. Request and response filters are still applied to cached responses.
+ * <p>
+ * Only use this on endpoints whose response does not depend on anything else than the request path, the query and
+ * the headers listed in {@link #varyHeaders()}, as the security identity for example is not part of the cache key.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CachedResponse {
+
+    /**
+     * How long a cached response is served before the resource method is invoked again.
+     */
+    long ttl();
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * The request headers whose values are part of the cache key, in addition to {@code Accept}.
+     */
+    String[] varyHeaders() default {};
+
+    /**
+     * The maximum number of responses cached for the endpoint. Once reached, the least recently used response is evicted.
+     */
+    int maxEntries() default 1000;
+
+    /**
+     * The maximum size in bytes of a cached response body. Larger responses are not cached.
+     */
+    int maxEntrySize() default 1024 * 1024;
+}
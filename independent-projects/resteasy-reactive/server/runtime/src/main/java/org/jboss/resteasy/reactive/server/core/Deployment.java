@@ -18,6 +18,7 @@
 import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
 import org.jboss.resteasy.reactive.common.model.ResourceParamConverterProvider;
 import org.jboss.resteasy.reactive.common.util.types.Types;
+import org.jboss.resteasy.reactive.server.core.multipart.MultipartMemoryBudget;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.ParameterConverter;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.RuntimeParameterConverter;
 import org.jboss.resteasy.reactive.server.core.serialization.EntityWriter;
@@ -50,6 +51,8 @@ public class Deployment {
     private final boolean servletPresent;
     private final ResteasyReactiveConfig resteasyReactiveConfig;
     private final Map<String, List<String>> disabledEndpoints;
+    private final MultipartMemoryBudget multipartMemoryBudget = new MultipartMemoryBudget();
+    private final FlushStatistics flushStatistics = new FlushStatistics();
     //this is not final, as it is set after startup
     private RuntimeConfiguration runtimeConfiguration;
 
@@ -215,4 +218,12 @@ public Deployment setRuntimeConfiguration(RuntimeConfiguration runtimeConfigurat
     public Map<String, List<String>> getDisabledEndpoints() {
         return disabledEndpoints;
     }
+
+    public MultipartMemoryBudget getMultipartMemoryBudget() {
+        return multipartMemoryBudget;
+    }
+
+    public FlushStatistics getFlushStatistics() {
+        return flushStatistics;
+    }
 }
@@ -12,13 +12,19 @@
  * Wrapper around MediaType that saves the toString value, to avoid
  * the expensive header delegate processing.
  * It also harmonizes the use of charset
+ * <p>
+ * The header value is encoded on first use and then kept, so that instances created at deployment time (such as the
+ * ones of {@link org.jboss.resteasy.reactive.server.handlers.FixedProducesHandler}) only encode it once, and instances
+ * created per request do not encode it unless it's needed.
  */
 public class EncodedMediaType implements ContentType {
+    final MediaType original;
     final MediaType mediaType;
     final String charset;
     String encoded;
 
     public EncodedMediaType(MediaType mediaType) {
+        this.original = mediaType;
         MediaType effectiveMediaType = mediaType;
         String effectiveCharset;
         String originalCharset = mediaType.getParameters().get("charset");
@@ -38,7 +44,12 @@ public EncodedMediaType(MediaType mediaType) {
         this.mediaType = effectiveMediaType;
     }
 
-    // TODO: does this need to be more complex?
+    /**
+     * @return whether this was created from this very {@code mediaType} instance
+     */
+    boolean isEncodingOf(MediaType mediaType) {
+        return original == mediaType;
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,36 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the flushes requested and performed by the responses of a deployment when flush coalescing is enabled.
+ * <p>
+ * The difference between both counters is the number of flushes, and thus usually write syscalls, that were saved.
+ */
+public final class FlushStatistics {
+
+    private final LongAdder requestedFlushes = new LongAdder();
+    private final LongAdder performedFlushes = new LongAdder();
+
+    public void flushRequested() {
+        requestedFlushes.increment();
+    }
+
+    public void flushPerformed() {
+        performedFlushes.increment();
+    }
+
+    /**
+     * @return the number of flushes requested on connections with coalescing enabled
+     */
+    public long getRequestedFlushes() {
+        return requestedFlushes.sum();
+    }
+
+    /**
+     * @return the number of flushes actually performed on connections with coalescing enabled
+     */
+    public long getPerformedFlushes() {
+        return performedFlushes.sum();
+    }
+}
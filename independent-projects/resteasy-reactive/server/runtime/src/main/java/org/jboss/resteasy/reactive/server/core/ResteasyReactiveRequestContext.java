@@ -1,5 +1,6 @@
 package org.jboss.resteasy.reactive.server.core;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
@@ -16,6 +17,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 
 import jakarta.enterprise.inject.Instance;
@@ -132,6 +134,7 @@
     private String authority;
     private String remaining;
     private EncodedMediaType responseContentType;
+    private EncodedMediaType responseMediaTypeEncoding;
     private Annotation[] methodAnnotations;
     private Annotation[] additionalAnnotations; // can be added by entity annotations or response filters
     private Annotation[] allAnnotations;
@@ -153,6 +156,8 @@
     private SecurityContext securityContext;
     private OutputStream outputStream;
     private OutputStream underlyingOutputStream;
+    private Consumer<byte[]> responseBodyListener;
+    private int responseBodyListenerLimit;
     private FormData formData;
     private boolean producesChecked;
 
@@ -513,7 +518,12 @@ public EncodedMediaType getResponseContentType() {
             if (response.isCreated()) {
                 MediaType mediaType = response.get().getMediaType();
                 if (mediaType != null) {
-                    return new EncodedMediaType(mediaType);
+                    // this is called several times per request, so only encode the media type once
+                    EncodedMediaType encoded = responseMediaTypeEncoding;
+                    if (encoded == null || !encoded.isEncodingOf(mediaType)) {
+                        responseMediaTypeEncoding = encoded = new EncodedMediaType(mediaType);
+                    }
+                    return encoded;
                 }
             }
         }
@@ -1144,11 +1154,44 @@ public OutputStream getOutputStream() {
     @Override
     public OutputStream getOrCreateOutputStream() {
         if (outputStream == null) {
-            return outputStream = underlyingOutputStream = serverResponse().createResponseOutputStream();
+            underlyingOutputStream = serverResponse().createResponseOutputStream();
+            return outputStream = responseBodyListener == null ? underlyingOutputStream
+                    : new CopyingOutputStream(underlyingOutputStream, responseBodyListener, responseBodyListenerLimit);
         }
         return outputStream;
     }
 
+    /**
+     * Registers a listener that is notified with a copy of the complete response body once it has been written, either
+     * through {@link #getOrCreateOutputStream()} or at once by the {@link ServerHttpResponse} implementation. Unlike
+     * {@link #setOutputStream(OutputStream)}, this does not disable the direct write path of
+     * {@link org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter}s.
+     * <p>
+     * The listener is not notified if the body is larger than {@code maxBodySize} bytes, and a body written through the
+     * output stream is not copied beyond that size.
+     */
+    public void setResponseBodyListener(Consumer<byte[]> responseBodyListener, int maxBodySize) {
+        this.responseBodyListener = responseBodyListener;
+        this.responseBodyListenerLimit = maxBodySize;
+    }
+
+    public void setResponseBodyListener(Consumer<byte[]> responseBodyListener) {
+        setResponseBodyListener(responseBodyListener, Integer.MAX_VALUE);
+    }
+
+    public Consumer<byte[]> getResponseBodyListener() {
+        return responseBodyListener;
+    }
+
+    /**
+     * Notifies the response body listener, if any, that the given body has been written at once.
+     */
+    protected void responseBodyWritten(byte[] body) {
+        if (responseBodyListener != null && body.length <= responseBodyListenerLimit) {
+            responseBodyListener.accept(body);
+        }
+    }
+
     @Override
     public ResteasyReactiveResourceInfo getResteasyReactiveResourceInfo() {
         return target == null ? null : target.getLazyMethod();
@@ -1282,4 +1325,65 @@ public PreviousResource(RuntimeResource locatorTarget, Object locatorPathParamVa
         private final PreviousResource prev;
 
     }
+
+    /**
+     * Writes to the response stream and keeps a copy of the written bytes for the response body listener. The copy is
+     * dropped once the body exceeds the limit, in which case the listener is not notified.
+     */
+    private static final class CopyingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private final Consumer<byte[]> listener;
+        private final int limit;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        private boolean closed;
+
+        CopyingOutputStream(OutputStream delegate, Consumer<byte[]> listener, int limit) {
+            this.delegate = delegate;
+            this.listener = listener;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (copy != null) {
+                if (copy.size() < limit) {
+                    copy.write(b);
+                } else {
+                    copy = null;
+                }
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            if (copy != null) {
+                if (len <= limit - copy.size()) {
+                    copy.write(b, off, len);
+                } else {
+                    copy = null;
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (copy != null) {
+                // notify before the response is ended so that the listener still sees the final response
+                listener.accept(copy.toByteArray());
+            }
+            delegate.close();
+        }
+    }
 }
@@ -13,7 +13,6 @@
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -23,6 +22,7 @@
 
 import jakarta.ws.rs.RuntimeType;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.CacheControl;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
@@ -41,6 +41,7 @@
 import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
 import org.jboss.resteasy.reactive.common.model.ResourceReader;
 import org.jboss.resteasy.reactive.common.model.ResourceWriter;
+import org.jboss.resteasy.reactive.common.util.ExtendedCacheControl;
 import org.jboss.resteasy.reactive.common.util.MediaTypeHelper;
 import org.jboss.resteasy.reactive.common.util.QuarkusMultivaluedHashMap;
 import org.jboss.resteasy.reactive.common.util.QuarkusMultivaluedMap;
@@ -141,6 +142,10 @@ public void accept(ResteasyReactiveRequestContext context) {
     public static final MessageBodyWriter<?>[] NO_WRITER = new MessageBodyWriter[0];
     public static final MessageBodyReader<?>[] NO_READER = new MessageBodyReader[0];
 
+    // the encodings of Cache-Control values, typically the few values of @Cache and @NoCache, by a copy of the value
+    private static final ConcurrentMap<CacheControl, String> CACHE_CONTROL_ENCODINGS = new ConcurrentHashMap<>();
+    private static final int MAX_CACHE_CONTROL_ENCODINGS = 64;
+
     private final ConcurrentMap<Class<?>, List<ResourceWriter>> noMediaTypeClassCache = new ConcurrentHashMap<>();
     private final Function<Class<?>, List<ResourceWriter>> mappingFunction = new Function<Class<?>, List<ResourceWriter>>() {
         @Override
@@ -515,9 +520,9 @@ public static void encodeResponseHeaders(ResteasyReactiveRequestContext requestC
                     }
                 } else {
                     if (useSet) {
-                        vertxResponse.setResponseHeader(header, (CharSequence) HeaderUtil.headerToString(o));
+                        vertxResponse.setResponseHeader(header, (CharSequence) headerToString(o));
                     } else {
-                        vertxResponse.addResponseHeader(header, (CharSequence) HeaderUtil.headerToString(o));
+                        vertxResponse.addResponseHeader(header, (CharSequence) headerToString(o));
                     }
                 }
                 if (header.equalsIgnoreCase(TRANSFER_ENCODING)) { // using both headers together is not allowed
@@ -526,23 +531,83 @@ public static void encodeResponseHeaders(ResteasyReactiveRequestContext requestC
             } else {
                 List<CharSequence> strValues = new ArrayList<>(entry.getValue().size());
                 for (Object o : entry.getValue()) {
-                    strValues.add(HeaderUtil.headerToString(o));
+                    strValues.add(headerToString(o));
                 }
                 vertxResponse.setResponseHeader(entry.getKey(), strValues);
             }
         }
     }
 
+    private static String headerToString(Object value) {
+        if (value instanceof CacheControl) {
+            return cacheControlToString((CacheControl) value);
+        }
+        return HeaderUtil.headerToString(value);
+    }
+
+    /**
+     * The encoding is looked up by value rather than by instance, as a filter may modify the instance put in the
+     * headers by {@link org.jboss.resteasy.reactive.server.handlers.CacheControlHandler}, which is shared by all the
+     * responses of an endpoint.
+     */
+    static String cacheControlToString(CacheControl cacheControl) {
+        String encoded = CACHE_CONTROL_ENCODINGS.get(cacheControl);
+        if (encoded == null) {
+            encoded = HeaderUtil.headerToString(cacheControl);
+            if (CACHE_CONTROL_ENCODINGS.size() < MAX_CACHE_CONTROL_ENCODINGS) {
+                CacheControl copy = copyOf(cacheControl);
+                if (copy != null) {
+                    CACHE_CONTROL_ENCODINGS.putIfAbsent(copy, encoded);
+                }
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * @return a copy, so that a later modification of the value does not change the key, or {@code null} for a subclass
+     *         that cannot be copied
+     */
+    private static CacheControl copyOf(CacheControl cacheControl) {
+        CacheControl copy;
+        if (cacheControl.getClass() == ExtendedCacheControl.class) {
+            ExtendedCacheControl extendedCopy = new ExtendedCacheControl();
+            extendedCopy.setPublic(((ExtendedCacheControl) cacheControl).isPublic());
+            copy = extendedCopy;
+        } else if (cacheControl.getClass() == CacheControl.class) {
+            copy = new CacheControl();
+        } else {
+            return null;
+        }
+        copy.setPrivate(cacheControl.isPrivate());
+        copy.getPrivateFields().addAll(cacheControl.getPrivateFields());
+        copy.setNoCache(cacheControl.isNoCache());
+        copy.getNoCacheFields().addAll(cacheControl.getNoCacheFields());
+        copy.setNoStore(cacheControl.isNoStore());
+        copy.setNoTransform(cacheControl.isNoTransform());
+        copy.setMustRevalidate(cacheControl.isMustRevalidate());
+        copy.setProxyRevalidate(cacheControl.isProxyRevalidate());
+        copy.setMaxAge(cacheControl.getMaxAge());
+        copy.setSMaxAge(cacheControl.getSMaxAge());
+        copy.getCacheExtension().putAll(cacheControl.getCacheExtension());
+        return copy;
+    }
+
     private static boolean requireSingleHeader(String header) {
         if (!(header.startsWith(CONTENT) || header.startsWith(CONTENT_LOWER) || header.startsWith(LOCATION)
                 || header.equalsIgnoreCase(TRANSFER_ENCODING))) {
             return false;
         }
-        if (header.length() < CONTENT.length() + 2) {
-            return false;
+        // compare the suffix in place, as this runs for every header of every response
+        int offset = CONTENT.length() + 1;
+        int suffixLength = header.length() - offset;
+        if (suffixLength == TYPE_LOWER.length()) {
+            return header.regionMatches(true, offset, TYPE_LOWER, 0, suffixLength);
+        }
+        if (suffixLength == LENGTH_LOWER.length()) {
+            return header.regionMatches(true, offset, LENGTH_LOWER, 0, suffixLength);
         }
-        String substring = header.substring(CONTENT.length() + 1).toLowerCase(Locale.ROOT);
-        return substring.equals(TYPE_LOWER) || substring.equals(LENGTH_LOWER);
+        return false;
     }
 
 }
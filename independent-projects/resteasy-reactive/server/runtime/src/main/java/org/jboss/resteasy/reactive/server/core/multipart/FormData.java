@@ -13,6 +13,7 @@
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
@@ -66,11 +67,21 @@ public Deque<FormValue> get(String name) {
     }
 
     public void add(String name, byte[] value, String fileName, CaseInsensitiveMap<String> headers) {
+        add(name, value, fileName, headers, null);
+    }
+
+    /**
+     * Adds a file held in memory, which is written to disk using {@code spill} the first time its
+     * {@link FileItem#getFile() file} is requested. As this is a blocking operation, the file should only be requested
+     * on a worker thread.
+     */
+    public void add(String name, byte[] value, String fileName, CaseInsensitiveMap<String> headers,
+            Function<byte[], Path> spill) {
         Deque<FormValue> values = this.values.get(name);
         if (values == null) {
             this.values.put(name, values = new ArrayDeque<>(1));
         }
-        values.add(new FormValueImpl(value, fileName, headers));
+        values.add(new FormValueImpl(value, fileName, headers, spill));
         if (++valueCount > maxValues) {
             throw new RuntimeException("Param limit of " + maxValues + " was exceeded");
         }
@@ -177,17 +188,24 @@ public void deleteFiles() {
     }
 
     public static class FileItemImpl implements FileItem {
-        private final Path file;
-        private final byte[] content;
+        private volatile Path file;
+        private volatile byte[] content;
+        private final Function<byte[], Path> spill;
 
         public FileItemImpl(Path file) {
             this.file = file;
             this.content = null;
+            this.spill = null;
         }
 
         public FileItemImpl(byte[] content) {
+            this(content, null);
+        }
+
+        public FileItemImpl(byte[] content, Function<byte[], Path> spill) {
             this.file = null;
             this.content = content;
+            this.spill = spill;
         }
 
         @Override
@@ -197,12 +215,22 @@ public boolean isInMemory() {
 
         @Override
         public Path getFile() {
+            if (file == null && spill != null) {
+                synchronized (this) {
+                    if (file == null) {
+                        file = spill.apply(content);
+                        // the content must be cleared after the file is set, so readers always see one of them
+                        content = null;
+                    }
+                }
+            }
             return file;
         }
 
         @Override
         public long getFileSize() throws IOException {
-            if (isInMemory()) {
+            byte[] content = this.content;
+            if (content != null) {
                 return content.length;
             } else {
                 return Files.size(file);
@@ -211,15 +239,17 @@ public long getFileSize() throws IOException {
 
         @Override
         public InputStream getInputStream() throws IOException {
-            if (file != null) {
-                return new BufferedInputStream(Files.newInputStream(file));
-            } else {
+            byte[] content = this.content;
+            if (content != null) {
                 return new ByteArrayInputStream(content);
+            } else {
+                return new BufferedInputStream(Files.newInputStream(file));
             }
         }
 
         @Override
         public void delete() throws IOException {
+            Path file = this.file;
             if (file != null) {
                 try {
                     Files.delete(file);
@@ -230,6 +260,7 @@ public void delete() throws IOException {
 
         @Override
         public void write(Path target) throws IOException {
+            Path file = this.file;
             if (file != null) {
                 try {
                     Files.move(file, target);
@@ -277,8 +308,8 @@ static class FormValueImpl implements FormValue {
             this.charset = null;
         }
 
-        FormValueImpl(byte[] data, String fileName, CaseInsensitiveMap<String> headers) {
-            this.fileItemImpl = new FileItemImpl(data);
+        FormValueImpl(byte[] data, String fileName, CaseInsensitiveMap<String> headers, Function<byte[], Path> spill) {
+            this.fileItemImpl = new FileItemImpl(data, spill);
             this.fileName = fileName;
             this.headers = headers;
             this.value = null;
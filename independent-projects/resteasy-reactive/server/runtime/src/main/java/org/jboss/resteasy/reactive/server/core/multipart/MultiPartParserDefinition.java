@@ -4,6 +4,7 @@
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
@@ -15,9 +16,11 @@
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import jakarta.ws.rs.WebApplicationException;
@@ -30,6 +33,7 @@
 import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
 import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
 import org.jboss.resteasy.reactive.common.util.MediaTypeHelper;
+import org.jboss.resteasy.reactive.multipart.FileUpload;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 
@@ -54,6 +58,8 @@ public class MultiPartParserDefinition implements FormParserFactory.ParserDefini
 
     private long fileSizeThreshold;
 
+    private long maxInMemorySize = -1;
+
     private long maxAttributeSize = 2048;
     private int maxParameters = 1000;
     private long maxEntitySize = -1;
@@ -81,7 +87,8 @@ public FormDataParser create(final ResteasyReactiveRequestContext exchange, Set<
                 return null;
             }
             final MultiPartUploadHandler parser = new MultiPartUploadHandler(exchange, boundary, maxIndividualFileSize,
-                    fileSizeThreshold, defaultCharset, mimeType, maxAttributeSize, maxEntitySize, maxParameters, fileFormNames);
+                    fileSizeThreshold, defaultCharset, mimeType, maxAttributeSize, maxEntitySize, maxParameters, fileFormNames,
+                    exchange.getDeployment().getMultipartMemoryBudget());
             exchange.registerCompletionCallback(new CompletionCallback() {
                 @Override
                 public void onComplete(Throwable throwable) {
@@ -143,11 +150,32 @@ public MultiPartParserDefinition setMaxIndividualFileSize(final long maxIndividu
         return this;
     }
 
+    public long getFileSizeThreshold() {
+        return fileSizeThreshold;
+    }
+
+    /**
+     * File parts up to this size are kept in memory, larger ones are written to disk as soon as the threshold is
+     * crossed. In memory parts are still written to disk if their {@link java.nio.file.Path} is requested.
+     */
     public MultiPartParserDefinition setFileSizeThreshold(long fileSizeThreshold) {
         this.fileSizeThreshold = fileSizeThreshold;
         return this;
     }
 
+    public long getMaxInMemorySize() {
+        return maxInMemorySize;
+    }
+
+    /**
+     * The maximum number of bytes of file parts that the whole deployment keeps in memory, parts that would exceed it
+     * are written to disk regardless of the {@link #setFileSizeThreshold(long) threshold}. A negative value means no limit.
+     */
+    public MultiPartParserDefinition setMaxInMemorySize(long maxInMemorySize) {
+        this.maxInMemorySize = maxInMemorySize;
+        return this;
+    }
+
     public long getMaxEntitySize() {
         return maxEntitySize;
     }
@@ -179,18 +207,24 @@ private final class MultiPartUploadHandler implements FormDataParser, MultipartP
 
         private final ResteasyReactiveRequestContext exchange;
         private final FormData data;
-        private final List<Path> createdFiles = new ArrayList<>();
+        private final List<Path> createdFiles = Collections.synchronizedList(new ArrayList<>());
         private final long maxIndividualFileSize;
         private final long fileSizeThreshold;
         private final long maxAttributeSize;
         private final long maxEntitySize;
         private final int maxParameters;
         private final Set<String> fileFormNames;
+        private final MultipartMemoryBudget memoryBudget;
+        // the bytes this request holds in memory, released when the request completes or a part is written to disk
+        private final AtomicLong reservedBytes = new AtomicLong();
+        // guarded by createdFiles, set once the request has completed
+        private boolean closed;
         private String defaultEncoding;
 
         private final ByteArrayOutputStream contentBytes = new ByteArrayOutputStream();
         private String currentName;
         private String fileName;
+        private boolean filePart;
         private Path file;
         private FileChannel fileChannel;
         private CaseInsensitiveMap<String> headers;
@@ -201,7 +235,7 @@ private final class MultiPartUploadHandler implements FormDataParser, MultipartP
         private MultiPartUploadHandler(final ResteasyReactiveRequestContext exchange, final String boundary,
                 final long maxIndividualFileSize, final long fileSizeThreshold, final String defaultEncoding,
                 String contentType, long maxAttributeSize, long maxEntitySize, int maxParameters,
-                Set<String> fileFormNames) {
+                Set<String> fileFormNames, MultipartMemoryBudget memoryBudget) {
             this.exchange = exchange;
             this.maxIndividualFileSize = maxIndividualFileSize;
             this.defaultEncoding = defaultEncoding;
@@ -210,6 +244,7 @@ private MultiPartUploadHandler(final ResteasyReactiveRequestContext exchange, fi
             this.maxEntitySize = maxEntitySize;
             this.maxParameters = maxParameters;
             this.fileFormNames = fileFormNames;
+            this.memoryBudget = memoryBudget;
             this.data = new FormData(maxParameters);
             String charset = defaultEncoding;
             if (contentType != null) {
@@ -264,16 +299,10 @@ public void beginPart(final CaseInsensitiveMap<String> headers) {
                     currentName = HeaderUtil.extractQuotedValueFromHeader(disposition, "name");
                     fileName = HeaderUtil.extractQuotedValueFromHeaderWithEncoding(disposition, "filename");
                     String contentType = headers.getFirst(HttpHeaders.CONTENT_TYPE);
-                    if (((fileName != null) || isFileContentType(contentType) || fileFormNames.contains(currentName))
-                            && fileSizeThreshold == 0) {
+                    filePart = (fileName != null) || isFileContentType(contentType) || fileFormNames.contains(currentName);
+                    if (filePart && (fileSizeThreshold == 0 || isBoundToFile(currentName))) {
                         try {
-                            if (tempFileLocation != null) {
-                                Files.createDirectories(tempFileLocation);
-                                file = Files.createTempFile(tempFileLocation, "resteasy-reactive", "upload");
-                            } else {
-                                file = Files.createTempFile("resteasy-reactive", "upload");
-                            }
-                            createdFiles.add(file);
+                            file = createTempFile();
                             fileChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
                         } catch (IOException e) {
                             throw new RuntimeException(e);
@@ -283,6 +312,71 @@ public void beginPart(final CaseInsensitiveMap<String> headers) {
             }
         }
 
+        private Path createTempFile() throws IOException {
+            Path file;
+            if (tempFileLocation != null) {
+                Files.createDirectories(tempFileLocation);
+                file = Files.createTempFile(tempFileLocation, "resteasy-reactive", "upload");
+            } else {
+                file = Files.createTempFile("resteasy-reactive", "upload");
+            }
+            createdFiles.add(file);
+            return file;
+        }
+
+        /**
+         * Parts bound to {@code File}, {@code Path} or {@code FileUpload} parameters are read from disk by the endpoint,
+         * so they are written there while parsing, on a worker thread, rather than when their path is requested
+         */
+        private boolean isBoundToFile(String name) {
+            return fileFormNames.contains(name) || fileFormNames.contains(FileUpload.ALL);
+        }
+
+        /**
+         * Writes a file part that was kept in memory to disk, this is called lazily when its path is requested, which can
+         * only happen from application code that accesses the form data directly
+         */
+        private Path spill(byte[] content) {
+            try {
+                Path file;
+                synchronized (createdFiles) {
+                    checkNotDeleted();
+                    file = createTempFile();
+                }
+                Files.write(file, content);
+                synchronized (createdFiles) {
+                    if (closed && deleteUploadsOnEnd) {
+                        // the request completed while the file was written, so it was not seen by deleteFiles()
+                        Files.deleteIfExists(file);
+                        checkNotDeleted();
+                    }
+                }
+                memoryBudget.spilled(content.length);
+                release(content.length);
+                return file;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void checkNotDeleted() {
+            if (closed && deleteUploadsOnEnd) {
+                throw new IllegalStateException(
+                        "The request has completed, its uploaded files are no longer available on the file system");
+            }
+        }
+
+        private void release(long bytes) {
+            long current;
+            long released;
+            do {
+                current = reservedBytes.get();
+                // never release more than is held, as a part can be written to disk after the request has completed
+                released = Math.min(current, bytes);
+            } while (!reservedBytes.compareAndSet(current, current - released));
+            memoryBudget.release(released);
+        }
+
         private boolean isFileContentType(String contentType) {
             if (contentType == null || fileContentTypes == null) {
                 return false;
@@ -293,8 +387,9 @@ private boolean isFileContentType(String contentType) {
 
         @Override
         public void data(final ByteBuffer buffer) throws IOException {
-            this.currentFileSize += buffer.remaining();
-            this.currentEntitySize += buffer.remaining();
+            int length = buffer.remaining();
+            this.currentFileSize += length;
+            this.currentEntitySize += length;
             if (maxEntitySize > 0 && currentEntitySize > maxEntitySize) {
                 data.deleteFiles();
                 throw new WebApplicationException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
@@ -303,18 +398,16 @@ public void data(final ByteBuffer buffer) throws IOException {
                 data.deleteFiles();
                 throw new WebApplicationException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
             }
-            if (file == null && fileName != null && fileSizeThreshold < this.currentFileSize) {
+            if (file == null && filePart
+                    && (fileSizeThreshold < this.currentFileSize || !reserve(length))) {
                 try {
-                    if (tempFileLocation != null) {
-                        Files.createDirectories(tempFileLocation);
-                        file = Files.createTempFile(tempFileLocation, "resteasy-reactive", "upload");
-                    } else {
-                        file = Files.createTempFile("resteasy-reactive", "upload");
-                    }
-                    createdFiles.add(file);
+                    file = createTempFile();
 
                     FileOutputStream fileOutputStream = new FileOutputStream(file.toFile());
                     contentBytes.writeTo(fileOutputStream);
+                    memoryBudget.spilled(contentBytes.size());
+                    release(contentBytes.size());
+                    contentBytes.reset();
 
                     fileChannel = fileOutputStream.getChannel();
                 } catch (IOException e) {
@@ -323,18 +416,37 @@ public void data(final ByteBuffer buffer) throws IOException {
             }
 
             if (file == null) {
-                while (buffer.hasRemaining()) {
-                    contentBytes.write(buffer.get());
+                if (!filePart) {
+                    // attributes are bounded by maxAttributeSize, so we account for them without ever refusing them
+                    reservedBytes.addAndGet(length);
+                    memoryBudget.reserve(length);
                 }
-                if (maxAttributeSize > 0 && contentBytes.size() > maxAttributeSize) {
+                if (buffer.hasArray()) {
+                    contentBytes.write(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+                    buffer.position(buffer.limit());
+                } else {
+                    while (buffer.hasRemaining()) {
+                        contentBytes.write(buffer.get());
+                    }
+                }
+                if (!filePart && maxAttributeSize > 0 && contentBytes.size() > maxAttributeSize) {
                     data.deleteFiles();
                     throw new WebApplicationException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
                 }
             } else {
+                memoryBudget.spilled(length);
                 fileChannel.write(buffer);
             }
         }
 
+        private boolean reserve(long bytes) {
+            if (!memoryBudget.tryReserve(bytes, maxInMemorySize)) {
+                return false;
+            }
+            reservedBytes.addAndGet(bytes);
+            return true;
+        }
+
         @Override
         public void endPart() {
             if (file != null) {
@@ -347,8 +459,8 @@ public void endPart() {
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
-            } else if (fileName != null) {
-                data.add(currentName, Arrays.copyOf(contentBytes.toByteArray(), contentBytes.size()), fileName, headers);
+            } else if (filePart) {
+                data.add(currentName, contentBytes.toByteArray(), fileName, headers, this::spill);
                 contentBytes.reset();
             } else {
 
@@ -390,6 +502,10 @@ public void close() throws IOException {
             if (fileChannel != null) {
                 fileChannel.close();
             }
+            release(Long.MAX_VALUE);
+            synchronized (createdFiles) {
+                closed = true;
+            }
             //we have to dispatch this, as it may result in file IO
             if (deleteUploadsOnEnd) {
                 deleteFiles();
@@ -0,0 +1,76 @@
+package org.jboss.resteasy.reactive.server.core.multipart;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks how many bytes of multipart form data are held in memory across all the requests of a deployment.
+ * <p>
+ * File parts are only kept in memory while the deployment stays below its configured limit, once it is reached they
+ * are written to disk instead. Form attributes are always counted, but never refused, as they are already bounded
+ * by the maximum attribute size.
+ * <p>
+ * The cumulative counters are meant to be exposed as metrics.
+ */
+public final class MultipartMemoryBudget {
+
+    private final AtomicLong bytesInMemory = new AtomicLong();
+    private final LongAdder bytesBuffered = new LongAdder();
+    private final LongAdder bytesSpilled = new LongAdder();
+
+    /**
+     * Reserves memory for {@code bytes} bytes of a file part.
+     *
+     * @param limit the maximum number of bytes that can be held in memory, or a negative value for no limit
+     * @return {@code false} if the part should be written to disk instead
+     */
+    boolean tryReserve(long bytes, long limit) {
+        if (limit < 0) {
+            reserve(bytes);
+            return true;
+        }
+        long current;
+        do {
+            current = bytesInMemory.get();
+            if (current + bytes > limit) {
+                return false;
+            }
+        } while (!bytesInMemory.compareAndSet(current, current + bytes));
+        bytesBuffered.add(bytes);
+        return true;
+    }
+
+    void reserve(long bytes) {
+        bytesInMemory.addAndGet(bytes);
+        bytesBuffered.add(bytes);
+    }
+
+    void release(long bytes) {
+        bytesInMemory.addAndGet(-bytes);
+    }
+
+    void spilled(long bytes) {
+        bytesSpilled.add(bytes);
+    }
+
+    /**
+     * @return the number of bytes of form data currently held in memory
+     */
+    public long getBytesInMemory() {
+        return bytesInMemory.get();
+    }
+
+    /**
+     * @return the total number of bytes of form data that have been buffered in memory
+     */
+    public long getBytesBuffered() {
+        return bytesBuffered.sum();
+    }
+
+    /**
+     * @return the total number of bytes of form data that have been written to disk
+     */
+    public long getBytesSpilled() {
+        return bytesSpilled.sum();
+    }
+}
@@ -2,7 +2,6 @@
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
@@ -10,7 +9,6 @@
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -201,7 +199,7 @@ public static String getString(String formName, ResteasyReactiveRequestContext c
         // this is only for the TCK and regular form params
         if (value.isFileItem()) {
             try {
-                return Files.readString(value.getFileItem().getFile(), Charset.defaultCharset());
+                return new String(readAllBytes(value.getFileItem()), Charset.defaultCharset());
             } catch (IOException e) {
                 throw new MultipartPartReadingException(e);
             }
@@ -227,7 +225,7 @@ public static List<String> getStrings(String formName, ResteasyReactiveRequestCo
         for (FormValue value : values) {
             if (value.isFileItem()) {
                 try {
-                    ret.add(Files.readString(value.getFileItem().getFile(), Charset.defaultCharset()));
+                    ret.add(new String(readAllBytes(value.getFileItem()), Charset.defaultCharset()));
                 } catch (IOException e) {
                     throw new MultipartPartReadingException(e);
                 }
@@ -249,11 +247,7 @@ public static byte[] getByteArray(String formName, ResteasyReactiveRequestContex
         }
         if (value.isFileItem()) {
             try {
-                FileItem fileItem = value.getFileItem();
-                if (fileItem.isInMemory()) {
-                    return fileItem.getInputStream().readAllBytes();
-                }
-                return Files.readAllBytes(fileItem.getFile());
+                return readAllBytes(value.getFileItem());
             } catch (IOException e) {
                 throw new MultipartPartReadingException(e);
             }
@@ -271,7 +265,7 @@ public static List<byte[]> getByteArrays(String formName, ResteasyReactiveReques
         for (FormValue value : values) {
             if (value.isFileItem()) {
                 try {
-                    ret.add(Files.readAllBytes(value.getFileItem().getFile()));
+                    ret.add(readAllBytes(value.getFileItem()));
                 } catch (IOException e) {
                     throw new MultipartPartReadingException(e);
                 }
@@ -282,6 +276,12 @@ public static List<byte[]> getByteArrays(String formName, ResteasyReactiveReques
         return ret;
     }
 
+    private static byte[] readAllBytes(FileItem fileItem) throws IOException {
+        try (InputStream inputStream = fileItem.getInputStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
     public static InputStream getInputStream(String formName, ResteasyReactiveRequestContext context) {
         FormValue value = getFirstValue(formName, context);
         if (value == null) {
@@ -289,7 +289,7 @@ public static InputStream getInputStream(String formName, ResteasyReactiveReques
         }
         if (value.isFileItem()) {
             try {
-                return new FileInputStream(value.getFileItem().getFile().toFile());
+                return value.getFileItem().getInputStream();
             } catch (IOException e) {
                 throw new MultipartPartReadingException(e);
             }
@@ -307,7 +307,7 @@ public static List<InputStream> getInputStreams(String formName, ResteasyReactiv
         for (FormValue value : values) {
             if (value.isFileItem()) {
                 try {
-                    ret.add(new FileInputStream(value.getFileItem().getFile().toFile()));
+                    ret.add(value.getFileItem().getInputStream());
                 } catch (IOException e) {
                     throw new MultipartPartReadingException(e);
                 }
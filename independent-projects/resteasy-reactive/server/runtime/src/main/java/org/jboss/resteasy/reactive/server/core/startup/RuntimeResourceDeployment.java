@@ -69,6 +69,7 @@
 import org.jboss.resteasy.reactive.server.handlers.ExceptionHandler;
 import org.jboss.resteasy.reactive.server.handlers.FixedProducesHandler;
 import org.jboss.resteasy.reactive.server.handlers.FormBodyHandler;
+import org.jboss.resteasy.reactive.server.handlers.FusedResponseHandler;
 import org.jboss.resteasy.reactive.server.handlers.InputHandler;
 import org.jboss.resteasy.reactive.server.handlers.InstanceHandler;
 import org.jboss.resteasy.reactive.server.handlers.InvocationHandler;
@@ -470,11 +471,17 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
             handlers.add(SseResponseWriterHandler.INSTANCE);
             responseFilterHandlers = Collections.emptyList();
         } else {
+            int responseHandlerIndex = handlers.size();
             addResponseHandler(method, handlers);
-            addHandlers(handlers, clazz, method, info, HandlerChainCustomizer.Phase.AFTER_RESPONSE_CREATED);
+            boolean afterResponseCreatedHandlersAdded = addHandlers(handlers, clazz, method, info,
+                    HandlerChainCustomizer.Phase.AFTER_RESPONSE_CREATED);
             responseFilterHandlers = new ArrayList<>(interceptorDeployment.setupResponseFilterHandler());
             handlers.addAll(responseFilterHandlers);
             handlers.add(responseWriterHandler);
+            if (resteasyReactiveConfig.isFuseHandlerChain() && !afterResponseCreatedHandlersAdded
+                    && responseFilterHandlers.isEmpty()) {
+                fuseResponseHandlers(handlers, responseHandlerIndex);
+            }
         }
         if (!clazz.resourceExceptionMapper().isEmpty() && (instanceHandler != null)) {
             // when class level exception mapper are used, we need to make sure that an instance of resource class exists
@@ -582,6 +589,22 @@ private void addResponseHandler(ServerResourceMethod method, List<ServerRestHand
         }
     }
 
+    /**
+     * Replaces the trailing [FixedProducesHandler], ResponseHandler, ResponseWriterHandler handlers with a single
+     * {@link FusedResponseHandler}. The caller must make sure nothing that could suspend the request sits between them.
+     */
+    private void fuseResponseHandlers(List<ServerRestHandler> handlers, int responseHandlerIndex) {
+        ResponseHandler responseHandler = (ResponseHandler) handlers.get(responseHandlerIndex);
+        int start = responseHandlerIndex;
+        FixedProducesHandler producesHandler = null;
+        if (handlers.get(responseHandlerIndex - 1) instanceof FixedProducesHandler) {
+            producesHandler = (FixedProducesHandler) handlers.get(responseHandlerIndex - 1);
+            start--;
+        }
+        handlers.subList(start, handlers.size()).clear();
+        handlers.add(new FusedResponseHandler(producesHandler, responseHandler, responseWriterHandler));
+    }
+
     private void addStreamingResponseCustomizers(ServerResourceMethod method, List<ServerRestHandler> handlers) {
         List<PublisherResponseHandler.StreamingResponseCustomizer> customizers = new ArrayList<>(
                 method.getHandlerChainCustomizers().size());
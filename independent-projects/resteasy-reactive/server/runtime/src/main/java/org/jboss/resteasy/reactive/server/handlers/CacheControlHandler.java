@@ -24,6 +24,7 @@ public void setCacheControl(ExtendedCacheControl cacheControl) {
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        // the encoding of the value is cached by ServerSerialisers, filters can still use it as a CacheControl
         requestContext.getResponse().get().getHeaders().putSingle(HttpHeaders.CACHE_CONTROL, cacheControl);
     }
 }
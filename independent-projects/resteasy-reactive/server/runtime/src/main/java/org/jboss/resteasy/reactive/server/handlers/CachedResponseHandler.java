@@ -0,0 +1,265 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Serves responses of {@link org.jboss.resteasy.reactive.server.CachedResponse} endpoints from memory.
+ * <p>
+ * On a cache hit the handler chain is aborted with the stored body and headers, which skips parameter extraction, the
+ * resource method and entity serialization. On a miss the headers set by the resource method are captured by a
+ * {@link CaptureHeadersHandler} before the response filters run, as the filters run again for a cached response, and a
+ * copy of the response body is stored once it has been written, unless it is larger than the maximum entry size.
+ * <p>
+ * Once the cache is full, a batch of the least recently used entries is evicted. The access order is approximate, i.e.
+ * reading an entry only records the time of the access, so that concurrent cache hits do not contend on a lock.
+ */
+public class CachedResponseHandler implements ServerRestHandler {
+
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    // set again when the cached response is replayed, or specific to the client that received the original response
+    private static final Set<String> NOT_REPLAYED_HEADERS = Set.of("etag", "content-type", "content-length",
+            "transfer-encoding", "date", "set-cookie");
+
+    // make mutable to allow for bytecode serialization
+    private long ttlMillis;
+    private String[] varyHeaders;
+    private int maxEntries;
+    private int maxEntrySize;
+
+    private volatile Map<String, Entry> entries;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public CachedResponseHandler() {
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public void setTtlMillis(long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    public String[] getVaryHeaders() {
+        return varyHeaders;
+    }
+
+    public void setVaryHeaders(String[] varyHeaders) {
+        this.varyHeaders = varyHeaders;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public int getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    public void setMaxEntrySize(int maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        String key = cacheKey(requestContext);
+        Map<String, Entry> entries = entries();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            long now = System.nanoTime();
+            if (entry.expiresAt - now > 0) {
+                entry.accessedAt = now;
+                if (matchesIfNoneMatch(requestContext.serverRequest().getRequestHeader(IF_NONE_MATCH), entry.etag)) {
+                    requestContext.abortWith(Response.notModified().header(HttpHeaders.ETAG, entry.etag).build());
+                } else {
+                    Response.ResponseBuilder builder = Response.ok(entry.body, entry.contentType);
+                    for (int i = 0; i < entry.headers.length; i += 2) {
+                        builder.header(entry.headers[i], entry.headers[i + 1]);
+                    }
+                    requestContext.abortWith(builder.header(HttpHeaders.ETAG, entry.etag).build());
+                }
+                return;
+            }
+            entries.remove(key, entry);
+        }
+        requestContext.setResponseBodyListener(new PendingEntry(requestContext, key), maxEntrySize);
+    }
+
+    private Map<String, Entry> entries() {
+        Map<String, Entry> entries = this.entries;
+        if (entries == null) {
+            synchronized (this) {
+                entries = this.entries;
+                if (entries == null) {
+                    this.entries = entries = new ConcurrentHashMap<>();
+                }
+            }
+        }
+        return entries;
+    }
+
+    private String cacheKey(ResteasyReactiveRequestContext requestContext) {
+        StringBuilder key = new StringBuilder(requestContext.serverRequest().getRequestNormalisedPath());
+        String query = requestContext.serverRequest().query();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        key.append('\n').append(requestContext.serverRequest().getRequestHeader(HttpHeaders.ACCEPT));
+        for (String header : varyHeaders) {
+            key.append('\n').append(requestContext.serverRequest().getRequestHeader(header));
+        }
+        return key.toString();
+    }
+
+    private void store(ResteasyReactiveRequestContext requestContext, String key, String[] headers, byte[] body) {
+        Response response = requestContext.getResponse().get();
+        // the headers are not captured if the resource method failed, e.g. the exception was mapped to a response
+        if (headers == null || response.getStatus() != Response.Status.OK.getStatusCode() || body.length > maxEntrySize) {
+            return;
+        }
+        String etag = response.getHeaderString(HttpHeaders.ETAG);
+        if (etag == null) {
+            etag = computeEtag(body);
+            // this has no effect if the headers were already written, e.g. for a large streamed body
+            response.getHeaders().putSingle(HttpHeaders.ETAG, etag);
+        }
+        MediaType contentType = requestContext.getResponseContentType() == null ? null
+                : requestContext.getResponseContentType().getMediaType();
+        long now = System.nanoTime();
+        Map<String, Entry> entries = entries();
+        entries.put(key, new Entry(body, etag, contentType, headers, now + TimeUnit.MILLISECONDS.toNanos(ttlMillis), now));
+        if (entries.size() > maxEntries) {
+            evict(entries);
+        }
+    }
+
+    private void evict(Map<String, Entry> entries) {
+        // a single thread evicts, the others keep storing and may exceed the limit for a short time
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Map.Entry<String, Entry>> candidates = new ArrayList<>(entries.entrySet());
+            // evict a tenth of the entries at once, so that the sort is only performed every few stores
+            int toEvict = candidates.size() - (maxEntries - maxEntries / 10);
+            if (toEvict <= 0) {
+                return;
+            }
+            candidates.sort(Comparator.comparingLong(e -> e.getValue().accessedAt));
+            for (int i = 0; i < toEvict; i++) {
+                Map.Entry<String, Entry> candidate = candidates.get(i);
+                entries.remove(candidate.getKey(), candidate.getValue());
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    static String[] replayedHeaders(Response response) {
+        List<String> headers = new ArrayList<>();
+        for (Map.Entry<String, List<String>> header : response.getStringHeaders().entrySet()) {
+            if (NOT_REPLAYED_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                headers.add(header.getKey());
+                headers.add(value);
+            }
+        }
+        return headers.toArray(new String[0]);
+    }
+
+    static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*") || candidate.equals(etag)
+                    || (candidate.startsWith("W/") && candidate.substring(2).equals(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String computeEtag(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return "\"" + Integer.toHexString(body.length) + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    /**
+     * Captures the headers set by the resource method of a {@link org.jboss.resteasy.reactive.server.CachedResponse} endpoint. It runs after the
+     * {@link Response} has been created and before the response filters.
+     */
+    public static class CaptureHeadersHandler implements ServerRestHandler {
+
+        @Override
+        public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+            if (requestContext.getResponseBodyListener() instanceof PendingEntry) {
+                ((PendingEntry) requestContext.getResponseBodyListener()).headers = replayedHeaders(
+                        requestContext.getResponse().get());
+            }
+        }
+    }
+
+    private final class PendingEntry implements Consumer<byte[]> {
+        final ResteasyReactiveRequestContext requestContext;
+        final String key;
+        String[] headers;
+
+        PendingEntry(ResteasyReactiveRequestContext requestContext, String key) {
+            this.requestContext = requestContext;
+            this.key = key;
+        }
+
+        @Override
+        public void accept(byte[] body) {
+            // only the first body written is considered, e.g. not the one of an error response written afterwards
+            requestContext.setResponseBodyListener(null);
+            store(requestContext, key, headers, body);
+        }
+    }
+
+    private static final class Entry {
+        final byte[] body;
+        final String etag;
+        final MediaType contentType;
+        // name-value pairs
+        final String[] headers;
+        final long expiresAt;
+        // not volatile, a stale read only makes the eviction order less accurate
+        long accessedAt;
+
+        Entry(byte[] body, String etag, MediaType contentType, String[] headers, long expiresAt, long accessedAt) {
+            this.body = body;
+            this.etag = etag;
+            this.contentType = contentType;
+            this.headers = headers;
+            this.expiresAt = expiresAt;
+            this.accessedAt = accessedAt;
+        }
+    }
+}
@@ -44,7 +44,8 @@ public Class<RuntimeConfiguration> getConfigurationClass() {
     public void configure(RuntimeConfiguration configuration) {
         formParserFactory = FormParserFactory.builder(false, executorSupplier)
                 .addParser(new MultiPartParserDefinition(executorSupplier)
-                        .setFileSizeThreshold(0)
+                        .setFileSizeThreshold(configuration.body().multiPart().fileSizeThreshold())
+                        .setMaxInMemorySize(configuration.body().multiPart().maxInMemorySize())
                         .setMaxAttributeSize(configuration.limits().maxFormAttributeSize())
                         .setMaxEntitySize(configuration.limits().maxBodySize().orElse(-1L))
                         .setMaxParameters(configuration.limits().maxParameters())
@@ -1,6 +1,5 @@
 package org.jboss.resteasy.reactive.server.handlers;
 
-import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
@@ -9,6 +8,7 @@
 
 import jakarta.ws.rs.HttpMethod;
 
+import org.jboss.resteasy.reactive.common.util.InMemoryInputStream;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
@@ -20,7 +20,8 @@
  * to allow the request to stay on the IO thread. If the request is too large
  * it will be delegated to an executor and a blocking stream used instead.
  * <p>
- * TODO: the stream implementation here could be a lot more efficient.
+ * A fully buffered body is exposed as an {@link InMemoryInputStream}, which readers can parse directly.
+ * If it arrived in a single heap buffer, that buffer is used as is.
  */
 public class InputHandler implements ServerRestHandler {
 
@@ -72,16 +73,13 @@ class InputListener implements ServerHttpRequest.ReadCallback {
 
         @Override
         public void done() {
-            //super inefficient
-            //TODO: write a stream that just uses the existing vert.x buffers
-            byte[] ar = new byte[dataCount];
-            int count = 0;
-            for (ByteBuffer i : data) {
-                int remaining = i.remaining();
-                i.get(ar, count, remaining);
-                count += remaining;
+            if (data.size() == 1 && data.get(0).hasArray()) {
+                ByteBuffer buffer = data.get(0);
+                context.setInputStream(new InMemoryInputStream(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                        buffer.remaining()));
+            } else {
+                context.setInputStream(new InMemoryInputStream(aggregate()));
             }
-            context.setInputStream(new ByteArrayInputStream(ar));
             Thread.currentThread().setContextClassLoader(originalTCCL);
             context.resume();
         }
@@ -96,19 +94,21 @@ public void data(ByteBuffer event) {
                 if (workerExecutor == null) {
                     workerExecutor = workerExecutorSupplier.get();
                 }
-                //super inefficient
-                //TODO: write a stream that just uses the existing vert.x buffers
-                int count = 0;
-                byte[] ar = new byte[dataCount];
-                for (ByteBuffer i : data) {
-                    int remaining = i.remaining();
-                    i.get(ar, count, remaining);
-                    count += remaining;
-                }
                 //todo timeout
-                context.setInputStream(context.serverRequest().createInputStream(ByteBuffer.wrap(ar)));
+                context.setInputStream(context.serverRequest().createInputStream(ByteBuffer.wrap(aggregate())));
                 context.resume(workerExecutor);
             }
         }
+
+        private byte[] aggregate() {
+            byte[] ar = new byte[dataCount];
+            int count = 0;
+            for (ByteBuffer i : data) {
+                int remaining = i.remaining();
+                i.get(ar, count, remaining);
+                count += remaining;
+            }
+            return ar;
+        }
     }
 }
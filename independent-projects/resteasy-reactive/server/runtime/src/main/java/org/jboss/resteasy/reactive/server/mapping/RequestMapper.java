@@ -13,8 +13,8 @@
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
 
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    private final PathMatcher<CompiledStem<T>> requestPaths;
+    private final PathMatcher.Builder<CompiledStem<T>> pathMatcherBuilder;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
@@ -35,7 +35,7 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             @Override
             public void accept(String stem, ArrayList<RequestPath<T>> list) {
                 Collections.sort(list);
-                pathMatcherBuilder.addPrefixPath(stem, list);
+                pathMatcherBuilder.addPrefixPath(stem, new CompiledStem<>(list));
             }
         });
         maxParams = max;
@@ -43,29 +43,52 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
     }
 
     public RequestMatch<T> map(String path) {
-        var result = mapFromPathMatcher(path, requestPaths.match(path));
-        if (result != null) {
-            return result;
+        int pathSlashes = countSlashes(path);
+        SubstringMap.SubstringMatch<CompiledStem<T>> stemMatch = requestPaths.matchPrefix(path);
+        if (stemMatch != null) {
+            var result = mapFromCandidates(path, stemMatch.getValue(), stemMatch.getKey().length(), pathSlashes);
+            if (result != null) {
+                return result;
+            }
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path));
+        CompiledStem<T> defaultStem = requestPaths.getDefaultHandler();
+        if (defaultStem == null) {
+            return null;
+        }
+        return mapFromCandidates(path, defaultStem, 1, pathSlashes);
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch) {
-        var value = initialMatch.getValue();
-        if (initialMatch.getValue() == null) {
-            return null;
+    private static int countSlashes(String path) {
+        int count = 0;
+        for (int i = 0; i < path.length(); ++i) {
+            if (path.charAt(i) == '/') {
+                count++;
+            }
         }
+        return count;
+    }
+
+    /**
+     * Matches the path against the candidates of a single stem.
+     * <p>
+     * Parameters are recorded as offsets into the path, and are only turned into strings once a candidate
+     * matched, so a miss does not create any garbage unless a custom regex had to be evaluated.
+     */
+    private RequestMatch<T> mapFromCandidates(String path, CompiledStem<T> stem, int stemLength, int pathSlashes) {
+        RequestPath<T>[] candidates = stem.candidates(pathSlashes);
         int pathLength = path.length();
-        for (int index = 0; index < ((List<RequestPath<T>>) value).size(); index++) {
-            RequestPath<T> potentialMatch = ((List<RequestPath<T>>) value).get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        int[] offsets = null;
+        for (int index = 0; index < candidates.length; index++) {
+            RequestPath<T> potentialMatch = candidates[index];
+            if (potentialMatch.minLength > pathLength) {
+                continue;
+            }
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
+            int matchPos = stemLength;
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
@@ -81,8 +104,14 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                     if (endSlash) {
                         matchPos++;
                     }
+                    if (offsets == null) {
+                        offsets = new int[maxParams * 2];
+                    }
                     for (String group : segment.groups) {
-                        params[paramCount++] = matcher.group(group);
+                        // the matcher input is a prefix of the path, so the group offsets apply to the path as well
+                        offsets[paramCount * 2] = matcher.start(group);
+                        offsets[paramCount * 2 + 1] = matcher.end(group);
+                        paramCount++;
                     }
                 } else if (segment.type == URITemplate.Type.LITERAL) {
                     //make sure the literal text is the same
@@ -90,15 +119,11 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                         matched = false;
                         break; //too long
                     }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
+                    if (!path.regionMatches(matchPos, segment.literalText, 0, segment.literalText.length())) {
+                        matched = false;
                         break;
                     }
+                    matchPos += segment.literalText.length();
                 } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
                     if (matchPos == pathLength) {
                         matched = false;
@@ -108,15 +133,17 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                     while (matchPos < pathLength && path.charAt(matchPos) != '/') {
                         matchPos++;
                     }
-                    params[paramCount++] = path.substring(start, matchPos);
+                    if (offsets == null) {
+                        offsets = new int[maxParams * 2];
+                    }
+                    offsets[paramCount * 2] = start;
+                    offsets[paramCount * 2 + 1] = matchPos;
+                    paramCount++;
                 }
             }
             if (!matched) {
                 continue;
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
             if (!fullMatch) {
@@ -138,21 +165,113 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                         remaining = path.substring(matchPos);
                     }
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+                String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+                for (int i = 0; i < paramCount; ++i) {
+                    int start = offsets[i * 2];
+                    params[i] = start < 0 ? null : path.substring(start, offsets[i * 2 + 1]);
+                }
+                return new RequestMatch<>(potentialMatch.template, potentialMatch.value, params, remaining);
             }
         }
         return null;
     }
 
+    /**
+     * The templates that share a stem, in matching order.
+     * <p>
+     * As template parameters without a custom regex can never contain a '/', the number of slashes in a path
+     * bounds the templates that can possibly match it. The candidates are therefore pre-partitioned by the number
+     * of slashes in the path, which keeps the matching order mandated by the spec while only visiting the templates
+     * with the right number of segments.
+     */
+    static final class CompiledStem<T> implements Dumpable {
+
+        final ArrayList<RequestPath<T>> paths;
+        /**
+         * Candidates indexed by the number of slashes in the path. The last entry is used for every path with more
+         * slashes than any template of this stem could match exactly.
+         */
+        private final RequestPath<T>[][] bySlashCount;
+
+        @SuppressWarnings("unchecked")
+        CompiledStem(ArrayList<RequestPath<T>> paths) {
+            this.paths = paths;
+            int maxSlashes = 0;
+            for (RequestPath<T> path : paths) {
+                maxSlashes = Math.max(maxSlashes, path.slashCount);
+            }
+            bySlashCount = new RequestPath[maxSlashes + 3][];
+            List<RequestPath<T>> current = new ArrayList<>(paths.size());
+            for (int slashes = 0; slashes < bySlashCount.length; ++slashes) {
+                current.clear();
+                for (RequestPath<T> path : paths) {
+                    if (path.canMatchSlashCount(slashes)) {
+                        current.add(path);
+                    }
+                }
+                bySlashCount[slashes] = current.toArray(new RequestPath[0]);
+            }
+        }
+
+        RequestPath<T>[] candidates(int pathSlashes) {
+            return bySlashCount[Math.min(pathSlashes, bySlashCount.length - 1)];
+        }
+
+        @Override
+        public void dump(int level) {
+            for (RequestPath<T> path : paths) {
+                path.dump(level);
+            }
+        }
+    }
+
     public static class RequestPath<T> implements Dumpable, Comparable<RequestPath<T>> {
         public final boolean prefixTemplate;
         public final URITemplate template;
         public final T value;
+        /**
+         * The minimal length of a path matching this template
+         */
+        final int minLength;
+        /**
+         * The number of slashes matched by this template, or -1 if it contains a custom regex
+         */
+        final int slashCount;
 
         public RequestPath(boolean prefixTemplate, URITemplate template, T value) {
             this.prefixTemplate = prefixTemplate;
             this.template = template;
             this.value = value;
+            int minLength = 0;
+            int slashCount = 0;
+            for (URITemplate.TemplateComponent component : template.components) {
+                if (component.type == URITemplate.Type.LITERAL) {
+                    minLength += component.literalText.length();
+                    for (int i = 0; i < component.literalText.length(); ++i) {
+                        if (component.literalText.charAt(i) == '/') {
+                            slashCount++;
+                        }
+                    }
+                } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                    minLength++;
+                } else {
+                    slashCount = -1;
+                    break;
+                }
+            }
+            this.minLength = minLength;
+            this.slashCount = slashCount;
+        }
+
+        boolean canMatchSlashCount(int pathSlashes) {
+            if (slashCount < 0) {
+                return true;
+            }
+            if (prefixTemplate) {
+                return pathSlashes >= slashCount;
+            }
+            // the path can only have an additional trailing slash
+            return pathSlashes == slashCount || pathSlashes == slashCount + 1;
         }
 
         @Override
@@ -206,7 +325,7 @@ public void dump() {
         this.requestPaths.dump(0);
     }
 
-    public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
+    public PathMatcher<CompiledStem<T>> getRequestPaths() {
         return requestPaths;
     }
 
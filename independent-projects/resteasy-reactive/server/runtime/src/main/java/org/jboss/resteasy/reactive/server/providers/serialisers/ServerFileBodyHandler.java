@@ -4,18 +4,25 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
+import org.jboss.resteasy.reactive.common.jaxrs.ResponseImpl;
 import org.jboss.resteasy.reactive.common.providers.serialisers.FileBodyHandler;
+import org.jboss.resteasy.reactive.common.util.DateUtil;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
@@ -23,6 +30,12 @@
 @Consumes("*/*")
 public class ServerFileBodyHandler extends FileBodyHandler implements ServerMessageBodyWriter<File> {
 
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String RANGE = "Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String BYTES = "bytes";
+
     @Override
     public long getSize(File o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
         return o.length();
@@ -39,28 +52,93 @@ public void writeResponse(File o, Type genericType, ServerRequestContext context
     }
 
     static void sendFile(File file, ServerRequestContext context) {
+        sendFile(file.getAbsolutePath(), 0, file.length(), file.lastModified(), context);
+    }
+
+    /**
+     * Sends {@code count} bytes of the file starting at {@code offset}. The file is always handed over to
+     * {@link ServerHttpResponse#sendFile}, which uses zero-copy transfers when the transport allows it, and never
+     * reads the file into the heap.
+     * <p>
+     * A single {@code Range} is honoured relative to the part of the file being sent, subject to {@code If-Range}.
+     * Multiple or unsatisfiable ranges are ignored.
+     */
+    static void sendFile(String path, long offset, long count, long lastModified, ServerRequestContext context) {
         ResteasyReactiveRequestContext ctx = ((ResteasyReactiveRequestContext) context);
-        Object rangeObj = ctx.getHeader("Range", true);
-        ByteRange byteRange = rangeObj == null ? null : ByteRange.parse(rangeObj.toString());
-        long fileLength = file.length();
+        ServerHttpResponse response = context.serverResponse();
+        response.setResponseHeader(ACCEPT_RANGES, BYTES);
+        if (lastModified > 0 && responseHeader(ctx, HttpHeaders.LAST_MODIFIED) == null) {
+            response.setResponseHeader(HttpHeaders.LAST_MODIFIED, DateUtil.formatDate(new Date(lastModified)));
+        }
+        Object rangeObj = ctx.getHeader(RANGE, true);
+        ByteRange byteRange = rangeObj == null || !isRangeApplicable(ctx, lastModified) ? null
+                : ByteRange.parse(rangeObj.toString());
         if ((byteRange != null) && (byteRange.ranges.size() == 1)) {
             ByteRange.Range range = byteRange.ranges.get(0);
 
             ByteRange.Range fileRange = (range.getStart() == -1)
-                    ? new ByteRange.Range(fileLength - range.getEnd(), fileLength - 1)
-                    : new ByteRange.Range(range.getStart(), Math.min(fileLength - 1, range.getEnd()));
+                    ? new ByteRange.Range(Math.max(0, count - range.getEnd()), count - 1)
+                    : new ByteRange.Range(range.getStart(), Math.min(count - 1, range.getEnd()));
 
             if ((fileRange.getStart() >= 0) && (fileRange.getStart() <= fileRange.getEnd())) {
-                String contentRange = "bytes " + fileRange.getStart() + "-" + fileRange.getEnd() + "/" + fileLength;
+                String contentRange = "bytes " + fileRange.getStart() + "-" + fileRange.getEnd() + "/" + count;
                 long length = fileRange.getEnd() - fileRange.getStart() + 1;
-                context.serverResponse()
-                        .setStatusCode(Response.Status.PARTIAL_CONTENT.getStatusCode())
-                        .setResponseHeader("Content-Range", contentRange)
-                        .sendFile(file.getAbsolutePath(), fileRange.getStart(), length);
+                setStatus(ctx, Response.Status.PARTIAL_CONTENT.getStatusCode());
+                response.setResponseHeader(CONTENT_RANGE, contentRange)
+                        .sendFile(path, offset + fileRange.getStart(), length);
                 return;
             }
+            // unsatisfiable ranges are ignored, and the whole content is sent
+        }
+        response.sendFile(path, offset, count);
+    }
+
+    private static boolean isRangeApplicable(ResteasyReactiveRequestContext ctx, long lastModified) {
+        // range requests only apply to GET, and make no sense for responses that are not a plain success
+        if (!HttpMethod.GET.equals(ctx.getMethod())) {
+            return false;
+        }
+        if (ctx.getResponse().isCreated()
+                && ctx.getResponse().get().getStatus() != Response.Status.OK.getStatusCode()) {
+            return false;
+        }
+        Object ifRange = ctx.getHeader(IF_RANGE, true);
+        if (ifRange == null) {
+            return true;
+        }
+        String validator = ifRange.toString().trim();
+        if (validator.startsWith("W/")) {
+            // If-Range requires a strong comparison, which weak entity tags never satisfy
+            return false;
+        }
+        if (validator.startsWith("\"")) {
+            return validator.equals(responseHeader(ctx, HttpHeaders.ETAG));
+        }
+        try {
+            // HTTP dates have a precision of one second
+            return lastModified > 0
+                    && DateUtil.parseDate(validator).getTime() / 1000 == lastModified / 1000;
+        } catch (DateUtil.DateParseException e) {
+            return false;
+        }
+    }
+
+    private static String responseHeader(ResteasyReactiveRequestContext ctx, String name) {
+        if (ctx.getResponse().isCreated()) {
+            Object value = ctx.getResponse().get().getHeaders().getFirst(name);
+            if (value != null) {
+                return HeaderUtil.headerToString(value);
+            }
+        }
+        return ctx.serverResponse().getResponseHeader(name);
+    }
+
+    private static void setStatus(ResteasyReactiveRequestContext ctx, int status) {
+        // headers, including the status, are written from the Response when it exists, so it must be updated too
+        if (ctx.getResponse().isCreated() && (ctx.getResponse().get() instanceof ResponseImpl)) {
+            ((ResponseImpl) ctx.getResponse().get()).setStatus(status);
         }
-        context.serverResponse().sendFile(file.getAbsolutePath(), 0, fileLength);
+        ctx.serverResponse().setStatusCode(status);
     }
 
     /**
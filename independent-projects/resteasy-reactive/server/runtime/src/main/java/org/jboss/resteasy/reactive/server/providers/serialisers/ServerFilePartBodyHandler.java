@@ -11,7 +11,6 @@
 import org.jboss.resteasy.reactive.FilePart;
 import org.jboss.resteasy.reactive.common.providers.serialisers.FilePartBodyHandler;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
-import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
@@ -33,7 +32,6 @@ public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveReso
 
     @Override
     public void writeResponse(FilePart o, Type genericType, ServerRequestContext context) throws WebApplicationException {
-        ServerHttpResponse vertxResponse = context.serverResponse();
-        vertxResponse.sendFile(o.file.getPath(), o.offset, o.count);
+        ServerFileBodyHandler.sendFile(o.file.getPath(), o.offset, o.count, o.file.lastModified(), context);
     }
 }
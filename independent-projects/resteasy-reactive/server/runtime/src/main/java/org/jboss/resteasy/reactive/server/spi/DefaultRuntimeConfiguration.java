@@ -13,6 +13,13 @@ public class DefaultRuntimeConfiguration implements RuntimeConfiguration {
     public DefaultRuntimeConfiguration(Duration readTimeout, boolean deleteUploadedFilesOnEnd, String uploadsDirectory,
             List<String> fileContentTypes, Charset defaultCharset, Optional<Long> maxBodySize, long maxFormAttributeSize,
             int maxParameters) {
+        this(readTimeout, deleteUploadedFilesOnEnd, uploadsDirectory, fileContentTypes, 0, -1, defaultCharset, maxBodySize,
+                maxFormAttributeSize, maxParameters);
+    }
+
+    public DefaultRuntimeConfiguration(Duration readTimeout, boolean deleteUploadedFilesOnEnd, String uploadsDirectory,
+            List<String> fileContentTypes, long fileSizeThreshold, long maxInMemorySize, Charset defaultCharset,
+            Optional<Long> maxBodySize, long maxFormAttributeSize, int maxParameters) {
         this.readTimeout = readTimeout;
         body = new Body() {
             Body.MultiPart multiPart = new Body.MultiPart() {
@@ -20,6 +27,16 @@ public DefaultRuntimeConfiguration(Duration readTimeout, boolean deleteUploadedF
                 public List<String> fileContentTypes() {
                     return fileContentTypes;
                 }
+
+                @Override
+                public long fileSizeThreshold() {
+                    return fileSizeThreshold;
+                }
+
+                @Override
+                public long maxInMemorySize() {
+                    return maxInMemorySize;
+                }
             };
 
             @Override
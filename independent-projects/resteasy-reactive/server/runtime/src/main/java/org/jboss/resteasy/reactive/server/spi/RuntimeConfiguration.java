@@ -25,6 +25,10 @@ interface Body {
 
         interface MultiPart {
             List<String> fileContentTypes();
+
+            long fileSizeThreshold();
+
+            long maxInMemorySize();
         }
     }
 
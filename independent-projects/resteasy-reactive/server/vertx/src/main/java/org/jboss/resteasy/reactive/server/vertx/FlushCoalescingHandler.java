@@ -0,0 +1,178 @@
+package org.jboss.resteasy.reactive.server.vertx;
+
+import org.jboss.resteasy.reactive.server.core.FlushStatistics;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.SingleThreadEventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Coalesces the flushes of a connection, so that all the responses completed during the same event loop
+ * iteration are written with a single flush, and thus usually a single syscall.
+ * <p>
+ * Vert.x already avoids flushing while it is processing inbound data, but responses completed outside of a read,
+ * for instance by asynchronous endpoints or on worker threads, are flushed one by one. This handler defers such
+ * flushes to the end of the current event loop iteration, once all the tasks of the iteration, typically the writes
+ * of other pipelined or multiplexed responses, have run. No additional task is queued on the event loop.
+ * <p>
+ * The handler sits at the head of the pipeline of the connection, so it applies to HTTP/1.1 as well as to all
+ * the streams of an HTTP/2 connection. It is removed once the last response in progress on the connection has ended,
+ * so a connection that is kept alive without serving REST responses is not affected.
+ */
+public final class FlushCoalescingHandler extends ChannelDuplexHandler {
+
+    private static final String NAME = "resteasy-reactive-flush-coalescing";
+
+    private final FlushStatistics statistics;
+
+    private ChannelHandlerContext ctx;
+    private int activeResponses;
+    private boolean readInProgress;
+    private boolean flushPending;
+    private boolean flushScheduled;
+
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+            flushScheduled = false;
+            flushIfPending();
+            if (activeResponses == 0 && !ctx.isRemoved()) {
+                ctx.pipeline().remove(FlushCoalescingHandler.this);
+            }
+        }
+    };
+
+    private FlushCoalescingHandler(FlushStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Installs the handler on the connection of the request, unless it is already there, until the response has
+     * ended. Must be called on the event loop of the connection.
+     */
+    public static void install(RoutingContext context, FlushStatistics statistics) {
+        HttpConnection connection = context.request().connection();
+        if (!(connection instanceof ConnectionBase)) {
+            return;
+        }
+        Channel channel = ((ConnectionBase) connection).channel();
+        if (!channel.eventLoop().inEventLoop()) {
+            return;
+        }
+        FlushCoalescingHandler handler = (FlushCoalescingHandler) channel.pipeline().get(NAME);
+        if (handler == null) {
+            handler = new FlushCoalescingHandler(statistics);
+            channel.pipeline().addFirst(NAME, handler);
+        }
+        handler.activeResponses++;
+        FlushCoalescingHandler installed = handler;
+        context.addEndHandler(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> event) {
+                installed.responseEnded();
+            }
+        });
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        flushIfPending();
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        statistics.flushRequested();
+        flushPending = true;
+        if (readInProgress) {
+            // flushed when the read completes
+            return;
+        }
+        scheduleFlush();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        readInProgress = true;
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        readInProgress = false;
+        flushIfPending();
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        if (!ctx.channel().isWritable()) {
+            // let the pending data go out, so the channel becomes writable again
+            flushIfPending();
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        flushIfPending();
+        ctx.fireExceptionCaught(cause);
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) {
+        flushIfPending();
+        ctx.disconnect(promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+        flushIfPending();
+        ctx.close(promise);
+    }
+
+    private void responseEnded() {
+        EventExecutor executor = ctx.executor();
+        if (!executor.inEventLoop()) {
+            executor.execute(this::responseEnded);
+            return;
+        }
+        if (--activeResponses == 0) {
+            // the handler is removed at the end of the iteration, unless another response starts in the meantime
+            scheduleFlush();
+        }
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled) {
+            return;
+        }
+        flushScheduled = true;
+        EventExecutor executor = ctx.executor();
+        if (executor instanceof SingleThreadEventLoop) {
+            ((SingleThreadEventLoop) executor).executeAfterEventLoopIteration(flushTask);
+        } else {
+            executor.execute(flushTask);
+        }
+    }
+
+    private void flushIfPending() {
+        if (flushPending) {
+            flushPending = false;
+            statistics.flushPerformed();
+            ctx.flush();
+        }
+    }
+}
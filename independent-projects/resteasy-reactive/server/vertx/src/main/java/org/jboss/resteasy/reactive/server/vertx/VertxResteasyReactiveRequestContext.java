@@ -4,6 +4,7 @@
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashMap;
@@ -78,6 +79,9 @@ public VertxResteasyReactiveRequestContext(Deployment deployment,
         this.response = context.response();
         this.devModeTccl = devModeTccl;
         context.addHeadersEndHandler(this);
+        if (deployment.getResteasyReactiveConfig().isCoalesceFlushes()) {
+            FlushCoalescingHandler.install(context, deployment.getFlushStatistics());
+        }
         String expect = request.getHeader(HttpHeaderNames.EXPECT);
         Context current = Vertx.currentContext();
         if (expect != null && expect.equalsIgnoreCase(CONTINUE)) {
@@ -319,7 +323,8 @@ public void handle(Buffer event) {
                 if (devModeTccl != null) {
                     Thread.currentThread().setContextClassLoader(devModeTccl);
                 }
-                callback.data(ByteBuffer.wrap(event.getBytes()));
+                // the buffers of incoming requests are never pooled, so there is no need to copy them
+                callback.data(event.getByteBuf().nioBuffer());
             }
         });
         request.endHandler(new Handler<Void>() {
@@ -403,6 +408,7 @@ public boolean headWritten() {
 
     @Override
     public ServerHttpResponse end(byte[] data) {
+        responseBodyWritten(data);
         var buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(data.length);
         buffer.writeBytes(data);
         response.end(new NoBoundChecksBuffer(buffer), null);
@@ -411,6 +417,9 @@ public ServerHttpResponse end(byte[] data) {
 
     @Override
     public ServerHttpResponse end(String data) {
+        if (getResponseBodyListener() != null) {
+            responseBodyWritten(data.getBytes(StandardCharsets.UTF_8));
+        }
         var buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(ByteBufUtil.utf8MaxBytes(data.length()));
         buffer.writeCharSequence(data, CharsetUtil.UTF_8);
         response.end(new NoBoundChecksBuffer(buffer), null);
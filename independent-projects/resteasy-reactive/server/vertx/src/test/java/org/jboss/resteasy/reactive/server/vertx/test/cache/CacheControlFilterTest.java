@@ -0,0 +1,89 @@
+package org.jboss.resteasy.reactive.server.vertx.test.cache;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.Cache;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.scanning.CacheControlScanner;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+
+public class CacheControlFilterTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.addMethodScanner(new CacheControlScanner());
+                }
+            })
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(ResourceWithCache.class,
+                            DoublingMaxAgeFilter.class);
+                }
+            });
+
+    @Test
+    public void testFilterModifiesCacheControl() {
+        for (int i = 0; i < 2; i++) {
+            RestAssured.get("/test/with")
+                    .then()
+                    .statusCode(200)
+                    .body(equalTo("with"))
+                    .header("Cache-Control", "no-transform, max-age=200");
+        }
+        RestAssured.get("/test/with?keep")
+                .then()
+                .statusCode(200)
+                .header("Cache-Control", "max-age=100");
+    }
+
+    @Path("test")
+    public static class ResourceWithCache {
+
+        @Path("with")
+        @GET
+        @Cache(maxAge = 100)
+        public String with() {
+            return "with";
+        }
+    }
+
+    @Provider
+    public static class DoublingMaxAgeFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+                throws IOException {
+            if (requestContext.getUriInfo().getQueryParameters().containsKey("keep")) {
+                return;
+            }
+            // the value set by @Cache is a CacheControl
+            CacheControl cacheControl = (CacheControl) responseContext.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL);
+            CacheControl doubled = new CacheControl();
+            doubled.setMaxAge(cacheControl.getMaxAge() * 2);
+            responseContext.getHeaders().putSingle(HttpHeaders.CACHE_CONTROL, doubled);
+        }
+    }
+}
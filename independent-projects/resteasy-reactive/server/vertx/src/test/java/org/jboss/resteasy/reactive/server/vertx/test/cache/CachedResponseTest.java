@@ -0,0 +1,210 @@
+package org.jboss.resteasy.reactive.server.vertx.test.cache;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.CachedResponse;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.scanning.CachedResponseScanner;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+
+public class CachedResponseTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.addMethodScanner(new CachedResponseScanner());
+                }
+            })
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(CachedResource.class, AddingFilter.class);
+                }
+            });
+
+    @Test
+    public void testCachedUntilExpiry() {
+        String etag = RestAssured.get("/cached/counter?name=a")
+                .then()
+                .statusCode(200)
+                .body(equalTo("a1"))
+                .header("ETag", notNullValue())
+                .extract().header("ETag");
+        RestAssured.get("/cached/counter?name=a")
+                .then()
+                .statusCode(200)
+                .body(equalTo("a1"))
+                .header("ETag", etag);
+        // the query is part of the key
+        RestAssured.get("/cached/counter?name=b")
+                .then()
+                .statusCode(200)
+                .body(equalTo("b2"));
+        RestAssured.given().header("If-None-Match", etag)
+                .get("/cached/counter?name=a")
+                .then()
+                .statusCode(304)
+                .body(emptyString())
+                .header("ETag", etag);
+        RestAssured.given().header("If-None-Match", "\"other\"")
+                .get("/cached/counter?name=a")
+                .then()
+                .statusCode(200)
+                .body(equalTo("a1"));
+    }
+
+    @Test
+    public void testErrorsAreNotCached() {
+        RestAssured.get("/cached/failing")
+                .then()
+                .statusCode(500)
+                .header("ETag", nullValue());
+        RestAssured.get("/cached/failing")
+                .then()
+                .statusCode(200)
+                .body(equalTo("recovered"));
+    }
+
+    @Test
+    public void testHeadersReplayed() {
+        RestAssured.get("/cached/headers")
+                .then()
+                .statusCode(200)
+                .body(equalTo("h1"))
+                .header("X-Custom", "h1")
+                .header("Content-Type", "text/plain;charset=UTF-8");
+        RestAssured.get("/cached/headers")
+                .then()
+                .statusCode(200)
+                .body(equalTo("h1"))
+                .header("X-Custom", "h1")
+                .header("Content-Type", "text/plain;charset=UTF-8");
+    }
+
+    @Test
+    public void testFilterHeadersNotStored() {
+        List<String> values = RestAssured.get("/cached/filtered").then().statusCode(200).body(equalTo("f1")).extract()
+                .headers().getValues("X-Filtered");
+        assertEquals(List.of("true"), values);
+        // the filter adds its header again to the cached response
+        values = RestAssured.get("/cached/filtered").then().statusCode(200).body(equalTo("f1")).extract()
+                .headers().getValues("X-Filtered");
+        assertEquals(List.of("true"), values);
+    }
+
+    @Test
+    public void testLargeResponseNotCached() {
+        RestAssured.get("/cached/large").then().statusCode(200).body(equalTo("large1" + "x".repeat(32)));
+        RestAssured.get("/cached/large").then().statusCode(200).body(equalTo("large2" + "x".repeat(32)));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() {
+        RestAssured.get("/cached/lru?name=a").then().body(equalTo("a1"));
+        RestAssured.get("/cached/lru?name=b").then().body(equalTo("b2"));
+        // a is used more recently than b
+        RestAssured.get("/cached/lru?name=a").then().body(equalTo("a1"));
+        // c evicts b
+        RestAssured.get("/cached/lru?name=c").then().body(equalTo("c3"));
+        RestAssured.get("/cached/lru?name=a").then().body(equalTo("a1"));
+        RestAssured.get("/cached/lru?name=b").then().body(equalTo("b4"));
+    }
+
+    @Path("cached")
+    public static class CachedResource {
+
+        private final AtomicInteger counter = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger headers = new AtomicInteger();
+        private final AtomicInteger lru = new AtomicInteger();
+        private final AtomicInteger filtered = new AtomicInteger();
+        private final AtomicInteger large = new AtomicInteger();
+
+        @Path("counter")
+        @GET
+        @CachedResponse(ttl = 1, unit = TimeUnit.HOURS)
+        public String counter(@QueryParam("name") String name) {
+            return name + counter.incrementAndGet();
+        }
+
+        @Path("failing")
+        @GET
+        @CachedResponse(ttl = 1, unit = TimeUnit.HOURS)
+        public String failing() {
+            if (failures.getAndIncrement() == 0) {
+                throw new IllegalStateException("failed");
+            }
+            return "recovered";
+        }
+
+        @Path("headers")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        @CachedResponse(ttl = 1, unit = TimeUnit.HOURS)
+        public Response headers() {
+            String value = "h" + headers.incrementAndGet();
+            return Response.ok(value).header("X-Custom", value).build();
+        }
+
+        @Path("lru")
+        @GET
+        @CachedResponse(ttl = 1, unit = TimeUnit.HOURS, maxEntries = 2)
+        public String lru(@QueryParam("name") String name) {
+            return name + lru.incrementAndGet();
+        }
+
+        @Path("filtered")
+        @GET
+        @CachedResponse(ttl = 1, unit = TimeUnit.HOURS)
+        public String filtered() {
+            return "f" + filtered.incrementAndGet();
+        }
+
+        @Path("large")
+        @GET
+        @CachedResponse(ttl = 1, unit = TimeUnit.HOURS, maxEntrySize = 16)
+        public String large() {
+            return "large" + large.incrementAndGet() + "x".repeat(32);
+        }
+    }
+
+    @Provider
+    public static class AddingFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+                throws IOException {
+            responseContext.getHeaders().add("X-Filtered", "true");
+        }
+    }
+}
@@ -122,6 +122,8 @@ public boolean isBlockingAllowed() {
     static ExecutorService executor;
     boolean deleteUploadedFilesOnEnd = true;
     List<String> fileContentTypes;
+    long fileSizeThreshold;
+    long maxInMemorySize = -1;
     Path uploadPath;
 
     private List<Consumer<ResteasyReactiveDeploymentManager.ScanStep>> scanCustomizers = new ArrayList<>();
@@ -157,6 +159,16 @@ public ResteasyReactiveUnitTest setFileContentTypes(List<String> fileContentType
         return this;
     }
 
+    public ResteasyReactiveUnitTest setFileSizeThreshold(long fileSizeThreshold) {
+        this.fileSizeThreshold = fileSizeThreshold;
+        return this;
+    }
+
+    public ResteasyReactiveUnitTest setMaxInMemorySize(long maxInMemorySize) {
+        this.maxInMemorySize = maxInMemorySize;
+        return this;
+    }
+
     public ResteasyReactiveUnitTest setUploadPath(Path uploadPath) {
         this.uploadPath = uploadPath;
         return this;
@@ -399,7 +411,8 @@ public Thread newThread(Runnable r) {
         DefaultRuntimeConfiguration runtimeConfiguration = new DefaultRuntimeConfiguration(Duration.ofMinutes(1),
                 deleteUploadedFilesOnEnd,
                 uploadPath != null ? uploadPath.toAbsolutePath().toString() : System.getProperty("java.io.tmpdir"),
-                fileContentTypes, defaultCharset, Optional.empty(), maxFormAttributeSize, maxParameters);
+                fileContentTypes, fileSizeThreshold, maxInMemorySize, defaultCharset, Optional.empty(), maxFormAttributeSize,
+                maxParameters);
         ResteasyReactiveDeploymentManager.RunnableApplication application = prepared.createApplication(runtimeConfiguration,
                 new VertxRequestContextFactory(), executor);
         fieldInjectionSupport.runtimeInit(testClassLoader, application.getDeployment());
@@ -0,0 +1,159 @@
+package org.jboss.resteasy.reactive.server.vertx.test.multipart;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.RestForm;
+import org.jboss.resteasy.reactive.multipart.FileUpload;
+import org.jboss.resteasy.reactive.server.multipart.FileItem;
+import org.jboss.resteasy.reactive.server.multipart.MultipartFormDataInput;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+
+public class MultipartFileSizeThresholdTest extends AbstractMultipartTest {
+
+    private static final java.nio.file.Path uploadDir = Paths.get("file-uploads");
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setDeleteUploadedFilesOnEnd(false)
+            .setUploadPath(uploadDir)
+            .setFileSizeThreshold(1024)
+            .setMaxInMemorySize(512)
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(ThresholdResource.class);
+                }
+            });
+
+    @BeforeEach
+    public void assertEmptyUploads() {
+        Assertions.assertTrue(isDirectoryEmpty(uploadDir));
+    }
+
+    @AfterEach
+    public void clearDirectory() {
+        clearDirectory(uploadDir);
+    }
+
+    @Test
+    public void testSmallPartStaysInMemory() {
+        RestAssured.given()
+                .multiPart("file", "small.txt", content(100), MediaType.TEXT_PLAIN)
+                .when()
+                .post("/threshold/size")
+                .then()
+                .statusCode(200)
+                .body(equalTo("100"));
+
+        Assertions.assertTrue(isDirectoryEmpty(uploadDir));
+    }
+
+    @Test
+    public void testPartBoundToFileUploadIsWritten() {
+        RestAssured.given()
+                .multiPart("file", "small.txt", content(100), MediaType.TEXT_PLAIN)
+                .when()
+                .post("/threshold/upload")
+                .then()
+                .statusCode(200)
+                .body(equalTo("small.txt:100"));
+
+        Assertions.assertEquals(1, uploadDir.toFile().listFiles().length);
+    }
+
+    @Test
+    public void testSmallPartIsWrittenWhenPathIsRequested() {
+        RestAssured.given()
+                .multiPart("file", "small.txt", content(100), MediaType.TEXT_PLAIN)
+                .when()
+                .post("/threshold/input")
+                .then()
+                .statusCode(200)
+                .body(equalTo("true:100"));
+
+        Assertions.assertEquals(1, uploadDir.toFile().listFiles().length);
+    }
+
+    @Test
+    public void testPartLargerThanThresholdIsSpilled() {
+        RestAssured.given()
+                .multiPart("file", "large.txt", content(4096), MediaType.TEXT_PLAIN)
+                .when()
+                .post("/threshold/size")
+                .then()
+                .statusCode(200)
+                .body(equalTo("4096"));
+
+        Assertions.assertEquals(1, uploadDir.toFile().listFiles().length);
+    }
+
+    @Test
+    public void testPartExceedingMemoryBudgetIsSpilled() {
+        RestAssured.given()
+                .multiPart("file", "medium.txt", content(800), MediaType.TEXT_PLAIN)
+                .when()
+                .post("/threshold/size")
+                .then()
+                .statusCode(200)
+                .body(equalTo("800"));
+
+        Assertions.assertEquals(1, uploadDir.toFile().listFiles().length);
+    }
+
+    private static byte[] content(int size) {
+        return "a".repeat(size).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Path("threshold")
+    public static class ThresholdResource {
+
+        @POST
+        @Path("size")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String size(@RestForm("file") InputStream file) throws IOException {
+            return String.valueOf(file.readAllBytes().length);
+        }
+
+        @POST
+        @Path("upload")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String upload(@RestForm("file") FileUpload file) throws IOException {
+            return file.fileName() + ":" + Files.size(file.uploadedFile());
+        }
+
+        @POST
+        @Path("input")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String input(MultipartFormDataInput input) throws IOException {
+            FileItem item = input.getValues().get("file").iterator().next().getFileItem();
+            boolean inMemory = item.isInMemory();
+            return inMemory + ":" + Files.size(item.getFile());
+        }
+    }
+}
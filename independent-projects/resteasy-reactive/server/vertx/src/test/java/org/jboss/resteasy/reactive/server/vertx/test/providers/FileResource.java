@@ -5,6 +5,7 @@
 
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
 
 import org.jboss.resteasy.reactive.FilePart;
 import org.jboss.resteasy.reactive.PathPart;
@@ -37,6 +38,12 @@ public java.nio.file.Path getPath() {
         return Paths.get(FILE);
     }
 
+    @Path("path-response")
+    @GET
+    public Response getPathResponse() {
+        return Response.ok(Paths.get(FILE)).tag("v1").build();
+    }
+
     @Path("path-partial")
     @GET
     public PathPart getPathPart() {
@@ -69,6 +69,74 @@ public void testFiles() throws Exception {
                 .body(Matchers.equalTo(content.substring(20, 30)));
     }
 
+    @Test
+    public void testRanges() throws Exception {
+        String content = Files.readString(Path.of(FILE));
+        String length = String.valueOf(content.length());
+        RestAssured.get("/providers/file/path")
+                .then()
+                .statusCode(200)
+                .header("Accept-Ranges", "bytes")
+                .header(HttpHeaders.LAST_MODIFIED, Matchers.notNullValue());
+        RestAssured.given().header("Range", "bytes=10-19")
+                .get("/providers/file/path")
+                .then()
+                .statusCode(206)
+                .header("Content-Range", "bytes 10-19/" + length)
+                .header(HttpHeaders.CONTENT_LENGTH, "10")
+                .body(Matchers.equalTo(content.substring(10, 20)));
+        RestAssured.given().header("Range", "bytes=-5")
+                .get("/providers/file/file")
+                .then()
+                .statusCode(206)
+                .body(Matchers.equalTo(content.substring(content.length() - 5)));
+        RestAssured.given().header("Range", "bytes=" + content.length() + "-")
+                .get("/providers/file/path")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo(content));
+        // multiple ranges are not supported, the whole file is sent
+        RestAssured.given().header("Range", "bytes=0-1,5-6")
+                .get("/providers/file/path")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo(content));
+        // ranges are relative to the part being sent
+        RestAssured.given().header("Range", "bytes=2-4")
+                .get("/providers/file/path-partial")
+                .then()
+                .statusCode(206)
+                .header("Content-Range", "bytes 2-4/10")
+                .body(Matchers.equalTo(content.substring(22, 25)));
+        RestAssured.given().header("Range", "bytes=2-4")
+                .get("/providers/file/file-partial")
+                .then()
+                .statusCode(206)
+                .body(Matchers.equalTo(content.substring(22, 25)));
+        // the status is also applied when the endpoint returns a Response
+        RestAssured.given().header("Range", "bytes=0-4").header("If-Range", "\"v1\"")
+                .get("/providers/file/path-response")
+                .then()
+                .statusCode(206)
+                .body(Matchers.equalTo(content.substring(0, 5)));
+        RestAssured.given().header("Range", "bytes=0-4").header("If-Range", "\"v2\"")
+                .get("/providers/file/path-response")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo(content));
+        String lastModified = RestAssured.get("/providers/file/path").header(HttpHeaders.LAST_MODIFIED);
+        RestAssured.given().header("Range", "bytes=0-4").header("If-Range", lastModified)
+                .get("/providers/file/path")
+                .then()
+                .statusCode(206)
+                .body(Matchers.equalTo(content.substring(0, 5)));
+        RestAssured.given().header("Range", "bytes=0-4").header("If-Range", "Thu, 01 Jan 1970 00:00:00 GMT")
+                .get("/providers/file/path")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo(content));
+    }
+
     @Test
     public void testChecks() throws IOException {
         // creation-time checks
@@ -0,0 +1,129 @@
+package org.jboss.resteasy.reactive.server.vertx.test.providers;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.common.util.InMemoryInputStream;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.smallrye.mutiny.Uni;
+
+public class InMemoryBodyReaderTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(PayloadResource.class, Payload.class, PayloadReader.class))
+            .addScanCustomizer(scanStep -> scanStep.setRuntimeInputBufferSize(10000));
+
+    @Test
+    public void testSmallBodyIsReadFromMemory() {
+        doTest(1024, true);
+    }
+
+    @Test
+    public void testEmptyBodyIsReadFromMemory() {
+        doTest(0, true);
+    }
+
+    @Test
+    public void testLargeBodyIsStreamed() {
+        doTest(1024 * 1024, false);
+    }
+
+    private static void doTest(int size, boolean inMemory) {
+        byte[] body = new byte[size];
+        Arrays.fill(body, (byte) 'a');
+        given()
+                .body(body)
+                .contentType("application/payload")
+                .when().post("/payload")
+                .then()
+                .statusCode(200)
+                .body(equalTo(inMemory + ":" + size));
+    }
+
+    @Path("payload")
+    public static class PayloadResource {
+
+        @POST
+        @Consumes("application/payload")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<String> read(Payload payload) {
+            return Uni.createFrom().item(payload.inMemory + ":" + payload.length);
+        }
+    }
+
+    public static class Payload {
+        final boolean inMemory;
+        final int length;
+
+        Payload(boolean inMemory, int length) {
+            this.inMemory = inMemory;
+            this.length = length;
+        }
+    }
+
+    @Provider
+    @Consumes("application/payload")
+    public static class PayloadReader implements ServerMessageBodyReader<Payload> {
+
+        @Override
+        public boolean isReadable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo lazyMethod,
+                MediaType mediaType) {
+            return type == Payload.class;
+        }
+
+        @Override
+        public Payload readFrom(Class<Payload> type, Type genericType, MediaType mediaType, ServerRequestContext context)
+                throws WebApplicationException, IOException {
+            InputStream stream = context.getInputStream();
+            if (stream instanceof InMemoryInputStream) {
+                InMemoryInputStream inMemory = (InMemoryInputStream) stream;
+                int length = inMemory.available();
+                for (int i = inMemory.position(); i < inMemory.position() + length; i++) {
+                    if (inMemory.array()[i] != 'a') {
+                        throw new IllegalStateException("Unexpected content");
+                    }
+                }
+                inMemory.consume();
+                return new Payload(true, length);
+            }
+            return new Payload(false, stream.readAllBytes().length);
+        }
+
+        @Override
+        public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type == Payload.class;
+        }
+
+        @Override
+        public Payload readFrom(Class<Payload> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, String> httpHeaders, InputStream entityStream)
+                throws IOException, WebApplicationException {
+            return new Payload(false, entityStream.readAllBytes().length);
+        }
+    }
+}
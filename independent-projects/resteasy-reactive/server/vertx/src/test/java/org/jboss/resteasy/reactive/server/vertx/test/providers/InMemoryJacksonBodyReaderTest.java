@@ -0,0 +1,60 @@
+package org.jboss.resteasy.reactive.server.vertx.test.providers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.resteasy.reactive.common.util.InMemoryInputStream;
+import org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyReaderUtil;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+public class InMemoryJacksonBodyReaderTest {
+
+    private static final ObjectReader READER = new ObjectMapper().readerFor(Greeting.class);
+
+    @Test
+    public void testBodyIsReadFromSlicedBuffer() throws IOException {
+        // the body sits in the middle of a larger heap buffer, so it does not start at the beginning of the array
+        byte[] json = "{\"name\":\"foo\",\"count\":3}".getBytes(StandardCharsets.UTF_8);
+        ByteBuf buf = Unpooled.buffer();
+        buf.writeBytes("garbage".getBytes(StandardCharsets.UTF_8));
+        buf.writeBytes(json);
+        buf.writeBytes("trailing".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer body = buf.slice(7, json.length).nioBuffer();
+        assertThat(body.hasArray()).isTrue();
+        assertThat(body.arrayOffset() + body.position()).isEqualTo(7);
+
+        // the same way InputHandler wraps a body received in a single heap buffer
+        InMemoryInputStream stream = new InMemoryInputStream(body.array(), body.arrayOffset() + body.position(),
+                body.remaining());
+        Greeting greeting = (Greeting) JacksonMessageBodyReaderUtil.readValue(READER, stream);
+
+        assertThat(greeting.name).isEqualTo("foo");
+        assertThat(greeting.count).isEqualTo(3);
+        assertThat(stream.available()).isZero();
+    }
+
+    @Test
+    public void testStreamedBody() throws IOException {
+        byte[] json = "{\"name\":\"bar\",\"count\":1}".getBytes(StandardCharsets.UTF_8);
+        Greeting greeting = (Greeting) JacksonMessageBodyReaderUtil.readValue(READER, new ByteArrayInputStream(json));
+
+        assertThat(greeting.name).isEqualTo("bar");
+        assertThat(greeting.count).isEqualTo(1);
+    }
+
+    public static class Greeting {
+
+        public String name;
+        public int count;
+    }
+}
@@ -0,0 +1,219 @@
+package org.jboss.resteasy.reactive.server.vertx.test.response;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.core.FlushStatistics;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+public class FlushCoalescingTest {
+
+    private static final int PIPELINED_REQUESTS = 20;
+    private static final int MULTIPLEXED_REQUESTS = 10;
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.setCoalesceFlushes(true);
+                }
+            })
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(CoalescingResource.class);
+                }
+            });
+
+    @Test
+    public void testSync() {
+        RestAssured.get("/coalescing/sync")
+                .then()
+                .statusCode(200)
+                .body(equalTo("sync"));
+    }
+
+    @Test
+    public void testAsync() {
+        RestAssured.get("/coalescing/async")
+                .then()
+                .statusCode(200)
+                .body(equalTo("async"));
+    }
+
+    @Test
+    public void testBlocking() {
+        RestAssured.get("/coalescing/blocking")
+                .then()
+                .statusCode(200)
+                .body(equalTo("blocking"));
+    }
+
+    @Test
+    public void testPipelined() throws IOException {
+        long[] before = flushes();
+
+        StringBuilder requests = new StringBuilder();
+        for (int i = 0; i < PIPELINED_REQUESTS; i++) {
+            // the sync response that follows an async one is written during the same event loop iteration
+            requests.append("GET /coalescing/").append(i % 2 == 0 ? "async" : "sync").append(" HTTP/1.1\r\n")
+                    .append("Host: localhost\r\n");
+            if (i == PIPELINED_REQUESTS - 1) {
+                requests.append("Connection: close\r\n");
+            }
+            requests.append("\r\n");
+        }
+        String responses;
+        try (Socket socket = new Socket("localhost", ResteasyReactiveUnitTest.SERVER_PORT)) {
+            socket.setSoTimeout(10_000);
+            OutputStream out = socket.getOutputStream();
+            out.write(requests.toString().getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            responses = new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+        }
+        assertEquals(PIPELINED_REQUESTS, count(responses, "HTTP/1.1 200 OK"), responses);
+        assertEquals(PIPELINED_REQUESTS / 2, count(responses, "\r\n\r\nsync"), responses);
+        assertEquals(PIPELINED_REQUESTS / 2, count(responses, "\r\n\r\nasync"), responses);
+
+        assertCoalesced(before, flushes());
+    }
+
+    @Test
+    public void testHttp2() throws Exception {
+        long[] before = flushes();
+
+        Vertx vertx = Vertx.vertx();
+        try {
+            // prior knowledge, so that all the requests are multiplexed on a single connection
+            WebClient client = WebClient.create(vertx, new WebClientOptions().setProtocolVersion(HttpVersion.HTTP_2)
+                    .setHttp2ClearTextUpgrade(false));
+            List<Future<HttpResponse<Buffer>>> responses = new ArrayList<>();
+            for (int i = 0; i < MULTIPLEXED_REQUESTS; i++) {
+                responses.add(client.get(ResteasyReactiveUnitTest.SERVER_PORT, "localhost", "/coalescing/batch").send());
+            }
+            for (Future<HttpResponse<Buffer>> response : responses) {
+                HttpResponse<Buffer> result = response.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+                assertEquals(HttpVersion.HTTP_2, result.version());
+                assertEquals(200, result.statusCode());
+                assertEquals("batch", result.bodyAsString());
+            }
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get();
+        }
+
+        assertCoalesced(before, flushes());
+    }
+
+    private static long[] flushes() {
+        String[] flushes = RestAssured.get("/coalescing/flushes").asString().split(",");
+        return new long[] { Long.parseLong(flushes[0]), Long.parseLong(flushes[1]) };
+    }
+
+    private static void assertCoalesced(long[] before, long[] after) {
+        long requested = after[0] - before[0];
+        long performed = after[1] - before[1];
+        assertTrue(performed > 0, "No flush was performed");
+        assertTrue(performed < requested, "Performed " + performed + " flushes for " + requested + " requested");
+    }
+
+    private static int count(String s, String part) {
+        int count = 0;
+        int index = s.indexOf(part);
+        while (index != -1) {
+            count++;
+            index = s.indexOf(part, index + part.length());
+        }
+        return count;
+    }
+
+    @Path("coalescing")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class CoalescingResource {
+
+        static final List<CompletableFuture<String>> BATCH = new ArrayList<>();
+
+        @GET
+        @Path("sync")
+        public String sync() {
+            return "sync";
+        }
+
+        @GET
+        @Path("async")
+        public Uni<String> async() {
+            return Uni.createFrom().item("async").emitOn(Infrastructure.getDefaultExecutor());
+        }
+
+        @GET
+        @Path("batch")
+        public Uni<String> batch() {
+            CompletableFuture<String> result = new CompletableFuture<>();
+            List<CompletableFuture<String>> batch = null;
+            synchronized (BATCH) {
+                BATCH.add(result);
+                if (BATCH.size() == MULTIPLEXED_REQUESTS) {
+                    batch = new ArrayList<>(BATCH);
+                    BATCH.clear();
+                }
+            }
+            if (batch != null) {
+                // complete all the responses from a single event loop task, outside of a read
+                List<CompletableFuture<String>> completed = batch;
+                Vertx.currentContext().runOnContext(v -> completed.forEach(f -> f.complete("batch")));
+            }
+            return Uni.createFrom().completionStage(result);
+        }
+
+        @GET
+        @Path("flushes")
+        public String flushes() {
+            FlushStatistics statistics = CurrentRequestManager.get().getDeployment().getFlushStatistics();
+            return statistics.getRequestedFlushes() + "," + statistics.getPerformedFlushes();
+        }
+
+        @GET
+        @Path("blocking")
+        @Blocking
+        public String blocking() {
+            return "blocking";
+        }
+    }
+}
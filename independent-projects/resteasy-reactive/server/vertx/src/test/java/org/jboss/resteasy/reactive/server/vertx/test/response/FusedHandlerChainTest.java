@@ -0,0 +1,158 @@
+package org.jboss.resteasy.reactive.server.vertx.test.response;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.handlers.FusedResponseHandler;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Uni;
+
+public class FusedHandlerChainTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.setFuseHandlerChain(true);
+                }
+            })
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(FusedResource.class);
+                }
+            });
+
+    @Test
+    public void testChainIsFused() {
+        RestAssured.get("/fused/chain")
+                .then()
+                .statusCode(200)
+                .body(containsString(FusedResponseHandler.class.getSimpleName()));
+    }
+
+    @Test
+    public void testSync() {
+        RestAssured.get("/fused/sync")
+                .then()
+                .statusCode(200)
+                .contentType(startsWith(MediaType.TEXT_PLAIN))
+                .body(equalTo("sync"));
+    }
+
+    @Test
+    public void testUni() {
+        RestAssured.get("/fused/uni")
+                .then()
+                .statusCode(200)
+                .body(equalTo("uni"));
+    }
+
+    @Test
+    public void testResponse() {
+        RestAssured.get("/fused/response")
+                .then()
+                .statusCode(201)
+                .header("foo", "bar")
+                .body(equalTo("response"));
+    }
+
+    @Test
+    public void testVoid() {
+        RestAssured.get("/fused/void")
+                .then()
+                .statusCode(204)
+                .body(emptyString());
+    }
+
+    @Test
+    public void testHead() {
+        RestAssured.head("/fused/sync")
+                .then()
+                .statusCode(200)
+                .body(emptyString());
+    }
+
+    @Test
+    public void testNotAcceptable() {
+        RestAssured.given().accept(MediaType.APPLICATION_JSON)
+                .get("/fused/sync")
+                .then()
+                .statusCode(406);
+    }
+
+    @Test
+    public void testException() {
+        RestAssured.get("/fused/failure")
+                .then()
+                .statusCode(500);
+    }
+
+    @Path("fused")
+    public static class FusedResource {
+
+        @GET
+        @Path("sync")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String sync() {
+            return "sync";
+        }
+
+        @GET
+        @Path("chain")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String chain() {
+            return Arrays.stream(CurrentRequestManager.get().getHandlers())
+                    .map(h -> h.getClass().getSimpleName())
+                    .collect(Collectors.joining(","));
+        }
+
+        @GET
+        @Path("uni")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<String> uni() {
+            return Uni.createFrom().item("uni");
+        }
+
+        @GET
+        @Path("response")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Response response() {
+            return Response.status(201).header("foo", "bar").entity("response").build();
+        }
+
+        @GET
+        @Path("void")
+        public void nothing() {
+        }
+
+        @GET
+        @Path("failure")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String failure() {
+            throw new IllegalStateException("failure");
+        }
+    }
+}
@@ -6,6 +6,7 @@
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -15,6 +16,8 @@
 import java.util.jar.Attributes;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.maven.shared.invoker.MavenInvocationException;
 import org.junit.jupiter.api.Assertions;
@@ -210,6 +213,25 @@ void testFlattenMavenPlugin()
         build();
     }
 
+    @Test
+    void testBuildCacheReplay() throws MavenInvocationException, IOException, InterruptedException {
+        testDir = initProject("projects/classic", "projects/build-cache-replay");
+        String step = "io.quarkus.deployment.ConstructorPropertiesProcessor#build";
+        build("-DskipTests", "-Dquarkus.debug.build-cache=true", "-Dquarkus.debug.dump-build-metrics=true");
+        assertThat(buildCacheResult(step)).isEqualTo("miss");
+
+        // nothing changed, so the items the step produced are replayed from target/quarkus-build-cache
+        build("-DskipTests", "-Dquarkus.debug.build-cache=true", "-Dquarkus.debug.dump-build-metrics=true");
+        assertThat(buildCacheResult(step)).isEqualTo("hit");
+    }
+
+    private String buildCacheResult(String stepId) throws IOException {
+        String metrics = Files.readString(testDir.toPath().resolve("target").resolve("build-metrics.json"));
+        Matcher matcher = Pattern.compile("\"stepId\"\\s*:\\s*\"" + Pattern.quote(stepId)
+                + "\"[^}]*?\"cache\"\\s*:\\s*\"(\\w+)\"").matcher(metrics);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
     private void launch() throws IOException {
         launch(TestContext.FAST_NO_PREFIX, "", "hello, from foo");
     }
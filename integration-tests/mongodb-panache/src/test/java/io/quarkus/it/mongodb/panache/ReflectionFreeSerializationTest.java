@@ -33,7 +33,7 @@ public static class ReflectionFreeSerializationProfile implements QuarkusTestPro
 
         @Override
         public Map<String, String> getConfigOverrides() {
-            return Map.of("quarkus.rest.jackson.optimization.enable-reflection-free-serializers", "true");
+            return Map.of("quarkus.jackson.enable-reflection-free-serializers", "true");
         }
     }
 }